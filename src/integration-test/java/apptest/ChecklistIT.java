@@ -69,6 +69,7 @@ class ChecklistIT extends AbstractAppTest {
 
 		// Fetch checklists for the organization to verify that new checklist has been added to it
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath("/2281/organizations/59dddb61-9a7b-423f-a873-94049e17cbee")
 			.withHttpMethod(GET)
 			.withExpectedResponseStatus(OK)
@@ -94,6 +95,7 @@ class ChecklistIT extends AbstractAppTest {
 		// Fetch checklists for the organization to verify that new checklist has been added to it and is using same sort order
 		// as the previous version
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath("/2281/organizations?organizationFilter=3&applySortFor=3")
 			.withHttpMethod(GET)
 			.withExpectedResponseStatus(OK)
@@ -105,6 +107,7 @@ class ChecklistIT extends AbstractAppTest {
 	void test5_activateChecklist() {
 		final var createdChecklistId = "45764278-50c8-4a19-af00-077bfc314fd2";
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath(PATH + "/" + createdChecklistId + "/activate")
 			.withHeader("x-issuer", "someUser")
 			.withHttpMethod(PATCH)
@@ -116,6 +119,7 @@ class ChecklistIT extends AbstractAppTest {
 	@Test
 	void test6_updateChecklist() {
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath(PATH + "/" + CHECKLIST_ID)
 			.withHttpMethod(PATCH)
 			.withRequest(REQUEST_FILE)
@@ -129,6 +133,7 @@ class ChecklistIT extends AbstractAppTest {
 		assertThat(checklistRepository.existsById(CHECKLIST_ID)).isTrue();
 
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath(PATH + "/" + CHECKLIST_ID)
 			.withHeader("x-issuer", "someUser")
 			.withHttpMethod(DELETE)
@@ -67,6 +67,7 @@ class CustomSortorderIT extends AbstractAppTest {
 		assertThat(repository.findAllByComponentId("aba82aca-f841-4257-baec-d745e3ab78bf")).isNotEmpty();
 
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath("/2281/checklists/15764278-50c8-4a19-af00-077bfc314fd2/phases/1455a5d4-1db8-4a25-a49f-92fdd0c60a14/tasks/aba82aca-f841-4257-baec-d745e3ab78bf")
 			.withHeader("x-issuer", "username")
 			.withHttpMethod(DELETE)
@@ -99,6 +100,7 @@ class CustomSortorderIT extends AbstractAppTest {
 		assertThat(repository.findAllByComponentId("cba82aca-f841-4257-baec-d745e3ab78bf")).isNotEmpty();
 
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath("/2281/checklists/25764278-50c8-4a19-af00-077bfc314fd2")
 			.withHeader("x-issuer", "username")
 			.withHttpMethod(DELETE)
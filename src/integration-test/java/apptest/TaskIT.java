@@ -66,6 +66,7 @@ class TaskIT extends AbstractAppTest {
 	@Test
 	void test3_createChecklistPhaseTask() {
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath(PATH)
 			.withHttpMethod(POST)
 			.withRequest(REQUEST_FILE)
@@ -78,6 +79,7 @@ class TaskIT extends AbstractAppTest {
 	@Test
 	void test4_updateChecklistPhaseTask() {
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath(PATH + "/" + TASK_ID)
 			.withHttpMethod(PATCH)
 			.withRequest(REQUEST_FILE)
@@ -92,6 +94,7 @@ class TaskIT extends AbstractAppTest {
 		assertThat(taskRepository.existsById(TASK_ID)).isTrue();
 
 		setupCall()
+			.withMaxVerificationDelayInSeconds(5) // Events are sent to Eventlog asynchronously after commit
 			.withServicePath(PATH + "/" + TASK_ID)
 			.withHttpMethod(DELETE)
 			.withHeader("x-issuer", "someUser")
@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import se.sundsvall.checklist.api.model.DelegatedEmployeeChecklistResponse;
 import se.sundsvall.checklist.service.DelegationService;
 import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
@@ -25,6 +26,7 @@ import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.MediaType.ALL_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
@@ -66,12 +68,20 @@ class DelegationResource {
 	}
 
 	@Operation(summary = "Fetch all employee checklists delegated to a user", description = "Fetch all delegated employee checklists for the user that matches sent in userid", responses = {
-		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true)
+		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "304", description = "Not Modified")
 	})
 	@GetMapping(value = "/delegated-to/{username}", produces = APPLICATION_JSON_VALUE)
 	ResponseEntity<DelegatedEmployeeChecklistResponse> fetchDelegatedEmployeeChecklists(
 		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
-		@Parameter(name = "username", description = "Username to fetch delegations for", example = "usr123") @PathVariable final String username) {
+		@Parameter(name = "username", description = "Username to fetch delegations for", example = "usr123") @PathVariable final String username,
+		final WebRequest request) {
+
+		// The entity tag is set on the response by the check, which answers with 304 before the checklists are built if the client already has the current version
+		final var version = delegationService.fetchVersionOfDelegatedEmployeeChecklists(municipalityId, username);
+		if (version.filter(request::checkNotModified).isPresent()) {
+			return status(NOT_MODIFIED).build();
+		}
 
 		return ok(delegationService.fetchDelegatedEmployeeChecklistsByUsername(municipalityId, username));
 	}
@@ -2,13 +2,16 @@ package se.sundsvall.checklist.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.OffsetDateTime;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,34 +24,47 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.util.UriComponentsBuilder;
+import se.sundsvall.checklist.api.model.ChangeEvent;
 import se.sundsvall.checklist.api.model.CustomTask;
 import se.sundsvall.checklist.api.model.CustomTaskCreateRequest;
 import se.sundsvall.checklist.api.model.CustomTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklist;
+import se.sundsvall.checklist.api.model.EmployeeChecklistDelta;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhase;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhaseUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateResponse;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.InitiationInformation;
+import se.sundsvall.checklist.api.model.InitiationJob;
 import se.sundsvall.checklist.api.model.Mentor;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklistParameters;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklists;
 import se.sundsvall.checklist.service.EmployeeChecklistService;
+import se.sundsvall.checklist.service.InitiationJobService;
 import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
 import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.MediaType.ALL_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 import static org.springframework.http.ResponseEntity.accepted;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.noContent;
 import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.http.ResponseEntity.status;
 
 @RestController
 @RequestMapping("/{municipalityId}/employee-checklists")
@@ -64,9 +80,11 @@ import static org.springframework.http.ResponseEntity.ok;
 class EmployeeChecklistResource {
 
 	private final EmployeeChecklistService employeeChecklistService;
+	private final InitiationJobService initiationJobService;
 
-	EmployeeChecklistResource(final EmployeeChecklistService employeeChecklistService) {
+	EmployeeChecklistResource(final EmployeeChecklistService employeeChecklistService, final InitiationJobService initiationJobService) {
 		this.employeeChecklistService = employeeChecklistService;
+		this.initiationJobService = initiationJobService;
 	}
 
 	@Operation(summary = "Fetches a paginated response of ongoing employee checklists, this only contains summarized information about each ongoing employee checklist", responses = {
@@ -83,12 +101,20 @@ class EmployeeChecklistResource {
 
 	@Operation(summary = "Fetch checklist where user acts as employee", description = "Fetch a users checklist where the user has the role of employee", responses = {
 		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true),
-		@ApiResponse(responseCode = "204", description = "No employee checklist found")
+		@ApiResponse(responseCode = "204", description = "No employee checklist found"),
+		@ApiResponse(responseCode = "304", description = "Not Modified")
 	})
 	@GetMapping(value = "/employee/{username}", produces = APPLICATION_JSON_VALUE)
 	ResponseEntity<EmployeeChecklist> fetchChecklistForEmployee(
 		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
-		@Parameter(name = "username", description = "Username for user to fetch checklists for", example = "usr123") @PathVariable final String username) {
+		@Parameter(name = "username", description = "Username for user to fetch checklists for", example = "usr123") @PathVariable final String username,
+		final WebRequest request) {
+
+		// The entity tag is set on the response by the check, which answers with 304 before the checklist is built if the client already has the current version
+		final var version = employeeChecklistService.fetchVersionOfChecklistForEmployee(municipalityId, username);
+		if (version.filter(request::checkNotModified).isPresent()) {
+			return status(NOT_MODIFIED).build();
+		}
 
 		return employeeChecklistService.fetchChecklistForEmployee(municipalityId, username)
 			.map(ResponseEntity::ok)
@@ -96,16 +122,51 @@ class EmployeeChecklistResource {
 	}
 
 	@Operation(summary = "Fetch checklists where user acts as manager", description = "Fetch a users checklists where the user has the role of manager", responses = {
-		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true)
+		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "304", description = "Not Modified")
 	})
 	@GetMapping(value = "/manager/{username}", produces = APPLICATION_JSON_VALUE)
 	ResponseEntity<List<EmployeeChecklist>> fetchChecklistsForManager(
 		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
-		@Parameter(name = "username", description = "Username for user to fetch checklists for", example = "usr123") @PathVariable final String username) {
+		@Parameter(name = "username", description = "Username for user to fetch checklists for", example = "usr123") @PathVariable final String username,
+		final WebRequest request) {
+
+		// The entity tag is set on the response by the check, which answers with 304 before the checklists are built if the client already has the current version
+		final var version = employeeChecklistService.fetchVersionOfChecklistsForManager(municipalityId, username);
+		if (version.filter(request::checkNotModified).isPresent()) {
+			return status(NOT_MODIFIED).build();
+		}
 
 		return ok(employeeChecklistService.fetchChecklistsForManager(municipalityId, username));
 	}
 
+	@Operation(summary = "Subscribe to changes of checklists where user acts as employee, manager or delegate",
+		description = "Opens a stream of server-sent events that notifies the user when fulfilments, custom tasks, mentors or delegations change in employee checklists where the user acts as employee, manager or delegate. The events are notifications only, the changed employee checklist must be fetched to get its current state.",
+		responses = {
+			@ApiResponse(responseCode = "200", description = "Successful Operation", content = @Content(mediaType = TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = ChangeEvent.class)))
+		})
+	@GetMapping(value = "/changes/{username}", produces = TEXT_EVENT_STREAM_VALUE)
+	ResponseEntity<SseEmitter> subscribeToChanges(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "username", description = "Username for user to subscribe to changes for", example = "usr123") @PathVariable final String username) {
+
+		return ok(employeeChecklistService.subscribeToChanges(municipalityId, username));
+	}
+
+	@Operation(summary = "Fetch changes made to an employee checklist since a point in time",
+		description = "Fetch the tasks which fulfilment has changed, the custom tasks that have been added or updated and the ids of tasks that have been removed since the provided point in time, together with the current metadata of the employee checklist. The until value in the response is meant to be used as since in the next request.",
+		responses = {
+			@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true)
+		})
+	@GetMapping(value = "/{employeeChecklistId}/changes", produces = APPLICATION_JSON_VALUE)
+	ResponseEntity<EmployeeChecklistDelta> fetchChangesSince(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "employeeChecklistId", description = "Employee checklist id", example = "85fbcecb-62d9-40c4-9b3d-839e9adcfd8c") @PathVariable @ValidUuid final String employeeChecklistId,
+		@Parameter(name = "since", description = "Point in time to fetch changes after", example = "2023-11-22T15:30:00+01:00") @RequestParam @DateTimeFormat(iso = DATE_TIME) final OffsetDateTime since) {
+
+		return ok(employeeChecklistService.fetchChangesSince(municipalityId, employeeChecklistId, since));
+	}
+
 	@Operation(summary = "Delete an employee checklist", description = "Delete an employee checklist completely", responses = {
 		@ApiResponse(responseCode = "204", description = "Successful Operation", useReturnTypeSchema = true)
 	})
@@ -201,14 +262,52 @@ class EmployeeChecklistResource {
 		return ok(employeeChecklistService.updateTaskFulfilment(municipalityId, employeeChecklistId, taskId, request));
 	}
 
+	@Operation(summary = "Update fulfilment of several tasks", description = "Update fulfilment of several tasks, which can belong to different employee checklists. The outcome is reported for each task individually", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true)
+	})
+	@PatchMapping(value = "/tasks", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+	ResponseEntity<EmployeeChecklistTaskBatchUpdateResponse> updateTaskFulfilments(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
+		@RequestBody @Valid final EmployeeChecklistTaskBatchUpdateRequest request) {
+
+		return ok(employeeChecklistService.updateTaskFulfilments(municipalityId, request));
+	}
+
 	@Operation(summary = "Inititalize checklists for new employees", description = "Trigger creation of checklists for all known new employees", responses = {
 		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true)
 	})
 	@PostMapping(value = "/initialize", produces = APPLICATION_JSON_VALUE)
 	ResponseEntity<EmployeeChecklistResponse> initiateEmployeeChecklists(
-		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId) {
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "fullResync", description = "Signal if employees should be fetched for the full lookback period instead of from the last successful import", example = "false") @RequestParam(defaultValue = "false") final boolean fullResync) {
+
+		return ok(employeeChecklistService.initiateEmployeeChecklists(municipalityId, fullResync));
+	}
+
+	@Operation(summary = "Start asynchronous initialization of checklists for new employees", description = "Trigger creation of checklists for all known new employees in the background. Returns a job that can be polled for progress and result. If a job is already running for the municipality, the running job is returned. Initiation that is already running in another way (for another municipality or by the scheduled import) results in a conflict.", responses = {
+		@ApiResponse(responseCode = "202", headers = @Header(name = LOCATION, schema = @Schema(type = "string")), description = "Accepted", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	@PostMapping(value = "/initialization-jobs", produces = APPLICATION_JSON_VALUE)
+	ResponseEntity<InitiationJob> startInitiationJob(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "fullResync", description = "Signal if employees should be fetched for the full lookback period instead of from the last successful import", example = "false") @RequestParam(defaultValue = "false") final boolean fullResync) {
+
+		final var job = initiationJobService.startJob(municipalityId, fullResync);
+		return accepted().location(UriComponentsBuilder.fromPath("/{municipalityId}/employee-checklists/initialization-jobs/{jobId}")
+			.buildAndExpand(municipalityId, job.getId())
+			.toUri()).body(job);
+	}
+
+	@Operation(summary = "Read progress and result for an asynchronous initialization of checklists for new employees", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful Operation", useReturnTypeSchema = true)
+	})
+	@GetMapping(value = "/initialization-jobs/{jobId}", produces = APPLICATION_JSON_VALUE)
+	ResponseEntity<InitiationJob> getInitiationJob(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @PathVariable @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "jobId", description = "Initiation job id", example = "85fbcecb-62d9-40c4-9b3d-839e9adcfd8c") @PathVariable @ValidUuid final String jobId) {
 
-		return ok(employeeChecklistService.initiateEmployeeChecklists(municipalityId));
+		return ok(initiationJobService.getJob(municipalityId, jobId));
 	}
 
 	@Operation(summary = "Read execution information from last run to initialize checklists for new employees", description = "Trigger creation of checklists for all known new employees", responses = {
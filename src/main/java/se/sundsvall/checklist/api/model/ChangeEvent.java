@@ -0,0 +1,28 @@
+package se.sundsvall.checklist.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import se.sundsvall.checklist.integration.db.model.enums.ChangeType;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Builder(setterPrefix = "with")
+@Schema(description = "Model for notification of a change made to an employee checklist")
+public class ChangeEvent {
+
+	@Schema(description = "The position of the change in the change feed", examples = "4711", accessMode = READ_ONLY)
+	private Long id;
+
+	@Schema(description = "The id of the employee checklist that has been changed", examples = "8c66a3ae-5d9f-4a6b-a2b4-8e6a1cf4c0b1", accessMode = READ_ONLY)
+	private String employeeChecklistId;
+
+	@Schema(description = "The type of change that has been made")
+	private ChangeType changeType;
+}
@@ -0,0 +1,59 @@
+package se.sundsvall.checklist.api.model;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Builder(setterPrefix = "with")
+@Schema(description = "Model for changes made to an employee checklist since a point in time")
+public class EmployeeChecklistDelta {
+
+	@Schema(description = "The id of the employee checklist", examples = "5a6c3e4e-c320-4006-b448-1fd4121df828", accessMode = READ_ONLY)
+	private String id;
+
+	@Schema(description = "The point in time that changes are returned from", examples = "2023-11-22T15:30:00+03:00", accessMode = READ_ONLY)
+	@DateTimeFormat(iso = DATE_TIME)
+	private OffsetDateTime since;
+
+	@Schema(description = "The point in time to use as since when fetching the next set of changes", examples = "2023-11-22T15:35:00+03:00", accessMode = READ_ONLY)
+	@DateTimeFormat(iso = DATE_TIME)
+	private OffsetDateTime until;
+
+	@Schema(description = "Signal if all tasks in the checklist has been completed or not", accessMode = READ_ONLY)
+	private Boolean completed;
+
+	@Schema(description = "Signal if the checklist is locked or not", accessMode = READ_ONLY)
+	private boolean locked;
+
+	@Schema(description = "The mentor on the checklist", accessMode = READ_ONLY)
+	private Mentor mentor;
+
+	@Schema(description = "Contains the email to the delegate(s) if the checklist is delegated", accessMode = READ_ONLY)
+	private List<String> delegatedTo;
+
+	@Schema(description = "The last update date and time of the checklist", examples = "2023-11-22T15:30:00+03:00", accessMode = READ_ONLY)
+	@DateTimeFormat(iso = DATE_TIME)
+	private OffsetDateTime updated;
+
+	@ArraySchema(arraySchema = @Schema(implementation = EmployeeChecklistPhase.class, description = "Phases containing the tasks that have been added or changed, or which fulfilment has changed", accessMode = READ_ONLY))
+	@Builder.Default
+	private List<EmployeeChecklistPhase> phases = new ArrayList<>();
+
+	@Schema(description = "Ids of tasks that have been removed from the checklist", accessMode = READ_ONLY)
+	@Builder.Default
+	private List<String> removedTaskIds = new ArrayList<>();
+}
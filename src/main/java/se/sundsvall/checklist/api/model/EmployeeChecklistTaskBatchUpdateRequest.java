@@ -0,0 +1,58 @@
+package se.sundsvall.checklist.api.model;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.WRITE_ONLY;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Builder(setterPrefix = "with")
+@Schema(description = "Model for update request of fulfilment for several tasks in one or more employee checklists")
+public class EmployeeChecklistTaskBatchUpdateRequest {
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor(access = AccessLevel.PACKAGE)
+	@Builder(setterPrefix = "with")
+	@Schema(description = "Model for fulfilment update of one task in an employee checklist")
+	public static class TaskFulfilment {
+
+		@Schema(description = "The id of the employee checklist that the task belongs to", examples = "8c66a3ae-5d9f-4a6b-a2b4-8e6a1cf4c0b1", accessMode = WRITE_ONLY)
+		@ValidUuid
+		private String employeeChecklistId;
+
+		@Schema(description = "The id of the (common or custom) task", examples = "283cec0f-b6eb-473c-9dbb-d97a959a8144", accessMode = WRITE_ONLY)
+		@ValidUuid
+		private String taskId;
+
+		@Schema(description = "The status of the task fulfilment", nullable = true, accessMode = WRITE_ONLY)
+		private FulfilmentStatus fulfilmentStatus;
+
+		@Schema(description = "The response text for the task fulfilment", examples = "Har bjudit på fika", nullable = true, accessMode = WRITE_ONLY)
+		private String responseText;
+	}
+
+	@Schema(description = "Identifier for the person that is performing the update", examples = "joe01doe", accessMode = WRITE_ONLY)
+	@NotBlank
+	private String updatedBy;
+
+	@ArraySchema(arraySchema = @Schema(implementation = TaskFulfilment.class, description = "Fulfilment updates to perform", accessMode = WRITE_ONLY), maxItems = 500)
+	@NotEmpty
+	@Size(max = 500)
+	private List<@Valid @NotNull TaskFulfilment> taskFulfilments;
+}
@@ -0,0 +1,49 @@
+package se.sundsvall.checklist.api.model;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatusCode;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Builder(setterPrefix = "with")
+@Schema(description = "Model for response of fulfilment update for several tasks")
+public class EmployeeChecklistTaskBatchUpdateResponse {
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor(access = AccessLevel.PACKAGE)
+	@Builder(setterPrefix = "with")
+	@Schema(description = "Model for outcome of fulfilment update for one task")
+	public static class Result {
+
+		@Schema(description = "The id of the employee checklist that the task belongs to", examples = "8c66a3ae-5d9f-4a6b-a2b4-8e6a1cf4c0b1", accessMode = READ_ONLY)
+		private String employeeChecklistId;
+
+		@Schema(description = "The id of the task", examples = "283cec0f-b6eb-473c-9dbb-d97a959a8144", accessMode = READ_ONLY)
+		private String taskId;
+
+		@Schema(description = "Status for the fulfilment update of the task", accessMode = READ_ONLY)
+		private HttpStatusCode status;
+
+		@Schema(description = "Descriptive text for the outcome if the update was not successful", examples = "Employee checklist with id 8c66a3ae-5d9f-4a6b-a2b4-8e6a1cf4c0b1 is locked and can not be modified.", nullable = true, accessMode = READ_ONLY)
+		private String information;
+
+		@Schema(description = "The task with its fulfilment as it is after the update", nullable = true, accessMode = READ_ONLY)
+		private EmployeeChecklistTask task;
+	}
+
+	@ArraySchema(arraySchema = @Schema(implementation = Result.class, description = "Outcome for each task, in the same order as in the request", accessMode = READ_ONLY))
+	@Builder.Default
+	private List<Result> results = new ArrayList<>();
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.checklist.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+@Builder(setterPrefix = "with")
+@Schema(description = "Model for an asynchronous job initiating checklists for new employees")
+public class InitiationJob {
+
+	@Schema(description = "Id for the job, which is also used as log id for the persisted initiation information", examples = "5a6c3e4e-c320-4006-b448-1fd4121df828", accessMode = READ_ONLY)
+	private String id;
+
+	@Schema(description = "Current status of the job", accessMode = READ_ONLY)
+	private InitiationJobStatus status;
+
+	@Schema(description = "Total number of employees to process, not present until the new employees have been fetched", examples = "20", accessMode = READ_ONLY)
+	private Integer total;
+
+	@Schema(description = "Number of employees processed so far", examples = "12", accessMode = READ_ONLY)
+	private int processed;
+
+	@Schema(description = "Number of processed employees where the initiation did not succeed", examples = "1", accessMode = READ_ONLY)
+	private int errors;
+
+	@Schema(description = "The date and time when the job was started", examples = "2023-11-22T15:30:00+03:00", accessMode = READ_ONLY)
+	@DateTimeFormat(iso = DATE_TIME)
+	private OffsetDateTime started;
+
+	@Schema(description = "The date and time when the job finished", examples = "2023-11-22T15:32:00+03:00", accessMode = READ_ONLY)
+	@DateTimeFormat(iso = DATE_TIME)
+	private OffsetDateTime finished;
+
+	@Schema(description = "The result of the job, present when the job has completed", accessMode = READ_ONLY)
+	private EmployeeChecklistResponse result;
+}
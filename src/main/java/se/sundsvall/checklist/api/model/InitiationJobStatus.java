@@ -0,0 +1,10 @@
+package se.sundsvall.checklist.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(enumAsRef = true)
+public enum InitiationJobStatus {
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
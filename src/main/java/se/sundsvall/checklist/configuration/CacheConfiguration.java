@@ -1,6 +1,8 @@
 package se.sundsvall.checklist.configuration;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import java.time.Duration;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,9 +10,15 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import se.sundsvall.checklist.configuration.RefreshableCacheKeyGenerator.RefreshableKey;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Configuration
 @EnableCaching
@@ -18,29 +26,87 @@ public class CacheConfiguration {
 
 	public static final String EMPLOYEE_CACHE = "employee";
 	public static final String COMPANY_CACHE = "company";
+	public static final String REFRESHABLE_KEY_GENERATOR = "refreshableKeyGenerator";
 
 	@Value("${cache.employee.expire-after-write:PT12H}")
 	private Duration employeeExpireAfterWriteDuration;
 
+	@Value("${cache.employee.refresh-after-write:#{null}}")
+	private Duration employeeRefreshAfterWriteDuration;
+
 	@Value("${cache.company.expire-after-write:PT12H}")
 	private Duration companyExpireAfterWriteDuration;
 
+	@Value("${cache.company.refresh-after-write:#{null}}")
+	private Duration companyRefreshAfterWriteDuration;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	public CacheConfiguration(final ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
 	@Bean
 	@ConditionalOnProperty(name = "cache.enabled", havingValue = "true")
 	CacheManager cacheManager() {
 		final var cacheManager = new SimpleCacheManager();
 
 		cacheManager.setCaches(List.of(
-			buildCache(EMPLOYEE_CACHE, employeeExpireAfterWriteDuration, 100),
-			buildCache(COMPANY_CACHE, companyExpireAfterWriteDuration, 500)));
+			buildCache(EMPLOYEE_CACHE, employeeExpireAfterWriteDuration, employeeRefreshAfterWriteDuration, 100, null),
+			buildCache(COMPANY_CACHE, companyExpireAfterWriteDuration, companyRefreshAfterWriteDuration, 500, companyRemovalListener(eventPublisher))));
 
 		return cacheManager;
 	}
 
-	private CaffeineCache buildCache(final String name, final Duration expireAfterWriteDuration, final int maximumSize) {
-		return new CaffeineCache(name, Caffeine.newBuilder()
+	/**
+	 * Key generator for the caches that refresh entries in the background, which must be set on the cached methods using
+	 * these caches. Other caches use the default key generator.
+	 */
+	@Bean(REFRESHABLE_KEY_GENERATOR)
+	KeyGenerator refreshableKeyGenerator() {
+		return new RefreshableCacheKeyGenerator();
+	}
+
+	/**
+	 * Builds a cache that expires entries after the given duration. If a refresh duration is present, entries older than
+	 * that are reloaded asynchronously on next access while the current value is returned to the caller, which means
+	 * that callers accessing the cache regularly never have to wait for a value to be loaded. If a removal listener is
+	 * present, it is notified of entries being replaced by a refresh as well as entries being expired or evicted.
+	 */
+	private CaffeineCache buildCache(final String name, final Duration expireAfterWriteDuration, final Duration refreshAfterWriteDuration, final int maximumSize,
+		final RemovalListener<Object, Object> removalListener) {
+		final var builder = Caffeine.newBuilder()
 			.expireAfterWrite(expireAfterWriteDuration)
 			.maximumSize(maximumSize)
-			.build());
+			.recordStats();
+
+		if (nonNull(removalListener)) {
+			builder.removalListener(removalListener);
+		}
+
+		if (isNull(refreshAfterWriteDuration)) {
+			return new CaffeineCache(name, builder.build());
+		}
+
+		return new CaffeineCache(name, builder
+			.refreshAfterWrite(refreshAfterWriteDuration)
+			.build(refreshingLoader()));
+	}
+
+	/**
+	 * Loader used by refreshing caches, which loads (and reloads) entries by invoking the cached method again. Keys not
+	 * produced by {@link RefreshableCacheKeyGenerator} are not loaded by the cache but by the invocation of the cached
+	 * method.
+	 */
+	static CacheLoader<Object, Object> refreshingLoader() {
+		return key -> key instanceof final RefreshableKey refreshableKey ? refreshableKey.reload() : null;
+	}
+
+	/**
+	 * Listener for the company cache, publishing a {@link CompanyCacheEvictedEvent} for each removed entry so that data
+	 * built from companies and organizations is rebuilt from the refreshed values.
+	 */
+	static RemovalListener<Object, Object> companyRemovalListener(final ApplicationEventPublisher eventPublisher) {
+		return (key, value, cause) -> eventPublisher.publishEvent(new CompanyCacheEvictedEvent());
 	}
 }
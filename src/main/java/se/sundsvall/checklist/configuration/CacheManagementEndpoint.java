@@ -0,0 +1,107 @@
+package se.sundsvall.checklist.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.service.SortorderCache;
+
+import static java.util.Optional.ofNullable;
+import static se.sundsvall.checklist.service.SortorderCache.SORTORDER_CACHE;
+
+/**
+ * Management endpoint for inspecting the statistics of the Caffeine caches in the service, and for invalidating a whole
+ * cache or a single entry in it. Keys are matched by their string representation but never presented, as they contain
+ * personal data such as usernames. The endpoint is not accessible unless explicitly enabled by setting
+ * {@code management.endpoint.checklistcaches.access} to {@code read-only} or {@code unrestricted}.
+ */
+@Component
+@Endpoint(id = "checklistcaches", defaultAccess = Access.NONE)
+public class CacheManagementEndpoint {
+
+	private final ObjectProvider<CacheManager> cacheManagerProvider;
+	private final SortorderCache sortorderCache;
+
+	public CacheManagementEndpoint(final ObjectProvider<CacheManager> cacheManagerProvider, final SortorderCache sortorderCache) {
+		this.cacheManagerProvider = cacheManagerProvider;
+		this.sortorderCache = sortorderCache;
+	}
+
+	/**
+	 * @return statistics for all caches, with cache name as key
+	 */
+	@ReadOperation
+	public Map<String, CacheStatistics> caches() {
+		final var result = new TreeMap<String, CacheStatistics>();
+		getCaches().forEach((name, cache) -> result.put(name, CacheStatistics.of(cache)));
+		return result;
+	}
+
+	/**
+	 * @param  name name of the cache
+	 * @return      statistics for the cache, or null (rendered as not found) if no cache with the name exists
+	 */
+	@ReadOperation
+	public CacheStatistics cache(@Selector final String name) {
+		return ofNullable(getCaches().get(name))
+			.map(CacheStatistics::of)
+			.orElse(null);
+	}
+
+	/**
+	 * Invalidates all entries in the cache, or only the entry matching the key if one is provided.
+	 *
+	 * @param  name name of the cache
+	 * @param  key  optional string representation of the key to invalidate
+	 * @return      number of invalidated entries, or null (rendered as not found) if no cache with the name exists
+	 */
+	@DeleteOperation
+	public Long invalidate(@Selector final String name, @OptionalParameter final String key) {
+		return ofNullable(getCaches().get(name))
+			.map(cache -> invalidate(cache, key))
+			.orElse(null);
+	}
+
+	private static long invalidate(final Cache<?, ?> cache, final String key) {
+		final var keys = cache.asMap().keySet().stream()
+			.filter(cacheKey -> Objects.isNull(key) || key.equals(String.valueOf(cacheKey)))
+			.toList();
+
+		keys.forEach(cache.asMap()::remove);
+		return keys.size();
+	}
+
+	private Map<String, Cache<?, ?>> getCaches() {
+		final var caches = new TreeMap<String, Cache<?, ?>>();
+		caches.put(SORTORDER_CACHE, sortorderCache.getNativeCache());
+
+		cacheManagerProvider.orderedStream()
+			.forEach(cacheManager -> cacheManager.getCacheNames().stream()
+				.map(cacheManager::getCache)
+				.filter(CaffeineCache.class::isInstance)
+				.map(CaffeineCache.class::cast)
+				.forEach(cache -> caches.put(cache.getName(), cache.getNativeCache())));
+
+		return caches;
+	}
+
+	public record CacheStatistics(long size, long hitCount, long missCount, double hitRate, long loadSuccessCount, long loadFailureCount, double averageLoadPenaltyMillis, long evictionCount) {
+
+		static CacheStatistics of(final Cache<?, ?> cache) {
+			final CacheStats stats = cache.stats();
+			return new CacheStatistics(cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(), stats.loadSuccessCount(), stats.loadFailureCount(),
+				stats.averageLoadPenalty() / 1_000_000d, stats.evictionCount());
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package se.sundsvall.checklist.configuration;
+
+/**
+ * Event published when an entry in the company cache is removed, either by being refreshed, expired or evicted. Data
+ * derived from the cached companies and organizations must be rebuilt when receiving the event.
+ */
+public record CompanyCacheEvictedEvent() {
+}
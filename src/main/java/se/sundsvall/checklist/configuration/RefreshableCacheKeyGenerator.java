@@ -0,0 +1,78 @@
+package se.sundsvall.checklist.configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Objects;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Key generator producing keys that, besides identifying the cached value, carries enough information to reload it.
+ * This makes it possible for the caches to refresh entries in the background by invoking the (non proxied) cached
+ * method again.
+ */
+public class RefreshableCacheKeyGenerator implements KeyGenerator {
+
+	@Override
+	public Object generate(final Object target, final Method method, final Object... params) {
+		return new RefreshableKey(target, method, params);
+	}
+
+	/**
+	 * Cache key where equality is based on method and parameters only, the target is only kept for the purpose of
+	 * reloading the value.
+	 */
+	public static final class RefreshableKey {
+
+		private final Object target;
+		private final Method method;
+		private final Object[] params;
+		private final int hashCode;
+
+		RefreshableKey(final Object target, final Method method, final Object... params) {
+			this.target = target;
+			this.method = method;
+			this.params = params.clone();
+			this.hashCode = 31 * method.hashCode() + Arrays.deepHashCode(this.params);
+		}
+
+		/**
+		 * Invokes the method that the key was generated for to produce a fresh value.
+		 *
+		 * @return the value returned by the method
+		 */
+		public Object reload() {
+			try {
+				ReflectionUtils.makeAccessible(method);
+				return method.invoke(target, params);
+			} catch (final InvocationTargetException e) {
+				ReflectionUtils.rethrowRuntimeException(e.getTargetException());
+			} catch (final IllegalAccessException e) {
+				ReflectionUtils.handleReflectionException(e);
+			}
+			return null;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof final RefreshableKey other)) {
+				return false;
+			}
+			return Objects.equals(method, other.method) && Arrays.deepEquals(params, other.params);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return method.getDeclaringClass().getSimpleName() + "." + method.getName() + Arrays.deepToString(params);
+		}
+	}
+}
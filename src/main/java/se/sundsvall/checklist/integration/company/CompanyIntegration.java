@@ -6,6 +6,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import static se.sundsvall.checklist.configuration.CacheConfiguration.COMPANY_CACHE;
+import static se.sundsvall.checklist.configuration.CacheConfiguration.REFRESHABLE_KEY_GENERATOR;
 
 /**
  * Wrapper class for {@link CompanyClient}.
@@ -25,7 +26,7 @@ public class CompanyIntegration {
 	 * @param  municipalityId municipality id to fetch companies for
 	 * @return                List of root organizations (a.k.a. companies)
 	 */
-	@Cacheable(COMPANY_CACHE)
+	@Cacheable(cacheNames = COMPANY_CACHE, keyGenerator = REFRESHABLE_KEY_GENERATOR)
 	public List<Organization> getCompanies(final String municipalityId) {
 		return companyClient.getCompanies(municipalityId);
 	}
@@ -37,7 +38,7 @@ public class CompanyIntegration {
 	 * @param  companyId      containing the id of the root company to fetch organizations for
 	 * @return                List of organizations
 	 */
-	@Cacheable(COMPANY_CACHE)
+	@Cacheable(cacheNames = COMPANY_CACHE, keyGenerator = REFRESHABLE_KEY_GENERATOR)
 	public List<Organization> getOrganizationsForCompany(final String municipalityId, final int companyId) {
 		return companyClient.getOrganizationsForCompany(municipalityId, companyId);
 	}
@@ -0,0 +1,122 @@
+package se.sundsvall.checklist.integration.company;
+
+import generated.se.sundsvall.company.Organization;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Immutable index over the organizational structure for all companies in a municipality, built from the data returned
+ * by {@link CompanyIntegration}. Offers constant time lookup of an organization, its parent and its owning company.
+ * Organization ids are expected to be unique within a municipality, if not the first occurrence is indexed.
+ */
+public final class OrganizationIndex {
+
+	private final List<Organization> companies;
+	private final Map<Integer, List<Organization>> organizationsByCompanyId;
+	private final Map<Integer, Organization> companiesById = new HashMap<>();
+	private final Map<Integer, Organization> organizationsById = new HashMap<>();
+	private final Map<Integer, Integer> companyIdsByOrganizationId = new HashMap<>();
+
+	private OrganizationIndex(final List<Organization> companies, final Map<Integer, List<Organization>> organizationsByCompanyId) {
+		this.companies = companies;
+		this.organizationsByCompanyId = organizationsByCompanyId;
+
+		ofNullable(companies).orElse(emptyList()).stream()
+			.filter(Objects::nonNull)
+			.forEach(company -> companiesById.putIfAbsent(company.getCompanyId(), company));
+
+		organizationsByCompanyId.forEach((companyId, organizations) -> ofNullable(organizations).orElse(emptyList()).stream()
+			.filter(Objects::nonNull)
+			.forEach(organization -> {
+				if (organizationsById.putIfAbsent(organization.getOrgId(), organization) == null) {
+					companyIdsByOrganizationId.put(organization.getOrgId(), companyId);
+				}
+			}));
+	}
+
+	/**
+	 * Builds an index from companies and their respective organizations.
+	 *
+	 * @param  companies                the root organizations (a.k.a. companies) in the municipality
+	 * @param  organizationsByCompanyId map with company id as key and a flat list of the organizations in the company as
+	 *                                  value
+	 * @return                          an index over the provided organizations
+	 */
+	public static OrganizationIndex build(final List<Organization> companies, final Map<Integer, List<Organization>> organizationsByCompanyId) {
+		return new OrganizationIndex(companies, unmodifiableMap(new HashMap<>(organizationsByCompanyId)));
+	}
+
+	/**
+	 * Returns true if the index was built from companies equal to the provided companies, i.e. the set of companies in
+	 * the municipality has not changed since the index was built.
+	 */
+	boolean isBuiltFrom(final List<Organization> companies) {
+		return Objects.equals(this.companies, companies);
+	}
+
+	/**
+	 * @param  orgId id of the organization to find
+	 * @return       the organization matching the id, or an empty optional if it does not exist
+	 */
+	public Optional<Organization> getOrganization(final Integer orgId) {
+		return ofNullable(orgId).map(organizationsById::get);
+	}
+
+	/**
+	 * @param  orgId id of the organization to find the parent for
+	 * @return       the parent organization, or an empty optional if the organization does not exist or is a root
+	 *               organization
+	 */
+	public Optional<Organization> getParent(final Integer orgId) {
+		return getOrganization(orgId)
+			.map(Organization::getParentId)
+			.flatMap(this::getOrganization);
+	}
+
+	/**
+	 * @param  orgId id of the organization to find the ancestors for
+	 * @return       list of ancestors ordered from the closest parent up to the root organization (not including the
+	 *               organization itself)
+	 */
+	public List<Organization> getAncestors(final Integer orgId) {
+		final var visited = new HashSet<Integer>();
+		final var ancestors = new ArrayList<Organization>();
+		getOrganization(orgId).map(Organization::getOrgId).ifPresent(visited::add);
+
+		var parent = getParent(orgId);
+		while (parent.isPresent() && visited.add(parent.get().getOrgId())) {
+			ancestors.add(parent.get());
+			parent = getParent(parent.get().getOrgId());
+		}
+
+		return unmodifiableList(ancestors);
+	}
+
+	/**
+	 * @param  orgId id of the organization to find the owning company for
+	 * @return       the company that owns the organization, or an empty optional if the organization does not exist
+	 */
+	public Optional<Organization> getCompany(final Integer orgId) {
+		return ofNullable(orgId)
+			.map(companyIdsByOrganizationId::get)
+			.map(companiesById::get);
+	}
+
+	/**
+	 * @param  companyId id of the company
+	 * @return           flat list of all organizations in the company
+	 */
+	public List<Organization> getOrganizationsForCompany(final Integer companyId) {
+		return ofNullable(organizationsByCompanyId.get(companyId)).orElse(emptyList());
+	}
+}
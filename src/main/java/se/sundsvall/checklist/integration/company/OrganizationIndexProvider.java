@@ -0,0 +1,101 @@
+package se.sundsvall.checklist.integration.company;
+
+import generated.se.sundsvall.company.Organization;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.configuration.CompanyCacheEvictedEvent;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Provider of {@link OrganizationIndex} per municipality. The index is built once from the data in
+ * {@link CompanyIntegration} and is then kept until the set of companies in the municipality changes or an entry in the
+ * company cache is refreshed or evicted, which means that the organizations of all companies are only fetched when the
+ * index is (re)built and not on each request for the index.
+ * <p>
+ * The index is built without holding any lock and is then swapped in, unless the company cache has been invalidated
+ * while the index was being built (in which case the index might be built from stale data and is not kept). An
+ * {@link OrganizationIndexRebuiltEvent} is published each time a new index is swapped in.
+ */
+@Component
+public class OrganizationIndexProvider {
+
+	private final CompanyIntegration companyIntegration;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Map<String, BuiltIndex> indexes = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+
+	public OrganizationIndexProvider(final CompanyIntegration companyIntegration, final ApplicationEventPublisher eventPublisher) {
+		this.companyIntegration = companyIntegration;
+		this.eventPublisher = eventPublisher;
+	}
+
+	/**
+	 * Returns the organization index for the municipality, rebuilding it if the companies in the municipality have changed
+	 * or the company cache has been invalidated since the current index was built.
+	 *
+	 * @param  municipalityId id of the municipality to return the organization index for
+	 * @return                organization index for the municipality
+	 */
+	public OrganizationIndex getIndex(final String municipalityId) {
+		final var currentGeneration = generation.get();
+		final var companies = companyIntegration.getCompanies(municipalityId);
+		final var current = indexes.get(municipalityId);
+		if (nonNull(current) && current.isValidFor(companies, currentGeneration)) {
+			return current.index();
+		}
+
+		final var built = new BuiltIndex(build(municipalityId, companies), currentGeneration);
+		// Another caller might have swapped in an index meanwhile, in which case that index is kept. An index built from
+		// stale data that is swapped in despite the check is rejected by the next caller, as its generation is outdated.
+		if (currentGeneration == generation.get() && swapIn(municipalityId, current, built)) {
+			eventPublisher.publishEvent(new OrganizationIndexRebuiltEvent(municipalityId));
+		}
+		return built.index();
+	}
+
+	private boolean swapIn(final String municipalityId, final BuiltIndex current, final BuiltIndex built) {
+		return isNull(current) ? isNull(indexes.putIfAbsent(municipalityId, built)) : indexes.replace(municipalityId, current, built);
+	}
+
+	/**
+	 * Invalidates the indexes of all municipalities when an entry in the company cache is refreshed or evicted, as the
+	 * organizations that the indexes are built from might have changed.
+	 *
+	 * @param event the event signalling that the company cache has changed
+	 */
+	@EventListener
+	public void onCompanyCacheEvicted(final CompanyCacheEvictedEvent event) {
+		generation.incrementAndGet();
+		indexes.clear();
+	}
+
+	private OrganizationIndex build(final String municipalityId, final List<Organization> companies) {
+		final var organizationsByCompanyId = new LinkedHashMap<Integer, List<Organization>>();
+		ofNullable(companies).orElse(emptyList()).stream()
+			.filter(Objects::nonNull)
+			.map(Organization::getCompanyId)
+			.distinct()
+			.forEach(companyId -> organizationsByCompanyId.put(companyId,
+				ofNullable(companyIntegration.getOrganizationsForCompany(municipalityId, companyId)).orElse(emptyList())));
+
+		return OrganizationIndex.build(companies, organizationsByCompanyId);
+	}
+
+	private record BuiltIndex(OrganizationIndex index, long generation) {
+
+		boolean isValidFor(final List<Organization> companies, final long currentGeneration) {
+			return generation == currentGeneration && index.isBuiltFrom(companies);
+		}
+	}
+}
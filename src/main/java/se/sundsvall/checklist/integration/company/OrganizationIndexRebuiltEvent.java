@@ -0,0 +1,10 @@
+package se.sundsvall.checklist.integration.company;
+
+/**
+ * Event published when a new {@link OrganizationIndex} has been built for a municipality. Data resolved from the
+ * previous index, such as the position of an organization in the tree, might be outdated when receiving the event.
+ *
+ * @param municipalityId id of the municipality that the index was rebuilt for
+ */
+public record OrganizationIndexRebuiltEvent(String municipalityId) {
+}
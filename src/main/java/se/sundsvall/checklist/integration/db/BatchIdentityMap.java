@@ -0,0 +1,111 @@
+package se.sundsvall.checklist.integration.db;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.hibernate.Hibernate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
+import se.sundsvall.checklist.integration.db.model.ManagerEntity;
+import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
+
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Identity map for managers and organizations that are known to exist in the database, used for avoiding repeated
+ * lookups of the same manager or organization when initiating a batch of employees. An instance should only live for
+ * the duration of one batch.
+ *
+ * Entries are only added when the transaction that persisted (or read) the employee has been committed, which means
+ * that managers and organizations created by an employee that failed (and was rolled back) are never present in the
+ * map. The map is safe to use from multiple threads.
+ */
+public final class BatchIdentityMap {
+
+	private final Set<String> managerIds = ConcurrentHashMap.newKeySet();
+	private final Map<OrganizationKey, String> organizationIds = new ConcurrentHashMap<>();
+
+	/**
+	 * @param  personId person id of the manager
+	 * @return          true if the manager is known to exist in the database
+	 */
+	boolean containsManager(final String personId) {
+		return managerIds.contains(personId);
+	}
+
+	/**
+	 * @param  municipalityId     id of the municipality where the organization belongs
+	 * @param  organizationNumber number of the organization
+	 * @return                    id of the organization entity if the organization is known to exist in the database
+	 */
+	Optional<String> getOrganizationId(final String municipalityId, final int organizationNumber) {
+		return ofNullable(organizationIds.get(new OrganizationKey(municipalityId, organizationNumber)));
+	}
+
+	/**
+	 * Registers the manager, company and department of the persisted employee in the map when the ongoing transaction
+	 * commits (or directly if no transaction is active).
+	 *
+	 * @param municipalityId the id of the municipality where the employee belongs
+	 * @param employee       the persisted employee
+	 */
+	void registerOnCommit(final String municipalityId, final EmployeeEntity employee) {
+		// Read identifiers while the entities are still attached to the persistence context. Uninitialized references
+		// originates from this map and are already registered.
+		final var managerId = ofNullable(employee.getManager()).map(ManagerEntity::getPersonId);
+		final var organizations = Stream.of(employee.getCompany(), employee.getDepartment())
+			.filter(Objects::nonNull)
+			.filter(Hibernate::isInitialized)
+			.filter(organization -> nonNull(organization.getId()))
+			.collect(toMap(organization -> new OrganizationKey(municipalityId, organization.getOrganizationNumber()), OrganizationEntity::getId, (first, second) -> first));
+
+		registerOnCommit(() -> {
+			managerId.ifPresent(managerIds::add);
+			organizationIds.putAll(organizations);
+		});
+	}
+
+	/**
+	 * Registers the persisted managers and organizations in the map when the ongoing transaction commits (or directly if
+	 * no transaction is active).
+	 *
+	 * @param municipalityId the id of the municipality where the organizations belong
+	 * @param managers       the persisted managers
+	 * @param organizations  the persisted organizations
+	 */
+	void registerOnCommit(final String municipalityId, final Collection<ManagerEntity> managers, final Collection<OrganizationEntity> organizations) {
+		final var managerIdsToRegister = managers.stream()
+			.map(ManagerEntity::getPersonId)
+			.toList();
+		final var organizationIdsToRegister = organizations.stream()
+			.collect(toMap(organization -> new OrganizationKey(municipalityId, organization.getOrganizationNumber()), OrganizationEntity::getId, (first, second) -> first));
+
+		registerOnCommit(() -> {
+			managerIds.addAll(managerIdsToRegister);
+			organizationIds.putAll(organizationIdsToRegister);
+		});
+	}
+
+	private static void registerOnCommit(final Runnable register) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					register.run();
+				}
+			});
+		} else {
+			register.run();
+		}
+	}
+
+	private record OrganizationKey(String municipalityId, int organizationNumber) {
+	}
+}
@@ -1,11 +1,18 @@
 package se.sundsvall.checklist.integration.db;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -15,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import se.sundsvall.checklist.api.model.CustomTaskCreateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhaseUpdateRequest;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.Mentor;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklistParameters;
@@ -29,34 +37,58 @@ import se.sundsvall.checklist.integration.db.model.ManagerEntity;
 import se.sundsvall.checklist.integration.db.model.MentorEntity;
 import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
+import se.sundsvall.checklist.integration.db.model.TombstoneEntity;
 import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
+import se.sundsvall.checklist.integration.db.repository.ChecklistRepository;
+import se.sundsvall.checklist.integration.db.repository.CustomFulfilmentRepository;
 import se.sundsvall.checklist.integration.db.repository.CustomTaskRepository;
 import se.sundsvall.checklist.integration.db.repository.DelegateRepository;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.integration.db.repository.EmployeeRepository;
+import se.sundsvall.checklist.integration.db.repository.FulfilmentRepository;
 import se.sundsvall.checklist.integration.db.repository.ManagerRepository;
 import se.sundsvall.checklist.integration.db.repository.OrganizationRepository;
 import se.sundsvall.checklist.integration.db.repository.PhaseRepository;
+import se.sundsvall.checklist.integration.db.repository.TaskRepository;
+import se.sundsvall.checklist.integration.db.repository.TombstoneRepository;
+import se.sundsvall.checklist.integration.db.repository.projection.EmployeeChecklistVersionProjection;
+import se.sundsvall.checklist.integration.db.repository.projection.FulfilmentProjection;
+import se.sundsvall.checklist.integration.db.repository.projection.TaskFulfilmentProjection;
 import se.sundsvall.checklist.service.OrganizationTree;
 import se.sundsvall.checklist.service.OrganizationTree.OrganizationLine;
 import se.sundsvall.checklist.service.model.Employee;
+import se.sundsvall.checklist.service.model.Employment;
 import se.sundsvall.checklist.service.model.Manager;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.ThrowableProblem;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.util.DigestUtils.md5DigestAsHex;
 import static se.sundsvall.checklist.integration.db.model.enums.LifeCycle.ACTIVE;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toCustomFulfilmentEntity;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toCustomTaskEntity;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toEmployeeChecklistEntity;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toEmployeeChecklistTask;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toFulfilmentEntity;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toTombstoneEntity;
 import static se.sundsvall.checklist.service.mapper.OrganizationMapper.toEmployeeEntity;
 import static se.sundsvall.checklist.service.mapper.OrganizationMapper.toManagerEntity;
 import static se.sundsvall.checklist.service.mapper.OrganizationMapper.toOrganizationEntity;
 import static se.sundsvall.checklist.service.mapper.OrganizationMapper.updateEmployeeEntity;
-import static se.sundsvall.checklist.service.util.ServiceUtils.allTasksAreCompleted;
+import static se.sundsvall.checklist.service.util.EmployeeChecklistDecorator.decorateWithFulfilment;
+import static se.sundsvall.checklist.service.util.ServiceUtils.countDelta;
 import static se.sundsvall.checklist.service.util.ServiceUtils.getMainEmployment;
 import static se.sundsvall.checklist.service.util.StringUtils.toReadableString;
 import static se.sundsvall.checklist.service.util.VerificationUtils.verifyUnlockedEmployeeChecklist;
@@ -69,9 +101,9 @@ public class EmployeeChecklistIntegration {
 	private static final String NO_MATCHING_CHECKLIST_FOUND = "No checklist was found for any id in the organization tree for employee %s. Search has been performed for id %s.";
 	private static final String NO_MATCHING_EMPLOYEE_CHECKLIST_FOUND = "Employee checklist with id %s was not found within municipality %s.";
 	private static final String NO_MATCHING_PHASE_FOUND = "Phase with id %s was not found within municipality %s.";
-	private static final String NO_FULFILMENT_INFORMATION_FOUND = "No fulfilment information found for task with id %s in employee checklist with id %s.";
 	private static final String EMPLOYEE_NO_MANAGER = "Cannot initiate employee %s without responsible manager.";
 
+	private final ChecklistRepository checklistRepository;
 	private final DelegateRepository delegateRepository;
 	private final EmployeeRepository employeeRepository;
 	private final ManagerRepository managerRepository;
@@ -79,16 +111,26 @@ public class EmployeeChecklistIntegration {
 	private final PhaseRepository phaseRepository;
 	private final OrganizationRepository organizationRepository;
 	private final CustomTaskRepository customTaskRepository;
+	private final TaskRepository taskRepository;
+	private final FulfilmentRepository fulfilmentRepository;
+	private final CustomFulfilmentRepository customFulfilmentRepository;
+	private final TombstoneRepository tombstoneRepository;
 
 	public EmployeeChecklistIntegration(
+		final ChecklistRepository checklistRepository,
 		final DelegateRepository delegateRepository,
 		final EmployeeRepository employeeRepository,
 		final ManagerRepository managerRepository,
 		final EmployeeChecklistRepository employeeChecklistRepository,
 		final PhaseRepository phaseRepository,
 		final OrganizationRepository organizationRepository,
-		final CustomTaskRepository customTaskRepository) {
+		final CustomTaskRepository customTaskRepository,
+		final TaskRepository taskRepository,
+		final FulfilmentRepository fulfilmentRepository,
+		final CustomFulfilmentRepository customFulfilmentRepository,
+		final TombstoneRepository tombstoneRepository) {
 
+		this.checklistRepository = checklistRepository;
 		this.delegateRepository = delegateRepository;
 		this.employeeRepository = employeeRepository;
 		this.managerRepository = managerRepository;
@@ -96,6 +138,10 @@ public class EmployeeChecklistIntegration {
 		this.phaseRepository = phaseRepository;
 		this.organizationRepository = organizationRepository;
 		this.customTaskRepository = customTaskRepository;
+		this.taskRepository = taskRepository;
+		this.fulfilmentRepository = fulfilmentRepository;
+		this.customFulfilmentRepository = customFulfilmentRepository;
+		this.tombstoneRepository = tombstoneRepository;
 	}
 
 	public Optional<EmployeeChecklistEntity> fetchOptionalEmployeeChecklist(String municipalityId, String username) {
@@ -106,6 +152,55 @@ public class EmployeeChecklistIntegration {
 		return employeeChecklistRepository.findAllByChecklistsMunicipalityIdAndEmployeeManagerUsername(municipalityId, username);
 	}
 
+	public List<String> fetchEmployeeChecklistIdsForParticipant(String municipalityId, String username) {
+		return employeeChecklistRepository.findUnlockedIdsByMunicipalityIdAndParticipantUsername(municipalityId, username);
+	}
+
+	public List<String> fetchEmployeeChecklistIdsForEmployee(String municipalityId, String username) {
+		return employeeChecklistRepository.findIdsByMunicipalityIdAndEmployeeUsername(municipalityId, username);
+	}
+
+	public List<String> fetchEmployeeChecklistIdsForManager(String municipalityId, String username) {
+		return employeeChecklistRepository.findIdsByMunicipalityIdAndEmployeeManagerUsername(municipalityId, username);
+	}
+
+	public List<String> fetchEmployeeChecklistIdsForDelegate(String username) {
+		return delegateRepository.findEmployeeChecklistIdsByUsername(username);
+	}
+
+	/**
+	 * Fetches a version of the provided employee checklists as a whole, calculated from the fingerprints of the employee
+	 * checklists without loading them. The version changes whenever an employee checklist is added to or removed from the
+	 * collection or anything that one of them is built from is changed.
+	 *
+	 * @param  municipalityId       the id of the municipality where the employee checklists belong
+	 * @param  employeeChecklistIds ids of the employee checklists to fetch version for
+	 * @param  outdatedBefore       employee information updated before this point in time is considered outdated
+	 * @return                      the version of the employee checklists, or empty if the version can not be trusted
+	 *                              (i.e. when information of an employee is outdated and about to be refreshed)
+	 */
+	public Optional<String> fetchVersion(String municipalityId, Collection<String> employeeChecklistIds, OffsetDateTime outdatedBefore) {
+		final var ids = Set.copyOf(employeeChecklistIds);
+		final var versions = ids.isEmpty() ? List.<EmployeeChecklistVersionProjection>of() : employeeChecklistRepository.findVersionsByIdIn(municipalityId, ids, outdatedBefore.toLocalDateTime());
+
+		if (versions.size() != ids.size() || versions.stream().map(EmployeeChecklistVersionProjection::getFingerprint).anyMatch(Objects::isNull)) {
+			return Optional.empty();
+		}
+
+		final var fingerprints = versions.stream()
+			.sorted(comparing(EmployeeChecklistVersionProjection::getId))
+			.map(version -> version.getId() + ":" + version.getFingerprint())
+			.collect(joining(","));
+
+		return Optional.of(md5DigestAsHex(fingerprints.getBytes(UTF_8)));
+	}
+
+	@Transactional
+	public void updateEmployeeInformation(String employeeId, Employee employee) {
+		employeeRepository.findById(employeeId)
+			.ifPresent(employeeEntity -> updateEmployeeInformation(employeeEntity, employee));
+	}
+
 	@Transactional
 	public void updateEmployeeInformation(EmployeeEntity employeeEntity, Employee employee) {
 		updateEmployeeEntity(employeeEntity, employee);
@@ -113,7 +208,7 @@ public class EmployeeChecklistIntegration {
 		// Trying to update manager, but if employment has been updated there is a risk that main employment signal is missing
 		// or that the responsible manager is missing in the remote employee data. In that case, log and keep existing manager.
 		try {
-			final var newManager = retrieveManagerEntity(getMainEmployment(employee).resolveResponsibleManager());
+			final var newManager = retrieveManagerEntity(getMainEmployment(employee).resolveResponsibleManager(), new BatchIdentityMap());
 			if (newManager != null) {
 				employeeEntity.setManager(newManager);
 			} else {
@@ -137,6 +232,41 @@ public class EmployeeChecklistIntegration {
 		return delegates.isEmpty() ? null : delegates;
 	}
 
+	/**
+	 * Fetch delegate emails for a number of employee checklists in one query.
+	 *
+	 * @param  employeeChecklistIds the ids of the employee checklists to fetch delegate emails for
+	 * @return                      a map where key is the employee checklist id and value is the emails of the delegates
+	 *                              for it (employee checklists without delegates are not present in the map)
+	 */
+	public Map<String, List<String>> fetchDelegateEmails(Collection<String> employeeChecklistIds) {
+		if (CollectionUtils.isEmpty(employeeChecklistIds)) {
+			return emptyMap();
+		}
+
+		return delegateRepository.findAllByEmployeeChecklistIdIn(employeeChecklistIds)
+			.stream()
+			.collect(groupingBy(delegate -> delegate.getEmployeeChecklist().getId(), mapping(DelegateEntity::getEmail, toList())));
+	}
+
+	/**
+	 * Fetch custom tasks for a number of employee checklists in one query.
+	 *
+	 * @param  municipalityId       the id of the municipality where the employee checklists belong
+	 * @param  employeeChecklistIds the ids of the employee checklists to fetch custom tasks for
+	 * @return                      a map where key is the employee checklist id and value is the custom tasks belonging to
+	 *                              it (employee checklists without custom tasks are not present in the map)
+	 */
+	public Map<String, List<CustomTaskEntity>> fetchCustomTasks(String municipalityId, Collection<String> employeeChecklistIds) {
+		if (CollectionUtils.isEmpty(employeeChecklistIds)) {
+			return emptyMap();
+		}
+
+		return customTaskRepository.findDistinctByEmployeeChecklistIdInAndEmployeeChecklistChecklistsMunicipalityId(employeeChecklistIds, municipalityId)
+			.stream()
+			.collect(groupingBy(customTask -> customTask.getEmployeeChecklist().getId()));
+	}
+
 	@Transactional
 	public EmployeeChecklistEntity updateAllFulfilmentForAllTasksInPhase(String municipalityId, String employeeChecklistId, String phaseId, EmployeeChecklistPhaseUpdateRequest request) {
 		final var employeeChecklist = fetchEmployeeChecklist(municipalityId, employeeChecklistId);
@@ -147,45 +277,57 @@ public class EmployeeChecklistIntegration {
 			return employeeChecklist;
 		}
 
+		final var statusChanges = new ArrayList<StatusChange>();
+
 		// Update of all common tasks (if such exists) in phase
 		employeeChecklist.getChecklists().stream()
 			.map(ChecklistEntity::getTasks)
 			.flatMap(List::stream)
 			.filter(task -> Objects.equals(task.getPhase().getId(), phaseId))
-			.forEach(task -> updateCommonTask(employeeChecklist, task, request.getTasksFulfilmentStatus(), request.getUpdatedBy()));
+			.forEach(task -> statusChanges.add(updateCommonTask(employeeChecklist, task, request.getTasksFulfilmentStatus(), request.getUpdatedBy())));
 
 		// Update of all custom tasks (if such exists) in phase
 		employeeChecklist.getCustomTasks().stream()
 			.filter(task -> Objects.equals(task.getPhase().getId(), phaseId))
-			.forEach(task -> updateCustomTask(employeeChecklist, task, request.getTasksFulfilmentStatus(), request.getUpdatedBy()));
+			.forEach(task -> statusChanges.add(updateCustomTask(employeeChecklist, task, request.getTasksFulfilmentStatus(), request.getUpdatedBy())));
 
-		calculateCompletedChecklist(employeeChecklist);
+		employeeChecklistRepository.save(employeeChecklist);
 
-		return employeeChecklistRepository.save(employeeChecklist);
+		// Counters and completion are updated by set based updates (which clear the persistence context), hence the re-read
+		updateCompletion(employeeChecklistId, statusChanges);
+		return fetchEmployeeChecklist(municipalityId, employeeChecklistId);
 	}
 
-	private void updateCommonTask(EmployeeChecklistEntity employeeChecklist, TaskEntity task, FulfilmentStatus fulfilmentStatus, String updatedBy) {
-		employeeChecklist.getFulfilments().stream()
-			.filter(fulfilment -> Objects.equals(task, fulfilment.getTask()))
-			.findAny()
-			.ifPresentOrElse(
-				fulfilment -> {
-					fulfilment.setCompleted(fulfilmentStatus);
-					fulfilment.setLastSavedBy(updatedBy);
-				},
-				() -> employeeChecklist.getFulfilments().add(toFulfilmentEntity(employeeChecklist, task, fulfilmentStatus, null, updatedBy)));
+	private StatusChange updateCommonTask(EmployeeChecklistEntity employeeChecklist, TaskEntity task, FulfilmentStatus fulfilmentStatus, String updatedBy) {
+		final var fulfilment = employeeChecklist.getFulfilments().stream()
+			.filter(candidate -> Objects.equals(task, candidate.getTask()))
+			.findAny();
+
+		final var previousStatus = fulfilment.map(FulfilmentEntity::getCompleted).orElse(null);
+		fulfilment.ifPresentOrElse(
+			existing -> {
+				existing.setCompleted(fulfilmentStatus);
+				existing.setLastSavedBy(updatedBy);
+			},
+			() -> employeeChecklist.getFulfilments().add(toFulfilmentEntity(employeeChecklist, task, fulfilmentStatus, null, updatedBy)));
+
+		return new StatusChange(previousStatus, fulfilmentStatus);
 	}
 
-	private void updateCustomTask(EmployeeChecklistEntity employeeChecklist, CustomTaskEntity customTask, FulfilmentStatus fulfilmentStatus, String updatedBy) {
-		employeeChecklist.getCustomFulfilments().stream()
-			.filter(fulfilment -> Objects.equals(customTask, fulfilment.getCustomTask()))
-			.findAny()
-			.ifPresentOrElse(
-				fulfilment -> {
-					fulfilment.setCompleted(fulfilmentStatus);
-					fulfilment.setLastSavedBy(updatedBy);
-				},
-				() -> employeeChecklist.getCustomFulfilments().add(toCustomFulfilmentEntity(employeeChecklist, customTask, fulfilmentStatus, null, updatedBy)));
+	private StatusChange updateCustomTask(EmployeeChecklistEntity employeeChecklist, CustomTaskEntity customTask, FulfilmentStatus fulfilmentStatus, String updatedBy) {
+		final var fulfilment = employeeChecklist.getCustomFulfilments().stream()
+			.filter(candidate -> Objects.equals(customTask, candidate.getCustomTask()))
+			.findAny();
+
+		final var previousStatus = fulfilment.map(CustomFulfilmentEntity::getCompleted).orElse(null);
+		fulfilment.ifPresentOrElse(
+			existing -> {
+				existing.setCompleted(fulfilmentStatus);
+				existing.setLastSavedBy(updatedBy);
+			},
+			() -> employeeChecklist.getCustomFulfilments().add(toCustomFulfilmentEntity(employeeChecklist, customTask, fulfilmentStatus, null, updatedBy)));
+
+		return new StatusChange(previousStatus, fulfilmentStatus);
 	}
 
 	public EmployeeChecklistEntity fetchEmployeeChecklist(String municipalityId, String employeeChecklistId) {
@@ -193,72 +335,212 @@ public class EmployeeChecklistIntegration {
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, NO_MATCHING_EMPLOYEE_CHECKLIST_FOUND.formatted(employeeChecklistId, municipalityId)));
 	}
 
-	@Transactional
-	public FulfilmentEntity updateCommonTaskFulfilment(String municipalityId, String employeeChecklistId, String taskId, EmployeeChecklistTaskUpdateRequest request) {
-		final var employeeChecklist = fetchEmployeeChecklist(municipalityId, employeeChecklistId);
+	/**
+	 * Verifies that the employee checklist exists within the municipality and that it is not locked, without loading the
+	 * employee checklist.
+	 *
+	 * @param  municipalityId      the id of the municipality where the employee checklist belongs
+	 * @param  employeeChecklistId the id of the employee checklist to verify
+	 * @throws ThrowableProblem    if the employee checklist does not exist or is locked
+	 */
+	public void verifyEmployeeChecklistIsUnlocked(String municipalityId, String employeeChecklistId) {
+		final var locked = employeeChecklistRepository.findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, NO_MATCHING_EMPLOYEE_CHECKLIST_FOUND.formatted(employeeChecklistId, municipalityId)));
 
-		employeeChecklist.getChecklists().stream()
-			.map(ChecklistEntity::getTasks)
-			.flatMap(List::stream)
-			.filter(task -> Objects.equals(task.getId(), taskId))
-			.findAny()
-			.ifPresent(task -> {
-				updateCommonTask(employeeChecklist, task, request);
-				calculateCompletedChecklist(employeeChecklist);
+		verifyUnlockedEmployeeChecklist(employeeChecklistId, locked);
+	}
 
-				employeeChecklistRepository.save(employeeChecklist);
-			});
+	public Optional<TaskEntity> fetchCommonTask(String employeeChecklistId, String taskId) {
+		return taskRepository.findByIdAndEmployeeChecklistId(taskId, employeeChecklistId);
+	}
 
-		return employeeChecklist.getFulfilments().stream()
-			.filter(fulfilment -> Objects.equals(fulfilment.getTask().getId(), taskId))
-			.findAny()
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, NO_FULFILMENT_INFORMATION_FOUND.formatted(taskId, employeeChecklistId)));
+	public Optional<CustomTaskEntity> fetchCustomTask(String employeeChecklistId, String taskId) {
+		return customTaskRepository.findByIdAndEmployeeChecklistId(taskId, employeeChecklistId);
 	}
 
-	private void updateCommonTask(EmployeeChecklistEntity employeeChecklist, TaskEntity task, EmployeeChecklistTaskUpdateRequest request) {
-		employeeChecklist.getFulfilments().stream()
-			.filter(fulfilment -> Objects.equals(task, fulfilment.getTask()))
-			.findAny()
-			.ifPresentOrElse(
-				fulfilment -> {
-					ofNullable(request.getFulfilmentStatus()).ifPresent(fulfilment::setCompleted);
-					ofNullable(request.getResponseText()).ifPresent(fulfilment::setResponseText);
-					fulfilment.setLastSavedBy(request.getUpdatedBy());
-				}, () -> employeeChecklist.getFulfilments().add(toFulfilmentEntity(employeeChecklist, task, request.getFulfilmentStatus(), request.getResponseText(), request.getUpdatedBy())));
+	public List<FulfilmentEntity> fetchFulfilmentsUpdatedAfter(String employeeChecklistId, OffsetDateTime since) {
+		return fulfilmentRepository.findAllByEmployeeChecklistIdAndUpdatedAfter(employeeChecklistId, since);
 	}
 
+	public List<CustomTaskEntity> fetchCustomTasksChangedAfter(String employeeChecklistId, OffsetDateTime since) {
+		return customTaskRepository.findAllByEmployeeChecklistIdAndChangedAfter(employeeChecklistId, since);
+	}
+
+	public List<CustomFulfilmentEntity> fetchCustomFulfilmentsChangedAfter(String employeeChecklistId, OffsetDateTime since) {
+		return customFulfilmentRepository.findAllByEmployeeChecklistIdAndChangedAfter(employeeChecklistId, since);
+	}
+
+	/**
+	 * Fetch ids of tasks that have been removed from the employee checklist after the provided timestamp.
+	 *
+	 * @param  employeeChecklistId the id of the employee checklist
+	 * @param  since               timestamp to fetch removed tasks after
+	 * @return                     list of ids of removed tasks
+	 */
+	public List<String> fetchRemovedTaskIds(String employeeChecklistId, OffsetDateTime since) {
+		return tombstoneRepository.findAllByEmployeeChecklistIdAndDeletedAfter(employeeChecklistId, since)
+			.stream()
+			.map(TombstoneEntity::getTaskId)
+			.distinct()
+			.toList();
+	}
+
+	/**
+	 * Records that the task has been removed from the employee checklist, for clients that fetch changes of the employee
+	 * checklist.
+	 *
+	 * @param employeeChecklistId the id of the employee checklist
+	 * @param taskId              the id of the removed task
+	 */
+	public void addTombstone(String employeeChecklistId, String taskId) {
+		tombstoneRepository.save(toTombstoneEntity(employeeChecklistId, taskId));
+	}
+
+	/**
+	 * Upserts the fulfilment of a common task in the employee checklist. Only the fulfilment row is read and written, while
+	 * the completion counters are adjusted and the employee checklist is marked as completed by set based updates.
+	 *
+	 * @param  employeeChecklistId the id of the employee checklist that the task belongs to
+	 * @param  task                the common task to update fulfilment for
+	 * @param  request             the fulfilment update
+	 * @return                     the fulfilment as it is after the update
+	 */
 	@Transactional
-	public CustomFulfilmentEntity updateCustomTaskFulfilment(String municipalityId, String employeeChecklistId, String taskId, EmployeeChecklistTaskUpdateRequest request) {
-		final var employeeChecklist = fetchEmployeeChecklist(municipalityId, employeeChecklistId);
+	public FulfilmentEntity updateCommonTaskFulfilment(String employeeChecklistId, TaskEntity task, EmployeeChecklistTaskUpdateRequest request) {
+		final var currentFulfilment = fulfilmentRepository.findFirstByEmployeeChecklistIdAndTaskId(employeeChecklistId, task.getId());
+		final var fulfilment = upsertCommonTaskFulfilment(employeeChecklistId, task, currentFulfilment, request);
 
-		employeeChecklist.getCustomTasks().stream()
-			.filter(task -> Objects.equals(task.getId(), taskId))
-			.findAny()
-			.ifPresent(task -> {
-				updateCustomTask(employeeChecklist, task, request);
-				calculateCompletedChecklist(employeeChecklist);
+		updateCompletion(employeeChecklistId, List.of(new StatusChange(currentFulfilment.map(FulfilmentProjection::getCompleted).orElse(null), fulfilment.getCompleted())));
+
+		return fulfilment;
+	}
+
+	/**
+	 * Upserts the fulfilment of a custom task in the employee checklist. Only the custom fulfilment row is read and
+	 * written, while the completion counters are adjusted and the employee checklist is marked as completed by set based
+	 * updates.
+	 *
+	 * @param  employeeChecklistId the id of the employee checklist that the custom task belongs to
+	 * @param  customTask          the custom task to update fulfilment for
+	 * @param  request             the fulfilment update
+	 * @return                     the custom fulfilment as it is after the update
+	 */
+	@Transactional
+	public CustomFulfilmentEntity updateCustomTaskFulfilment(String employeeChecklistId, CustomTaskEntity customTask, EmployeeChecklistTaskUpdateRequest request) {
+		final var currentFulfilment = customFulfilmentRepository.findFirstByEmployeeChecklistIdAndCustomTaskId(employeeChecklistId, customTask.getId());
+		final var fulfilment = upsertCustomTaskFulfilment(employeeChecklistId, customTask, currentFulfilment, request);
 
-				employeeChecklistRepository.save(employeeChecklist);
+		updateCompletion(employeeChecklistId, List.of(new StatusChange(currentFulfilment.map(FulfilmentProjection::getCompleted).orElse(null), fulfilment.getCompleted())));
+
+		return fulfilment;
+	}
+
+	/**
+	 * Upserts the fulfilments of several common and custom tasks in the employee checklist within one transaction. The
+	 * tasks and their present fulfilments are read with one query per task type, and the completion counters are adjusted
+	 * and the employee checklist is marked as completed by one set based update each for all of the tasks.
+	 *
+	 * @param  municipalityId      the id of the municipality where the employee checklist belongs
+	 * @param  employeeChecklistId the id of the employee checklist that the tasks belong to
+	 * @param  requests            the fulfilment updates mapped by task id
+	 * @return                     the updated tasks decorated with their fulfilment mapped by task id, tasks that are not
+	 *                             present in the employee checklist are not part of the result
+	 * @throws ThrowableProblem    if the employee checklist does not exist or is locked
+	 */
+	@Transactional
+	public Map<String, EmployeeChecklistTask> updateTaskFulfilments(String municipalityId, String employeeChecklistId, Map<String, EmployeeChecklistTaskUpdateRequest> requests) {
+		verifyEmployeeChecklistIsUnlocked(municipalityId, employeeChecklistId);
+
+		final var updatedTasks = new HashMap<String, EmployeeChecklistTask>();
+		final var statusChanges = new ArrayList<StatusChange>();
+
+		final var tasks = taskRepository.findAllByIdInAndEmployeeChecklistId(requests.keySet(), employeeChecklistId);
+		if (!tasks.isEmpty()) {
+			final var currentFulfilments = toMapByTaskId(fulfilmentRepository.findAllByEmployeeChecklistIdAndTaskIdIn(employeeChecklistId, tasks.stream().map(TaskEntity::getId).toList()));
+			tasks.forEach(task -> {
+				final Optional<FulfilmentProjection> currentFulfilment = ofNullable(currentFulfilments.get(task.getId()));
+				final var fulfilment = upsertCommonTaskFulfilment(employeeChecklistId, task, currentFulfilment, requests.get(task.getId()));
+				statusChanges.add(new StatusChange(currentFulfilment.map(FulfilmentProjection::getCompleted).orElse(null), fulfilment.getCompleted()));
+				updatedTasks.put(task.getId(), decorateWithFulfilment(toEmployeeChecklistTask(task), fulfilment));
 			});
+		}
 
-		return employeeChecklist.getCustomFulfilments().stream()
-			.filter(fulfilment -> Objects.equals(fulfilment.getCustomTask().getId(), taskId))
-			.findAny()
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, NO_FULFILMENT_INFORMATION_FOUND.formatted(taskId, employeeChecklistId)));
+		// Task ids that do not match a common task can match a custom task in the employee checklist
+		final var remainingTaskIds = requests.keySet().stream()
+			.filter(taskId -> !updatedTasks.containsKey(taskId))
+			.toList();
+		final var customTasks = remainingTaskIds.isEmpty() ? List.<CustomTaskEntity>of() : customTaskRepository.findAllByIdInAndEmployeeChecklistId(remainingTaskIds, employeeChecklistId);
+		if (!customTasks.isEmpty()) {
+			final var currentFulfilments = toMapByTaskId(customFulfilmentRepository.findAllByEmployeeChecklistIdAndCustomTaskIdIn(employeeChecklistId, customTasks.stream().map(CustomTaskEntity::getId).toList()));
+			customTasks.forEach(customTask -> {
+				final Optional<FulfilmentProjection> currentFulfilment = ofNullable(currentFulfilments.get(customTask.getId()));
+				final var fulfilment = upsertCustomTaskFulfilment(employeeChecklistId, customTask, currentFulfilment, requests.get(customTask.getId()));
+				statusChanges.add(new StatusChange(currentFulfilment.map(FulfilmentProjection::getCompleted).orElse(null), fulfilment.getCompleted()));
+				updatedTasks.put(customTask.getId(), decorateWithFulfilment(toEmployeeChecklistTask(customTask), fulfilment));
+			});
+		}
+
+		updateCompletion(employeeChecklistId, statusChanges);
+
+		return updatedTasks;
+	}
+
+	private FulfilmentEntity upsertCommonTaskFulfilment(String employeeChecklistId, TaskEntity task, Optional<FulfilmentProjection> currentFulfilment, EmployeeChecklistTaskUpdateRequest request) {
+		return currentFulfilment
+			.map(current -> {
+				final var updated = FulfilmentEntity.builder()
+					.withId(current.getId())
+					.withCompleted(ofNullable(request.getFulfilmentStatus()).orElse(current.getCompleted()))
+					.withResponseText(ofNullable(request.getResponseText()).orElse(current.getResponseText()))
+					.withLastSavedBy(request.getUpdatedBy())
+					.withUpdated(OffsetDateTime.now())
+					.withTask(task)
+					.build();
+
+				fulfilmentRepository.updateFulfilment(updated.getId(), updated.getCompleted(), updated.getResponseText(), updated.getLastSavedBy(), updated.getUpdated());
+				return updated;
+			})
+			.orElseGet(() -> fulfilmentRepository.save(toFulfilmentEntity(employeeChecklistRepository.getReferenceById(employeeChecklistId), task, request.getFulfilmentStatus(), request.getResponseText(), request.getUpdatedBy())));
+	}
+
+	private CustomFulfilmentEntity upsertCustomTaskFulfilment(String employeeChecklistId, CustomTaskEntity customTask, Optional<FulfilmentProjection> currentFulfilment, EmployeeChecklistTaskUpdateRequest request) {
+		return currentFulfilment
+			.map(current -> {
+				final var updated = CustomFulfilmentEntity.builder()
+					.withId(current.getId())
+					.withCompleted(ofNullable(request.getFulfilmentStatus()).orElse(current.getCompleted()))
+					.withResponseText(ofNullable(request.getResponseText()).orElse(current.getResponseText()))
+					.withLastSavedBy(request.getUpdatedBy())
+					.withUpdated(OffsetDateTime.now())
+					.withCustomTask(customTask)
+					.build();
+
+				customFulfilmentRepository.updateCustomFulfilment(updated.getId(), updated.getCompleted(), updated.getResponseText(), updated.getLastSavedBy(), updated.getUpdated());
+				return updated;
+			})
+			.orElseGet(() -> customFulfilmentRepository.save(toCustomFulfilmentEntity(employeeChecklistRepository.getReferenceById(employeeChecklistId), customTask, request.getFulfilmentStatus(), request.getResponseText(), request.getUpdatedBy())));
+	}
+
+	private static Map<String, TaskFulfilmentProjection> toMapByTaskId(List<TaskFulfilmentProjection> fulfilments) {
+		return fulfilments.stream()
+			.collect(toMap(TaskFulfilmentProjection::getTaskId, identity(), (first, second) -> first));
 	}
 
-	private void updateCustomTask(EmployeeChecklistEntity employeeChecklist, CustomTaskEntity customTask, EmployeeChecklistTaskUpdateRequest request) {
-		employeeChecklist.getCustomFulfilments().stream()
-			.filter(fulfilment -> Objects.equals(customTask, fulfilment.getCustomTask()))
-			.findAny()
-			.ifPresentOrElse(
-				fulfilment -> {
-					ofNullable(request.getFulfilmentStatus()).ifPresent(fulfilment::setCompleted);
-					ofNullable(request.getResponseText()).ifPresent(fulfilment::setResponseText);
-					fulfilment.setLastSavedBy(request.getUpdatedBy());
-				}, () -> employeeChecklist.getCustomFulfilments().add(toCustomFulfilmentEntity(employeeChecklist, customTask, request.getFulfilmentStatus(), request.getResponseText(), request.getUpdatedBy())));
+	private void updateCompletion(String employeeChecklistId, List<StatusChange> statusChanges) {
+		final var completedDelta = statusChanges.stream().mapToInt(change -> countDelta(FulfilmentStatus.TRUE, change.from(), change.to())).sum();
+		final var notRelevantDelta = statusChanges.stream().mapToInt(change -> countDelta(FulfilmentStatus.NOT_RELEVANT, change.from(), change.to())).sum();
+		if (completedDelta != 0 || notRelevantDelta != 0) {
+			employeeChecklistRepository.adjustCompletionCounters(employeeChecklistId, completedDelta, notRelevantDelta);
+		}
+
+		// Only a task that is fulfilled can lead to the employee checklist being completed
+		if (statusChanges.stream().anyMatch(change -> change.to() == FulfilmentStatus.TRUE)) {
+			employeeChecklistRepository.completeIfAllTasksCompleted(employeeChecklistId, LocalDateTime.now());
+		}
 	}
 
+	private record StatusChange(FulfilmentStatus from, FulfilmentStatus to) {}
+
 	@Transactional
 	public void deleteEmployeeChecklist(String municipalityId, String employeeChecklistId) {
 		final var employeeChecklist = fetchEmployeeChecklist(municipalityId, employeeChecklistId);
@@ -266,6 +548,7 @@ public class EmployeeChecklistIntegration {
 		final var manager = employeeChecklist.getEmployee().getManager();
 
 		delegateRepository.deleteByEmployeeChecklist(employeeChecklist);
+		tombstoneRepository.deleteByEmployeeChecklistId(employeeChecklist.getId());
 		employeeChecklistRepository.delete(employeeChecklist);
 		manager.getEmployees().remove(employee); // This will remove the manager if it no longer has any employees connected to it
 		employeeRepository.delete(employee);
@@ -299,10 +582,22 @@ public class EmployeeChecklistIntegration {
 
 		employeeChecklist.getCustomTasks().add(customTaskEntity);
 		employeeChecklistRepository.save(employeeChecklist);
+		employeeChecklistRepository.adjustTotalTasks(employeeChecklistId, 1);
 
 		return customTaskEntity;
 	}
 
+	/**
+	 * Stops counting the custom task in the completion counters of the employee checklist that it belongs to. Must be
+	 * called before the custom task and its fulfilment are removed.
+	 *
+	 * @param customTaskId the id of the custom task that is about to be removed
+	 */
+	@Transactional
+	public void removeCustomTaskFromCompletionCounters(String customTaskId) {
+		employeeChecklistRepository.removeCustomTaskFromCompletionCounters(customTaskId);
+	}
+
 	/**
 	 * Method for creating an employee checklist based on the closest organizational checklist.
 	 *
@@ -314,6 +609,23 @@ public class EmployeeChecklistIntegration {
 	 */
 	@Transactional
 	public String initiateEmployee(String municipalityId, Employee employee, OrganizationTree orgTree) {
+		return initiateEmployee(municipalityId, employee, orgTree, new BatchIdentityMap());
+	}
+
+	/**
+	 * Method for creating an employee checklist based on the closest organizational checklist, as part of a batch where
+	 * managers and organizations already known to exist are resolved through the provided identity map instead of being
+	 * looked up in the database.
+	 *
+	 * @param  municipalityId   the id of the municipality where the employee belongs
+	 * @param  employee         the employee to onboard
+	 * @param  orgTree          the organization tree for the employee
+	 * @param  identityMap      identity map for the batch that the employee is part of
+	 * @return                  status of the process of creating the employee checklist
+	 * @throws ThrowableProblem if an error occurs when processing an employee
+	 */
+	@Transactional
+	public String initiateEmployee(String municipalityId, Employee employee, OrganizationTree orgTree, BatchIdentityMap identityMap) {
 		final var personId = employee.getPersonId();
 		LOGGER.info("Initiating employee checklist entry for employee: {}", personId);
 		if (employeeRepository.existsById(employee.getPersonId())) {
@@ -325,10 +637,10 @@ public class EmployeeChecklistIntegration {
 		final var employeeEntity = toEmployeeEntity(employee);
 
 		// Attach existing organizational units to the employee (or create a new unit if not present in the persistent layer)
-		employeeEntity.setCompany(retrieveOrganizationEntity(municipalityId, employment.getCompanyId(), null));
-		employeeEntity.setDepartment(retrieveOrganizationEntity(municipalityId, employment.getOrgId(), employment.getOrgName()));
+		employeeEntity.setCompany(retrieveOrganizationEntity(municipalityId, employment.getCompanyId(), null, identityMap));
+		employeeEntity.setDepartment(retrieveOrganizationEntity(municipalityId, employment.getOrgId(), employment.getOrgName(), identityMap));
 
-		final var managerEntity = retrieveManagerEntity(employment.resolveResponsibleManager());
+		final var managerEntity = retrieveManagerEntity(employment.resolveResponsibleManager(), identityMap);
 		if (managerEntity == null) {
 			throw Problem.valueOf(NOT_FOUND, EMPLOYEE_NO_MANAGER.formatted(employee.getLoginname()));
 		}
@@ -338,10 +650,56 @@ public class EmployeeChecklistIntegration {
 		// Persist employee and create checklist for him/her
 		final var persistedEmployee = employeeRepository.save(employeeEntity);
 		initiateEmployeeChecklist(municipalityId, persistedEmployee, orgTree);
+		identityMap.registerOnCommit(municipalityId, persistedEmployee);
 
 		return EMPLOYEE_SUCCESSFULLY_PROCESSED.formatted(employee.getLoginname());
 	}
 
+	/**
+	 * Resolves the managers and organizations that are shared by more than one of the employees in a batch, creating the
+	 * ones that do not exist yet, and registers them in the identity map of the batch when the transaction commits. Meant
+	 * to be called before the employees in the batch are initiated in parallel, as concurrent initiations would otherwise
+	 * race to create the same manager or organization and all but one of them would fail.
+	 *
+	 * @param municipalityId the id of the municipality where the employees belong
+	 * @param employees      the employees in the batch
+	 * @param identityMap    identity map for the batch
+	 */
+	@Transactional
+	public void createSharedEntities(String municipalityId, List<Employee> employees, BatchIdentityMap identityMap) {
+		final var employments = employees.stream()
+			.map(Employee::getMainEmployment)
+			.filter(Objects::nonNull)
+			.toList();
+
+		final var managers = employments.stream()
+			.map(Employment::resolveResponsibleManager)
+			.filter(Objects::nonNull)
+			.filter(manager -> nonNull(manager.getPersonId()))
+			.collect(groupingBy(Manager::getPersonId, LinkedHashMap::new, toList()))
+			.values().stream()
+			.filter(candidates -> candidates.size() > 1)
+			.map(candidates -> managerRepository.findById(candidates.getFirst().getPersonId())
+				.orElseGet(() -> managerRepository.save(toManagerEntity(candidates.getFirst()))))
+			.toList();
+
+		// Companies are created without name while departments are created with the name of the employment
+		final var organizations = employments.stream()
+			.flatMap(employment -> Stream.of(
+				new OrganizationCandidate(employment.getCompanyId(), null),
+				new OrganizationCandidate(employment.getOrgId(), employment.getOrgName())))
+			.filter(candidate -> nonNull(candidate.organizationNumber()))
+			.collect(groupingBy(OrganizationCandidate::organizationNumber, LinkedHashMap::new, toList()))
+			.values().stream()
+			.filter(candidates -> candidates.size() > 1)
+			.map(List::getFirst)
+			.map(candidate -> organizationRepository.findByOrganizationNumberAndMunicipalityId(candidate.organizationNumber(), municipalityId)
+				.orElseGet(() -> organizationRepository.save(toOrganizationEntity(candidate.organizationNumber(), candidate.organizationName(), municipalityId))))
+			.toList();
+
+		identityMap.registerOnCommit(municipalityId, managers, organizations);
+	}
+
 	/**
 	 * Fetch all ongoing employee checklists matching the given filter parameters.
 	 *
@@ -353,21 +711,26 @@ public class EmployeeChecklistIntegration {
 		return employeeChecklistRepository.findAllByOngoingEmployeeChecklistParameters(parameters, pageable);
 	}
 
-	private ManagerEntity retrieveManagerEntity(Manager manager) {
+	private ManagerEntity retrieveManagerEntity(Manager manager, BatchIdentityMap identityMap) {
 		if (manager == null || manager.getPersonId() == null) {
 			return null;
 		}
+		if (identityMap.containsManager(manager.getPersonId())) {
+			return managerRepository.getReferenceById(manager.getPersonId());
+		}
 		return managerRepository.findById(manager.getPersonId())
 			.orElse(toManagerEntity(manager));
 	}
 
-	private OrganizationEntity retrieveOrganizationEntity(String municipalityId, int organizationNumber, String organizationName) {
-		return organizationRepository.findByOrganizationNumberAndMunicipalityId(organizationNumber, municipalityId)
-			.orElse(toOrganizationEntity(organizationNumber, organizationName, municipalityId));
+	private OrganizationEntity retrieveOrganizationEntity(String municipalityId, int organizationNumber, String organizationName, BatchIdentityMap identityMap) {
+		return identityMap.getOrganizationId(municipalityId, organizationNumber)
+			.map(organizationRepository::getReferenceById)
+			.orElseGet(() -> organizationRepository.findByOrganizationNumberAndMunicipalityId(organizationNumber, municipalityId)
+				.orElse(toOrganizationEntity(organizationNumber, organizationName, municipalityId)));
 	}
 
 	private void initiateEmployeeChecklist(String municipalityId, EmployeeEntity employeeEntity, OrganizationTree orgTree) {
-		final var checklistEntities = retrieveChecklists(municipalityId, orgTree.getTree().descendingMap().values().iterator(), new ArrayList<>());
+		final var checklistEntities = retrieveActiveChecklists(municipalityId, orgTree);
 		if (CollectionUtils.isEmpty(checklistEntities)) {
 			throw Problem.valueOf(NOT_FOUND, NO_MATCHING_CHECKLIST_FOUND.formatted(employeeEntity.getUsername(),
 				toReadableString(orgTree.getTree().values().stream().map(OrganizationLine::getOrgId).toList())));
@@ -376,27 +739,30 @@ public class EmployeeChecklistIntegration {
 		employeeChecklistRepository.save(toEmployeeChecklistEntity(employeeEntity, checklistEntities));
 	}
 
-	private List<ChecklistEntity> retrieveChecklists(String municipalityId, Iterator<OrganizationLine> organizationIterator, List<ChecklistEntity> resultList) {
-		organizationIterator.forEachRemaining(orgLine -> retrieveActiveChecklist(municipalityId, Integer.parseInt(orgLine.getOrgId()))
-			.ifPresent(resultList::add));
-
-		return resultList;
-	}
+	/**
+	 * Fetches the active checklists for all organizations in the tree in one query. The result is ordered from the
+	 * deepest level in the tree up to the root.
+	 */
+	private List<ChecklistEntity> retrieveActiveChecklists(String municipalityId, OrganizationTree orgTree) {
+		final var organizationNumbers = orgTree.getTree().descendingMap().values().stream()
+			.map(OrganizationLine::getOrgId)
+			.map(Integer::parseInt)
+			.toList();
 
-	private Optional<ChecklistEntity> retrieveActiveChecklist(String municipalityId, int organizationNumber) {
-		return organizationRepository.findByOrganizationNumberAndMunicipalityId(organizationNumber, municipalityId)
-			.map(OrganizationEntity::getChecklists).stream().flatMap(Collection::stream)
-			.filter(checklist -> Objects.equals(checklist.getLifeCycle(), ACTIVE))
-			.findAny();
-	}
+		final var activeChecklists = new HashMap<Integer, ChecklistEntity>();
+		checklistRepository.findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(municipalityId, new HashSet<>(organizationNumbers), ACTIVE)
+			.forEach(checklist -> activeChecklists.putIfAbsent(checklist.getOrganization().getOrganizationNumber(), checklist));
 
-	private void calculateCompletedChecklist(final EmployeeChecklistEntity employeeChecklist) {
-		if (!employeeChecklist.isCompleted() && allTasksAreCompleted(employeeChecklist)) {
-			employeeChecklist.setCompleted(true);
-		}
+		return organizationNumbers.stream()
+			.map(activeChecklists::get)
+			.filter(Objects::nonNull)
+			.toList();
 	}
 
 	public List<EmployeeChecklistEntity> findOngoingChecklists(String municipalityId) {
 		return employeeChecklistRepository.findAllByChecklistsMunicipalityIdAndCompletedFalse(municipalityId);
 	}
+
+	private record OrganizationCandidate(Integer organizationNumber, String organizationName) {
+	}
 }
@@ -0,0 +1,64 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.checklist.integration.db.model.enums.ChangeType;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Entry in the feed of changes made to employee checklists. The entry is written when a change is made and read by
+ * every service instance, which notifies its subscribers of the change. The id is generated by the database and is
+ * used as position in the feed.
+ */
+@Getter
+@Setter
+@Builder(setterPrefix = "with")
+@Entity
+@Table(name = "change_event",
+	indexes = {
+		@Index(name = "change_event_created_idx", columnList = "created")
+	})
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChangeEventEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "employee_checklist_id", nullable = false)
+	private String employeeChecklistId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "change_type", nullable = false)
+	private ChangeType changeType;
+
+	@Column(name = "username")
+	private String username;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@PrePersist
+	void prePersist() {
+		created = OffsetDateTime.now();
+	}
+}
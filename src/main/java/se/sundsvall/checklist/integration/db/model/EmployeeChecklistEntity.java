@@ -13,6 +13,9 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
@@ -34,6 +37,17 @@ import org.hibernate.annotations.TimeZoneStorage;
 import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
 
 @Entity
+@NamedEntityGraph(name = EmployeeChecklistEntity.AGGREGATE_GRAPH, attributeNodes = {
+	@NamedAttributeNode(value = "employee", subgraph = "employee"),
+	@NamedAttributeNode("correspondence"),
+	@NamedAttributeNode("checklists")
+}, subgraphs = {
+	@NamedSubgraph(name = "employee", attributeNodes = {
+		@NamedAttributeNode("manager"),
+		@NamedAttributeNode("company"),
+		@NamedAttributeNode("department")
+	})
+})
 @Table(name = "employee_checklist", indexes = {
 	@Index(name = "employee_checklist_expiration_date_locked_idx", columnList = "expiration_date, locked")
 }, uniqueConstraints = {
@@ -47,6 +61,13 @@ import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class EmployeeChecklistEntity {
 
+	/**
+	 * Entity graph loading the employee checklist together with its single valued associations and referred checklists in
+	 * one statement. The remaining collections are loaded in batches (see hibernate.default_batch_fetch_size), as only one
+	 * list can be fetch joined per statement.
+	 */
+	public static final String AGGREGATE_GRAPH = "EmployeeChecklistEntity.aggregate";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.UUID)
 	private String id;
@@ -74,6 +95,27 @@ public class EmployeeChecklistEntity {
 	@Column(name = "locked")
 	private boolean locked;
 
+	/**
+	 * Number of tasks (common and custom) in the employee checklist, maintained incrementally when tasks are added or
+	 * removed (and recalculated by the RecalculateCompletionCountersScheduler). The completion counters are written when
+	 * the employee checklist is created and thereafter only changed by set based updates in EmployeeChecklistRepository,
+	 * so that saving an employee checklist read before a concurrent update never overwrites the counters.
+	 */
+	@Column(name = "total_tasks", updatable = false)
+	private int totalTasks;
+
+	/**
+	 * Number of tasks in the employee checklist with a fulfilment with status TRUE.
+	 */
+	@Column(name = "completed_tasks", updatable = false)
+	private int completedTasks;
+
+	/**
+	 * Number of tasks in the employee checklist with a fulfilment with status NOT_RELEVANT.
+	 */
+	@Column(name = "not_relevant_tasks", updatable = false)
+	private int notRelevantTasks;
+
 	@OneToOne(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	@JoinColumn(name = "employee_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_employee_checklist_employee"))
 	private EmployeeEntity employee;
@@ -0,0 +1,46 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+@Getter
+@Setter
+@Builder(setterPrefix = "with")
+@Entity
+@Table(name = "employee_import_watermark")
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EmployeeImportWatermarkEntity {
+
+	@Id
+	@Column(name = "municipality_id")
+	private String municipalityId;
+
+	@Column(name = "last_successful_import")
+	private LocalDate lastSuccessfulImport;
+
+	@Column(name = "updated")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime updated;
+
+	@PrePersist
+	@PreUpdate
+	void preUpdate() {
+		updated = OffsetDateTime.now();
+	}
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.OffsetDateTime;
@@ -19,7 +20,9 @@ import lombok.Setter;
 @Setter
 @Builder(setterPrefix = "with")
 @Entity
-@Table(name = "initiation_info")
+@Table(name = "initiation_info", indexes = {
+	@Index(name = "initiation_info_created_idx", columnList = "created")
+})
 @NoArgsConstructor
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class InitiationInfoEntity {
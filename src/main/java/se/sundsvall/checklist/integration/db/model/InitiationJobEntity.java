@@ -0,0 +1,76 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * State of an asynchronous job initiating checklists for new employees. Progress is updated with set based statements
+ * while the job runs, which makes the state readable from all instances of the service.
+ */
+@Getter
+@Setter
+@Builder(setterPrefix = "with")
+@Entity
+@Table(name = "initiation_job", indexes = {
+	@Index(name = "initiation_job_municipality_id_status_idx", columnList = "municipality_id, status")
+})
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class InitiationJobEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "status", nullable = false)
+	private String status;
+
+	@Column(name = "total")
+	private Integer total;
+
+	@Column(name = "processed", nullable = false)
+	private int processed;
+
+	@Column(name = "errors", nullable = false)
+	private int errors;
+
+	@Column(name = "summary", length = 2048)
+	private String summary;
+
+	@Column(name = "started")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime started;
+
+	@Column(name = "finished")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime finished;
+
+	@Column(name = "heartbeat")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime heartbeat;
+
+	@PrePersist
+	void prePersist() {
+		started = OffsetDateTime.now();
+		heartbeat = started;
+	}
+}
@@ -0,0 +1,70 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Entry in the outbox of manager e-mails waiting to be dispatched. The entry is written in the same transaction that
+ * decides that an e-mail is due and removed when the e-mail has been dispatched or when all attempts have failed.
+ */
+@Getter
+@Setter
+@Builder(setterPrefix = "with")
+@Entity
+@Table(name = "mail_outbox",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_mail_outbox_employee_checklist_id", columnNames = "employee_checklist_id")
+	},
+	indexes = {
+		@Index(name = "mail_outbox_next_attempt_idx", columnList = "next_attempt")
+	})
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MailOutboxEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.UUID)
+	private String id;
+
+	@Column(name = "employee_checklist_id", nullable = false)
+	private String employeeChecklistId;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "email_template", nullable = false)
+	private String emailTemplate;
+
+	@Column(name = "next_attempt")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime nextAttempt;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@PrePersist
+	void prePersist() {
+		created = OffsetDateTime.now();
+		if (nextAttempt == null) {
+			nextAttempt = created;
+		}
+	}
+}
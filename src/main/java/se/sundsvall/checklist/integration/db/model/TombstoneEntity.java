@@ -0,0 +1,57 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.TimeZoneStorage;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Marker for a task that has been removed from an employee checklist, used for telling clients that fetch changes of
+ * the employee checklist since a point in time that the task (and its fulfilment) no longer exists. Tombstones are kept
+ * for as long as the employee checklist exists.
+ */
+@Getter
+@Setter
+@Builder(setterPrefix = "with")
+@Entity
+@Table(name = "tombstone",
+	indexes = {
+		@Index(name = "tombstone_employee_checklist_id_deleted_idx", columnList = "employee_checklist_id, deleted")
+	})
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TombstoneEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "employee_checklist_id", nullable = false)
+	private String employeeChecklistId;
+
+	@Column(name = "task_id", nullable = false)
+	private String taskId;
+
+	@Column(name = "deleted")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime deleted;
+
+	@PrePersist
+	void prePersist() {
+		deleted = OffsetDateTime.now();
+	}
+}
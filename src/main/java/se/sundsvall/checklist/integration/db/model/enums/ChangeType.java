@@ -0,0 +1,11 @@
+package se.sundsvall.checklist.integration.db.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(enumAsRef = true)
+public enum ChangeType {
+	FULFILMENT,
+	CUSTOM_TASK,
+	MENTOR,
+	DELEGATION
+}
@@ -0,0 +1,57 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.checklist.integration.db.model.ChangeEventEntity;
+
+@Repository
+@CircuitBreaker(name = "changeEventRepository")
+public interface ChangeEventRepository extends JpaRepository<ChangeEventEntity, Long> {
+
+	/**
+	 * Returns the change events that are positioned after the provided id in the feed, in feed order.
+	 *
+	 * @param  id    the id to start after
+	 * @param  limit maximum number of change events to return
+	 * @return       change events positioned after the provided id
+	 */
+	List<ChangeEventEntity> findByIdGreaterThanOrderById(Long id, Limit limit);
+
+	/**
+	 * Returns the change events matching the provided ids, in feed order.
+	 *
+	 * @param  ids the ids to look for
+	 * @return     the change events that exist among the provided ids
+	 */
+	List<ChangeEventEntity> findByIdInOrderById(Collection<Long> ids);
+
+	/**
+	 * Returns the id of the last change event in the feed.
+	 *
+	 * @return the highest id in the feed, or empty if the feed is empty
+	 */
+	@Query("SELECT MAX(e.id) FROM ChangeEventEntity e")
+	Optional<Long> findMaxId();
+
+	/**
+	 * Deletes change events created before the provided timestamp with one set based statement (which is served by the
+	 * change_event_created_idx index), executed in a transaction of its own unless a transaction is active.
+	 *
+	 * @param  created change events created before this timestamp are deleted
+	 * @return         the number of deleted change events
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("DELETE FROM ChangeEventEntity e WHERE e.created < :created")
+	int deleteByCreatedBefore(@Param("created") OffsetDateTime created);
+}
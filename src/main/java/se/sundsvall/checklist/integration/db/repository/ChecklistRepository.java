@@ -1,8 +1,10 @@
 package se.sundsvall.checklist.integration.db.repository;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
@@ -24,4 +26,7 @@ public interface ChecklistRepository extends JpaRepository<ChecklistEntity, Stri
 
 	Optional<ChecklistEntity> findByIdAndMunicipalityId(final String id, final String municipalityId);
 
+	@EntityGraph(attributePaths = "organization")
+	List<ChecklistEntity> findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(final String municipalityId, final Collection<Integer> organizationNumbers, final LifeCycle lifeCycle);
+
 }
@@ -0,0 +1,66 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import se.sundsvall.checklist.integration.db.model.CustomFulfilmentEntity;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
+import se.sundsvall.checklist.integration.db.repository.projection.FulfilmentProjection;
+import se.sundsvall.checklist.integration.db.repository.projection.TaskFulfilmentProjection;
+
+@Repository
+@CircuitBreaker(name = "customFulfilmentRepository")
+public interface CustomFulfilmentRepository extends JpaRepository<CustomFulfilmentEntity, String> {
+	Optional<FulfilmentProjection> findFirstByEmployeeChecklistIdAndCustomTaskId(String employeeChecklistId, String customTaskId);
+
+	@Query("""
+		SELECT f.id AS id, f.completed AS completed, f.responseText AS responseText, f.customTask.id AS taskId
+		FROM CustomFulfilmentEntity f
+		WHERE f.employeeChecklist.id = :employeeChecklistId
+		AND f.customTask.id IN :customTaskIds
+		""")
+	List<TaskFulfilmentProjection> findAllByEmployeeChecklistIdAndCustomTaskIdIn(@Param("employeeChecklistId") String employeeChecklistId, @Param("customTaskIds") Collection<String> customTaskIds);
+
+	/**
+	 * Updates one custom fulfilment row without loading the custom fulfilment (and the employee checklist and custom task
+	 * that it refers to). As the update bypasses the entity lifecycle callbacks, the updated timestamp must be provided by
+	 * the caller.
+	 *
+	 * @param  id           the id of the custom fulfilment to update
+	 * @param  completed    the fulfilment status to set
+	 * @param  responseText the response text to set
+	 * @param  lastSavedBy  the identifier of the person that performs the update
+	 * @param  updated      timestamp to set as updated on the custom fulfilment
+	 * @return              the number of updated custom fulfilments
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE CustomFulfilmentEntity f
+		SET f.completed = :completed, f.responseText = :responseText, f.lastSavedBy = :lastSavedBy, f.updated = :updated
+		WHERE f.id = :id
+		""")
+	int updateCustomFulfilment(@Param("id") String id, @Param("completed") FulfilmentStatus completed, @Param("responseText") String responseText, @Param("lastSavedBy") String lastSavedBy, @Param("updated") OffsetDateTime updated);
+
+	/**
+	 * Returns the custom fulfilments of the employee checklist that have been created or updated after the provided
+	 * timestamp, or that belong to a custom task that has been created or updated after the provided timestamp.
+	 *
+	 * @param  employeeChecklistId the id of the employee checklist
+	 * @param  since               timestamp to compare the updated timestamp of the custom fulfilments and the created and
+	 *                             updated timestamps of their custom tasks with
+	 * @return                     custom fulfilments changed after the provided timestamp
+	 */
+	@Query("""
+		SELECT f FROM CustomFulfilmentEntity f
+		WHERE f.employeeChecklist.id = :employeeChecklistId
+		AND (f.updated > :since OR f.customTask.created > :since OR f.customTask.updated > :since)
+		""")
+	List<CustomFulfilmentEntity> findAllByEmployeeChecklistIdAndChangedAfter(@Param("employeeChecklistId") String employeeChecklistId, @Param("since") OffsetDateTime since);
+}
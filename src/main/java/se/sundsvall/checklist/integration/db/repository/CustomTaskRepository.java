@@ -1,8 +1,13 @@
 package se.sundsvall.checklist.integration.db.repository;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import se.sundsvall.checklist.integration.db.model.CustomTaskEntity;
 
@@ -11,5 +16,25 @@ import se.sundsvall.checklist.integration.db.model.CustomTaskEntity;
 public interface CustomTaskRepository extends JpaRepository<CustomTaskEntity, String> {
 	List<CustomTaskEntity> findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(String id, String municipalityId);
 
+	List<CustomTaskEntity> findDistinctByEmployeeChecklistIdInAndEmployeeChecklistChecklistsMunicipalityId(Collection<String> ids, String municipalityId);
+
 	int countByPhaseId(String phaseId);
+
+	Optional<CustomTaskEntity> findByIdAndEmployeeChecklistId(String id, String employeeChecklistId);
+
+	List<CustomTaskEntity> findAllByIdInAndEmployeeChecklistId(Collection<String> ids, String employeeChecklistId);
+
+	/**
+	 * Returns the custom tasks of the employee checklist that have been created or updated after the provided timestamp.
+	 *
+	 * @param  employeeChecklistId the id of the employee checklist
+	 * @param  since               timestamp to compare the created and updated timestamps of the custom tasks with
+	 * @return                     custom tasks changed after the provided timestamp
+	 */
+	@Query("""
+		SELECT ct FROM CustomTaskEntity ct
+		WHERE ct.employeeChecklist.id = :employeeChecklistId
+		AND (ct.created > :since OR ct.updated > :since)
+		""")
+	List<CustomTaskEntity> findAllByEmployeeChecklistIdAndChangedAfter(@Param("employeeChecklistId") String employeeChecklistId, @Param("since") OffsetDateTime since);
 }
@@ -1,9 +1,13 @@
 package se.sundsvall.checklist.integration.db.repository;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import se.sundsvall.checklist.integration.db.model.DelegateEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
@@ -16,8 +20,16 @@ public interface DelegateRepository extends JpaRepository<DelegateEntity, String
 
 	List<DelegateEntity> findAllByEmployeeChecklistId(final String employeeChecklistId);
 
+	List<DelegateEntity> findAllByEmployeeChecklistIdIn(final Collection<String> employeeChecklistIds);
+
+	@EntityGraph(attributePaths = {
+		"employeeChecklist", "employeeChecklist.employee", "employeeChecklist.employee.manager", "employeeChecklist.checklists"
+	})
 	List<DelegateEntity> findAllByUsername(final String username);
 
+	@Query("SELECT DISTINCT d.employeeChecklist.id FROM DelegateEntity d WHERE d.username = :username")
+	List<String> findEmployeeChecklistIdsByUsername(@Param("username") final String username);
+
 	boolean existsByEmployeeChecklistAndEmail(final EmployeeChecklistEntity employeeChecklist, final String email);
 
 	void deleteByEmployeeChecklistAndEmail(final EmployeeChecklistEntity employeeChecklist, final String email);
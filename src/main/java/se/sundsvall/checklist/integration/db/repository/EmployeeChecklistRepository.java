@@ -2,18 +2,27 @@ package se.sundsvall.checklist.integration.db.repository;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklistParameters;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.enums.CorrespondenceStatus;
+import se.sundsvall.checklist.integration.db.repository.projection.EmployeeChecklistVersionProjection;
 
 import static se.sundsvall.checklist.integration.db.specification.EmployeeChecklistSpecification.distinct;
 import static se.sundsvall.checklist.integration.db.specification.EmployeeChecklistSpecification.withEmployeeName;
@@ -31,14 +40,269 @@ public interface EmployeeChecklistRepository extends JpaRepository<EmployeeCheck
 
 	int countByCorrespondenceCorrespondenceStatus(CorrespondenceStatus status);
 
+	@EntityGraph(EmployeeChecklistEntity.AGGREGATE_GRAPH)
 	EmployeeChecklistEntity findByChecklistsMunicipalityIdAndEmployeeUsername(String municipalityId, String username);
 
+	@EntityGraph(EmployeeChecklistEntity.AGGREGATE_GRAPH)
 	List<EmployeeChecklistEntity> findAllByChecklistsMunicipalityIdAndEmployeeManagerUsername(String municipalityId, String username);
 
-	List<EmployeeChecklistEntity> findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse(String municipalityId, LocalDate date);
+	/**
+	 * Locks unlocked employee checklists within the municipality that has an expiration date before the provided date,
+	 * using one set based update (which is served by the employee_checklist_expiration_date_locked_idx index) instead of
+	 * loading and saving each entity. The update is executed in a transaction of its own unless a transaction is active.
+	 *
+	 * @param  municipalityId the municipality to lock expired employee checklists for
+	 * @param  date           employee checklists with an expiration date before this date are locked
+	 * @param  updated        timestamp to set as updated on the locked employee checklists
+	 * @param  limit          maximum number of employee checklists to lock
+	 * @return                the number of locked employee checklists
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(nativeQuery = true, value = """
+		UPDATE employee_checklist ec
+		SET ec.locked = true, ec.updated = :updated
+		WHERE ec.expiration_date < :date
+		AND ec.locked = false
+		AND EXISTS (
+			SELECT 1 FROM referred_checklist rc
+			JOIN checklist c ON c.id = rc.checklist_id
+			WHERE rc.employee_checklist_id = ec.id
+			AND c.municipality_id = :municipalityId)
+		LIMIT :limit
+		""")
+	int lockExpiredEmployeeChecklists(@Param("municipalityId") String municipalityId, @Param("date") LocalDate date, @Param("updated") LocalDateTime updated, @Param("limit") int limit);
 
 	Optional<EmployeeChecklistEntity> findByIdAndChecklistsMunicipalityId(String id, String municipalityId);
 
+	@Query("SELECT DISTINCT ec.locked FROM EmployeeChecklistEntity ec JOIN ec.checklists c WHERE ec.id = :id AND c.municipalityId = :municipalityId")
+	Optional<Boolean> findLockedByIdAndChecklistsMunicipalityId(@Param("id") String id, @Param("municipalityId") String municipalityId);
+
+	/**
+	 * Marks the employee checklist as completed if the number of completed tasks has reached the total number of tasks,
+	 * using the completion counters of the employee checklist instead of loading all of its tasks and fulfilments.
+	 *
+	 * @param  id      the id of the employee checklist to complete
+	 * @param  updated timestamp to set as updated on the employee checklist if it is completed
+	 * @return         1 if the employee checklist was completed by the update, 0 otherwise
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(nativeQuery = true, value = """
+		UPDATE employee_checklist ec
+		SET ec.completed = true, ec.updated = :updated
+		WHERE ec.id = :id
+		AND ec.completed = false
+		AND ec.completed_tasks >= ec.total_tasks
+		""")
+	int completeIfAllTasksCompleted(@Param("id") String id, @Param("updated") LocalDateTime updated);
+
+	/**
+	 * Adjusts the completed and not relevant task counters of the employee checklist with the provided deltas.
+	 *
+	 * @param  id               the id of the employee checklist to adjust counters for
+	 * @param  completedDelta   the change in number of completed tasks
+	 * @param  notRelevantDelta the change in number of not relevant tasks
+	 * @return                  the number of updated employee checklists
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE EmployeeChecklistEntity ec SET ec.completedTasks = ec.completedTasks + :completedDelta, ec.notRelevantTasks = ec.notRelevantTasks + :notRelevantDelta WHERE ec.id = :id")
+	int adjustCompletionCounters(@Param("id") String id, @Param("completedDelta") int completedDelta, @Param("notRelevantDelta") int notRelevantDelta);
+
+	/**
+	 * Adjusts the total task counter of all employee checklists that refer to the checklist, used when tasks are added to
+	 * or removed from a checklist.
+	 *
+	 * @param  checklistId the id of the checklist that has been changed
+	 * @param  delta       the change in number of tasks
+	 * @return             the number of updated employee checklists
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(nativeQuery = true, value = """
+		UPDATE employee_checklist ec
+		SET ec.total_tasks = ec.total_tasks + :delta
+		WHERE EXISTS (
+			SELECT 1 FROM referred_checklist rc
+			WHERE rc.employee_checklist_id = ec.id
+			AND rc.checklist_id = :checklistId)
+		""")
+	int adjustTotalTasksForChecklist(@Param("checklistId") String checklistId, @Param("delta") int delta);
+
+	/**
+	 * Adjusts the total task counter of the employee checklist, used when custom tasks are added to the employee
+	 * checklist.
+	 *
+	 * @param  id    the id of the employee checklist to adjust the counter for
+	 * @param  delta the change in number of tasks
+	 * @return       the number of updated employee checklists
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE EmployeeChecklistEntity ec SET ec.totalTasks = ec.totalTasks + :delta WHERE ec.id = :id")
+	int adjustTotalTasks(@Param("id") String id, @Param("delta") int delta);
+
+	/**
+	 * Stops counting the task in the completion counters of all employee checklists that refer to the checklist of the
+	 * task. Must be executed before the task and its fulfilments are removed, as the fulfilments decide which counters to
+	 * decrease.
+	 *
+	 * @param  taskId the id of the task that is about to be removed
+	 * @return        the number of updated employee checklists
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(nativeQuery = true, value = """
+		UPDATE employee_checklist ec
+		SET ec.total_tasks = ec.total_tasks - 1,
+			ec.completed_tasks = ec.completed_tasks - (
+				SELECT COUNT(DISTINCT f.task_id) FROM fulfilment f
+				WHERE f.employee_checklist_id = ec.id AND f.task_id = :taskId AND f.completed = 'TRUE'),
+			ec.not_relevant_tasks = ec.not_relevant_tasks - (
+				SELECT COUNT(DISTINCT f.task_id) FROM fulfilment f
+				WHERE f.employee_checklist_id = ec.id AND f.task_id = :taskId AND f.completed = 'NOT_RELEVANT')
+		WHERE EXISTS (
+			SELECT 1 FROM referred_checklist rc
+			JOIN task t ON t.checklist_id = rc.checklist_id
+			WHERE rc.employee_checklist_id = ec.id
+			AND t.id = :taskId)
+		""")
+	int removeTaskFromCompletionCounters(@Param("taskId") String taskId);
+
+	/**
+	 * Stops counting the custom task in the completion counters of the employee checklist that it belongs to. Must be
+	 * executed before the custom task and its fulfilment are removed, as the fulfilment decides which counters to
+	 * decrease.
+	 *
+	 * @param  customTaskId the id of the custom task that is about to be removed
+	 * @return              the number of updated employee checklists
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(nativeQuery = true, value = """
+		UPDATE employee_checklist ec
+		SET ec.total_tasks = ec.total_tasks - 1,
+			ec.completed_tasks = ec.completed_tasks - (
+				SELECT COUNT(DISTINCT cf.custom_task_id) FROM custom_fulfilment cf
+				WHERE cf.employee_checklist_id = ec.id AND cf.custom_task_id = :customTaskId AND cf.completed = 'TRUE'),
+			ec.not_relevant_tasks = ec.not_relevant_tasks - (
+				SELECT COUNT(DISTINCT cf.custom_task_id) FROM custom_fulfilment cf
+				WHERE cf.employee_checklist_id = ec.id AND cf.custom_task_id = :customTaskId AND cf.completed = 'NOT_RELEVANT')
+		WHERE ec.id = (
+			SELECT ct.employee_checklist_id FROM custom_task ct
+			WHERE ct.id = :customTaskId)
+		""")
+	int removeCustomTaskFromCompletionCounters(@Param("customTaskId") String customTaskId);
+
+	/**
+	 * Fetches ids of the employee checklists that refer to the checklist.
+	 *
+	 * @param  checklistId the id of the checklist
+	 * @return             list of employee checklist ids
+	 */
+	@Query("SELECT ec.id FROM EmployeeChecklistEntity ec JOIN ec.checklists c WHERE c.id = :checklistId")
+	List<String> findIdsByChecklistsId(@Param("checklistId") String checklistId);
+
+	/**
+	 * Fetches ids of employee checklists in id order, starting after the provided id, used for walking through all
+	 * employee checklists in chunks.
+	 *
+	 * @param  id    the id to start after
+	 * @param  limit maximum number of ids to fetch
+	 * @return       list of employee checklist ids
+	 */
+	@Query("SELECT ec.id FROM EmployeeChecklistEntity ec WHERE ec.id > :id ORDER BY ec.id")
+	List<String> findIdsByIdGreaterThan(@Param("id") String id, Limit limit);
+
+	/**
+	 * Recalculates the completion counters of the provided employee checklists from their tasks, custom tasks, fulfilments
+	 * and custom fulfilments. The update is executed in a transaction of its own unless a transaction is active.
+	 *
+	 * @param  ids ids of the employee checklists to recalculate counters for
+	 * @return     the number of updated employee checklists
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query(nativeQuery = true, value = """
+		UPDATE employee_checklist ec
+		SET ec.total_tasks = (
+				SELECT COUNT(*) FROM referred_checklist rc
+				JOIN task t ON t.checklist_id = rc.checklist_id
+				WHERE rc.employee_checklist_id = ec.id)
+			+ (SELECT COUNT(*) FROM custom_task ct WHERE ct.employee_checklist_id = ec.id),
+			ec.completed_tasks = (
+				SELECT COUNT(DISTINCT f.task_id) FROM fulfilment f
+				WHERE f.employee_checklist_id = ec.id AND f.completed = 'TRUE')
+			+ (SELECT COUNT(DISTINCT cf.custom_task_id) FROM custom_fulfilment cf
+				WHERE cf.employee_checklist_id = ec.id AND cf.completed = 'TRUE'),
+			ec.not_relevant_tasks = (
+				SELECT COUNT(DISTINCT f.task_id) FROM fulfilment f
+				WHERE f.employee_checklist_id = ec.id AND f.completed = 'NOT_RELEVANT')
+			+ (SELECT COUNT(DISTINCT cf.custom_task_id) FROM custom_fulfilment cf
+				WHERE cf.employee_checklist_id = ec.id AND cf.completed = 'NOT_RELEVANT')
+		WHERE ec.id IN (:ids)
+		""")
+	int recalculateCompletionCounters(@Param("ids") Collection<String> ids);
+
+	/**
+	 * Fetches ids of the unlocked employee checklists within the municipality where the user is the employee, the manager
+	 * of the employee or a delegate.
+	 *
+	 * @param  municipalityId the municipality to fetch employee checklist ids for
+	 * @param  username       the username of the user
+	 * @return                list of employee checklist ids
+	 */
+	@Query("""
+		SELECT DISTINCT ec.id FROM EmployeeChecklistEntity ec
+		JOIN ec.checklists c
+		JOIN ec.employee e
+		LEFT JOIN e.manager m
+		WHERE c.municipalityId = :municipalityId
+		AND ec.locked = false
+		AND (e.username = :username
+			OR m.username = :username
+			OR EXISTS (SELECT 1 FROM DelegateEntity d WHERE d.employeeChecklist = ec AND d.username = :username))
+		""")
+	List<String> findUnlockedIdsByMunicipalityIdAndParticipantUsername(@Param("municipalityId") String municipalityId, @Param("username") String username);
+
+	@Query("SELECT DISTINCT ec.id FROM EmployeeChecklistEntity ec JOIN ec.checklists c WHERE c.municipalityId = :municipalityId AND ec.employee.username = :username")
+	List<String> findIdsByMunicipalityIdAndEmployeeUsername(@Param("municipalityId") String municipalityId, @Param("username") String username);
+
+	@Query("SELECT DISTINCT ec.id FROM EmployeeChecklistEntity ec JOIN ec.checklists c WHERE c.municipalityId = :municipalityId AND ec.employee.manager.username = :username")
+	List<String> findIdsByMunicipalityIdAndEmployeeManagerUsername(@Param("municipalityId") String municipalityId, @Param("username") String username);
+
+	/**
+	 * Fetches the version of the provided employee checklists without loading them. The fingerprint of each employee
+	 * checklist is a digest of the timestamps and counters of the employee checklist, its employee and manager, fulfilments,
+	 * custom tasks, delegates, referred checklists with tasks and phases, and the custom sort orders of the municipality,
+	 * hence it changes whenever anything that the employee checklist is built from changes. Fulfilments, custom fulfilments
+	 * and custom tasks are digested by summing a checksum of each row, so that a change of any single row (and not only of
+	 * the number of rows or the latest timestamp) changes the fingerprint. The fingerprint is null if the
+	 * information of the employee is older than the provided point in time, as it is then about to be refreshed.
+	 *
+	 * @param  municipalityId the municipality to read custom sort orders for
+	 * @param  ids            ids of the employee checklists to fetch versions for
+	 * @param  outdatedBefore employee information updated before this point in time is considered outdated
+	 * @return                list of versions for the employee checklists
+	 */
+	@Query(nativeQuery = true, value = """
+		SELECT ec.id AS id,
+			CASE WHEN e.updated IS NULL OR e.updated < :outdatedBefore THEN NULL ELSE MD5(CONCAT_WS('|',
+				ec.updated, ec.completed, ec.locked, ec.mentor_user_id, ec.mentor_name, e.updated, m.updated,
+				(SELECT CONCAT_WS('/', COUNT(*), SUM(CRC32(CONCAT_WS('/', f.id, f.completed, f.response_text, f.updated)))) FROM fulfilment f WHERE f.employee_checklist_id = ec.id),
+				(SELECT CONCAT_WS('/', COUNT(*), SUM(CRC32(CONCAT_WS('/', cf.id, cf.completed, cf.response_text, cf.updated)))) FROM custom_fulfilment cf WHERE cf.employee_checklist_id = ec.id),
+				(SELECT CONCAT_WS('/', COUNT(*), SUM(CRC32(CONCAT_WS('/', ct.id, ct.heading, ct.sort_order, ct.created, ct.updated)))) FROM custom_task ct WHERE ct.employee_checklist_id = ec.id),
+				(SELECT GROUP_CONCAT(d.id ORDER BY d.id) FROM delegate d WHERE d.employee_checklist_id = ec.id),
+				(SELECT CONCAT_WS('/', GROUP_CONCAT(DISTINCT c.id ORDER BY c.id), MAX(COALESCE(c.updated, c.created)), COUNT(t.id), MAX(COALESCE(t.updated, t.created)), MAX(COALESCE(p.updated, p.created)))
+					FROM referred_checklist rc
+					JOIN checklist c ON c.id = rc.checklist_id
+					LEFT JOIN task t ON t.checklist_id = c.id
+					LEFT JOIN phase p ON p.id = t.phase_id
+					WHERE rc.employee_checklist_id = ec.id),
+				(SELECT CONCAT_WS('/', COUNT(*), SUM(CRC32(CONCAT(s.id, '/', s.position)))) FROM custom_sortorder s WHERE s.municipality_id = :municipalityId)))
+			END AS fingerprint
+		FROM employee_checklist ec
+		JOIN employee e ON e.id = ec.employee_id
+		LEFT JOIN manager m ON m.id = e.manager_id
+		WHERE ec.id IN (:ids)
+		""")
+	List<EmployeeChecklistVersionProjection> findVersionsByIdIn(@Param("municipalityId") String municipalityId, @Param("ids") Collection<String> ids, @Param("outdatedBefore") LocalDateTime outdatedBefore);
+
 	List<EmployeeChecklistEntity> findAllByChecklistsTasksId(String taskId);
 
 	default Page<EmployeeChecklistEntity> findAllByOngoingEmployeeChecklistParameters(final OngoingEmployeeChecklistParameters parameters, final Pageable pageable) {
@@ -0,0 +1,11 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import se.sundsvall.checklist.integration.db.model.EmployeeImportWatermarkEntity;
+
+@Repository
+@CircuitBreaker(name = "employeeImportWatermarkRepository")
+public interface EmployeeImportWatermarkRepository extends JpaRepository<EmployeeImportWatermarkEntity, String> {
+}
@@ -0,0 +1,58 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import se.sundsvall.checklist.integration.db.model.FulfilmentEntity;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
+import se.sundsvall.checklist.integration.db.repository.projection.FulfilmentProjection;
+import se.sundsvall.checklist.integration.db.repository.projection.TaskFulfilmentProjection;
+
+@Repository
+@CircuitBreaker(name = "fulfilmentRepository")
+public interface FulfilmentRepository extends JpaRepository<FulfilmentEntity, String> {
+	Optional<FulfilmentProjection> findFirstByEmployeeChecklistIdAndTaskId(String employeeChecklistId, String taskId);
+
+	@Query("""
+		SELECT f.id AS id, f.completed AS completed, f.responseText AS responseText, f.task.id AS taskId
+		FROM FulfilmentEntity f
+		WHERE f.employeeChecklist.id = :employeeChecklistId
+		AND f.task.id IN :taskIds
+		""")
+	List<TaskFulfilmentProjection> findAllByEmployeeChecklistIdAndTaskIdIn(@Param("employeeChecklistId") String employeeChecklistId, @Param("taskIds") Collection<String> taskIds);
+
+	/**
+	 * Updates one fulfilment row without loading the fulfilment (and the employee checklist and task that it refers to).
+	 * As the update bypasses the entity lifecycle callbacks, the updated timestamp must be provided by the caller.
+	 *
+	 * @param  id           the id of the fulfilment to update
+	 * @param  completed    the fulfilment status to set
+	 * @param  responseText the response text to set
+	 * @param  lastSavedBy  the identifier of the person that performs the update
+	 * @param  updated      timestamp to set as updated on the fulfilment
+	 * @return              the number of updated fulfilments
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE FulfilmentEntity f
+		SET f.completed = :completed, f.responseText = :responseText, f.lastSavedBy = :lastSavedBy, f.updated = :updated
+		WHERE f.id = :id
+		""")
+	int updateFulfilment(@Param("id") String id, @Param("completed") FulfilmentStatus completed, @Param("responseText") String responseText, @Param("lastSavedBy") String lastSavedBy, @Param("updated") OffsetDateTime updated);
+
+	/**
+	 * Returns the fulfilments of the employee checklist that have been created or updated after the provided timestamp.
+	 *
+	 * @param  employeeChecklistId the id of the employee checklist
+	 * @param  updated             timestamp to compare the updated timestamp of the fulfilments with
+	 * @return                     fulfilments updated after the provided timestamp
+	 */
+	List<FulfilmentEntity> findAllByEmployeeChecklistIdAndUpdatedAfter(String employeeChecklistId, OffsetDateTime updated);
+}
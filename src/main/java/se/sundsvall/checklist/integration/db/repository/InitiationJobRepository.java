@@ -0,0 +1,111 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.checklist.integration.db.model.InitiationJobEntity;
+
+@Repository
+@CircuitBreaker(name = "initiationJobRepository")
+public interface InitiationJobRepository extends JpaRepository<InitiationJobEntity, String> {
+	Optional<InitiationJobEntity> findByIdAndMunicipalityId(String id, String municipalityId);
+
+	/**
+	 * Returns the latest started job in the municipality with the provided status. The lookup is served by the
+	 * initiation_job_municipality_id_status_idx index.
+	 *
+	 * @param  municipalityId id of the municipality where the job belongs
+	 * @param  status         status of the job
+	 * @return                the latest started job with the provided status, or empty if no such job exists
+	 */
+	Optional<InitiationJobEntity> findFirstByMunicipalityIdAndStatusOrderByStartedDesc(String municipalityId, String status);
+
+	/**
+	 * Sets the total number of employees to process for the job.
+	 *
+	 * @param  id    id of the job
+	 * @param  total number of employees to process
+	 * @return       the number of updated rows
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE InitiationJobEntity j SET j.total = :total WHERE j.id = :id")
+	int updateTotal(@Param("id") String id, @Param("total") int total);
+
+	/**
+	 * Increments the number of processed employees (and errors) for the job with one set based statement, which makes it
+	 * safe to call for employees processed in parallel.
+	 *
+	 * @param  id     id of the job
+	 * @param  errors number of errors to add, i.e. 1 if the employee was not processed successfully and 0 otherwise
+	 * @return        the number of updated rows
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE InitiationJobEntity j SET j.processed = j.processed + 1, j.errors = j.errors + :errors WHERE j.id = :id")
+	int incrementProcessed(@Param("id") String id, @Param("errors") int errors);
+
+	/**
+	 * Records that the job is still alive. Only jobs that are running are updated.
+	 *
+	 * @param  id        id of the job
+	 * @param  heartbeat when the job was last seen alive
+	 * @return           the number of updated rows
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE InitiationJobEntity j SET j.heartbeat = :heartbeat WHERE j.id = :id AND j.status = 'RUNNING'")
+	int heartbeat(@Param("id") String id, @Param("heartbeat") OffsetDateTime heartbeat);
+
+	/**
+	 * Sets the final status, summary and time of finish for the job. Only a running job is updated, which means that a job
+	 * that has already been marked as failed (as its owner was considered gone) keeps that status.
+	 *
+	 * @param  id       id of the job
+	 * @param  status   final status of the job
+	 * @param  summary  summary of the outcome of the job
+	 * @param  finished when the job finished
+	 * @return          the number of updated rows
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE InitiationJobEntity j SET j.status = :status, j.summary = :summary, j.finished = :finished WHERE j.id = :id AND j.status = 'RUNNING'")
+	int finish(@Param("id") String id, @Param("status") String status, @Param("summary") String summary, @Param("finished") OffsetDateTime finished);
+
+	/**
+	 * Sets the final status, summary and time of finish for all jobs that currently have the provided status and whose last
+	 * heartbeat (or start, for jobs that never sent a heartbeat) is older than the provided timestamp.
+	 *
+	 * @param  currentStatus status of the jobs to finish
+	 * @param  heartbeat     jobs with a last heartbeat before this timestamp are finished
+	 * @param  status        final status of the jobs
+	 * @param  summary       summary of the outcome of the jobs
+	 * @param  finished      when the jobs finished
+	 * @return               the number of updated rows
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE InitiationJobEntity j SET j.status = :status, j.summary = :summary, j.finished = :finished
+		WHERE j.status = :currentStatus AND COALESCE(j.heartbeat, j.started) < :heartbeat
+		""")
+	int finishAllByStatusAndHeartbeatBefore(@Param("currentStatus") String currentStatus, @Param("heartbeat") OffsetDateTime heartbeat, @Param("status") String status, @Param("summary") String summary,
+		@Param("finished") OffsetDateTime finished);
+
+	/**
+	 * Deletes the jobs that finished before the provided timestamp.
+	 *
+	 * @param  finished timestamp to compare the time of finish for the jobs with
+	 * @return          the number of deleted rows
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("DELETE FROM InitiationJobEntity j WHERE j.finished < :finished")
+	int deleteAllByFinishedBefore(@Param("finished") OffsetDateTime finished);
+}
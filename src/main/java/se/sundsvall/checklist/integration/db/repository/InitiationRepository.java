@@ -2,9 +2,15 @@ package se.sundsvall.checklist.integration.db.repository;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.checklist.integration.db.model.InitiationInfoEntity;
 
 @Repository
@@ -12,5 +18,28 @@ import se.sundsvall.checklist.integration.db.model.InitiationInfoEntity;
 public interface InitiationRepository extends JpaRepository<InitiationInfoEntity, String> {
 	List<InitiationInfoEntity> findAllByMunicipalityId(String municipalityId);
 
-	long deleteAllByCreatedBefore(OffsetDateTime timestamp);
+	List<InitiationInfoEntity> findAllByMunicipalityIdAndLogId(String municipalityId, String logId);
+
+	/**
+	 * Returns ids (and only ids, without loading any entities) for rows created before the provided timestamp. The
+	 * lookup is served by the initiation_info_created_idx index.
+	 *
+	 * @param  created timestamp to compare created date with
+	 * @param  limit   maximum number of ids to return
+	 * @return         ids for rows created before the provided timestamp
+	 */
+	@Query("SELECT i.id FROM InitiationInfoEntity i WHERE i.created < :created")
+	List<String> findIdsByCreatedBefore(@Param("created") OffsetDateTime created, Limit limit);
+
+	/**
+	 * Deletes the rows matching the provided ids with one set based statement, executed in a transaction of its own unless
+	 * a transaction is active.
+	 *
+	 * @param  ids ids of the rows to delete
+	 * @return     the number of deleted rows
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("DELETE FROM InitiationInfoEntity i WHERE i.id IN :ids")
+	int deleteAllByIdIn(@Param("ids") Collection<String> ids);
 }
@@ -0,0 +1,45 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.checklist.integration.db.model.MailOutboxEntity;
+
+@Repository
+@CircuitBreaker(name = "mailOutboxRepository")
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, String> {
+	Optional<MailOutboxEntity> findByEmployeeChecklistId(String employeeChecklistId);
+
+	/**
+	 * Returns the entries that are due for dispatch, oldest first. The lookup is served by the mail_outbox_next_attempt_idx
+	 * index.
+	 *
+	 * @param  nextAttempt timestamp to compare the next attempt of the entries with
+	 * @param  limit       maximum number of entries to return
+	 * @return             entries with next attempt at or before the provided timestamp
+	 */
+	List<MailOutboxEntity> findByNextAttemptLessThanEqualOrderByNextAttempt(OffsetDateTime nextAttempt, Limit limit);
+
+	/**
+	 * Claims the entry for dispatch by moving its next attempt forward, provided that the entry is due. As the condition
+	 * and the update are made in one statement, at most one of several concurrent callers succeeds in claiming the entry.
+	 *
+	 * @param  id           id of the entry
+	 * @param  now          current timestamp, the entry is only claimed if its next attempt is at or before it
+	 * @param  claimedUntil timestamp to set as next attempt, i.e. when the entry is dispatched again if the claim is never
+	 *                      followed by a registered outcome
+	 * @return              1 if the entry was claimed, 0 otherwise
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE MailOutboxEntity m SET m.nextAttempt = :claimedUntil WHERE m.id = :id AND m.nextAttempt <= :now")
+	int claim(@Param("id") String id, @Param("now") OffsetDateTime now, @Param("claimedUntil") OffsetDateTime claimedUntil);
+}
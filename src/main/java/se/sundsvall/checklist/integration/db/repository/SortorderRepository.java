@@ -1,6 +1,7 @@
 package se.sundsvall.checklist.integration.db.repository;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -11,5 +12,7 @@ import se.sundsvall.checklist.integration.db.model.SortorderEntity;
 public interface SortorderRepository extends JpaRepository<SortorderEntity, String> {
 	List<SortorderEntity> findAllByMunicipalityIdAndOrganizationNumber(final String municipalityId, final int organizationNumber);
 
+	List<SortorderEntity> findAllByMunicipalityIdAndOrganizationNumberIn(final String municipalityId, final Collection<Integer> organizationNumbers);
+
 	List<SortorderEntity> findAllByComponentId(final String componentId);
 }
@@ -1,7 +1,12 @@
 package se.sundsvall.checklist.integration.db.repository;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
 
@@ -9,4 +14,22 @@ import se.sundsvall.checklist.integration.db.model.TaskEntity;
 @CircuitBreaker(name = "taskRepository")
 public interface TaskRepository extends JpaRepository<TaskEntity, String> {
 	int countByPhaseId(String phaseId);
+
+	@Query("""
+		SELECT t FROM EmployeeChecklistEntity ec
+		JOIN ec.checklists c
+		JOIN c.tasks t
+		WHERE ec.id = :employeeChecklistId
+		AND t.id = :id
+		""")
+	Optional<TaskEntity> findByIdAndEmployeeChecklistId(@Param("id") String id, @Param("employeeChecklistId") String employeeChecklistId);
+
+	@Query("""
+		SELECT t FROM EmployeeChecklistEntity ec
+		JOIN ec.checklists c
+		JOIN c.tasks t
+		WHERE ec.id = :employeeChecklistId
+		AND t.id IN :ids
+		""")
+	List<TaskEntity> findAllByIdInAndEmployeeChecklistId(@Param("ids") Collection<String> ids, @Param("employeeChecklistId") String employeeChecklistId);
 }
@@ -0,0 +1,37 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import se.sundsvall.checklist.integration.db.model.TombstoneEntity;
+
+@Repository
+@CircuitBreaker(name = "tombstoneRepository")
+public interface TombstoneRepository extends JpaRepository<TombstoneEntity, Long> {
+
+	/**
+	 * Returns the tombstones of the employee checklist that were created after the provided timestamp (served by the
+	 * tombstone_employee_checklist_id_deleted_idx index).
+	 *
+	 * @param  employeeChecklistId the id of the employee checklist
+	 * @param  deleted             timestamp to compare the deleted timestamp of the tombstones with
+	 * @return                     tombstones created after the provided timestamp
+	 */
+	List<TombstoneEntity> findAllByEmployeeChecklistIdAndDeletedAfter(String employeeChecklistId, OffsetDateTime deleted);
+
+	/**
+	 * Deletes all tombstones of the employee checklist with one set based statement, used when the employee checklist is
+	 * deleted.
+	 *
+	 * @param  employeeChecklistId the id of the employee checklist
+	 * @return                     the number of deleted tombstones
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM TombstoneEntity t WHERE t.employeeChecklistId = :employeeChecklistId")
+	int deleteByEmployeeChecklistId(@Param("employeeChecklistId") String employeeChecklistId);
+}
@@ -0,0 +1,11 @@
+package se.sundsvall.checklist.integration.db.repository.projection;
+
+/**
+ * Projection of the version of an employee checklist, where the fingerprint is a digest of the timestamps and counters
+ * of everything that the employee checklist is built from. The fingerprint is null when the version can not be trusted.
+ */
+public interface EmployeeChecklistVersionProjection {
+	String getId();
+
+	String getFingerprint();
+}
@@ -0,0 +1,15 @@
+package se.sundsvall.checklist.integration.db.repository.projection;
+
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
+
+/**
+ * Closed projection of the attributes of a (custom) fulfilment that are needed when a fulfilment is updated, making it
+ * possible to read the current state without loading the employee checklist and task that the fulfilment belongs to.
+ */
+public interface FulfilmentProjection {
+	String getId();
+
+	FulfilmentStatus getCompleted();
+
+	String getResponseText();
+}
@@ -0,0 +1,9 @@
+package se.sundsvall.checklist.integration.db.repository.projection;
+
+/**
+ * Projection of a (custom) fulfilment that also contains the id of the (custom) task that the fulfilment belongs to,
+ * used when fulfilments for several tasks are read at once.
+ */
+public interface TaskFulfilmentProjection extends FulfilmentProjection {
+	String getTaskId();
+}
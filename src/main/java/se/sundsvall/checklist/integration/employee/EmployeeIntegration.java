@@ -14,6 +14,7 @@ import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 import static se.sundsvall.checklist.configuration.CacheConfiguration.EMPLOYEE_CACHE;
+import static se.sundsvall.checklist.configuration.CacheConfiguration.REFRESHABLE_KEY_GENERATOR;
 import static se.sundsvall.dept44.util.LogUtils.sanitizeForLogging;
 
 /**
@@ -58,7 +59,7 @@ public class EmployeeIntegration {
 		return emptyList();
 	}
 
-	@Cacheable(EMPLOYEE_CACHE)
+	@Cacheable(cacheNames = EMPLOYEE_CACHE, keyGenerator = REFRESHABLE_KEY_GENERATOR)
 	public Optional<PortalPersonData> getEmployeeByEmail(String municipalityId, String email) {
 		try {
 			return employeeClient.getEmployeeByEmail(municipalityId, email);
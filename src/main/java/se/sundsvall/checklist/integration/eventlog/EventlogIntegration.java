@@ -25,15 +25,23 @@ public class EventlogIntegration {
 		this.eventlogClient = eventlogClient;
 	}
 
-	public void createEvent(final Event event) {
+	/**
+	 * Creates the event in Eventlog.
+	 *
+	 * @param  event the event to create
+	 * @return       true if the event was created, false otherwise
+	 */
+	public boolean createEvent(final Event event) {
 		final var sanitizedLogKey = sanitizeAndCompress(event.getLogKey());
 		try {
 			LOG.info("Creating event for checklist: {}", sanitizedLogKey);
 			eventlogClient.createEvent(event.getMunicipalityId(), event.getLogKey(), event);
 			LOG.info("Successfully created event for checklist: {}", sanitizedLogKey);
+			return true;
 		} catch (final Exception e) {
 			// This exception should not be thrown to the client.
 			LOG.error("Could not create event for checklist: {}", sanitizedLogKey, e);
+			return false;
 		}
 	}
 
@@ -0,0 +1,261 @@
+package se.sundsvall.checklist.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import se.sundsvall.checklist.integration.db.model.ChangeEventEntity;
+import se.sundsvall.checklist.integration.db.model.enums.ChangeType;
+import se.sundsvall.checklist.integration.db.repository.ChangeEventRepository;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toChangeEvent;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toChangeEventEntity;
+
+/**
+ * Feed of changes made to employee checklists, used for pushing change notifications to subscribers instead of having
+ * them poll for their employee checklists. Changes are written to the change_event table within the transaction that
+ * makes the change, and every service instance polls the table for new entries and pushes them to the subscribers that
+ * are connected to that instance.
+ * <p>
+ * As ids are assigned when a change is written but become visible when its transaction commits, the feed position can
+ * pass an id that belongs to a transaction that has not yet committed. Each id that is skipped is therefore kept as a
+ * gap and read again on each poll until it shows up or the gap timeout has passed (after which the id is assumed to
+ * belong to a rolled back transaction). Pushing to the subscribers is done by a dedicated executor, so a slow subscriber
+ * never holds up the polling of the feed. A subscriber that falls more than the buffer size behind is disconnected,
+ * which makes the client reconnect and refetch its employee checklists.
+ */
+@Component
+public class ChangeFeed {
+
+	static final String SUBSCRIPTIONS_METRIC = "checklist.change-feed.subscriptions";
+	static final String EVENT_NAME = "change";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ChangeFeed.class);
+
+	private final ChangeEventRepository changeEventRepository;
+	private final Duration emitterTimeout;
+	private final Duration gapTimeout;
+	private final int batchSize;
+	private final int bufferSize;
+	private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+	private final Map<Long, Instant> gaps = new TreeMap<>();
+	private final ExecutorService sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("change-feed-sender-", 0).factory());
+	private Long position;
+
+	public ChangeFeed(
+		final ChangeEventRepository changeEventRepository,
+		final MeterRegistry meterRegistry,
+		@Value("${checklist.change-feed.emitter-timeout:PT30M}") final Duration emitterTimeout,
+		@Value("${checklist.change-feed.gap-timeout:PT1M}") final Duration gapTimeout,
+		@Value("${checklist.change-feed.batch-size:500}") final int batchSize,
+		@Value("${checklist.change-feed.buffer-size:100}") final int bufferSize) {
+
+		this.changeEventRepository = changeEventRepository;
+		this.emitterTimeout = emitterTimeout;
+		this.gapTimeout = gapTimeout;
+		this.batchSize = batchSize;
+		this.bufferSize = bufferSize;
+		Gauge.builder(SUBSCRIPTIONS_METRIC, subscriptions, Set::size)
+			.description("Number of subscribers connected to the change feed")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Publishes a change of the employee checklist to the feed.
+	 *
+	 * @param employeeChecklistId the id of the employee checklist that has been changed
+	 * @param changeType          the type of change
+	 */
+	public void publish(final String employeeChecklistId, final ChangeType changeType) {
+		publish(employeeChecklistId, changeType, null);
+	}
+
+	/**
+	 * Publishes a change of the employee checklist to the feed. The change is also pushed to subscriptions of the provided
+	 * user, which from then on follow the employee checklist (used when an employee checklist is delegated to a user).
+	 *
+	 * @param employeeChecklistId the id of the employee checklist that has been changed
+	 * @param changeType          the type of change
+	 * @param username            username of user that the change concerns, or null if it only concerns current
+	 *                            subscribers of the employee checklist
+	 */
+	public void publish(final String employeeChecklistId, final ChangeType changeType, final String username) {
+		changeEventRepository.save(toChangeEventEntity(employeeChecklistId, changeType, username));
+	}
+
+	/**
+	 * Subscribes to changes of the provided employee checklists. Changes published after the subscription is made are
+	 * pushed to the returned emitter until it times out or the subscriber disconnects.
+	 *
+	 * @param  username             username of the subscriber
+	 * @param  employeeChecklistIds ids of the employee checklists to follow
+	 * @return                      emitter that changes are pushed to
+	 */
+	public SseEmitter subscribe(final String username, final Collection<String> employeeChecklistIds) {
+		final var emitter = new SseEmitter(emitterTimeout.toMillis());
+		final var subscription = new Subscription(username, employeeChecklistIds, emitter);
+
+		emitter.onCompletion(() -> subscriptions.remove(subscription));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(e -> subscriptions.remove(subscription));
+
+		synchronized (this) {
+			// Start reading from the end of the feed when the first subscriber connects to the instance
+			if (position == null) {
+				position = changeEventRepository.findMaxId().orElse(0L);
+			}
+			subscriptions.add(subscription);
+		}
+		return emitter;
+	}
+
+	/**
+	 * Reads changes that have shown up in gaps of the feed and the next batch of changes after the feed position, and hands
+	 * them over to the subscribers of the affected employee checklists. Nothing is read when no subscribers are connected
+	 * to the instance.
+	 */
+	@Scheduled(fixedDelayString = "${checklist.change-feed.poll-interval:PT1S}")
+	public void poll() {
+		final Long from;
+		synchronized (this) {
+			if (subscriptions.isEmpty()) {
+				position = null;
+				gaps.clear();
+				return;
+			}
+			from = position;
+		}
+
+		final var now = Instant.now();
+		if (!gaps.isEmpty()) {
+			changeEventRepository.findByIdInOrderById(List.copyOf(gaps.keySet())).forEach(changeEvent -> {
+				gaps.remove(changeEvent.getId());
+				dispatch(changeEvent);
+			});
+			gaps.values().removeIf(detected -> !detected.isAfter(now.minus(gapTimeout)));
+		}
+
+		final var changeEvents = changeEventRepository.findByIdGreaterThanOrderById(from, Limit.of(batchSize));
+		var next = from + 1;
+		for (final var changeEvent : changeEvents) {
+			for (var id = next; id < changeEvent.getId(); id++) {
+				gaps.put(id, now);
+			}
+			dispatch(changeEvent);
+			next = changeEvent.getId() + 1;
+		}
+
+		if (!changeEvents.isEmpty()) {
+			synchronized (this) {
+				position = changeEvents.getLast().getId();
+			}
+		}
+	}
+
+	private void dispatch(final ChangeEventEntity changeEvent) {
+		subscriptions.stream()
+			.filter(subscription -> subscription.follows(changeEvent))
+			.forEach(subscription -> enqueue(subscription, changeEvent));
+	}
+
+	private void enqueue(final Subscription subscription, final ChangeEventEntity changeEvent) {
+		if (subscription.pending.size() >= bufferSize) {
+			LOGGER.debug("Disconnecting subscriber of change feed that has fallen {} changes behind", bufferSize);
+			subscriptions.remove(subscription);
+			subscription.pending.clear();
+			subscription.emitter.complete();
+			return;
+		}
+
+		subscription.pending.add(changeEvent);
+		if (subscription.sending.compareAndSet(false, true)) {
+			sender.execute(() -> sendPending(subscription));
+		}
+	}
+
+	private void sendPending(final Subscription subscription) {
+		do {
+			ChangeEventEntity changeEvent;
+			while ((changeEvent = subscription.pending.poll()) != null) {
+				if (!send(subscription, changeEvent)) {
+					subscription.pending.clear();
+				}
+			}
+			subscription.sending.set(false);
+			// Changes can have been added after the queue was found empty but before the flag was released
+		} while (!subscription.pending.isEmpty() && subscription.sending.compareAndSet(false, true));
+	}
+
+	private boolean send(final Subscription subscription, final ChangeEventEntity changeEvent) {
+		try {
+			subscription.emitter.send(SseEmitter.event()
+				.id(String.valueOf(changeEvent.getId()))
+				.name(EVENT_NAME)
+				.data(toChangeEvent(changeEvent), APPLICATION_JSON));
+			return true;
+		} catch (final IOException | IllegalStateException e) {
+			LOGGER.debug("Removing disconnected subscriber of change feed", e);
+			subscriptions.remove(subscription);
+			subscription.emitter.completeWithError(e);
+			return false;
+		}
+	}
+
+	/**
+	 * Completes all emitters, letting subscribers reconnect to another instance.
+	 */
+	@PreDestroy
+	void shutdown() {
+		sender.shutdownNow();
+		subscriptions.forEach(subscription -> subscription.emitter.complete());
+		subscriptions.clear();
+	}
+
+	/**
+	 * A connected subscriber. Compared by identity, as the followed employee checklists change during its lifetime.
+	 */
+	static final class Subscription {
+
+		private final String username;
+		private final Set<String> employeeChecklistIds = ConcurrentHashMap.newKeySet();
+		private final SseEmitter emitter;
+		private final Queue<ChangeEventEntity> pending = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean sending = new AtomicBoolean();
+
+		Subscription(final String username, final Collection<String> employeeChecklistIds, final SseEmitter emitter) {
+			this.username = username;
+			this.employeeChecklistIds.addAll(employeeChecklistIds);
+			this.emitter = emitter;
+		}
+
+		boolean follows(final ChangeEventEntity changeEvent) {
+			if (changeEvent.getUsername() != null && changeEvent.getUsername().equalsIgnoreCase(username)) {
+				// The change concerns the subscriber (i.e. a delegation to the subscriber), follow the employee checklist from now on
+				employeeChecklistIds.add(changeEvent.getEmployeeChecklistId());
+				return true;
+			}
+			return employeeChecklistIds.contains(changeEvent.getEmployeeChecklistId());
+		}
+	}
+}
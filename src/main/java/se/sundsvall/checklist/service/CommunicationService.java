@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.checklist.api.model.Correspondence;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
+import se.sundsvall.checklist.integration.db.model.MailOutboxEntity;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.service.mapper.CorrespondenceMapper;
 import se.sundsvall.dept44.problem.Problem;
@@ -23,16 +24,20 @@ import static se.sundsvall.checklist.service.mapper.CorrespondenceMapper.toCorre
 public class CommunicationService {
 	private final MailHandler mailHandler;
 
+	private final MailDispatcher mailDispatcher;
+
 	private final EmployeeChecklistRepository employeeChecklistRepository;
 
 	private final String emailTemplate;
 
 	public CommunicationService(
 		MailHandler mailHandler,
+		MailDispatcher mailDispatcher,
 		EmployeeChecklistRepository employeeChecklistRepository,
 		@Value("${checklist.manager-email.email-template}") String emailTemplate) {
 
 		this.mailHandler = mailHandler;
+		this.mailDispatcher = mailDispatcher;
 		this.employeeChecklistRepository = employeeChecklistRepository;
 		this.emailTemplate = emailTemplate;
 	}
@@ -78,10 +83,11 @@ public class CommunicationService {
 		final var entity = employeeChecklistRepository.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, "Employee checklist with id %s not found within municipality %s.".formatted(employeeChecklistId, municipalityId)));
 
-		sendEmail(entity);
+		// Dispatch directly, the outbox entry is claimed before sending and is retried by the dispatcher if the attempt fails
+		mailDispatcher.dispatch(enqueueEmail(entity));
 	}
 
-	public void sendEmail(EmployeeChecklistEntity entity) {
-		mailHandler.sendEmail(entity, emailTemplate);
+	public MailOutboxEntity enqueueEmail(EmployeeChecklistEntity entity) {
+		return mailHandler.enqueueEmail(entity, emailTemplate);
 	}
 }
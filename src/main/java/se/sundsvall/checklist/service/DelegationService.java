@@ -1,9 +1,8 @@
 package se.sundsvall.checklist.service;
 
-import java.time.Duration;
-import java.time.OffsetDateTime;
 import java.util.List;
-import org.springframework.beans.factory.annotation.Value;
+import java.util.Map;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.checklist.api.model.DelegatedEmployeeChecklistResponse;
@@ -11,7 +10,6 @@ import se.sundsvall.checklist.api.model.EmployeeChecklist;
 import se.sundsvall.checklist.integration.db.EmployeeChecklistIntegration;
 import se.sundsvall.checklist.integration.db.model.DelegateEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
-import se.sundsvall.checklist.integration.db.repository.CustomTaskRepository;
 import se.sundsvall.checklist.integration.db.repository.DelegateRepository;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.integration.employee.EmployeeIntegration;
@@ -19,9 +17,9 @@ import se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper;
 import se.sundsvall.checklist.service.util.ChecklistUtils;
 import se.sundsvall.dept44.problem.Problem;
 
-import static java.util.Optional.ofNullable;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.DELEGATION;
 import static se.sundsvall.checklist.service.mapper.DelegateMapper.toDelegateEntity;
 import static se.sundsvall.checklist.service.util.ChecklistUtils.removeObsoleteTasks;
 import static se.sundsvall.checklist.service.util.EmployeeChecklistDecorator.decorateWithCustomTasks;
@@ -39,26 +37,27 @@ public class DelegationService {
 	private final EmployeeIntegration employeeIntegration;
 	private final EmployeeChecklistIntegration employeeChecklistIntegration;
 	private final SortorderService sortorderService;
-	private final CustomTaskRepository customTaskRepository;
-	private final Duration employeeInformationUpdateInterval;
+	private final EmployeeInformationRefresher employeeInformationRefresher;
+	private final ChangeFeed changeFeed;
 
 	public DelegationService(final EmployeeChecklistRepository employeeChecklistRepository,
 		final DelegateRepository delegateRepository,
 		final EmployeeIntegration employeeIntegration,
 		final EmployeeChecklistIntegration employeeChecklistIntegration,
 		final SortorderService sortorderService,
-		final CustomTaskRepository customTaskRepository,
-		@Value("${checklist.employee-update-interval}") Duration employeeInformationUpdateInterval) {
+		final EmployeeInformationRefresher employeeInformationRefresher,
+		final ChangeFeed changeFeed) {
 
 		this.employeeChecklistRepository = employeeChecklistRepository;
 		this.delegateRepository = delegateRepository;
 		this.employeeIntegration = employeeIntegration;
 		this.employeeChecklistIntegration = employeeChecklistIntegration;
 		this.sortorderService = sortorderService;
-		this.customTaskRepository = customTaskRepository;
-		this.employeeInformationUpdateInterval = employeeInformationUpdateInterval;
+		this.employeeInformationRefresher = employeeInformationRefresher;
+		this.changeFeed = changeFeed;
 	}
 
+	@Transactional
 	public void delegateEmployeeChecklist(final String municipalityId, final String employeeChecklistId, final String email) {
 		final var employeeChecklist = employeeChecklistRepository.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, EMPLOYEE_CHECKLIST_NOT_FOUND.formatted(employeeChecklistId)));
@@ -72,9 +71,22 @@ public class DelegationService {
 			final var delegate = toDelegateEntity(employeeData, employeeChecklist);
 			employeeChecklist.getDelegates().add(delegate);
 			employeeChecklistRepository.save(employeeChecklist);
+			changeFeed.publish(employeeChecklistId, DELEGATION, delegate.getUsername());
 		});
 	}
 
+	/**
+	 * Fetches the version of the employee checklists delegated to the user, without building the checklists. The version is
+	 * meant to be used as entity tag and changes whenever anything that the checklists are built from changes.
+	 *
+	 * @param  municipalityId the id of the municipality where the employee checklists belong
+	 * @param  username       the username of the delegate
+	 * @return                the version of the delegated checklists, or empty if the version can not be trusted
+	 */
+	public Optional<String> fetchVersionOfDelegatedEmployeeChecklists(final String municipalityId, final String username) {
+		return employeeChecklistIntegration.fetchVersion(municipalityId, employeeChecklistIntegration.fetchEmployeeChecklistIdsForDelegate(username), employeeInformationRefresher.outdatedBefore());
+	}
+
 	public DelegatedEmployeeChecklistResponse fetchDelegatedEmployeeChecklistsByUsername(final String municipalityId, final String username) {
 		final var delegatedEmployeeChecklistEntities = delegateRepository.findAllByUsername(username)
 			.stream()
@@ -87,30 +99,27 @@ public class DelegationService {
 	}
 
 	private List<EmployeeChecklist> toEmployeeChecklists(String municipalityId, List<EmployeeChecklistEntity> delegatedEmployeeChecklistEntities) {
+		// Queue refresh of outdated employee information as one batch in the background and continue with the persisted information
+		employeeInformationRefresher.refreshOutdated(municipalityId, delegatedEmployeeChecklistEntities.stream().map(EmployeeChecklistEntity::getEmployee).toList());
+
+		// Fetch custom tasks and delegates for all checklists in one go instead of one query per checklist
+		final var employeeChecklistIds = delegatedEmployeeChecklistEntities.stream().map(EmployeeChecklistEntity::getId).toList();
+		final var customTasks = employeeChecklistIntegration.fetchCustomTasks(municipalityId, employeeChecklistIds);
+		final var delegateEmails = employeeChecklistIntegration.fetchDelegateEmails(employeeChecklistIds);
+
 		return delegatedEmployeeChecklistEntities.stream()
-			.map(checklist -> handleUpdatedEmployeeInformation(municipalityId, checklist))
 			.map(EmployeeChecklistMapper::toEmployeeChecklist)
-			.map(ob -> decorateWithCustomTasks(ob, customTaskRepository.findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(ob.getId(), municipalityId)))
+			.map(ob -> decorateWithCustomTasks(ob, customTasks.get(ob.getId())))
 			.map(ob -> removeObsoleteTasks(ob, fetchEntity(delegatedEmployeeChecklistEntities, ob.getId())))
 			.map(ChecklistUtils::initializeWithEmptyFulfilment)
 			.map(ob -> decorateWithFulfilment(ob, fetchEntity(delegatedEmployeeChecklistEntities, ob.getId())))
 			.map(ob -> sortorderService.applySorting(fetchEntity(delegatedEmployeeChecklistEntities, ob.getId()), ob))
-			.map(this::decorateWithDelegateInformation)
+			.map(ob -> decorateWithDelegateInformation(ob, delegateEmails))
 			.toList();
 	}
 
-	private EmployeeChecklistEntity handleUpdatedEmployeeInformation(String municipalityId, EmployeeChecklistEntity employeeChecklist) {
-		if (ofNullable(employeeChecklist.getEmployee().getUpdated()).orElse(OffsetDateTime.MIN).isBefore(OffsetDateTime.now().minus(employeeInformationUpdateInterval))) {
-			employeeIntegration.getEmployeeInformation(municipalityId, employeeChecklist.getEmployee().getId()).stream()
-				.findFirst()
-				.ifPresent(employee -> employeeChecklistIntegration.updateEmployeeInformation(employeeChecklist.getEmployee(), employee));
-		}
-
-		return employeeChecklist;
-	}
-
-	private EmployeeChecklist decorateWithDelegateInformation(EmployeeChecklist employeeChecklist) {
-		employeeChecklist.setDelegatedTo(employeeChecklistIntegration.fetchDelegateEmails(employeeChecklist.getId()));
+	private EmployeeChecklist decorateWithDelegateInformation(EmployeeChecklist employeeChecklist, Map<String, List<String>> delegateEmails) {
+		employeeChecklist.setDelegatedTo(delegateEmails.get(employeeChecklist.getId()));
 		return employeeChecklist;
 	}
 
@@ -121,6 +130,7 @@ public class DelegationService {
 
 		if (delegateRepository.existsByEmployeeChecklistAndEmail(employeeChecklist, email)) {
 			delegateRepository.deleteByEmployeeChecklistAndEmail(employeeChecklist, email);
+			changeFeed.publish(employeeChecklistId, DELEGATION);
 		}
 	}
 }
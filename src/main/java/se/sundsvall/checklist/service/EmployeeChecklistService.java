@@ -1,13 +1,18 @@
 package se.sundsvall.checklist.service;
 
-import generated.se.sundsvall.company.Organization;
 import java.time.Duration;
-import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,27 +20,36 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import se.sundsvall.checklist.api.model.CustomTask;
 import se.sundsvall.checklist.api.model.CustomTaskCreateRequest;
 import se.sundsvall.checklist.api.model.CustomTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklist;
+import se.sundsvall.checklist.api.model.EmployeeChecklistDelta;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhase;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhaseUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse.Detail;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateResponse;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateResponse.Result;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.InitiationInformation;
 import se.sundsvall.checklist.api.model.Mentor;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklistParameters;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklists;
-import se.sundsvall.checklist.integration.company.CompanyIntegration;
+import se.sundsvall.checklist.integration.company.OrganizationIndexProvider;
+import se.sundsvall.checklist.integration.db.BatchIdentityMap;
 import se.sundsvall.checklist.integration.db.EmployeeChecklistIntegration;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.CustomTaskEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
+import se.sundsvall.checklist.integration.db.model.PhaseEntity;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
 import se.sundsvall.checklist.integration.db.repository.CustomTaskRepository;
 import se.sundsvall.checklist.integration.db.repository.InitiationRepository;
@@ -44,27 +58,41 @@ import se.sundsvall.checklist.service.OrganizationTree.OrganizationLine;
 import se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper;
 import se.sundsvall.checklist.service.model.Employee;
 import se.sundsvall.checklist.service.util.ChecklistUtils;
-import se.sundsvall.checklist.service.util.TaskType;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.ThrowableProblem;
 
-import static java.time.ZoneId.systemDefault;
 import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
 import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.lang3.ObjectUtils.notEqual;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_ACCEPTABLE;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.CUSTOM_TASK;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.FULFILMENT;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.MENTOR;
+import static se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus.EMPTY;
 import static se.sundsvall.checklist.integration.db.model.enums.RoleType.MANAGER_FOR_NEW_EMPLOYEE;
 import static se.sundsvall.checklist.integration.db.model.enums.RoleType.MANAGER_FOR_NEW_MANAGER;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.createUpdateManagerDetailString;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.createUpdateManagerErrorString;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toCustomTask;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toDetail;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toEmployeeChecklistDelta;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toEmployeeChecklistPhase;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toEmployeeChecklistTask;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toEmployeeChecklistTaskUpdateRequest;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toInitiationInfoEntity;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toInitiationInformations;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toTaskBatchUpdateResult;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toUpdateManagerResponse;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.updateCustomTaskEntity;
 import static se.sundsvall.checklist.service.mapper.PagingAndSortingMapper.toPageRequest;
@@ -72,7 +100,6 @@ import static se.sundsvall.checklist.service.mapper.PagingAndSortingMapper.toPag
 import static se.sundsvall.checklist.service.util.ChecklistUtils.removeObsoleteTasks;
 import static se.sundsvall.checklist.service.util.EmployeeChecklistDecorator.decorateWithCustomTasks;
 import static se.sundsvall.checklist.service.util.EmployeeChecklistDecorator.decorateWithFulfilment;
-import static se.sundsvall.checklist.service.util.ServiceUtils.calculateTaskType;
 import static se.sundsvall.checklist.service.util.ServiceUtils.fetchEntity;
 import static se.sundsvall.checklist.service.util.StringUtils.sanitizeAndCompress;
 import static se.sundsvall.checklist.service.util.VerificationUtils.verifyMandatoryInformation;
@@ -86,6 +113,7 @@ public class EmployeeChecklistService {
 
 	private static final String ORGANIZATIONAL_STRUCTURE_DATA_NOT_FOUND = "Employee with loginname %s is missing information regarding organizational structure.";
 	private static final String CUSTOM_TASK_NOT_FOUND = "Employee checklist with id %s does not contain any custom task with id %s.";
+	private static final String TASK_NOT_FOUND = "Task with id %s was not found in employee checklist with id %s.";
 	private static final String ERROR_READING_PHASE_FROM_EMPLOYEE_CHECKLIST = "Could not read phase with id %s from employee checklist with id %s.";
 
 	private final CustomTaskRepository customTaskRepository;
@@ -93,8 +121,13 @@ public class EmployeeChecklistService {
 	private final EmployeeIntegration employeeIntegration;
 	private final EmployeeChecklistIntegration employeeChecklistIntegration;
 	private final SortorderService sortorderService;
-	private final CompanyIntegration companyIntegration;
-	private final Duration employeeInformationUpdateInterval;
+	private final OrganizationIndexProvider organizationIndexProvider;
+	private final EmployeeInformationRefresher employeeInformationRefresher;
+	private final EmployeeImportWatermark employeeImportWatermark;
+	private final ChangeFeed changeFeed;
+	private final TransactionOperations transactionOperations;
+	private final int initiationParallelism;
+	private final Duration deltaOverlap;
 
 	public EmployeeChecklistService(
 		final CustomTaskRepository customTaskRepository,
@@ -102,24 +135,64 @@ public class EmployeeChecklistService {
 		final EmployeeIntegration employeeIntegration,
 		final EmployeeChecklistIntegration employeeChecklistIntegration,
 		final SortorderService sortorderService,
-		final CompanyIntegration companyIntegration,
-		@Value("${checklist.employee-update-interval}") final Duration employeeInformationUpdateInterval) {
+		final OrganizationIndexProvider organizationIndexProvider,
+		final EmployeeInformationRefresher employeeInformationRefresher,
+		final EmployeeImportWatermark employeeImportWatermark,
+		final ChangeFeed changeFeed,
+		final TransactionOperations transactionOperations,
+		@Value("${checklist.initiation.parallelism:1}") final int initiationParallelism,
+		@Value("${checklist.delta.overlap:PT5S}") final Duration deltaOverlap) {
 
 		this.customTaskRepository = customTaskRepository;
 		this.initiationRepository = initiationRepository;
 		this.employeeIntegration = employeeIntegration;
 		this.employeeChecklistIntegration = employeeChecklistIntegration;
 		this.sortorderService = sortorderService;
-		this.companyIntegration = companyIntegration;
-		this.employeeInformationUpdateInterval = employeeInformationUpdateInterval;
+		this.organizationIndexProvider = organizationIndexProvider;
+		this.employeeInformationRefresher = employeeInformationRefresher;
+		this.employeeImportWatermark = employeeImportWatermark;
+		this.changeFeed = changeFeed;
+		this.transactionOperations = transactionOperations;
+		this.initiationParallelism = initiationParallelism;
+		this.deltaOverlap = deltaOverlap;
+	}
+
+	/**
+	 * Fetches the version of the checklist where the user acts as employee, without building the checklist. The version is
+	 * meant to be used as entity tag and changes whenever anything that the checklist is built from changes.
+	 *
+	 * @param  municipalityId the id of the municipality where the employee checklist belongs
+	 * @param  username       the username of the employee
+	 * @return                the version of the checklist, or empty if the user has no checklist or if the version can not
+	 *                        be trusted
+	 */
+	public Optional<String> fetchVersionOfChecklistForEmployee(final String municipalityId, final String username) {
+		final var employeeChecklistIds = employeeChecklistIntegration.fetchEmployeeChecklistIdsForEmployee(municipalityId, username);
+		if (employeeChecklistIds.isEmpty()) {
+			return Optional.empty();
+		}
+		return employeeChecklistIntegration.fetchVersion(municipalityId, employeeChecklistIds, employeeInformationRefresher.outdatedBefore());
+	}
+
+	/**
+	 * Fetches the version of the checklists where the user acts as manager, without building the checklists. The version is
+	 * meant to be used as entity tag and changes whenever anything that the checklists are built from changes.
+	 *
+	 * @param  municipalityId the id of the municipality where the employee checklists belong
+	 * @param  username       the username of the manager
+	 * @return                the version of the checklists, or empty if the version can not be trusted
+	 */
+	public Optional<String> fetchVersionOfChecklistsForManager(final String municipalityId, final String username) {
+		return employeeChecklistIntegration.fetchVersion(municipalityId, employeeChecklistIntegration.fetchEmployeeChecklistIdsForManager(municipalityId, username), employeeInformationRefresher.outdatedBefore());
 	}
 
 	public Optional<EmployeeChecklist> fetchChecklistForEmployee(final String municipalityId, final String username) {
 		final var employeeChecklist = employeeChecklistIntegration.fetchOptionalEmployeeChecklist(municipalityId, username);
 
-		return employeeChecklist
+		// Queue refresh of employee information (if outdated) in the background and continue with the persisted information
+		employeeChecklist.ifPresent(checklist -> employeeInformationRefresher.refreshOutdated(municipalityId, List.of(checklist.getEmployee())));
 
-			.map(checklist -> handleUpdatedEmployeeInformation(municipalityId, checklist))
+		return employeeChecklist
 			.map(EmployeeChecklistMapper::toEmployeeChecklist)
 			.map(list -> decorateWithCustomTasks(list, customTaskRepository.findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(list.getId(), municipalityId)))
 			.map(list -> removeObsoleteTasks(list, employeeChecklist))
@@ -133,28 +206,86 @@ public class EmployeeChecklistService {
 	public List<EmployeeChecklist> fetchChecklistsForManager(final String municipalityId, final String username) {
 		final var employeeChecklists = employeeChecklistIntegration.fetchEmployeeChecklistsForManager(municipalityId, username);
 
+		// Queue refresh of outdated employee information as one batch in the background and continue with the persisted information
+		employeeInformationRefresher.refreshOutdated(municipalityId, employeeChecklists.stream().map(EmployeeChecklistEntity::getEmployee).toList());
+
+		// Fetch custom tasks and delegates for all checklists in one go instead of one query per checklist
+		final var employeeChecklistIds = employeeChecklists.stream().map(EmployeeChecklistEntity::getId).toList();
+		final var customTasks = employeeChecklistIntegration.fetchCustomTasks(municipalityId, employeeChecklistIds);
+		final var delegateEmails = employeeChecklistIntegration.fetchDelegateEmails(employeeChecklistIds);
+
 		return employeeChecklists
 			.stream()
-			.map(checklist -> handleUpdatedEmployeeInformation(municipalityId, checklist))
-			.filter(list -> Objects.equals(username, list.getEmployee().getManager().getUsername())) // After possible update, the checklist might not be handled by sent in username anymore
 			.map(EmployeeChecklistMapper::toEmployeeChecklist)
-			.map(list -> decorateWithCustomTasks(list, customTaskRepository.findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(list.getId(), municipalityId)))
+			.map(list -> decorateWithCustomTasks(list, customTasks.get(list.getId())))
 			.map(list -> removeObsoleteTasks(list, fetchEntity(employeeChecklists, list.getId())))
 			.map(ChecklistUtils::initializeWithEmptyFulfilment)
 			.map(list -> decorateWithFulfilment(list, fetchEntity(employeeChecklists, list.getId())))
 			.map(list -> sortorderService.applySorting(fetchEntity(employeeChecklists, list.getId()), list))
-			.map(this::decorateWithDelegateInformation)
+			.map(list -> decorateWithDelegateInformation(list, delegateEmails))
 			.toList();
 	}
 
-	private EmployeeChecklistEntity handleUpdatedEmployeeInformation(final String municipalityId, final EmployeeChecklistEntity employeeChecklist) {
-		if (ofNullable(employeeChecklist.getEmployee().getUpdated()).orElse(OffsetDateTime.MIN).isBefore(OffsetDateTime.now(systemDefault()).minus(employeeInformationUpdateInterval))) {
-			employeeIntegration.getEmployeeInformation(municipalityId, employeeChecklist.getEmployee().getId()).stream()
-				.findFirst()
-				.ifPresent(employee -> employeeChecklistIntegration.updateEmployeeInformation(employeeChecklist.getEmployee(), employee));
-		}
+	/**
+	 * Subscribes to changes of the unlocked employee checklists where the user is the employee, the manager or a delegate.
+	 * Employee checklists that are delegated to the user after the subscription is made are followed as well.
+	 *
+	 * @param  municipalityId the id of the municipality where the employee checklists belong
+	 * @param  username       the username of the user
+	 * @return                emitter that change notifications are pushed to
+	 */
+	public SseEmitter subscribeToChanges(final String municipalityId, final String username) {
+		return changeFeed.subscribe(username, employeeChecklistIntegration.fetchEmployeeChecklistIdsForParticipant(municipalityId, username));
+	}
 
-		return employeeChecklist;
+	/**
+	 * Fetches the changes made to the employee checklist after the provided point in time, i.e. the tasks which fulfilment
+	 * has changed, the custom tasks that have been added or updated and the ids of tasks that have been removed, together
+	 * with the current metadata of the employee checklist. The returned until value is set the configured overlap back in
+	 * time, hence changes committed late by concurrent transactions are included when it is used as since in the next
+	 * request (at the cost of changes within the overlap being returned twice).
+	 *
+	 * @param  municipalityId      the id of the municipality where the employee checklist belongs
+	 * @param  employeeChecklistId the id of the employee checklist
+	 * @param  since               the point in time to fetch changes after
+	 * @return                     the changes made to the employee checklist
+	 */
+	public EmployeeChecklistDelta fetchChangesSince(final String municipalityId, final String employeeChecklistId, final OffsetDateTime since) {
+		final var until = OffsetDateTime.now().minus(deltaOverlap);
+		final var employeeChecklist = employeeChecklistIntegration.fetchEmployeeChecklist(municipalityId, employeeChecklistId);
+		final var phases = new LinkedHashMap<String, EmployeeChecklistPhase>();
+
+		employeeChecklistIntegration.fetchFulfilmentsUpdatedAfter(employeeChecklistId, since).stream()
+			.collect(toMap(fulfilment -> fulfilment.getTask().getId(), identity(), (first, second) -> second))
+			.values()
+			.forEach(fulfilment -> addToPhase(phases, fulfilment.getTask().getPhase(), decorateWithFulfilment(toEmployeeChecklistTask(fulfilment.getTask()), fulfilment)));
+
+		// Custom tasks are returned when the custom task itself or its fulfilment has changed
+		final var customFulfilments = employeeChecklistIntegration.fetchCustomFulfilmentsChangedAfter(employeeChecklistId, since).stream()
+			.collect(toMap(fulfilment -> fulfilment.getCustomTask().getId(), identity(), (first, second) -> second));
+		final var customTasks = new LinkedHashMap<String, CustomTaskEntity>();
+		employeeChecklistIntegration.fetchCustomTasksChangedAfter(employeeChecklistId, since).forEach(customTask -> customTasks.put(customTask.getId(), customTask));
+		customFulfilments.values().forEach(fulfilment -> customTasks.putIfAbsent(fulfilment.getCustomTask().getId(), fulfilment.getCustomTask()));
+		customTasks.values().forEach(customTask -> {
+			final var task = toEmployeeChecklistTask(customTask);
+			task.setFulfilmentStatus(EMPTY);
+			ofNullable(customFulfilments.get(customTask.getId())).ifPresent(fulfilment -> decorateWithFulfilment(task, fulfilment));
+			addToPhase(phases, customTask.getPhase(), task);
+		});
+
+		final var delta = toEmployeeChecklistDelta(employeeChecklist, since, until);
+		delta.setDelegatedTo(employeeChecklistIntegration.fetchDelegateEmails(employeeChecklistId));
+		delta.setPhases(phases.values().stream()
+			.sorted(comparing(EmployeeChecklistPhase::getSortOrder))
+			.collect(toCollection(ArrayList::new)));
+		delta.getPhases().forEach(phase -> phase.getTasks().sort(comparing(EmployeeChecklistTask::getSortOrder)));
+		delta.setRemovedTaskIds(employeeChecklistIntegration.fetchRemovedTaskIds(employeeChecklistId, since));
+
+		return delta;
+	}
+
+	private static void addToPhase(final Map<String, EmployeeChecklistPhase> phases, final PhaseEntity phase, final EmployeeChecklistTask task) {
+		phases.computeIfAbsent(phase.getId(), id -> toEmployeeChecklistPhase(phase, emptyList())).getTasks().add(task);
 	}
 
 	private EmployeeChecklist decorateWithDelegateInformation(final EmployeeChecklist employeeChecklist) {
@@ -162,6 +293,11 @@ public class EmployeeChecklistService {
 		return employeeChecklist;
 	}
 
+	private EmployeeChecklist decorateWithDelegateInformation(final EmployeeChecklist employeeChecklist, final Map<String, List<String>> delegateEmails) {
+		employeeChecklist.setDelegatedTo(delegateEmails.get(employeeChecklist.getId()));
+		return employeeChecklist;
+	}
+
 	private EmployeeChecklist removeManagerTasks(final EmployeeChecklist employeeChecklist) {
 		employeeChecklist.getPhases().forEach(ph -> ph.getTasks().removeIf(
 			task -> MANAGER_FOR_NEW_EMPLOYEE == task.getRoleType() || MANAGER_FOR_NEW_MANAGER == task.getRoleType()));
@@ -174,17 +310,24 @@ public class EmployeeChecklistService {
 		employeeChecklistIntegration.deleteEmployeeChecklist(municipalityId, employeeChecklistId);
 	}
 
+	@Transactional
 	public void setMentor(final String municipalityId, final String employeeChecklistId, final Mentor mentor) {
 		employeeChecklistIntegration.setMentor(municipalityId, employeeChecklistId, mentor);
+		changeFeed.publish(employeeChecklistId, MENTOR);
 	}
 
+	@Transactional
 	public void deleteMentor(final String municipalityId, final String employeeChecklistId) {
 		employeeChecklistIntegration.deleteMentor(municipalityId, employeeChecklistId);
+		changeFeed.publish(employeeChecklistId, MENTOR);
 	}
 
+	@Transactional
 	public CustomTask createCustomTask(final String municipalityId, final String employeeChecklistId, final String phaseId, final CustomTaskCreateRequest request) {
 		verifyUnlockedEmployeeChecklist(employeeChecklistIntegration.fetchEmployeeChecklist(municipalityId, employeeChecklistId));
-		return toCustomTask(employeeChecklistIntegration.createCustomTask(municipalityId, employeeChecklistId, phaseId, request));
+		final var customTask = toCustomTask(employeeChecklistIntegration.createCustomTask(municipalityId, employeeChecklistId, phaseId, request));
+		changeFeed.publish(employeeChecklistId, CUSTOM_TASK);
+		return customTask;
 	}
 
 	public CustomTask readCustomTask(final String municipalityId, final String employeeChecklistId, final String taskId) {
@@ -195,6 +338,7 @@ public class EmployeeChecklistService {
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, CUSTOM_TASK_NOT_FOUND.formatted(employeeChecklistId, taskId)));
 	}
 
+	@Transactional
 	public CustomTask updateCustomTask(final String municipalityId, final String employeeChecklistId, final String taskId, final CustomTaskUpdateRequest request) {
 		final var entity = customTaskRepository.findById(taskId)
 			.filter(customTask -> Objects.equals(employeeChecklistId, customTask.getEmployeeChecklist().getId()))
@@ -204,6 +348,7 @@ public class EmployeeChecklistService {
 		verifyUnlockedEmployeeChecklist(entity.getEmployeeChecklist());
 		updateCustomTaskEntity(entity, request);
 		customTaskRepository.save(entity);
+		changeFeed.publish(employeeChecklistId, CUSTOM_TASK);
 
 		return toCustomTask(entity);
 	}
@@ -216,15 +361,20 @@ public class EmployeeChecklistService {
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, CUSTOM_TASK_NOT_FOUND.formatted(employeeChecklistId, taskId)));
 
 		verifyUnlockedEmployeeChecklist(entity.getEmployeeChecklist());
+		employeeChecklistIntegration.removeCustomTaskFromCompletionCounters(taskId); // Must be done while the fulfilment for the custom task is present
 		entity.getEmployeeChecklist().getCustomFulfilments()
 			.removeIf(fulfilment -> Objects.equals(fulfilment.getCustomTask().getId(), taskId)); // Remove fulfilment for custom task if present
 
-		// Remove custom task from checklist
+		// Remove custom task from checklist and leave a tombstone for clients that fetch changes of the checklist
 		customTaskRepository.delete(entity);
+		employeeChecklistIntegration.addTombstone(employeeChecklistId, taskId);
+		changeFeed.publish(employeeChecklistId, CUSTOM_TASK);
 	}
 
+	@Transactional
 	public EmployeeChecklistPhase updateAllTasksInPhase(final String municipalityId, final String employeeChecklistId, final String phaseId, final EmployeeChecklistPhaseUpdateRequest request) {
 		final var employeeChecklist = employeeChecklistIntegration.updateAllFulfilmentForAllTasksInPhase(municipalityId, employeeChecklistId, phaseId, request);
+		changeFeed.publish(employeeChecklistId, FULFILMENT);
 
 		return allTasksAsStream(employeeChecklist)
 			.filter(task -> Objects.equals(task.getPhase().getId(), phaseId))
@@ -248,35 +398,71 @@ public class EmployeeChecklistService {
 			.toList();
 	}
 
+	/**
+	 * Updates the fulfilment of a common or custom task in the employee checklist. The employee checklist is not loaded,
+	 * instead ownership and lock state are verified by a narrow query and only the affected fulfilment row is upserted.
+	 */
+	@Transactional
 	public EmployeeChecklistTask updateTaskFulfilment(final String municipalityId, final String employeeChecklistId, final String taskId, final EmployeeChecklistTaskUpdateRequest request) {
-		final var employeeChecklist = employeeChecklistIntegration.fetchEmployeeChecklist(municipalityId, employeeChecklistId);
-		verifyUnlockedEmployeeChecklist(employeeChecklist);
-
-		if (calculateTaskType(employeeChecklist, taskId) == TaskType.COMMON) {
-			final var fulfilment = employeeChecklistIntegration.updateCommonTaskFulfilment(municipalityId, employeeChecklistId, taskId, request);
-			return findTask(taskId, employeeChecklist)
-				.map(EmployeeChecklistMapper::toEmployeeChecklistTask)
-				.map(employeeChecklistTask -> decorateWithFulfilment(employeeChecklistTask, fulfilment))
-				.orElse(null); // This will never happen as the task is verified to exist in the calculateTaskType method
-
+		employeeChecklistIntegration.verifyEmployeeChecklistIsUnlocked(municipalityId, employeeChecklistId);
+		// Written within the transaction, hence the change never reaches the feed if the update fails
+		changeFeed.publish(employeeChecklistId, FULFILMENT);
+
+		final var task = employeeChecklistIntegration.fetchCommonTask(employeeChecklistId, taskId);
+		if (task.isPresent()) {
+			final var fulfilment = employeeChecklistIntegration.updateCommonTaskFulfilment(employeeChecklistId, task.get(), request);
+			return decorateWithFulfilment(toEmployeeChecklistTask(task.get()), fulfilment);
 		}
-		final var fulfilment = employeeChecklistIntegration.updateCustomTaskFulfilment(municipalityId, employeeChecklistId, taskId, request);
-		return findCustomTask(taskId, employeeChecklist.getCustomTasks())
-			.map(EmployeeChecklistMapper::toEmployeeChecklistTask)
-			.map(employeeChecklistTask -> decorateWithFulfilment(employeeChecklistTask, fulfilment))
-			.orElse(null); // This will never happen as the custom task is verified to exist in the calculateTaskType method
-	}
 
-	private Optional<TaskEntity> findTask(final String taskId, final EmployeeChecklistEntity employeeChecklistEntity) {
-		return allTasksAsStream(employeeChecklistEntity)
-			.filter(task -> Objects.equals(task.getId(), taskId))
-			.findAny();
+		final var customTask = employeeChecklistIntegration.fetchCustomTask(employeeChecklistId, taskId)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, TASK_NOT_FOUND.formatted(taskId, employeeChecklistId)));
+		final var fulfilment = employeeChecklistIntegration.updateCustomTaskFulfilment(employeeChecklistId, customTask, request);
+		return decorateWithFulfilment(toEmployeeChecklistTask(customTask), fulfilment);
 	}
 
-	private Optional<CustomTaskEntity> findCustomTask(final String taskId, final List<CustomTaskEntity> tasks) {
-		return ofNullable(tasks).orElse(emptyList()).stream()
-			.filter(task -> Objects.equals(task.getId(), taskId))
-			.findAny();
+	/**
+	 * Updates the fulfilment of several common and custom tasks, that can belong to different employee checklists. The
+	 * updates are grouped per employee checklist and each group is applied in a transaction of its own, so a group that
+	 * fails (for example as the employee checklist is locked or the database rejects the update) does not affect the
+	 * outcome of the other groups, instead the failure is reported in the results for the tasks of that group. If the same
+	 * task occurs more than once for an employee checklist, the last occurrence is the one that is applied.
+	 *
+	 * @param  municipalityId the id of the municipality where the employee checklists belong
+	 * @param  request        the fulfilment updates to perform
+	 * @return                a response with the outcome for each update, in the same order as in the request
+	 */
+	public EmployeeChecklistTaskBatchUpdateResponse updateTaskFulfilments(final String municipalityId, final EmployeeChecklistTaskBatchUpdateRequest request) {
+		final var results = new IdentityHashMap<TaskFulfilment, Result>();
+
+		request.getTaskFulfilments().stream()
+			.collect(groupingBy(TaskFulfilment::getEmployeeChecklistId, LinkedHashMap::new, toList()))
+			.forEach((employeeChecklistId, taskFulfilments) -> {
+				final var requests = taskFulfilments.stream()
+					.collect(toMap(TaskFulfilment::getTaskId, taskFulfilment -> toEmployeeChecklistTaskUpdateRequest(request.getUpdatedBy(), taskFulfilment), (first, second) -> second, LinkedHashMap::new));
+
+				try {
+					final var updatedTasks = transactionOperations.execute(status -> {
+						final var updated = employeeChecklistIntegration.updateTaskFulfilments(municipalityId, employeeChecklistId, requests);
+						changeFeed.publish(employeeChecklistId, FULFILMENT);
+						return updated;
+					});
+					taskFulfilments.forEach(taskFulfilment -> results.put(taskFulfilment, ofNullable(updatedTasks.get(taskFulfilment.getTaskId()))
+						.map(task -> toTaskBatchUpdateResult(taskFulfilment, OK, null, task))
+						.orElseGet(() -> toTaskBatchUpdateResult(taskFulfilment, NOT_FOUND, TASK_NOT_FOUND.formatted(taskFulfilment.getTaskId(), employeeChecklistId), null))));
+				} catch (final ThrowableProblem e) {
+					LOGGER.warn("Could not update task fulfilments in employee checklist with id {}: {}", sanitizeAndCompress(employeeChecklistId), e.getMessage());
+					taskFulfilments.forEach(taskFulfilment -> results.put(taskFulfilment, toTaskBatchUpdateResult(taskFulfilment, e.getStatus(), e.getMessage(), null)));
+				} catch (final RuntimeException e) {
+					LOGGER.error("Unexpected error when updating task fulfilments in employee checklist with id {}", sanitizeAndCompress(employeeChecklistId), e);
+					taskFulfilments.forEach(taskFulfilment -> results.put(taskFulfilment, toTaskBatchUpdateResult(taskFulfilment, INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR.getReasonPhrase() + ": " + e.getMessage(), null)));
+				}
+			});
+
+		return EmployeeChecklistTaskBatchUpdateResponse.builder()
+			.withResults(request.getTaskFulfilments().stream()
+				.map(results::get)
+				.toList())
+			.build();
 	}
 
 	public List<InitiationInformation> getInitiationInformation(final String municipalityId, final boolean onlyLatest, final boolean onlyErrors) {
@@ -311,29 +497,64 @@ public class EmployeeChecklistService {
 			return buildNoMatchResponse();
 		}
 
-		return processEmployees(municipalityId, employees, false);
+		return processEmployees(municipalityId, employees, false, InitiationProgressListener.NONE);
 	}
 
 	/**
-	 * Fetch new employees from employee integration and initiate checklists for them.
+	 * Fetch employees hired since the last successful import from employee integration and initiate checklists for them.
 	 */
 	public EmployeeChecklistResponse initiateEmployeeChecklists(final String municipalityId) {
-		final var defaultHireDate = LocalDate.now(systemDefault()).minusDays(30);
+		return initiateEmployeeChecklists(municipalityId, false);
+	}
+
+	/**
+	 * Fetch new employees from employee integration and initiate checklists for them. Unless a full resync is requested,
+	 * only employees hired since the last successful import (minus a safety overlap) are fetched.
+	 */
+	public EmployeeChecklistResponse initiateEmployeeChecklists(final String municipalityId, final boolean fullResync) {
+		return initiateEmployeeChecklists(municipalityId, fullResync, InitiationProgressListener.NONE);
+	}
+
+	/**
+	 * Fetch new employees from employee integration and initiate checklists for them, reporting progress to the provided
+	 * listener.
+	 */
+	public EmployeeChecklistResponse initiateEmployeeChecklists(final String municipalityId, final boolean fullResync, final InitiationProgressListener progressListener) {
+		final var importDate = employeeImportWatermark.today();
+		final var hireDateFrom = employeeImportWatermark.getHireDateFrom(municipalityId, fullResync);
 		if (LOGGER.isInfoEnabled()) {
-			LOGGER.info("Fetching new employees by municipalityId: {} and hireDateFrom: {}", sanitizeAndCompress(municipalityId), defaultHireDate);
+			LOGGER.info("Fetching new employees by municipalityId: {} and hireDateFrom: {}", sanitizeAndCompress(municipalityId), hireDateFrom);
 		}
 
-		final var employees = employeeIntegration.getNewEmployees(municipalityId, defaultHireDate);
+		final var employees = employeeIntegration.getNewEmployees(municipalityId, hireDateFrom);
+		progressListener.employeesFound(isEmpty(employees) ? 0 : employees.size());
 		if (isEmpty(employees)) {
+			// The watermark is not advanced as an empty result is also returned when the employee integration fails
 			return buildNoMatchResponse();
 		}
 
-		return processEmployees(municipalityId, employees, true);
+		final var employeeChecklistResponse = processEmployees(municipalityId, employees, true, progressListener);
+		if (isCompleteImport(employeeChecklistResponse)) {
+			employeeImportWatermark.advance(municipalityId, importDate);
+		}
+
+		return employeeChecklistResponse;
 	}
 
-	private EmployeeChecklistResponse processEmployees(final String municipalityId, final List<Employee> employees, final boolean verifyValidEmployment) {
+	/**
+	 * An import is complete when all employees either has been processed successfully or has been rejected due to
+	 * employment not being valid for a checklist. Other errors might be resolved by a later import (for example when a
+	 * checklist is created for the employee's organization) and must therefore be included in the next import.
+	 */
+	private static boolean isCompleteImport(final EmployeeChecklistResponse employeeChecklistResponse) {
+		return employeeChecklistResponse.getDetails().stream()
+			.map(Detail::getStatus)
+			.allMatch(status -> OK.isSameCodeAs(status) || NOT_ACCEPTABLE.isSameCodeAs(status));
+	}
+
+	private EmployeeChecklistResponse processEmployees(final String municipalityId, final List<Employee> employees, final boolean verifyValidEmployment, final InitiationProgressListener progressListener) {
 		LOGGER.info("Found {} employees, creating checklists for these employees", employees.size());
-		final var employeeChecklistResponse = createEmployeeChecklist(municipalityId, employees, verifyValidEmployment);
+		final var employeeChecklistResponse = createEmployeeChecklist(municipalityId, employees, verifyValidEmployment, progressListener);
 		final var errors = ofNullable(employeeChecklistResponse.getDetails()).orElse(emptyList())
 			.stream()
 			.filter(detail -> notEqual(OK, detail.getStatus()))
@@ -348,55 +569,129 @@ public class EmployeeChecklistService {
 		return employeeChecklistResponse;
 	}
 
-	private EmployeeChecklistResponse createEmployeeChecklist(final String municipalityId, final List<Employee> employees, final boolean verifyValidEmployment) {
+	private EmployeeChecklistResponse createEmployeeChecklist(final String municipalityId, final List<Employee> employees, final boolean verifyValidEmployment, final InitiationProgressListener progressListener) {
 		final var employeeChecklistResponse = new EmployeeChecklistResponse();
+		final var identityMap = new BatchIdentityMap();
 
-		employees.forEach(employee -> {
-			final var personId = employee.getPersonId();
-			LOGGER.debug("Starting to create checklist for employee: {}", personId);
-			try {
-				// Verify that the employee contains all mandatory information needed to create an employee checklist
-				verifyMandatoryInformation(employee);
-				if (verifyValidEmployment) {
-					// Verify that the employment is valid for creating an employee checklist (this is only done
-					// for automatic import of new employees, not when manually importing a specific employee)
-					LOGGER.debug("Validating employee with personId: {}", personId);
-					verifyValidEmployment(employee);
-				} else {
-					LOGGER.debug("Bypassing validation of employee with personId: {}", personId);
-				}
+		if (initiationParallelism > 1 && employees.size() > 1) {
+			employeeChecklistResponse.getDetails().addAll(createEmployeeChecklistsInParallel(municipalityId, employees, verifyValidEmployment, identityMap, progressListener));
+		} else {
+			employees.forEach(employee -> employeeChecklistResponse.getDetails().add(createEmployeeChecklist(municipalityId, employee, verifyValidEmployment, identityMap, progressListener)));
+		}
 
-				final var portalPersonData = employeeIntegration.getEmployeeByEmail(municipalityId, employee.getEmailAddress())
-					.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ORGANIZATIONAL_STRUCTURE_DATA_NOT_FOUND.formatted(employee.getLoginname())));
-
-				// Calculate an employee org tree from person data information (which does not include the root organization)
-				final var employeeOrgTree = OrganizationTree.map(portalPersonData.getOrgTree());
-
-				// We need to find the root organization connected to the top level in the employees org tree via mdviewer
-				final var organizations = companyIntegration.getOrganizationsForCompany(municipalityId, portalPersonData.getCompanyId());
-				organizations.stream()
-					.filter(organization -> organization.getOrgId() == Integer.parseInt(employeeOrgTree.getTree().firstEntry().getValue().getOrgId()))
-					.map(Organization::getParentId)
-					.filter(Objects::nonNull)
-					.map(orgId -> organizations.stream().filter(parent -> parent.getOrgId().equals(orgId)).findFirst().orElse(null))
-					.map(parent -> OrganizationLine.builder().withLevel(parent.getTreeLevel()).withOrgId(String.valueOf(parent.getOrgId())).withOrgName(parent.getOrgName()).build())
-					.findAny()
-					.ifPresent(employeeOrgTree::addOrg);
-
-				// Initiate employee checklist
-				final var result = employeeChecklistIntegration.initiateEmployee(municipalityId, employee, employeeOrgTree);
-				employeeChecklistResponse.getDetails().add(toDetail(OK, result));
-				LOGGER.debug("Finished creating checklist for employee: {}", personId);
-			} catch (final ThrowableProblem e) {
-				LOGGER.warn("Could not create checklist for employee with personId {}: {}", personId, e.getMessage());
-				employeeChecklistResponse.getDetails().add(toDetail(e.getStatus(), e.getMessage()));
-			} catch (final Exception e) {
-				LOGGER.error("Exception occurred when creating employee checklist", e);
-				employeeChecklistResponse.getDetails().add(toDetail(INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR.getReasonPhrase() + ": " + e.getMessage()));
+		return employeeChecklistResponse;
+	}
+
+	/**
+	 * Initiates checklists for the employees on virtual threads, with at most the configured number of employees being
+	 * processed at the same time. Managers and organizations shared by several employees are created up front, as the
+	 * employees would otherwise race to create them. Each employee is initiated in a transaction of its own and the
+	 * details are returned in the same order as the provided employees.
+	 */
+	private List<Detail> createEmployeeChecklistsInParallel(final String municipalityId, final List<Employee> employees, final boolean verifyValidEmployment, final BatchIdentityMap identityMap, final InitiationProgressListener progressListener) {
+		createSharedEntities(municipalityId, employees, verifyValidEmployment, identityMap);
+
+		final var permits = new Semaphore(initiationParallelism);
+
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			final var futures = employees.stream()
+				.map(employee -> executor.submit(() -> {
+					permits.acquire();
+					try {
+						return createEmployeeChecklist(municipalityId, employee, verifyValidEmployment, identityMap, progressListener);
+					} finally {
+						permits.release();
+					}
+				}))
+				.toList();
+
+			return futures.stream()
+				.map(EmployeeChecklistService::getDetail)
+				.toList();
+		}
+	}
+
+	private void createSharedEntities(final String municipalityId, final List<Employee> employees, final boolean verifyValidEmployment, final BatchIdentityMap identityMap) {
+		final var verifiedEmployees = employees.stream()
+			.filter(employee -> isVerified(employee, verifyValidEmployment))
+			.toList();
+
+		try {
+			employeeChecklistIntegration.createSharedEntities(municipalityId, verifiedEmployees, identityMap);
+		} catch (final Exception e) {
+			// Not fatal, each employee will find or create its manager and organizations when being initiated
+			LOGGER.warn("Could not create shared managers and organizations before initiating employees", e);
+		}
+	}
+
+	private static boolean isVerified(final Employee employee, final boolean verifyValidEmployment) {
+		try {
+			verifyMandatoryInformation(employee);
+			if (verifyValidEmployment) {
+				verifyValidEmployment(employee);
 			}
-		});
+			return true;
+		} catch (final ThrowableProblem e) {
+			return false;
+		}
+	}
 
-		return employeeChecklistResponse;
+	private static Detail getDetail(final Future<Detail> future) {
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return toDetail(INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR.getReasonPhrase() + ": " + e.getMessage());
+		} catch (final ExecutionException e) {
+			LOGGER.error("Exception occurred when creating employee checklist", e.getCause());
+			return toDetail(INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR.getReasonPhrase() + ": " + e.getCause().getMessage());
+		}
+	}
+
+	private Detail createEmployeeChecklist(final String municipalityId, final Employee employee, final boolean verifyValidEmployment, final BatchIdentityMap identityMap, final InitiationProgressListener progressListener) {
+		final var detail = createEmployeeChecklist(municipalityId, employee, verifyValidEmployment, identityMap);
+		progressListener.employeeProcessed(detail);
+		return detail;
+	}
+
+	private Detail createEmployeeChecklist(final String municipalityId, final Employee employee, final boolean verifyValidEmployment, final BatchIdentityMap identityMap) {
+		final var personId = employee.getPersonId();
+		LOGGER.debug("Starting to create checklist for employee: {}", personId);
+		try {
+			// Verify that the employee contains all mandatory information needed to create an employee checklist
+			verifyMandatoryInformation(employee);
+			if (verifyValidEmployment) {
+				// Verify that the employment is valid for creating an employee checklist (this is only done
+				// for automatic import of new employees, not when manually importing a specific employee)
+				LOGGER.debug("Validating employee with personId: {}", personId);
+				verifyValidEmployment(employee);
+			} else {
+				LOGGER.debug("Bypassing validation of employee with personId: {}", personId);
+			}
+
+			final var portalPersonData = employeeIntegration.getEmployeeByEmail(municipalityId, employee.getEmailAddress())
+				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ORGANIZATIONAL_STRUCTURE_DATA_NOT_FOUND.formatted(employee.getLoginname())));
+
+			// Calculate an employee org tree from person data information (which does not include the root organization)
+			final var employeeOrgTree = OrganizationTree.map(portalPersonData.getOrgTree());
+
+			// We need to find the root organization connected to the top level in the employees org tree via mdviewer
+			organizationIndexProvider.getIndex(municipalityId)
+				.getParent(Integer.parseInt(employeeOrgTree.getTree().firstEntry().getValue().getOrgId()))
+				.map(parent -> OrganizationLine.builder().withLevel(parent.getTreeLevel()).withOrgId(String.valueOf(parent.getOrgId())).withOrgName(parent.getOrgName()).build())
+				.ifPresent(employeeOrgTree::addOrg);
+
+			// Initiate employee checklist
+			final var result = employeeChecklistIntegration.initiateEmployee(municipalityId, employee, employeeOrgTree, identityMap);
+			LOGGER.debug("Finished creating checklist for employee: {}", personId);
+			return toDetail(OK, result);
+		} catch (final ThrowableProblem e) {
+			LOGGER.warn("Could not create checklist for employee with personId {}: {}", personId, e.getMessage());
+			return toDetail(e.getStatus(), e.getMessage());
+		} catch (final Exception e) {
+			LOGGER.error("Exception occurred when creating employee checklist", e);
+			return toDetail(INTERNAL_SERVER_ERROR, INTERNAL_SERVER_ERROR.getReasonPhrase() + ": " + e.getMessage());
+		}
 	}
 
 	private EmployeeChecklistResponse buildNoMatchResponse() {
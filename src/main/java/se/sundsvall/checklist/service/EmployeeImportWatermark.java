@@ -0,0 +1,83 @@
+package se.sundsvall.checklist.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.checklist.integration.db.model.EmployeeImportWatermarkEntity;
+import se.sundsvall.checklist.integration.db.repository.EmployeeImportWatermarkRepository;
+
+/**
+ * Keeps track of the point in time (per municipality) where the last successful import of new employees was executed,
+ * which is used to only request employees hired since then (with a safety overlap) instead of all employees hired
+ * within the full lookback period.
+ */
+@Component
+public class EmployeeImportWatermark {
+
+	private final EmployeeImportWatermarkRepository repository;
+	private final Period lookback;
+	private final Period overlap;
+	private final Clock clock;
+
+	public EmployeeImportWatermark(
+		final EmployeeImportWatermarkRepository repository,
+		@Value("${checklist.new-employees.lookback:P30D}") final Period lookback,
+		@Value("${checklist.new-employees.overlap:P7D}") final Period overlap) {
+
+		this(repository, lookback, overlap, Clock.systemDefaultZone());
+	}
+
+	EmployeeImportWatermark(final EmployeeImportWatermarkRepository repository, final Period lookback, final Period overlap, final Clock clock) {
+		this.repository = repository;
+		this.lookback = lookback;
+		this.overlap = overlap;
+		this.clock = clock;
+	}
+
+	/**
+	 * Calculates the hire date to fetch new employees from. When a full resync is requested, or no successful import has
+	 * been made, the full lookback period is used. Otherwise the date of the last successful import minus the overlap is
+	 * used (but never earlier than the full lookback period).
+	 *
+	 * @param  municipalityId the municipality to calculate the hire date for
+	 * @param  fullResync     true to ignore the last successful import and use the full lookback period
+	 * @return                the hire date to fetch new employees from
+	 */
+	public LocalDate getHireDateFrom(final String municipalityId, final boolean fullResync) {
+		final var fullLookback = today().minus(lookback);
+		if (fullResync) {
+			return fullLookback;
+		}
+
+		return repository.findById(municipalityId)
+			.map(EmployeeImportWatermarkEntity::getLastSuccessfulImport)
+			.map(lastSuccessfulImport -> lastSuccessfulImport.minus(overlap))
+			.filter(hireDateFrom -> hireDateFrom.isAfter(fullLookback))
+			.orElse(fullLookback);
+	}
+
+	/**
+	 * Stores the date when the import started as the last successful import for the municipality.
+	 *
+	 * @param municipalityId the municipality to update
+	 * @param importDate     the date when the successful import started
+	 */
+	@Transactional
+	public void advance(final String municipalityId, final LocalDate importDate) {
+		final var entity = repository.findById(municipalityId)
+			.orElseGet(() -> EmployeeImportWatermarkEntity.builder().withMunicipalityId(municipalityId).build());
+
+		entity.setLastSuccessfulImport(importDate);
+		repository.save(entity);
+	}
+
+	/**
+	 * @return current date
+	 */
+	public LocalDate today() {
+		return LocalDate.now(clock);
+	}
+}
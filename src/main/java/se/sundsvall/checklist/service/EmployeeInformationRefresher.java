@@ -0,0 +1,116 @@
+package se.sundsvall.checklist.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.integration.db.EmployeeChecklistIntegration;
+import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
+import se.sundsvall.checklist.integration.employee.EmployeeIntegration;
+
+import static java.time.ZoneId.systemDefault;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static se.sundsvall.checklist.service.util.StringUtils.sanitizeAndCompress;
+
+/**
+ * Component for refreshing outdated employee information in the background. Read operations return the persisted
+ * information directly and outdated employees are queued for refresh, where all outdated employees found in one read
+ * are handled as one batch. An employee that is already queued (or under refresh) is not queued again until the
+ * ongoing refresh has finished.
+ */
+@Component
+public class EmployeeInformationRefresher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeInformationRefresher.class);
+
+	private final EmployeeIntegration employeeIntegration;
+	private final EmployeeChecklistIntegration employeeChecklistIntegration;
+	private final Duration employeeInformationUpdateInterval;
+	private final ExecutorService executor;
+	private final Set<String> pendingEmployeeIds = ConcurrentHashMap.newKeySet();
+
+	public EmployeeInformationRefresher(
+		final EmployeeIntegration employeeIntegration,
+		final EmployeeChecklistIntegration employeeChecklistIntegration,
+		@Value("${checklist.employee-update-interval}") final Duration employeeInformationUpdateInterval,
+		@Value("${checklist.employee-refresh.threads:2}") final int threads,
+		@Value("${checklist.employee-refresh.queue-capacity:50}") final int queueCapacity) {
+
+		this.employeeIntegration = employeeIntegration;
+		this.employeeChecklistIntegration = employeeChecklistIntegration;
+		this.employeeInformationUpdateInterval = employeeInformationUpdateInterval;
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity));
+	}
+
+	/**
+	 * Queues refresh of the employees in the provided collection that has information older than the configured update
+	 * interval. The method returns immediately and the refresh is executed in the background.
+	 *
+	 * @param municipalityId the id of the municipality where the employees belong
+	 * @param employees      the employees to evaluate
+	 */
+	public void refreshOutdated(final String municipalityId, final Collection<EmployeeEntity> employees) {
+		final var employeeIds = ofNullable(employees).orElse(List.of()).stream()
+			.filter(Objects::nonNull)
+			.filter(this::isOutdated)
+			.map(EmployeeEntity::getId)
+			.distinct()
+			.filter(pendingEmployeeIds::add) // Only queue employees that are not already queued for refresh
+			.toList();
+
+		if (employeeIds.isEmpty()) {
+			return;
+		}
+
+		try {
+			executor.execute(() -> refresh(municipalityId, employeeIds));
+		} catch (final RejectedExecutionException e) {
+			// Queue is full, release the employees so that they can be queued by a later read
+			LOGGER.warn("Refresh queue is full, skipping refresh of {} employee(s) for now", employeeIds.size());
+			employeeIds.forEach(pendingEmployeeIds::remove);
+		}
+	}
+
+	/**
+	 * @return point in time that employee information updated before is considered outdated
+	 */
+	public OffsetDateTime outdatedBefore() {
+		return OffsetDateTime.now(systemDefault()).minus(employeeInformationUpdateInterval);
+	}
+
+	boolean isOutdated(final EmployeeEntity employee) {
+		return ofNullable(employee.getUpdated()).orElse(OffsetDateTime.MIN).isBefore(outdatedBefore());
+	}
+
+	private void refresh(final String municipalityId, final List<String> employeeIds) {
+		employeeIds.forEach(employeeId -> {
+			try {
+				employeeIntegration.getEmployeeInformation(municipalityId, employeeId).stream()
+					.findFirst()
+					.ifPresent(employee -> employeeChecklistIntegration.updateEmployeeInformation(employeeId, employee));
+			} catch (final Exception e) {
+				LOGGER.warn("Failed to refresh information for employee with id {}", sanitizeAndCompress(employeeId), e);
+			} finally {
+				pendingEmployeeIds.remove(employeeId);
+			}
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -23,13 +23,21 @@ public class EventService {
 
 	private final EventlogIntegration eventlogIntegration;
 
-	public EventService(EventlogIntegration eventlogIntegration) {
+	private final EventlogPublisher eventlogPublisher;
+
+	public EventService(EventlogIntegration eventlogIntegration, EventlogPublisher eventlogPublisher) {
 		this.eventlogIntegration = eventlogIntegration;
+		this.eventlogPublisher = eventlogPublisher;
 	}
 
+	/**
+	 * Creates an event for the checklist. The event is sent to Eventlog asynchronously after the current transaction has
+	 * been committed, hence the caller is not held up by Eventlog (and no event is created if the transaction is rolled
+	 * back).
+	 */
 	public void createChecklistEvent(final EventType eventType, final String message, final ChecklistEntity checklistEntity, final String userId) {
 		final var event = toEvent(eventType, message, checklistEntity, userId);
-		eventlogIntegration.createEvent(event);
+		eventlogPublisher.publish(event);
 	}
 
 	public PageEvent getChecklistEvents(final String municipalityId, final String checklistId, final Pageable pageable) {
@@ -0,0 +1,154 @@
+package se.sundsvall.checklist.service;
+
+import generated.se.sundsvall.eventlog.Event;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import se.sundsvall.checklist.integration.eventlog.EventlogIntegration;
+
+import static se.sundsvall.checklist.service.util.StringUtils.sanitizeAndCompress;
+
+/**
+ * Publishes events to Eventlog asynchronously. Events published within a transaction are queued when (and only if) the
+ * transaction commits, events published outside of a transaction are queued directly. A background sender drains the
+ * bounded queue in batches and retries failed events with a linear backoff. Events that can not be queued (as the queue
+ * is full) or that still fail when all attempts have been made are dropped and counted.
+ */
+@Component
+public class EventlogPublisher {
+
+	static final String DROPPED_EVENTS_METRIC = "checklist.eventlog.events.dropped";
+	static final String QUEUE_SIZE_METRIC = "checklist.eventlog.queue.size";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EventlogPublisher.class);
+
+	private final EventlogIntegration eventlogIntegration;
+	private final BlockingQueue<Event> queue;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration retryBackoff;
+	private final Counter droppedWhenQueueFull;
+	private final Counter droppedWhenSendFailed;
+	private final ExecutorService sender = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("eventlog-publisher").factory());
+
+	public EventlogPublisher(
+		final EventlogIntegration eventlogIntegration,
+		final MeterRegistry meterRegistry,
+		@Value("${checklist.eventlog.queue-capacity:1000}") final int queueCapacity,
+		@Value("${checklist.eventlog.batch-size:50}") final int batchSize,
+		@Value("${checklist.eventlog.max-attempts:3}") final int maxAttempts,
+		@Value("${checklist.eventlog.retry-backoff:PT1S}") final Duration retryBackoff) {
+
+		this.eventlogIntegration = eventlogIntegration;
+		this.queue = new LinkedBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.retryBackoff = retryBackoff;
+		this.droppedWhenQueueFull = droppedEventsCounter(meterRegistry, "queue_full");
+		this.droppedWhenSendFailed = droppedEventsCounter(meterRegistry, "send_failed");
+		Gauge.builder(QUEUE_SIZE_METRIC, queue, BlockingQueue::size)
+			.description("Number of events waiting to be sent to Eventlog")
+			.register(meterRegistry);
+
+		sender.execute(this::sendQueuedEvents);
+	}
+
+	/**
+	 * Publishes the event after commit of the current transaction, or directly if no transaction is active.
+	 *
+	 * @param event the event to publish
+	 */
+	public void publish(final Event event) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(event);
+				}
+			});
+		} else {
+			enqueue(event);
+		}
+	}
+
+	private void enqueue(final Event event) {
+		if (!queue.offer(event)) {
+			LOGGER.warn("Eventlog queue is full, dropping event for checklist: {}", sanitizeAndCompress(event.getLogKey()));
+			droppedWhenQueueFull.increment();
+		}
+	}
+
+	private void sendQueuedEvents() {
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				final var batch = new ArrayList<Event>(batchSize);
+				batch.add(queue.take());
+				queue.drainTo(batch, batchSize - 1);
+				send(batch);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void send(final List<Event> batch) throws InterruptedException {
+		for (var i = 0; i < batch.size(); i++) {
+			try {
+				send(batch.get(i));
+			} catch (final InterruptedException e) {
+				// Put unsent events back in the queue, making them part of the final attempt on shutdown
+				batch.subList(i, batch.size()).forEach(this::enqueue);
+				throw e;
+			}
+		}
+	}
+
+	private void send(final Event event) throws InterruptedException {
+		var attempt = 1;
+		while (!eventlogIntegration.createEvent(event)) {
+			if (attempt >= maxAttempts) {
+				LOGGER.warn("Dropping event for checklist: {} after {} attempt(s)", sanitizeAndCompress(event.getLogKey()), attempt);
+				droppedWhenSendFailed.increment();
+				return;
+			}
+			Thread.sleep(retryBackoff.multipliedBy(attempt++));
+		}
+	}
+
+	/**
+	 * Stops the background sender and makes a final attempt to send the events that remain in the queue.
+	 */
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		sender.shutdownNow();
+		sender.awaitTermination(5, TimeUnit.SECONDS);
+
+		final var remaining = new ArrayList<Event>();
+		queue.drainTo(remaining);
+		remaining.stream()
+			.filter(event -> !eventlogIntegration.createEvent(event))
+			.forEach(event -> droppedWhenSendFailed.increment());
+	}
+
+	private static Counter droppedEventsCounter(final MeterRegistry meterRegistry, final String reason) {
+		return Counter.builder(DROPPED_EVENTS_METRIC)
+			.description("Number of events that could not be sent to Eventlog")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,215 @@
+package se.sundsvall.checklist.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import se.sundsvall.checklist.api.model.EmployeeChecklistResponse.Detail;
+import se.sundsvall.checklist.api.model.InitiationJob;
+import se.sundsvall.checklist.integration.db.model.InitiationJobEntity;
+import se.sundsvall.checklist.integration.db.repository.InitiationJobRepository;
+import se.sundsvall.checklist.integration.db.repository.InitiationRepository;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.dept44.requestid.RequestId;
+
+import static java.time.ZoneId.systemDefault;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.OK;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.COMPLETED;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.FAILED;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.RUNNING;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toInitiationJob;
+import static se.sundsvall.checklist.service.util.StringUtils.sanitizeAndCompress;
+
+/**
+ * Service for running initiation of checklists for new employees as background jobs. The job holds the same lock as
+ * the scheduled import of new employees while running, which means that at most one initiation is running at the same
+ * time within the cluster. Starting a job while another job is running for the same municipality returns the running
+ * job. Job state is persisted, making it readable from all instances, and is kept for the configured retention period
+ * after the job has finished, while the outcome for each employee is persisted as initiation information with the job
+ * id as log id.
+ * <p>
+ * As an initiation can run for longer than the lock is held, a running job sends a heartbeat at a third of the lock
+ * duration, extending the lock and recording the heartbeat on the job. A job still marked as running is only considered
+ * interrupted (for example by a restart) when its last heartbeat is older than the lock duration.
+ */
+@Service
+public class InitiationJobService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(InitiationJobService.class);
+
+	private static final String JOB_NOT_FOUND = "Initiation job with id %s was not found within municipality %s.";
+	private static final String INITIATION_ALREADY_RUNNING = "Initiation of new employees is already running, try again when it has finished.";
+	private static final String JOB_INTERRUPTED = "Initiation was interrupted before it finished";
+	private static final int SUMMARY_MAX_LENGTH = 2048;
+
+	private final EmployeeChecklistService employeeChecklistService;
+	private final InitiationJobRepository initiationJobRepository;
+	private final InitiationRepository initiationRepository;
+	private final LockProvider lockProvider;
+	private final String lockName;
+	private final Duration lockAtMostFor;
+	private final Duration retention;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("initiation-job-heartbeat").factory());
+
+	public InitiationJobService(
+		final EmployeeChecklistService employeeChecklistService,
+		final InitiationJobRepository initiationJobRepository,
+		final InitiationRepository initiationRepository,
+		final LockProvider lockProvider,
+		@Value("${checklist.new-employees.name}") final String lockName,
+		@Value("${checklist.initiation.jobs.lock-at-most-for:PT10M}") final Duration lockAtMostFor,
+		@Value("${checklist.initiation.jobs.retention:PT24H}") final Duration retention) {
+
+		this.employeeChecklistService = employeeChecklistService;
+		this.initiationJobRepository = initiationJobRepository;
+		this.initiationRepository = initiationRepository;
+		this.lockProvider = lockProvider;
+		this.lockName = lockName;
+		this.lockAtMostFor = lockAtMostFor;
+		this.retention = retention;
+	}
+
+	/**
+	 * Starts a job initiating checklists for new employees in the municipality, or returns the job currently running for
+	 * the municipality if such exists.
+	 *
+	 * @param  municipalityId   the id of the municipality to initiate checklists for
+	 * @param  fullResync       true to fetch new employees for the full lookback period
+	 * @return                  the started (or already running) job
+	 * @throws ThrowableProblem with status conflict if initiation is already running for another municipality or by the
+	 *                          scheduled import of new employees
+	 */
+	public InitiationJob startJob(final String municipalityId, final boolean fullResync) {
+		final var lock = lockProvider.lock(new LockConfiguration(Instant.now(), lockName, lockAtMostFor, Duration.ZERO));
+		if (lock.isEmpty()) {
+			return initiationJobRepository.findFirstByMunicipalityIdAndStatusOrderByStartedDesc(municipalityId, RUNNING.name())
+				.map(runningJob -> {
+					LOGGER.info("Initiation job {} is already running for municipality {}", runningJob.getId(), sanitizeAndCompress(municipalityId));
+					return toInitiationJob(runningJob, emptyList());
+				})
+				.orElseThrow(() -> Problem.valueOf(CONFLICT, INITIATION_ALREADY_RUNNING));
+		}
+
+		try {
+			final var now = OffsetDateTime.now(systemDefault());
+			// Jobs still marked as running without a heartbeat within the lock duration have lost their owner (by a restart)
+			initiationJobRepository.finishAllByStatusAndHeartbeatBefore(RUNNING.name(), now.minus(lockAtMostFor), FAILED.name(), JOB_INTERRUPTED, now);
+			initiationJobRepository.deleteAllByFinishedBefore(now.minus(retention));
+
+			final var job = initiationJobRepository.save(InitiationJobEntity.builder()
+				.withMunicipalityId(municipalityId)
+				.withStatus(RUNNING.name())
+				.build());
+
+			executor.execute(() -> run(job.getId(), municipalityId, fullResync, lock.get()));
+			return toInitiationJob(job, emptyList());
+		} catch (final RuntimeException e) {
+			lock.get().unlock();
+			throw e;
+		}
+	}
+
+	/**
+	 * @param  municipalityId the id of the municipality where the job belongs
+	 * @param  jobId          the id of the job
+	 * @return                current state of the job
+	 */
+	public InitiationJob getJob(final String municipalityId, final String jobId) {
+		final var job = initiationJobRepository.findByIdAndMunicipalityId(jobId, municipalityId)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, JOB_NOT_FOUND.formatted(jobId, municipalityId)));
+
+		return toInitiationJob(job, RUNNING.name().equals(job.getStatus()) ? emptyList() : initiationRepository.findAllByMunicipalityIdAndLogId(municipalityId, jobId));
+	}
+
+	private void run(final String jobId, final String municipalityId, final boolean fullResync, final SimpleLock lock) {
+		// Use the job id as request id, making it the log id of the persisted initiation information
+		RequestId.init(jobId);
+		final var heldLock = new AtomicReference<>(lock);
+		final var interval = lockAtMostFor.dividedBy(3).toMillis();
+		final var heartbeat = heartbeats.scheduleAtFixedRate(() -> keepAlive(jobId, heldLock), interval, interval, MILLISECONDS);
+		try {
+			final var response = employeeChecklistService.initiateEmployeeChecklists(municipalityId, fullResync, new ProgressListener(jobId));
+			initiationJobRepository.finish(jobId, COMPLETED.name(), abbreviate(response.getSummary(), SUMMARY_MAX_LENGTH), OffsetDateTime.now(systemDefault()));
+		} catch (final Exception e) {
+			LOGGER.error("Initiation job {} failed", jobId, e);
+			initiationJobRepository.finish(jobId, FAILED.name(), abbreviate("Initiation failed: %s".formatted(e.getMessage()), SUMMARY_MAX_LENGTH), OffsetDateTime.now(systemDefault()));
+		} finally {
+			heartbeat.cancel(false);
+			synchronized (heldLock) {
+				Optional.ofNullable(heldLock.getAndSet(null)).ifPresent(SimpleLock::unlock);
+			}
+			RequestId.reset();
+		}
+	}
+
+	private void keepAlive(final String jobId, final AtomicReference<SimpleLock> heldLock) {
+		try {
+			synchronized (heldLock) {
+				final var lock = heldLock.get();
+				if (lock == null) {
+					// The job has finished, or the lock was lost at a previous heartbeat
+					return;
+				}
+				// The extended lock replaces the previous one, which is no longer valid even when the extension fails
+				final var extendedLock = lock.extend(lockAtMostFor, Duration.ZERO);
+				heldLock.set(extendedLock.orElse(null));
+				if (extendedLock.isEmpty()) {
+					LOGGER.warn("Initiation job {} lost its lock, as it could not be extended", jobId);
+					return;
+				}
+			}
+			initiationJobRepository.heartbeat(jobId, OffsetDateTime.now(systemDefault()));
+		} catch (final RuntimeException e) {
+			// Catch everything, as an exception would stop further heartbeats
+			LOGGER.warn("Heartbeat of initiation job {} failed", jobId, e);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		heartbeats.shutdownNow();
+		executor.shutdown();
+	}
+
+	/**
+	 * Listener persisting the progress of a job, called by the thread running the job (and by parallel initiation
+	 * threads). Each call is persisted with a set based statement, making the listener thread safe.
+	 */
+	private final class ProgressListener implements InitiationProgressListener {
+
+		private final String jobId;
+
+		private ProgressListener(final String jobId) {
+			this.jobId = jobId;
+		}
+
+		@Override
+		public void employeesFound(final int total) {
+			initiationJobRepository.updateTotal(jobId, total);
+		}
+
+		@Override
+		public void employeeProcessed(final Detail detail) {
+			initiationJobRepository.incrementProcessed(jobId, OK.isSameCodeAs(detail.getStatus()) ? 0 : 1);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package se.sundsvall.checklist.service;
+
+import se.sundsvall.checklist.api.model.EmployeeChecklistResponse.Detail;
+
+/**
+ * Listener receiving progress information while checklists are initiated for new employees. When initiation is
+ * executed in parallel the listener is called from several threads, implementations must therefore be thread safe.
+ */
+public interface InitiationProgressListener {
+
+	/**
+	 * Listener that ignores all progress information.
+	 */
+	InitiationProgressListener NONE = new InitiationProgressListener() {};
+
+	/**
+	 * Called when the employees to process have been fetched, before any employee is processed.
+	 *
+	 * @param total number of employees that will be processed
+	 */
+	default void employeesFound(final int total) {}
+
+	/**
+	 * Called each time an employee has been processed, regardless of outcome.
+	 *
+	 * @param detail the outcome for the processed employee
+	 */
+	default void employeeProcessed(final Detail detail) {}
+}
@@ -0,0 +1,99 @@
+package se.sundsvall.checklist.service;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.integration.db.model.MailOutboxEntity;
+import se.sundsvall.checklist.integration.db.repository.MailOutboxRepository;
+import se.sundsvall.checklist.integration.messaging.MessagingIntegration;
+import se.sundsvall.checklist.integration.templating.TemplatingIntegration;
+
+import static java.time.ZoneId.systemDefault;
+
+/**
+ * Dispatches manager e-mails from the outbox. Rendering and sending is made outside of any database transaction, on
+ * virtual threads with at most the configured number of e-mails being dispatched at the same time.
+ */
+@Component
+public class MailDispatcher {
+	private static final Logger LOGGER = LoggerFactory.getLogger(MailDispatcher.class);
+
+	private final MailHandler mailHandler;
+
+	private final MailOutboxRepository mailOutboxRepository;
+
+	private final TemplatingIntegration templatingIntegration;
+
+	private final MessagingIntegration messagingIntegration;
+
+	private final int parallelism;
+
+	private final int batchSize;
+
+	public MailDispatcher(MailHandler mailHandler,
+		MailOutboxRepository mailOutboxRepository,
+		TemplatingIntegration templatingIntegration,
+		MessagingIntegration messagingIntegration,
+		@Value("${checklist.manager-email-dispatch.parallelism:10}") int parallelism,
+		@Value("${checklist.manager-email-dispatch.batch-size:500}") int batchSize) {
+
+		this.mailHandler = mailHandler;
+		this.mailOutboxRepository = mailOutboxRepository;
+		this.templatingIntegration = templatingIntegration;
+		this.messagingIntegration = messagingIntegration;
+		this.parallelism = parallelism;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Dispatches the e-mails in the outbox that are due, at most the configured batch size per call. E-mails that fail are
+	 * rescheduled and hence not dispatched again by the same call.
+	 *
+	 * @return the number of dispatched outbox entries
+	 */
+	public int dispatch() {
+		final var dueEntries = mailOutboxRepository.findByNextAttemptLessThanEqualOrderByNextAttempt(OffsetDateTime.now(systemDefault()), Limit.of(batchSize));
+		LOGGER.info("Found {} manager email(s) in outbox to dispatch", dueEntries.size());
+
+		final var permits = new Semaphore(parallelism);
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			dueEntries.forEach(outbox -> executor.execute(() -> {
+				try {
+					permits.acquire();
+					try {
+						dispatch(outbox);
+					} finally {
+						permits.release();
+					}
+				} catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (final Exception e) {
+					// Belt-and-braces policy to log unhandled exceptions and keep dispatching, the entry is retried by next dispatch
+					LOGGER.error("Error when dispatching manager email for employee checklist with id: {}", outbox.getEmployeeChecklistId(), e);
+				}
+			}));
+		}
+		return dueEntries.size();
+	}
+
+	/**
+	 * Renders and sends the e-mail for the outbox entry and registers the outcome.
+	 *
+	 * @param outbox the outbox entry to dispatch
+	 */
+	public void dispatch(MailOutboxEntity outbox) {
+		mailHandler.prepareEmail(outbox).ifPresent(preparedEmail -> {
+			LOGGER.info("Sending manager email for employee checklist with id: {}", outbox.getEmployeeChecklistId());
+
+			final var result = templatingIntegration.renderTemplate(outbox.getMunicipalityId(), preparedEmail.renderRequest())
+				.flatMap(renderedTemplate -> messagingIntegration.sendEmail(outbox.getMunicipalityId(), preparedEmail.recipient(), renderedTemplate.getOutput()));
+
+			mailHandler.registerResult(outbox, result.orElse(null));
+		});
+	}
+}
@@ -1,70 +1,167 @@
 package se.sundsvall.checklist.service;
 
+import generated.se.sundsvall.messaging.MessageResult;
+import generated.se.sundsvall.templating.RenderRequest;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
+import se.sundsvall.checklist.integration.db.model.MailOutboxEntity;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
-import se.sundsvall.checklist.integration.messaging.MessagingIntegration;
-import se.sundsvall.checklist.integration.templating.TemplatingIntegration;
+import se.sundsvall.checklist.integration.db.repository.MailOutboxRepository;
 
+import static java.time.ZoneId.systemDefault;
 import static se.sundsvall.checklist.integration.db.model.enums.CommunicationChannel.EMAIL;
 import static se.sundsvall.checklist.integration.db.model.enums.CorrespondenceStatus.ERROR;
+import static se.sundsvall.checklist.integration.db.model.enums.CorrespondenceStatus.NOT_SENT;
 import static se.sundsvall.checklist.integration.templating.TemplatingMapper.toRenderRequest;
 import static se.sundsvall.checklist.service.mapper.CorrespondenceMapper.toCorrespondenceEntity;
 import static se.sundsvall.checklist.service.mapper.CorrespondenceMapper.toCorrespondenceStatus;
 
+/**
+ * Handles the database side of manager e-mails. E-mails are written to an outbox in the same transaction that decides
+ * that they are due, and the outcome of each dispatch attempt (performed by {@link MailDispatcher} outside of any
+ * transaction) is registered on the correspondence of the employee checklist. Failed attempts are retried with
+ * exponential backoff until the maximum number of attempts has been reached. An entry is claimed before it is
+ * dispatched, which prevents the same e-mail from being sent by concurrent dispatches.
+ */
 @Component
 public class MailHandler {
 	private static final Logger LOGGER = LoggerFactory.getLogger(MailHandler.class);
 
-	private final MessagingIntegration messagingIntegration;
+	private final EmployeeChecklistRepository employeeChecklistRepository;
 
-	private final TemplatingIntegration templatingIntegration;
+	private final MailOutboxRepository mailOutboxRepository;
 
-	private final EmployeeChecklistRepository employeeChecklistRepository;
+	private final int maxAttempts;
+
+	private final Duration backoff;
 
-	public MailHandler(MessagingIntegration messagingIntegration,
-		TemplatingIntegration templatingIntegration,
-		EmployeeChecklistRepository employeeChecklistRepository) {
+	private final Duration claimTimeout;
+
+	public MailHandler(EmployeeChecklistRepository employeeChecklistRepository,
+		MailOutboxRepository mailOutboxRepository,
+		@Value("${checklist.manager-email-dispatch.max-attempts:5}") int maxAttempts,
+		@Value("${checklist.manager-email-dispatch.backoff:PT5M}") Duration backoff,
+		@Value("${checklist.manager-email-dispatch.claim-timeout:PT5M}") Duration claimTimeout) {
 
-		this.messagingIntegration = messagingIntegration;
 		this.employeeChecklistRepository = employeeChecklistRepository;
-		this.templatingIntegration = templatingIntegration;
+		this.mailOutboxRepository = mailOutboxRepository;
+		this.maxAttempts = maxAttempts;
+		this.backoff = backoff;
+		this.claimTimeout = claimTimeout;
 	}
 
+	/**
+	 * Writes an e-mail to the manager of the employee checklist to the outbox, unless the outbox already contains an
+	 * e-mail for the employee checklist.
+	 *
+	 * @param  entity        the employee checklist to send manager e-mail for
+	 * @param  emailTemplate identifier of the template to render the e-mail from
+	 * @return               the outbox entry for the employee checklist
+	 */
 	@Transactional
-	public void sendEmail(EmployeeChecklistEntity entity, String emailTemplate) {
-		LOGGER.info("Sending manager email for employee checklist with id: {}", entity.getId());
-
+	public MailOutboxEntity enqueueEmail(EmployeeChecklistEntity entity, String emailTemplate) {
 		Optional.ofNullable(entity.getCorrespondence()).ifPresentOrElse(c -> { // Update existing object to reflect that email is the last used channel for communication together with managers email
 			c.setCommunicationChannel(EMAIL);
 			c.setRecipient(entity.getEmployee().getManager().getEmail());
 		}, () -> entity.setCorrespondence(toCorrespondenceEntity(EMAIL, entity.getEmployee().getManager().getEmail()))); // Add correspondence object if it does not exist on entity
 
-		templatingIntegration.renderTemplate(entity.getChecklists().getFirst().getMunicipalityId(), toRenderRequest(entity.getEmployee(), emailTemplate))
-			.ifPresentOrElse(renderedTemplate -> sendManagerEmail(entity, renderedTemplate.getOutput()), () -> {
-				LOGGER.warn("Template rendering failed for employee checklist with id: {}, setting correspondence status to ERROR", entity.getId());
-				entity.getCorrespondence().setCorrespondenceStatus(ERROR);
-				entity.getCorrespondence().setAttempts(entity.getCorrespondence().getAttempts() + 1);
+		entity.getCorrespondence().setCorrespondenceStatus(NOT_SENT);
+		final var savedEntity = employeeChecklistRepository.save(entity);
+
+		return mailOutboxRepository.findByEmployeeChecklistId(savedEntity.getId())
+			.orElseGet(() -> {
+				LOGGER.info("Adding manager email for employee checklist with id: {} to outbox", savedEntity.getId());
+				return mailOutboxRepository.save(MailOutboxEntity.builder()
+					.withEmployeeChecklistId(savedEntity.getId())
+					.withMunicipalityId(savedEntity.getChecklists().getFirst().getMunicipalityId())
+					.withEmailTemplate(emailTemplate)
+					.build());
 			});
+	}
 
-		employeeChecklistRepository.save(entity);
+	/**
+	 * Claims the outbox entry and collects what is needed to dispatch its e-mail. The entry is claimed by moving its next
+	 * attempt forward with a conditional update, which only succeeds for one caller when the entry is dispatched
+	 * concurrently (for example by a direct send and the scheduled dispatch). If the claim fails, or if the employee
+	 * checklist no longer exists (in which case the outbox entry is removed), an empty optional is returned. A claimed
+	 * entry whose outcome is never registered is dispatched again when the claim has timed out.
+	 *
+	 * @param  outbox the outbox entry to prepare
+	 * @return        the recipient and render request for the e-mail, or an empty optional if there is nothing to send
+	 */
+	@Transactional
+	public Optional<PreparedEmail> prepareEmail(MailOutboxEntity outbox) {
+		final var now = OffsetDateTime.now(systemDefault());
+		if (mailOutboxRepository.claim(outbox.getId(), now, now.plus(claimTimeout)) == 0) {
+			LOGGER.info("Manager email for employee checklist with id: {} is not due or already being dispatched", outbox.getEmployeeChecklistId());
+			return Optional.empty();
+		}
+
+		final var preparedEmail = employeeChecklistRepository.findById(outbox.getEmployeeChecklistId())
+			.filter(entity -> entity.getCorrespondence() != null)
+			.map(entity -> new PreparedEmail(entity.getCorrespondence().getRecipient(), toRenderRequest(entity.getEmployee(), outbox.getEmailTemplate())));
+
+		if (preparedEmail.isEmpty()) {
+			LOGGER.warn("Employee checklist with id: {} no longer exists, removing manager email from outbox", outbox.getEmployeeChecklistId());
+			mailOutboxRepository.delete(outbox);
+		}
+		return preparedEmail;
 	}
 
-	private void sendManagerEmail(final EmployeeChecklistEntity entity, String renderedTemplate) {
-		messagingIntegration.sendEmail(entity.getChecklists().getFirst().getMunicipalityId(), entity.getEmployee().getManager().getEmail(), renderedTemplate)
-			.ifPresentOrElse(result -> {
-				entity.getCorrespondence().setCorrespondenceStatus(toCorrespondenceStatus(result.getDeliveries()));
-				entity.getCorrespondence().setMessageId(result.getMessageId().toString());
-			}, () -> {
-				LOGGER.warn("Email sending failed for employee checklist with id: {}, setting correspondence status to ERROR", entity.getId());
-				entity.getCorrespondence().setCorrespondenceStatus(ERROR);
-			});
+	/**
+	 * Registers the outcome of a dispatch attempt. The outbox entry is removed when the e-mail has been handed over to
+	 * messaging or when the maximum number of attempts has been reached, otherwise it is rescheduled.
+	 *
+	 * @param outbox the dispatched outbox entry
+	 * @param result the result from messaging, or null if the e-mail could not be rendered or sent
+	 */
+	@Transactional
+	public void registerResult(MailOutboxEntity outbox, MessageResult result) {
+		final var entity = employeeChecklistRepository.findById(outbox.getEmployeeChecklistId()).orElse(null);
+		if (entity == null || entity.getCorrespondence() == null) {
+			mailOutboxRepository.delete(outbox);
+			return;
+		}
+
+		final var correspondence = entity.getCorrespondence();
+		correspondence.setAttempts(correspondence.getAttempts() + 1);
+
+		if (result != null) {
+			correspondence.setCorrespondenceStatus(toCorrespondenceStatus(result.getDeliveries()));
+			correspondence.setMessageId(result.getMessageId().toString());
+			mailOutboxRepository.delete(outbox);
+		} else if (correspondence.getAttempts() >= maxAttempts) {
+			LOGGER.warn("Email sending failed for employee checklist with id: {} after {} attempts, setting correspondence status to ERROR", entity.getId(), correspondence.getAttempts());
+			correspondence.setCorrespondenceStatus(ERROR);
+			mailOutboxRepository.delete(outbox);
+		} else {
+			final var nextAttempt = OffsetDateTime.now(systemDefault()).plus(backoffFor(correspondence.getAttempts()));
+			LOGGER.info("Email sending failed for employee checklist with id: {}, retrying at {}", entity.getId(), nextAttempt);
+			outbox.setNextAttempt(nextAttempt);
+			mailOutboxRepository.save(outbox);
+		}
 
-		entity.getCorrespondence().setAttempts(entity.getCorrespondence().getAttempts() + 1);
+		employeeChecklistRepository.save(entity);
+	}
+
+	private Duration backoffFor(int attempts) {
+		// Double the backoff for each failed attempt, i.e. backoff, 2 * backoff, 4 * backoff and so on
+		return backoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 16));
 	}
 
+	/**
+	 * E-mail ready to be rendered and sent.
+	 *
+	 * @param recipient     e-mail address of the manager
+	 * @param renderRequest request for rendering the e-mail body
+	 */
+	public record PreparedEmail(String recipient, RenderRequest renderRequest) {
+	}
 }
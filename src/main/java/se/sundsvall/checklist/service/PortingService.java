@@ -13,6 +13,7 @@ import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
 import se.sundsvall.checklist.integration.db.model.PhaseEntity;
 import se.sundsvall.checklist.integration.db.model.enums.LifeCycle;
 import se.sundsvall.checklist.integration.db.repository.ChecklistRepository;
+import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.integration.db.repository.OrganizationRepository;
 import se.sundsvall.checklist.integration.db.repository.PhaseRepository;
 import se.sundsvall.checklist.service.mapper.OrganizationMapper;
@@ -49,12 +50,14 @@ public class PortingService {
 	private final ChecklistRepository checklistRepository;
 	private final OrganizationRepository organizationRepository;
 	private final PhaseRepository phaseRepository;
+	private final EmployeeChecklistRepository employeeChecklistRepository;
 	private final ObjectMapper objectMapper;
 
-	public PortingService(final OrganizationRepository repository, final ChecklistRepository checklistRepository, final PhaseRepository phaseRepository) {
+	public PortingService(final OrganizationRepository repository, final ChecklistRepository checklistRepository, final PhaseRepository phaseRepository, final EmployeeChecklistRepository employeeChecklistRepository) {
 		this.organizationRepository = repository;
 		this.checklistRepository = checklistRepository;
 		this.phaseRepository = phaseRepository;
+		this.employeeChecklistRepository = employeeChecklistRepository;
 		this.objectMapper = JsonMapper.builder()
 			.changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(JsonInclude.Include.NON_NULL))
 			.build();
@@ -169,6 +172,12 @@ public class PortingService {
 
 		checklistRepository.save(existingEntity);
 
+		// The tasks of the checklist have been replaced, recalculate the completion counters of employee checklists using it
+		final var employeeChecklistIds = employeeChecklistRepository.findIdsByChecklistsId(existingEntity.getId());
+		if (!employeeChecklistIds.isEmpty()) {
+			employeeChecklistRepository.recalculateCompletionCounters(employeeChecklistIds);
+		}
+
 		return existingEntity.getId();
 	}
 
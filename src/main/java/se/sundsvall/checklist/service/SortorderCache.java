@@ -0,0 +1,131 @@
+package se.sundsvall.checklist.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.integration.company.OrganizationIndexRebuiltEvent;
+import se.sundsvall.checklist.integration.db.model.SortorderEntity;
+
+/**
+ * Cache holding the effective (resolved) custom sort order per municipality and organization. Each entry keeps track of
+ * the organizations (the organization itself and all its ancestors) that the entry is based on, which makes it possible
+ * to evict exactly the entries affected when the custom sort for an organization is changed, i.e. the entries for the
+ * organization and all organizations below it in the tree.
+ * <p>
+ * Each eviction increases a generation counter, and a custom sort resolved by a load that started before an eviction is
+ * returned to the caller but not kept in cache, as it might have been read before the change that caused the eviction.
+ * All entries for a municipality are evicted when its organization index is rebuilt, as the organization tree that the
+ * entries are resolved from might have changed.
+ */
+@Component
+public class SortorderCache implements MeterBinder {
+
+	public static final String SORTORDER_CACHE = "sortorder";
+
+	private final boolean enabled;
+	private final Cache<Key, ResolvedSortorder> cache;
+	private final AtomicLong generation = new AtomicLong();
+
+	public SortorderCache(
+		@Value("${cache.enabled:true}") final boolean enabled,
+		@Value("${cache.sortorder.expire-after-write:PT12H}") final Duration expireAfterWriteDuration,
+		@Value("${cache.sortorder.maximum-size:1000}") final int maximumSize) {
+
+		this.enabled = enabled;
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(expireAfterWriteDuration)
+			.maximumSize(maximumSize)
+			.recordStats()
+			.build();
+	}
+
+	@Override
+	public void bindTo(final MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, SORTORDER_CACHE);
+	}
+
+	/**
+	 * @return the underlying Caffeine cache
+	 */
+	public Cache<?, ?> getNativeCache() {
+		return cache;
+	}
+
+	/**
+	 * Returns the effective custom sort for the organization, resolving it by the provided loader if not present in cache
+	 * (or if caching is disabled).
+	 *
+	 * @param  municipalityId     id of the municipality where the organization belongs
+	 * @param  organizationNumber number of the organization
+	 * @param  loader             loader used to resolve the effective custom sort when not present in cache
+	 * @return                    the effective custom sort for the organization
+	 */
+	public List<SortorderEntity> get(final String municipalityId, final Integer organizationNumber, final Supplier<ResolvedSortorder> loader) {
+		if (!enabled) {
+			return loader.get().customSort();
+		}
+
+		final var key = new Key(municipalityId, organizationNumber);
+		final var cached = cache.getIfPresent(key);
+		if (Objects.nonNull(cached)) {
+			return cached.customSort();
+		}
+
+		final var loadGeneration = generation.get();
+		final var loaded = loader.get();
+		if (loadGeneration == generation.get()) {
+			cache.asMap().putIfAbsent(key, loaded);
+			// An eviction between the check and the put might have missed the entry, remove it if so
+			if (loadGeneration != generation.get()) {
+				cache.asMap().remove(key, loaded);
+			}
+		}
+		return loaded.customSort();
+	}
+
+	/**
+	 * Evicts all entries for the organization and all organizations that has it as an ancestor.
+	 *
+	 * @param municipalityId     id of the municipality where the organization belongs
+	 * @param organizationNumber number of the organization which custom sort has been changed
+	 */
+	public void evict(final String municipalityId, final Integer organizationNumber) {
+		generation.incrementAndGet();
+		cache.asMap().entrySet().removeIf(entry -> Objects.equals(municipalityId, entry.getKey().municipalityId()) &&
+			entry.getValue().organizationNumbers().contains(organizationNumber));
+	}
+
+	/**
+	 * Evicts all entries for the municipality when its organization index has been rebuilt.
+	 *
+	 * @param event the event signalling that the organization index has been rebuilt
+	 */
+	@EventListener
+	public void onOrganizationIndexRebuilt(final OrganizationIndexRebuiltEvent event) {
+		generation.incrementAndGet();
+		cache.asMap().keySet().removeIf(key -> Objects.equals(event.municipalityId(), key.municipalityId()));
+	}
+
+	/**
+	 * Effective custom sort for an organization.
+	 *
+	 * @param organizationNumbers the organization and all its ancestors that the custom sort is based on
+	 * @param customSort          the effective custom sort where sort for lower levels in the tree takes precedence
+	 */
+	public record ResolvedSortorder(Set<Integer> organizationNumbers, List<SortorderEntity> customSort) {
+	}
+
+	private record Key(String municipalityId, Integer organizationNumber) {
+	}
+}
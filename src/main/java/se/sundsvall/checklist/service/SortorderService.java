@@ -2,27 +2,32 @@ package se.sundsvall.checklist.service;
 
 import generated.se.sundsvall.company.Organization;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import se.sundsvall.checklist.api.model.Checklist;
 import se.sundsvall.checklist.api.model.EmployeeChecklist;
 import se.sundsvall.checklist.api.model.SortorderRequest;
 import se.sundsvall.checklist.api.model.Task;
-import se.sundsvall.checklist.integration.company.CompanyIntegration;
+import se.sundsvall.checklist.integration.company.OrganizationIndex;
+import se.sundsvall.checklist.integration.company.OrganizationIndexProvider;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
 import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
 import se.sundsvall.checklist.integration.db.model.SortorderEntity;
 import se.sundsvall.checklist.integration.db.repository.SortorderRepository;
+import se.sundsvall.checklist.service.SortorderCache.ResolvedSortorder;
 
 import static java.util.Collections.emptyList;
-import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.groupingBy;
 import static se.sundsvall.checklist.service.mapper.SortorderMapper.toSortorderEntities;
 import static se.sundsvall.checklist.service.mapper.SortorderMapper.toSortorderEntity;
 import static se.sundsvall.checklist.service.mapper.SortorderMapper.toTaskItem;
@@ -35,11 +40,13 @@ import static se.sundsvall.checklist.service.util.SortingUtils.sortTasks;
 public class SortorderService {
 
 	private final SortorderRepository sortorderRepository;
-	private final CompanyIntegration companyIntegration;
+	private final OrganizationIndexProvider organizationIndexProvider;
+	private final SortorderCache sortorderCache;
 
-	public SortorderService(final SortorderRepository sortorderRepository, final CompanyIntegration companyIntegration) {
+	public SortorderService(final SortorderRepository sortorderRepository, final OrganizationIndexProvider organizationIndexProvider, final SortorderCache sortorderCache) {
 		this.sortorderRepository = sortorderRepository;
-		this.companyIntegration = companyIntegration;
+		this.organizationIndexProvider = organizationIndexProvider;
+		this.sortorderCache = sortorderCache;
 	}
 
 	/**
@@ -52,7 +59,10 @@ public class SortorderService {
 	public void copySortorderItems(final Map<String, String> translationMap) {
 		translationMap.entrySet().stream()
 			.map(this::copyCurrentSortorder)
-			.forEach(sortorderRepository::saveAll);
+			.forEach(copies -> {
+				sortorderRepository.saveAll(copies);
+				evict(copies);
+			});
 	}
 
 	private List<SortorderEntity> copyCurrentSortorder(final Entry<String, String> entry) {
@@ -73,6 +83,7 @@ public class SortorderService {
 	public void saveSortorder(final String municipalityId, final Integer organizationNumber, final SortorderRequest request) {
 		sortorderRepository.deleteAllInBatch(sortorderRepository.findAllByMunicipalityIdAndOrganizationNumber(municipalityId, organizationNumber));
 		sortorderRepository.saveAll(toSortorderEntities(municipalityId, organizationNumber, request));
+		evict(municipalityId, organizationNumber);
 	}
 
 	/**
@@ -83,6 +94,7 @@ public class SortorderService {
 	 */
 	public void deleteSortorder(final String municipalityId, final Integer organizationNumber) {
 		sortorderRepository.deleteAllInBatch(sortorderRepository.findAllByMunicipalityIdAndOrganizationNumber(municipalityId, organizationNumber));
+		evict(municipalityId, organizationNumber);
 	}
 
 	/**
@@ -91,7 +103,33 @@ public class SortorderService {
 	 * @param componentId id of the sort order component that will be removed
 	 */
 	public void deleteSortorderItem(final String componentId) {
-		sortorderRepository.deleteAllInBatch(sortorderRepository.findAllByComponentId(componentId));
+		final var sortorderItems = sortorderRepository.findAllByComponentId(componentId);
+		sortorderRepository.deleteAllInBatch(sortorderItems);
+		evict(sortorderItems);
+	}
+
+	private void evict(final List<SortorderEntity> sortorderItems) {
+		ofNullable(sortorderItems).orElse(emptyList())
+			.forEach(item -> evict(item.getMunicipalityId(), item.getOrganizationNumber()));
+	}
+
+	/**
+	 * Evicts the cached custom sort after commit of the current transaction, or directly if no transaction is active, as
+	 * evicting before commit would let a concurrent read put the not yet replaced custom sort back in cache. A read that
+	 * started before the commit does not put its result in cache, as {@link SortorderCache} rejects loads started before
+	 * an eviction.
+	 */
+	private void evict(final String municipalityId, final Integer organizationNumber) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					sortorderCache.evict(municipalityId, organizationNumber);
+				}
+			});
+		} else {
+			sortorderCache.evict(municipalityId, organizationNumber);
+		}
 	}
 
 	/**
@@ -103,8 +141,9 @@ public class SortorderService {
 	 * @return                    list of checklists where custom sortorder has been applied
 	 */
 	public List<Checklist> applySortingToChecklists(final String municipalityId, final Integer organizationNumber, final List<Checklist> checklists) {
-		ofNullable(findOrganization(municipalityId, companyIntegration.getCompanies(municipalityId).iterator(), organizationNumber))
-			.map(org -> aggregateCustomSorts(municipalityId, org))
+		final var organizationIndex = organizationIndexProvider.getIndex(municipalityId);
+		organizationIndex.getOrganization(organizationNumber)
+			.map(org -> resolveCustomSort(municipalityId, org, organizationIndex))
 			.ifPresent(customSort -> recalculateSortorder(checklists, customSort));
 
 		return checklists;
@@ -138,8 +177,9 @@ public class SortorderService {
 	 * @return                    list with tasks where custom sortorder has been applied
 	 */
 	public List<Task> applySortingToTasks(final String municipalityId, final Integer organizationNumber, final List<Task> tasks) {
-		return ofNullable(findOrganization(municipalityId, companyIntegration.getCompanies(municipalityId).iterator(), organizationNumber))
-			.map(org -> aggregateCustomSorts(municipalityId, org))
+		final var organizationIndex = organizationIndexProvider.getIndex(municipalityId);
+		return organizationIndex.getOrganization(organizationNumber)
+			.map(org -> resolveCustomSort(municipalityId, org, organizationIndex))
 			.map(customSort -> {
 				applyCustomSortorder(tasks, customSort);
 				return sortTasks(tasks);
@@ -159,29 +199,6 @@ public class SortorderService {
 		return applySortingToTasks(municipalityId, organizationNumber, List.of(task)).getFirst();
 	}
 
-	private Organization findOrganization(final String municipalityId, final Iterator<Organization> companyIterator, final Integer organizationNumber) {
-		if (!companyIterator.hasNext()) {
-			return null;
-		}
-		return companyIntegration.getOrganizationsForCompany(municipalityId, companyIterator.next().getCompanyId()).stream()
-			.filter(org -> org.getOrgId().equals(organizationNumber))
-			.findAny()
-			.orElseGet(() -> findOrganization(municipalityId, companyIterator, organizationNumber));
-	}
-
-	private List<SortorderEntity> aggregateCustomSorts(final String municipalityId, final Organization organization) {
-		final var organizations = ofNullable(findOrganization(municipalityId, companyIntegration.getCompanies(municipalityId).iterator(), organization.getOrgId()))
-			.map(Organization::getCompanyId)
-			.map(companyId -> companyIntegration.getOrganizationsForCompany(municipalityId, companyId))
-			.orElse(emptyList());
-
-		return organizations.stream()
-			.filter(item -> item.getOrgId().equals(organization.getOrgId()))
-			.findAny()
-			.map(org -> addCustomSort(municipalityId, org, organizations, new ArrayList<>()))
-			.orElse(emptyList());
-	}
-
 	/**
 	 * Method for applying custom sorting to an employee checklist
 	 *
@@ -206,36 +223,38 @@ public class SortorderService {
 
 	private List<SortorderEntity> aggregateCustomSorts(final EmployeeEntity employee) {
 		final var municipalityId = employee.getDepartment().getMunicipalityId();
-		final var organizations = ofNullable(employee.getCompany())
-			.map(OrganizationEntity::getOrganizationNumber)
-			.map(companyId -> companyIntegration.getOrganizationsForCompany(municipalityId, companyId))
-			.orElse(emptyList());
+		final var companyId = ofNullable(employee.getCompany()).map(OrganizationEntity::getOrganizationNumber);
+		if (companyId.isEmpty()) {
+			return emptyList();
+		}
 
-		return organizations.stream()
-			.filter(organization -> organization.getOrgId().equals(employee.getDepartment().getOrganizationNumber()))
-			.findAny()
-			.map(employeeHome -> addCustomSort(municipalityId, employeeHome, organizations, new ArrayList<>()))
+		final var organizationIndex = organizationIndexProvider.getIndex(municipalityId);
+		return organizationIndex.getOrganization(employee.getDepartment().getOrganizationNumber())
+			.filter(employeeHome -> organizationIndex.getCompany(employeeHome.getOrgId()).map(Organization::getCompanyId).equals(companyId))
+			.map(employeeHome -> resolveCustomSort(municipalityId, employeeHome, organizationIndex))
 			.orElse(emptyList());
 	}
 
-	private List<SortorderEntity> addCustomSort(final String municipalityId, final Organization organization, final List<Organization> organizations, final List<SortorderEntity> allCustomSorts) {
-		// Fetch custom sort for the current organization
-		final var customSort = sortorderRepository.findAllByMunicipalityIdAndOrganizationNumber(municipalityId, organization.getOrgId());
+	private List<SortorderEntity> resolveCustomSort(final String municipalityId, final Organization organization, final OrganizationIndex organizationIndex) {
+		return sortorderCache.get(municipalityId, organization.getOrgId(), () -> {
+			// The organization and all its ancestors, ordered from the organization up to root level
+			final var organizationNumbers = new ArrayList<Integer>();
+			organizationNumbers.add(organization.getOrgId());
+			organizationIndex.getAncestors(organization.getOrgId()).forEach(ancestor -> organizationNumbers.add(ancestor.getOrgId()));
 
-		// Only add new custom sorts, do not overwrite already existent custom sorts collected earlier as sorting order from
-		// lower levels in tree takes precedence
-		allCustomSorts.addAll(ofNullable(customSort).orElse(emptyList()).stream()
-			.filter(t -> allCustomSorts.stream().noneMatch(u -> t.getComponentId().equals(u.getComponentId())))
-			.toList());
+			final var customSorts = sortorderRepository.findAllByMunicipalityIdAndOrganizationNumberIn(municipalityId, organizationNumbers).stream()
+				.collect(groupingBy(SortorderEntity::getOrganizationNumber));
 
-		// Traverse up in the organizational structure to fetch all custom sorts from starting point in tree up to root level
-		if (nonNull(organization.getParentId())) {
-			organizations.stream()
-				.filter(parent -> parent.getOrgId().equals(organization.getParentId()))
-				.findAny()
-				.ifPresent(parent -> addCustomSort(municipalityId, parent, organizations, allCustomSorts));
-		}
+			// Only add custom sorts for components not already collected, as sorting order from lower levels in tree takes
+			// precedence
+			final var componentIds = new HashSet<String>();
+			final var effectiveCustomSort = organizationNumbers.stream()
+				.map(organizationNumber -> customSorts.getOrDefault(organizationNumber, emptyList()))
+				.flatMap(List::stream)
+				.filter(customSort -> componentIds.add(customSort.getComponentId()))
+				.toList();
 
-		return allCustomSorts;
+			return new ResolvedSortorder(Set.copyOf(organizationNumbers), effectiveCustomSort);
+		});
 	}
 }
@@ -13,6 +13,7 @@ import se.sundsvall.checklist.integration.db.repository.ChecklistRepository;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.integration.db.repository.PhaseRepository;
 import se.sundsvall.checklist.integration.db.repository.TaskRepository;
+import se.sundsvall.checklist.integration.db.repository.TombstoneRepository;
 import se.sundsvall.dept44.problem.Problem;
 
 import static generated.se.sundsvall.eventlog.EventType.CREATE;
@@ -26,6 +27,7 @@ import static se.sundsvall.checklist.service.mapper.ChecklistMapper.toTask;
 import static se.sundsvall.checklist.service.mapper.ChecklistMapper.toTaskEntity;
 import static se.sundsvall.checklist.service.mapper.ChecklistMapper.toTasks;
 import static se.sundsvall.checklist.service.mapper.ChecklistMapper.updateTaskEntity;
+import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toTombstoneEntity;
 
 @Service
 public class TaskService {
@@ -38,6 +40,7 @@ public class TaskService {
 	private final ChecklistRepository checklistRepository;
 	private final PhaseRepository phaseRepository;
 	private final EmployeeChecklistRepository employeeChecklistRepository;
+	private final TombstoneRepository tombstoneRepository;
 	private final SortorderService sortorderService;
 	private final EventService eventService;
 
@@ -46,6 +49,7 @@ public class TaskService {
 		final ChecklistRepository checklistRepository,
 		final PhaseRepository phaseRepository,
 		final EmployeeChecklistRepository employeeChecklistRepository,
+		final TombstoneRepository tombstoneRepository,
 		final SortorderService sortorderService,
 		final EventService eventService) {
 
@@ -53,6 +57,7 @@ public class TaskService {
 		this.checklistRepository = checklistRepository;
 		this.phaseRepository = phaseRepository;
 		this.employeeChecklistRepository = employeeChecklistRepository;
+		this.tombstoneRepository = tombstoneRepository;
 		this.sortorderService = sortorderService;
 		this.eventService = eventService;
 	}
@@ -83,6 +88,7 @@ public class TaskService {
 		final var taskEntity = taskRepository.save(toTaskEntity(request, phase));
 		checklist.getTasks().add(taskEntity);
 		checklistRepository.save(checklist);
+		employeeChecklistRepository.adjustTotalTasksForChecklist(checklist.getId(), 1); // Count new task in all employee checklists using the checklist
 
 		final var task = toTask(taskEntity);
 		eventService.createChecklistEvent(CREATE, TASK_ADDED.formatted(taskEntity.getHeading(), phase.getName()), checklist, request.getCreatedBy());
@@ -108,9 +114,15 @@ public class TaskService {
 		verifyPhaseIsPresent(municipalityId, phaseId); // This is here to verify that sent in phase id is present in database
 		final var task = getTaskInPhase(checklist, phaseId, taskId);
 
-		// // Remove all present fulfilments referring to task
-		employeeChecklistRepository.findAllByChecklistsTasksId(taskId)
-			.forEach(employeeChecklist -> employeeChecklist.getFulfilments().removeIf(fulfilment -> fulfilment.getTask() == task));
+		// Stop counting the task in the employee checklists, must be done while the fulfilments referring to task are present
+		employeeChecklistRepository.removeTaskFromCompletionCounters(taskId);
+
+		// Remove all present fulfilments referring to task and leave a tombstone for clients that fetch changes of the employee checklists
+		final var employeeChecklists = employeeChecklistRepository.findAllByChecklistsTasksId(taskId);
+		employeeChecklists.forEach(employeeChecklist -> employeeChecklist.getFulfilments().removeIf(fulfilment -> fulfilment.getTask() == task));
+		tombstoneRepository.saveAll(employeeChecklists.stream()
+			.map(employeeChecklist -> toTombstoneEntity(employeeChecklist.getId(), taskId))
+			.toList());
 		checklist.getTasks().remove(task); // Remove checklist refererence to task
 		taskRepository.delete(task);
 		sortorderService.deleteSortorderItem(taskId);
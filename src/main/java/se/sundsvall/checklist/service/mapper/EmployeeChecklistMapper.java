@@ -1,6 +1,7 @@
 package se.sundsvall.checklist.service.mapper;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -9,17 +10,25 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.ObjectUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import se.sundsvall.checklist.api.model.ChangeEvent;
 import se.sundsvall.checklist.api.model.CustomTask;
 import se.sundsvall.checklist.api.model.CustomTaskCreateRequest;
 import se.sundsvall.checklist.api.model.CustomTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklist;
+import se.sundsvall.checklist.api.model.EmployeeChecklistDelta;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhase;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse.Detail;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateResponse.Result;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.InitiationInformation;
+import se.sundsvall.checklist.api.model.InitiationJob;
+import se.sundsvall.checklist.api.model.InitiationJobStatus;
 import se.sundsvall.checklist.api.model.Mentor;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklist;
+import se.sundsvall.checklist.integration.db.model.ChangeEventEntity;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.CustomFulfilmentEntity;
 import se.sundsvall.checklist.integration.db.model.CustomTaskEntity;
@@ -28,8 +37,12 @@ import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
 import se.sundsvall.checklist.integration.db.model.FulfilmentEntity;
 import se.sundsvall.checklist.integration.db.model.InitiationInfoEntity;
+import se.sundsvall.checklist.integration.db.model.InitiationJobEntity;
+import se.sundsvall.checklist.integration.db.model.MentorEntity;
 import se.sundsvall.checklist.integration.db.model.PhaseEntity;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
+import se.sundsvall.checklist.integration.db.model.TombstoneEntity;
+import se.sundsvall.checklist.integration.db.model.enums.ChangeType;
 import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
 import se.sundsvall.checklist.service.model.Employee;
 import se.sundsvall.dept44.requestid.RequestId;
@@ -105,6 +118,10 @@ public final class EmployeeChecklistMapper {
 			.withEndDate(startDate.plus(employeeEntity.getEmploymentPosition().getTimeToComplete()))
 			.withExpirationDate(startDate.plus(employeeEntity.getEmploymentPosition().getTimeToExpiration()))
 			.withStartDate(startDate)
+			.withTotalTasks(checklistEntities.stream()
+				.map(ChecklistEntity::getTasks)
+				.mapToInt(tasks -> ofNullable(tasks).map(List::size).orElse(0))
+				.sum())
 			.build();
 	}
 
@@ -136,6 +153,21 @@ public final class EmployeeChecklistMapper {
 		return entity;
 	}
 
+	public static ChangeEventEntity toChangeEventEntity(String employeeChecklistId, ChangeType changeType, String username) {
+		return ChangeEventEntity.builder()
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withChangeType(changeType)
+			.withUsername(username)
+			.build();
+	}
+
+	public static TombstoneEntity toTombstoneEntity(String employeeChecklistId, String taskId) {
+		return TombstoneEntity.builder()
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withTaskId(taskId)
+			.build();
+	}
+
 	// -----------------------------
 	// API mappings
 	// -----------------------------
@@ -177,12 +209,38 @@ public final class EmployeeChecklistMapper {
 				.withExpirationDate(entity.getExpirationDate())
 				.withCompleted(entity.isCompleted())
 				.withLocked(entity.isLocked())
-				.withMentor(ofNullable(employeeChecklistEntity.getMentor())
-					.map(mentorEntity -> Mentor.builder()
-						.withUserId(mentorEntity.getUserId())
-						.withName(mentorEntity.getName())
-						.build())
-					.orElse(null))
+				.withMentor(toMentor(entity.getMentor()))
+				.build())
+			.orElse(null);
+	}
+
+	/**
+	 * Maps the metadata of the employee checklist to a delta, phases and removed tasks are added by the caller.
+	 *
+	 * @param  employeeChecklistEntity the employee checklist
+	 * @param  since                   the point in time that changes are collected from
+	 * @param  until                   the point in time to use as since when the next set of changes is collected
+	 * @return                         a delta containing the metadata of the employee checklist
+	 */
+	public static EmployeeChecklistDelta toEmployeeChecklistDelta(final EmployeeChecklistEntity employeeChecklistEntity, final OffsetDateTime since, final OffsetDateTime until) {
+		return ofNullable(employeeChecklistEntity)
+			.map(entity -> EmployeeChecklistDelta.builder()
+				.withId(entity.getId())
+				.withSince(since)
+				.withUntil(until)
+				.withCompleted(entity.isCompleted())
+				.withLocked(entity.isLocked())
+				.withMentor(toMentor(entity.getMentor()))
+				.withUpdated(entity.getUpdated())
+				.build())
+			.orElse(null);
+	}
+
+	private static Mentor toMentor(final MentorEntity mentorEntity) {
+		return ofNullable(mentorEntity)
+			.map(entity -> Mentor.builder()
+				.withUserId(entity.getUserId())
+				.withName(entity.getName())
 				.build())
 			.orElse(null);
 	}
@@ -270,6 +328,60 @@ public final class EmployeeChecklistMapper {
 			.withStatus(status).build();
 	}
 
+	public static EmployeeChecklistTaskUpdateRequest toEmployeeChecklistTaskUpdateRequest(String updatedBy, TaskFulfilment taskFulfilment) {
+		return EmployeeChecklistTaskUpdateRequest.builder()
+			.withFulfilmentStatus(taskFulfilment.getFulfilmentStatus())
+			.withResponseText(taskFulfilment.getResponseText())
+			.withUpdatedBy(updatedBy)
+			.build();
+	}
+
+	public static Result toTaskBatchUpdateResult(TaskFulfilment taskFulfilment, HttpStatusCode status, String information, EmployeeChecklistTask task) {
+		return Result.builder()
+			.withEmployeeChecklistId(taskFulfilment.getEmployeeChecklistId())
+			.withTaskId(taskFulfilment.getTaskId())
+			.withStatus(status)
+			.withInformation(information)
+			.withTask(task)
+			.build();
+	}
+
+	public static ChangeEvent toChangeEvent(ChangeEventEntity changeEventEntity) {
+		return ChangeEvent.builder()
+			.withId(changeEventEntity.getId())
+			.withEmployeeChecklistId(changeEventEntity.getEmployeeChecklistId())
+			.withChangeType(changeEventEntity.getChangeType())
+			.build();
+	}
+
+	/**
+	 * Maps a persisted initiation job to its API representation. The result is only present when the job has finished
+	 * and its details are based on the initiation information persisted with the job id as log id.
+	 *
+	 * @param  entity the persisted job
+	 * @param  infos  the initiation information persisted by the job
+	 * @return        the API representation of the job
+	 */
+	public static InitiationJob toInitiationJob(final InitiationJobEntity entity, final List<InitiationInfoEntity> infos) {
+		final var status = InitiationJobStatus.valueOf(entity.getStatus());
+
+		return InitiationJob.builder()
+			.withId(entity.getId())
+			.withStatus(status)
+			.withTotal(entity.getTotal())
+			.withProcessed(entity.getProcessed())
+			.withErrors(entity.getErrors())
+			.withStarted(entity.getStarted())
+			.withFinished(entity.getFinished())
+			.withResult(status == InitiationJobStatus.RUNNING ? null : EmployeeChecklistResponse.builder()
+				.withSummary(entity.getSummary())
+				.withDetails(ofNullable(infos).orElse(emptyList()).stream()
+					.map(info -> toDetail(ofNullable(info.getStatus()).map(Integer::parseInt).map(HttpStatusCode::valueOf).orElse(UNPROCESSABLE_ENTITY), info.getInformation()))
+					.collect(toCollection(ArrayList::new)))
+				.build())
+			.build();
+	}
+
 	public static List<InitiationInformation> toInitiationInformations(final List<InitiationInfoEntity> infos) {
 		return ofNullable(infos).orElse(emptyList()).stream()
 			.collect(groupingBy(InitiationInfoEntity::getLogId))
@@ -1,11 +1,12 @@
 package se.sundsvall.checklist.service.scheduler;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.scheduling.Dept44Scheduled;
@@ -23,24 +24,28 @@ public class LockEmployeeChecklistsScheduler {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(LockEmployeeChecklistsScheduler.class);
 	private static final String LOG_LOCK_EMPLOYEE_CHECKLISTS_STARTED = "Beginning execution for locking expired employee checklists";
-	private static final String LOG_LOCKING_EMPLOYEE_CHECKLIST = "Locking employee checklist with id: {}";
+	private static final String LOG_LOCKED_CHUNK = "Locked chunk of {} expired employee checklist(s)";
 	private static final String LOG_LOCK_EMPLOYEE_CHECKLISTS_ENDED = "Ended execution for locking expired employee checklists";
 	private static final String LOG_PROCESSING_MUNICIPALITY = "Processing municipality {}";
 
 	private final EmployeeChecklistRepository employeeChecklistRepository;
 	private final ChecklistProperties properties;
+	private final int chunkSize;
+
+	public LockEmployeeChecklistsScheduler(EmployeeChecklistRepository employeeChecklistRepository, ChecklistProperties properties,
+		@Value("${checklist.lock-employee-checklists.chunk-size:0}") int chunkSize) {
 
-	public LockEmployeeChecklistsScheduler(EmployeeChecklistRepository employeeChecklistRepository, ChecklistProperties properties) {
 		this.employeeChecklistRepository = employeeChecklistRepository;
 		this.properties = properties;
+		this.chunkSize = chunkSize;
 	}
 
 	/**
 	 * Locks old employee checklists. When creating an employee checklist, the expiration date is set in the column
 	 * "expirationDate" in the database and the job locks all employee checklists that have an expiration date that is
-	 * before todays date.
+	 * before todays date. The checklists are locked by set based updates, either all at once or (if a chunk size is
+	 * configured) in chunks where each chunk is committed in a transaction of its own.
 	 */
-	@Transactional
 	@Dept44Scheduled(
 		name = "${checklist.lock-employee-checklists.name}",
 		cron = "${checklist.lock-employee-checklists.cron}",
@@ -62,13 +67,16 @@ public class LockEmployeeChecklistsScheduler {
 	private void lockChecklists(String municipalityId) {
 		LOGGER.info(LOG_PROCESSING_MUNICIPALITY, municipalityId);
 
-		final var expiredChecklists = employeeChecklistRepository.findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse(municipalityId, LocalDate.now(systemDefault()));
-		expiredChecklists.forEach(entity -> {
-			LOGGER.debug(LOG_LOCKING_EMPLOYEE_CHECKLIST, entity.getId());
-			entity.setLocked(true);
-			employeeChecklistRepository.save(entity);
-		});
+		final var today = LocalDate.now(systemDefault());
+		final var limit = chunkSize > 0 ? chunkSize : Integer.MAX_VALUE;
+		var lockedChecklists = 0;
+		int lockedInChunk;
+		do {
+			lockedInChunk = employeeChecklistRepository.lockExpiredEmployeeChecklists(municipalityId, today, LocalDateTime.now(systemDefault()), limit);
+			lockedChecklists += lockedInChunk;
+			LOGGER.debug(LOG_LOCKED_CHUNK, lockedInChunk);
+		} while (lockedInChunk == limit);
 
-		LOGGER.info("Locked {} expired employee checklist(s) for municipality {}", expiredChecklists.size(), municipalityId);
+		LOGGER.info("Locked {} expired employee checklist(s) for municipality {}", lockedChecklists, municipalityId);
 	}
 }
@@ -0,0 +1,36 @@
+package se.sundsvall.checklist.service.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.service.MailDispatcher;
+import se.sundsvall.dept44.scheduling.Dept44Scheduled;
+
+/**
+ * Drains the outbox of manager e-mails, dispatching the e-mails that are due (new e-mails as well as e-mails that are
+ * to be retried after a failed attempt).
+ */
+@Component
+public class ManagerEmailDispatchScheduler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ManagerEmailDispatchScheduler.class);
+	private static final String LOG_DISPATCH_STARTED = "Beginning dispatch of manager emails from outbox";
+	private static final String LOG_DISPATCH_ENDED = "Ending dispatch of manager emails from outbox, {} email(s) dispatched";
+
+	private final MailDispatcher mailDispatcher;
+
+	public ManagerEmailDispatchScheduler(final MailDispatcher mailDispatcher) {
+		this.mailDispatcher = mailDispatcher;
+	}
+
+	@Dept44Scheduled(
+		name = "${checklist.manager-email-dispatch.name}",
+		cron = "${checklist.manager-email-dispatch.cron}",
+		lockAtMostFor = "${checklist.manager-email-dispatch.lockAtMostFor}",
+		maximumExecutionTime = "${checklist.manager-email-dispatch.maximumExecutionTime}")
+	public void execute() {
+		LOGGER.info(LOG_DISPATCH_STARTED);
+		final var dispatched = mailDispatcher.dispatch();
+		LOGGER.info(LOG_DISPATCH_ENDED, dispatched);
+	}
+}
@@ -69,7 +69,7 @@ public class ManagerEmailScheduler {
 
 		final var recipients = communicationService.fetchManagersToSendMailTo(municipalityId);
 		LOGGER.info("Found {} manager email(s) to send for municipality {}", recipients.size(), municipalityId);
-		recipients.forEach(this::sendEmail);
+		recipients.forEach(this::enqueueEmail);
 
 		// Set health depending on count of correspondences with error status
 		final var errorCount = communicationService.countCorrespondenceWithErrors();
@@ -79,12 +79,12 @@ public class ManagerEmailScheduler {
 		emailHealthConsumer.accept(errorCount);
 	}
 
-	private void sendEmail(EmployeeChecklistEntity entity) {
+	private void enqueueEmail(EmployeeChecklistEntity entity) {
 		try {
-			communicationService.sendEmail(entity);
+			communicationService.enqueueEmail(entity);
 		} catch (final Exception e) {
 			// Belt-and-braces policy to log unhandled exceptions and keep execution going
-			LOGGER.error("Error when sending manager email", e);
+			LOGGER.error("Error when adding manager email to outbox", e);
 		}
 	}
 }
@@ -0,0 +1,46 @@
+package se.sundsvall.checklist.service.scheduler;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.integration.db.repository.ChangeEventRepository;
+import se.sundsvall.dept44.scheduling.Dept44Scheduled;
+
+import static java.time.ZoneId.systemDefault;
+
+/**
+ * Scheduler for job to remove entries older than the retention period (configurable by properties) from the
+ * change_event table. Entries are only of interest for a few seconds after they have been written, as every instance
+ * reads them from the change feed directly, hence the retention period only needs to cover instances that have been
+ * temporarily unable to read the feed.
+ */
+@Component
+public class PurgeChangeEventsScheduler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PurgeChangeEventsScheduler.class);
+
+	private final ChangeEventRepository changeEventRepository;
+	private final Duration retention;
+
+	public PurgeChangeEventsScheduler(ChangeEventRepository changeEventRepository,
+		@Value("${checklist.purge-change-events.retention}") Duration retention) {
+		this.changeEventRepository = changeEventRepository;
+		this.retention = retention;
+	}
+
+	/**
+	 * Removes change events with created timestamp older than the retention period from table.
+	 */
+	@Dept44Scheduled(
+		name = "${checklist.purge-change-events.name}",
+		cron = "${checklist.purge-change-events.cron}",
+		lockAtMostFor = "${checklist.purge-change-events.lockAtMostFor}",
+		maximumExecutionTime = "${checklist.purge-change-events.maximumExecutionTime}")
+	public void execute() {
+		final var deletedRows = changeEventRepository.deleteByCreatedBefore(OffsetDateTime.now(systemDefault()).minus(retention));
+		LOGGER.info("Purged {} rows from change_event table", deletedRows);
+	}
+}
@@ -1,11 +1,14 @@
 package se.sundsvall.checklist.service.scheduler;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.checklist.integration.db.repository.InitiationRepository;
 import se.sundsvall.dept44.scheduling.Dept44Scheduled;
 
@@ -15,27 +18,40 @@ import static java.time.temporal.ChronoUnit.DAYS;
 
 /**
  * Scheduler for job to remove initiation information rows older than X days (configurable by properties) from the
- * initiation_info table
+ * initiation_info table. Rows are removed in chunks of limited size, each chunk in a transaction of its own and with a
+ * short pause between chunks, to avoid holding locks on the table for a long time.
  */
 @Component
 public class PurgeOldInitiationInfoScheduler {
 
+	static final String PURGED_ROWS_METRIC = "checklist.initiation.info.purged";
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(PurgeOldInitiationInfoScheduler.class);
 	private static final String LOG_PURGE_STARTED = "Purging rows older than {} days from initiation_info table (i.e. rows with created date before {})";
 
 	private final InitiationRepository initiationRepository;
 	private final int maxLifetimeInDaysThreshold;
+	private final int chunkSize;
+	private final Duration pauseBetweenChunks;
+	private final Counter purgedRowsCounter;
 
-	public PurgeOldInitiationInfoScheduler(InitiationRepository initiationRepository,
-		@Value("${checklist.purge-old-initiation-info.maximum-lifespan-in-days}") int maxLifetimeInDaysThreshold) {
+	public PurgeOldInitiationInfoScheduler(InitiationRepository initiationRepository, MeterRegistry meterRegistry,
+		@Value("${checklist.purge-old-initiation-info.maximum-lifespan-in-days}") int maxLifetimeInDaysThreshold,
+		@Value("${checklist.purge-old-initiation-info.chunk-size:1000}") int chunkSize,
+		@Value("${checklist.purge-old-initiation-info.pause-between-chunks:PT0.1S}") Duration pauseBetweenChunks) {
 		this.initiationRepository = initiationRepository;
 		this.maxLifetimeInDaysThreshold = maxLifetimeInDaysThreshold;
+		this.chunkSize = chunkSize;
+		this.pauseBetweenChunks = pauseBetweenChunks;
+		this.purgedRowsCounter = Counter.builder(PURGED_ROWS_METRIC)
+			.description("Number of rows purged from the initiation_info table")
+			.baseUnit("rows")
+			.register(meterRegistry);
 	}
 
 	/**
 	 * Removes initiation information rows with created date older than threshold from table.
 	 */
-	@Transactional
 	@Dept44Scheduled(
 		name = "${checklist.purge-old-initiation-info.name}",
 		cron = "${checklist.purge-old-initiation-info.cron}",
@@ -46,10 +62,34 @@ public class PurgeOldInitiationInfoScheduler {
 		final var formattedDateTime = toReadableFormat(oldestCreatedDate);
 		LOGGER.info(LOG_PURGE_STARTED, maxLifetimeInDaysThreshold, formattedDateTime);
 
-		final var deletedRows = initiationRepository.deleteAllByCreatedBefore(oldestCreatedDate);
+		var deletedRows = 0L;
+		var moreRowsToPurge = true;
+		while (moreRowsToPurge) {
+			final var ids = initiationRepository.findIdsByCreatedBefore(oldestCreatedDate, Limit.of(chunkSize));
+			if (!ids.isEmpty()) {
+				final var deletedInChunk = initiationRepository.deleteAllByIdIn(ids);
+				purgedRowsCounter.increment(deletedInChunk);
+				deletedRows += deletedInChunk;
+			}
+
+			// A chunk that is not full means that there are no more rows to purge
+			moreRowsToPurge = ids.size() == chunkSize && pause();
+		}
+
 		LOGGER.info("Purged {} rows from initiation_info table", deletedRows);
 	}
 
+	private boolean pause() {
+		try {
+			Thread.sleep(pauseBetweenChunks);
+			return true;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			LOGGER.warn("Purge of initiation_info table interrupted, remaining rows are purged by next execution");
+			return false;
+		}
+	}
+
 	private String toReadableFormat(OffsetDateTime dateTime) {
 		return dateTime.format(ISO_LOCAL_DATE_TIME);
 	}
@@ -0,0 +1,55 @@
+package se.sundsvall.checklist.service.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
+import se.sundsvall.dept44.scheduling.Dept44Scheduled;
+
+/**
+ * Scheduler for job to recalculate the completion counters (total, completed and not relevant tasks) of all employee
+ * checklists from their tasks and fulfilments. The counters are maintained incrementally when tasks and fulfilments
+ * change, and this job repairs counters that for any reason have drifted. Employee checklists are recalculated in
+ * chunks of limited size, each chunk in a transaction of its own.
+ */
+@Component
+public class RecalculateCompletionCountersScheduler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RecalculateCompletionCountersScheduler.class);
+
+	private final EmployeeChecklistRepository employeeChecklistRepository;
+	private final int chunkSize;
+
+	public RecalculateCompletionCountersScheduler(EmployeeChecklistRepository employeeChecklistRepository,
+		@Value("${checklist.recalculate-completion-counters.chunk-size:500}") int chunkSize) {
+		this.employeeChecklistRepository = employeeChecklistRepository;
+		this.chunkSize = chunkSize;
+	}
+
+	@Dept44Scheduled(
+		name = "${checklist.recalculate-completion-counters.name}",
+		cron = "${checklist.recalculate-completion-counters.cron}",
+		lockAtMostFor = "${checklist.recalculate-completion-counters.lockAtMostFor}",
+		maximumExecutionTime = "${checklist.recalculate-completion-counters.maximumExecutionTime}")
+	public void execute() {
+		LOGGER.info("Recalculating completion counters for employee checklists");
+
+		var recalculated = 0L;
+		var lastId = "";
+		var moreToRecalculate = true;
+		while (moreToRecalculate) {
+			final var ids = employeeChecklistRepository.findIdsByIdGreaterThan(lastId, Limit.of(chunkSize));
+			if (!ids.isEmpty()) {
+				recalculated += employeeChecklistRepository.recalculateCompletionCounters(ids);
+				lastId = ids.getLast();
+			}
+
+			// A chunk that is not full means that all employee checklists have been recalculated
+			moreToRecalculate = ids.size() == chunkSize;
+		}
+
+		LOGGER.info("Recalculated completion counters for {} employee checklist(s)", recalculated);
+	}
+}
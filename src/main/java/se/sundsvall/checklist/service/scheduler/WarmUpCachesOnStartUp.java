@@ -0,0 +1,62 @@
+package se.sundsvall.checklist.service.scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import se.sundsvall.checklist.integration.company.OrganizationIndexProvider;
+
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static se.sundsvall.dept44.util.LogUtils.sanitizeForLogging;
+
+/**
+ * Preloads the company cache (companies and the organizations for each company) for all managed municipalities on
+ * startup, so that the first requests after a restart does not have to wait for the organizational structure to be
+ * fetched.
+ *
+ * The component is only instantiated if property <code>checklist.cache-warm-up.enabled</code> is set to true.
+ */
+@Component
+@ConditionalOnProperty(name = "checklist.cache-warm-up.enabled", havingValue = "true")
+public class WarmUpCachesOnStartUp {
+	private static final Logger LOGGER = LoggerFactory.getLogger(WarmUpCachesOnStartUp.class);
+
+	private final ChecklistProperties checklistProperties;
+	private final OrganizationIndexProvider organizationIndexProvider;
+
+	public WarmUpCachesOnStartUp(
+		ChecklistProperties checklistProperties,
+		OrganizationIndexProvider organizationIndexProvider,
+		@Value("${checklist.cache-warm-up.delay-on-startup:PT10S}") Duration onstartupDelay) {
+
+		this.checklistProperties = checklistProperties;
+		this.organizationIndexProvider = organizationIndexProvider;
+		warmUp(onstartupDelay);
+	}
+
+	private void warmUp(Duration onstartupDelay) {
+		ScheduledExecutorService executor = null;
+		try {
+			executor = newSingleThreadScheduledExecutor();
+			executor.schedule(() -> checklistProperties.managedMunicipalityIds().forEach(this::warmUp), onstartupDelay.getSeconds(), SECONDS);
+		} finally {
+			if (nonNull(executor)) {
+				executor.shutdown();
+			}
+		}
+	}
+
+	private void warmUp(String municipalityId) {
+		try {
+			LOGGER.info("Warming up company cache for municipality {} on application startup.", sanitizeForLogging(municipalityId));
+			organizationIndexProvider.getIndex(municipalityId);
+		} catch (final Exception e) {
+			LOGGER.error("Failed to warm up company cache for municipality {} on application startup", sanitizeForLogging(municipalityId), e);
+		}
+	}
+}
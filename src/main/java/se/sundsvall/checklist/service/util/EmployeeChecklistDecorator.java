@@ -1,6 +1,9 @@
 package se.sundsvall.checklist.service.util;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import se.sundsvall.checklist.api.model.EmployeeChecklist;
@@ -20,89 +23,84 @@ public final class EmployeeChecklistDecorator {
 	private EmployeeChecklistDecorator() {}
 
 	public static EmployeeChecklist decorateWithCustomTasks(EmployeeChecklist employeeChecklist, List<CustomTaskEntity> customTasks) {
-		ofNullable(customTasks).orElse(emptyList()).stream()
-			.forEach(customTaskEntity -> addToPhase(customTaskEntity, employeeChecklist));
+		if (ofNullable(customTasks).orElse(emptyList()).isEmpty()) {
+			return employeeChecklist;
+		}
 
-		return employeeChecklist;
-	}
+		// Index phases by id once, keeping the first phase for each id
+		final var phasesById = new HashMap<String, EmployeeChecklistPhase>();
+		employeeChecklist.getPhases().forEach(phase -> phasesById.putIfAbsent(phase.getId(), phase));
 
-	private static void addToPhase(CustomTaskEntity entity, EmployeeChecklist employeeChecklist) {
-		employeeChecklist.getPhases().stream()
-			.filter(phase -> Objects.equals(phase.getId(), entity.getPhase().getId()))
-			.findAny()
+		// Add all custom tasks and then sort each affected phase once
+		final var affectedPhaseIds = new LinkedHashSet<String>();
+		customTasks.forEach(customTaskEntity -> ofNullable(phasesById.get(customTaskEntity.getPhase().getId()))
 			.ifPresent(phase -> {
-				phase.getTasks().add(toEmployeeChecklistTask(entity));
-				phase.getTasks().sort(comparing(EmployeeChecklistTask::getSortOrder));
-			});
+				phase.getTasks().add(toEmployeeChecklistTask(customTaskEntity));
+				affectedPhaseIds.add(phase.getId());
+			}));
+		affectedPhaseIds.forEach(phaseId -> phasesById.get(phaseId).getTasks().sort(comparing(EmployeeChecklistTask::getSortOrder)));
+
+		return employeeChecklist;
 	}
 
 	public static EmployeeChecklist decorateWithFulfilment(EmployeeChecklist employeeChecklist, Optional<EmployeeChecklistEntity> employeeChecklistEntity) {
 		employeeChecklistEntity.ifPresent(entity -> {
-			ofNullable(entity.getFulfilments()).orElse(emptyList()).stream()
-				.forEach(fulfilment -> addFulfilmentToTasksInPhases(employeeChecklist.getPhases(), fulfilment));
-
-			ofNullable(entity.getCustomFulfilments()).orElse(emptyList()).stream()
-				.forEach(fulfilment -> addFulfilmentToTasksInPhases(employeeChecklist.getPhases(), fulfilment));
+			final var tasksById = indexTasks(ofNullable(employeeChecklist.getPhases()).orElse(emptyList()).stream()
+				.map(EmployeeChecklistPhase::getTasks)
+				.flatMap(List::stream)
+				.toList());
+
+			ofNullable(entity.getFulfilments()).orElse(emptyList())
+				.forEach(fulfilment -> ofNullable(tasksById.get(fulfilment.getTask().getId()))
+					.ifPresent(task -> decorateWithFulfilment(task, fulfilment)));
+
+			ofNullable(entity.getCustomFulfilments()).orElse(emptyList())
+				.forEach(fulfilment -> ofNullable(tasksById.get(fulfilment.getCustomTask().getId()))
+					.ifPresent(task -> decorateWithFulfilment(task, fulfilment)));
 		});
 
 		return employeeChecklist;
 	}
 
-	private static void addFulfilmentToTasksInPhases(List<EmployeeChecklistPhase> phases, FulfilmentEntity fulfilment) {
-		ofNullable(phases).orElse(emptyList()).stream()
-			.map(EmployeeChecklistPhase::getTasks)
-			.flatMap(List::stream)
-			.filter(task -> Objects.equals(task.getId(), fulfilment.getTask().getId()))
-			.findAny()
-			.ifPresent(task -> decorateWithFulfilment(task, fulfilment));
-	}
-
-	private static void addFulfilmentToTasksInPhases(List<EmployeeChecklistPhase> phases, CustomFulfilmentEntity fulfilment) {
-		ofNullable(phases).orElse(emptyList()).stream()
-			.map(EmployeeChecklistPhase::getTasks)
-			.flatMap(List::stream)
-			.filter(task -> Objects.equals(task.getId(), fulfilment.getCustomTask().getId()))
-			.findAny()
-			.ifPresent(task -> decorateWithFulfilment(task, fulfilment));
-	}
-
 	public static EmployeeChecklistPhase decorateWithCustomTasks(EmployeeChecklistPhase phase, List<CustomTaskEntity> customTasks) {
-		ofNullable(customTasks).orElse(emptyList()).stream()
+		final var matchingCustomTasks = ofNullable(customTasks).orElse(emptyList()).stream()
 			.filter(cte -> Objects.equals(phase.getId(), cte.getPhase().getId()))
-			.forEach(customTaskEntity -> addToPhase(customTaskEntity, phase));
+			.toList();
 
-		return phase;
-	}
+		if (!matchingCustomTasks.isEmpty()) {
+			matchingCustomTasks.forEach(customTaskEntity -> phase.getTasks().add(toEmployeeChecklistTask(customTaskEntity)));
+			phase.getTasks().sort(comparing(EmployeeChecklistTask::getSortOrder));
+		}
 
-	private static void addToPhase(CustomTaskEntity entity, EmployeeChecklistPhase phase) {
-		phase.getTasks().add(toEmployeeChecklistTask(entity));
-		phase.getTasks().sort(comparing(EmployeeChecklistTask::getSortOrder));
+		return phase;
 	}
 
 	public static EmployeeChecklistPhase decorateWithFulfilment(EmployeeChecklistPhase phase, EmployeeChecklistEntity employeeChecklistEntity) {
-		ofNullable(employeeChecklistEntity.getFulfilments()).orElse(emptyList()).stream()
-			.forEach(fulfilment -> addFulfilmentToTasks(phase.getTasks(), fulfilment));
+		final var tasks = ofNullable(phase.getTasks()).orElse(emptyList());
+		final var tasksById = indexTasks(tasks.stream().filter(task -> !task.isCustomTask()).toList());
+		final var customTasksById = indexTasks(tasks.stream().filter(EmployeeChecklistTask::isCustomTask).toList());
 
-		ofNullable(employeeChecklistEntity.getCustomFulfilments()).orElse(emptyList()).stream()
-			.forEach(fulfilment -> addFulfilmentToTasks(phase.getTasks(), fulfilment));
+		ofNullable(employeeChecklistEntity.getFulfilments()).orElse(emptyList())
+			.forEach(fulfilment -> ofNullable(tasksById.get(fulfilment.getTask().getId()))
+				.ifPresent(task -> decorateWithFulfilment(task, fulfilment)));
 
-		return phase;
-	}
+		ofNullable(employeeChecklistEntity.getCustomFulfilments()).orElse(emptyList())
+			.forEach(fulfilment -> ofNullable(customTasksById.get(fulfilment.getCustomTask().getId()))
+				.ifPresent(task -> decorateWithFulfilment(task, fulfilment)));
 
-	private static void addFulfilmentToTasks(List<EmployeeChecklistTask> tasks, FulfilmentEntity fulfilment) {
-		ofNullable(tasks).orElse(emptyList()).stream()
-			.filter(task -> !task.isCustomTask())
-			.filter(task -> Objects.equals(task.getId(), fulfilment.getTask().getId()))
-			.findAny()
-			.ifPresent(task -> decorateWithFulfilment(task, fulfilment));
+		return phase;
 	}
 
-	private static void addFulfilmentToTasks(List<EmployeeChecklistTask> tasks, CustomFulfilmentEntity fulfilment) {
-		ofNullable(tasks).orElse(emptyList()).stream()
-			.filter(EmployeeChecklistTask::isCustomTask)
-			.filter(task -> Objects.equals(task.getId(), fulfilment.getCustomTask().getId()))
-			.findAny()
-			.ifPresent(task -> decorateWithFulfilment(task, fulfilment));
+	/**
+	 * Index tasks by id, keeping the first task in list order for each id (which matches the previous linear search).
+	 *
+	 * @param  tasks the tasks to index
+	 * @return       map with task id as key and task as value
+	 */
+	private static Map<String, EmployeeChecklistTask> indexTasks(List<EmployeeChecklistTask> tasks) {
+		final var tasksById = new HashMap<String, EmployeeChecklistTask>(tasks.size() * 2);
+		tasks.forEach(task -> tasksById.putIfAbsent(task.getId(), task));
+		return tasksById;
 	}
 
 	public static EmployeeChecklistTask decorateWithFulfilment(EmployeeChecklistTask task, FulfilmentEntity fulfilment) {
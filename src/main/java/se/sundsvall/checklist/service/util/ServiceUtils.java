@@ -1,16 +1,11 @@
 package se.sundsvall.checklist.service.util;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
-import se.sundsvall.checklist.integration.db.model.CustomFulfilmentEntity;
-import se.sundsvall.checklist.integration.db.model.CustomTaskEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
-import se.sundsvall.checklist.integration.db.model.FulfilmentEntity;
-import se.sundsvall.checklist.integration.db.model.TaskEntity;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
 import se.sundsvall.checklist.service.model.Employee;
 import se.sundsvall.checklist.service.model.Employment;
 import se.sundsvall.dept44.problem.Problem;
@@ -18,7 +13,6 @@ import se.sundsvall.dept44.problem.Problem;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
-import static se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus.TRUE;
 import static se.sundsvall.checklist.service.util.TaskType.COMMON;
 import static se.sundsvall.checklist.service.util.TaskType.CUSTOM;
 
@@ -56,37 +50,15 @@ public final class ServiceUtils {
 	}
 
 	/**
-	 * Method checks if all tasks in the employee checklist are marked as completed
+	 * Method calculates how a counter for the counted fulfilment status changes when a task changes status
 	 *
-	 * @param  employeeChecklist the employee onboarding to check
-	 * @return                   true if all tasks are completed, false otherwise
+	 * @param  counted the fulfilment status that is counted
+	 * @param  from    the previous fulfilment status of the task, or null if the task had no fulfilment
+	 * @param  to      the new fulfilment status of the task, or null if the fulfilment is removed
+	 * @return         1 if the task starts being counted, -1 if it stops being counted and 0 otherwise
 	 */
-	public static boolean allTasksAreCompleted(EmployeeChecklistEntity employeeChecklist) {
-		// Collect task ids from all tasks and custom tasks in the employee checklist
-		final var taskIds = ofNullable(employeeChecklist.getChecklists()).orElse(emptyList()).stream()
-			.map(ChecklistEntity::getTasks)
-			.flatMap(List::stream)
-			.map(TaskEntity::getId)
-			.collect(Collectors.toCollection(ArrayList::new));
-
-		taskIds.addAll(ofNullable(employeeChecklist.getCustomTasks()).orElse(emptyList()).stream()
-			.map(CustomTaskEntity::getId)
-			.toList());
-
-		// Collect task ids for all task and custom tasks marked as completed by the employee or manager
-		final var completedTaskIds = ofNullable(employeeChecklist.getFulfilments()).orElse(emptyList()).stream()
-			.filter(fulfilment -> Objects.equals(fulfilment.getCompleted(), TRUE)) // // tasks shall have status TRUE as value to be considered as completed
-			.map(FulfilmentEntity::getTask)
-			.map(TaskEntity::getId)
-			.collect(Collectors.toCollection(ArrayList::new));
-
-		completedTaskIds.addAll(ofNullable(employeeChecklist.getCustomFulfilments()).orElse(emptyList()).stream()
-			.filter(fulfilment -> Objects.equals(fulfilment.getCompleted(), TRUE)) // // tasks shall have status TRUE as value to be considered as completed
-			.map(CustomFulfilmentEntity::getCustomTask)
-			.map(CustomTaskEntity::getId)
-			.toList());
-
-		return completedTaskIds.containsAll(taskIds);
+	public static int countDelta(FulfilmentStatus counted, FulfilmentStatus from, FulfilmentStatus to) {
+		return (to == counted ? 1 : 0) - (from == counted ? 1 : 0);
 	}
 
 	public static Optional<EmployeeChecklistEntity> fetchEntity(List<EmployeeChecklistEntity> entities, String id) {
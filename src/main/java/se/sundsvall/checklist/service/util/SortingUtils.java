@@ -1,8 +1,9 @@
 package se.sundsvall.checklist.service.util;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.stream.Collectors;
 import se.sundsvall.checklist.api.model.Checklist;
 import se.sundsvall.checklist.api.model.EmployeeChecklist;
@@ -14,6 +15,7 @@ import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.PhaseEntity;
 import se.sundsvall.checklist.integration.db.model.SortorderEntity;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
+import se.sundsvall.checklist.integration.db.model.enums.ComponentType;
 
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
@@ -30,22 +32,14 @@ public class SortingUtils {
 	 * @param customSort the custom sort order to apply
 	 */
 	public static void applyCustomSortorder(final Checklist checklist, final List<SortorderEntity> customSort) {
-		customSort.stream()
-			.filter(entity -> PHASE == entity.getComponentType())
-			.forEach(entity -> ofNullable(checklist.getPhases()).orElse(emptyList()).stream()
-				.filter(phase -> phase.getId().equals(entity.getComponentId()))
-				.findAny()
-				.ifPresent(phase -> phase.setSortOrder(entity.getPosition())));
-
-		customSort.stream()
-			.filter(entity -> TASK == entity.getComponentType())
-			.forEach(entity -> ofNullable(checklist.getPhases()).orElse(emptyList()).stream()
-				.map(Phase::getTasks)
-				.filter(Objects::nonNull)
-				.flatMap(List::stream)
-				.filter(task -> task.getId().equals(entity.getComponentId()))
-				.findAny()
-				.ifPresent(task -> task.setSortOrder(entity.getPosition())));
+		final var phasePositions = toPositionMap(customSort, PHASE);
+		final var taskPositions = toPositionMap(customSort, TASK);
+
+		ofNullable(checklist.getPhases()).orElse(emptyList()).forEach(phase -> {
+			ofNullable(phasePositions.get(phase.getId())).ifPresent(phase::setSortOrder);
+			ofNullable(phase.getTasks()).orElse(emptyList())
+				.forEach(task -> ofNullable(taskPositions.get(task.getId())).ifPresent(task::setSortOrder));
+		});
 	}
 
 	/**
@@ -55,12 +49,10 @@ public class SortingUtils {
 	 * @param customSort the custom sort order to apply
 	 */
 	public static void applyCustomSortorder(final List<Task> tasks, final List<SortorderEntity> customSort) {
-		customSort.stream()
-			.filter(entity -> TASK == entity.getComponentType())
-			.forEach(entity -> ofNullable(tasks).orElse(emptyList()).stream()
-				.filter(task -> task.getId().equals(entity.getComponentId()))
-				.findAny()
-				.ifPresent(task -> task.setSortOrder(entity.getPosition())));
+		final var taskPositions = toPositionMap(customSort, TASK);
+
+		ofNullable(tasks).orElse(emptyList())
+			.forEach(task -> ofNullable(taskPositions.get(task.getId())).ifPresent(task::setSortOrder));
 	}
 
 	/**
@@ -107,22 +99,30 @@ public class SortingUtils {
 	 * @param customSort        the custom sort order to apply
 	 */
 	public static void applyCustomSortorder(final EmployeeChecklist employeeChecklist, final List<SortorderEntity> customSort) {
-		customSort.stream()
-			.filter(entity -> PHASE == entity.getComponentType())
-			.forEach(entity -> ofNullable(employeeChecklist.getPhases()).orElse(emptyList()).stream()
-				.filter(phase -> phase.getId().equals(entity.getComponentId()))
-				.findAny()
-				.ifPresent(phase -> phase.setSortOrder(entity.getPosition())));
-
-		customSort.stream()
-			.filter(entity -> TASK == entity.getComponentType())
-			.forEach(entity -> ofNullable(employeeChecklist.getPhases()).orElse(emptyList()).stream()
-				.map(EmployeeChecklistPhase::getTasks)
-				.filter(Objects::nonNull)
-				.flatMap(List::stream)
-				.filter(task -> task.getId().equals(entity.getComponentId()))
-				.findAny()
-				.ifPresent(task -> task.setSortOrder(entity.getPosition())));
+		final var phasePositions = toPositionMap(customSort, PHASE);
+		final var taskPositions = toPositionMap(customSort, TASK);
+
+		ofNullable(employeeChecklist.getPhases()).orElse(emptyList()).forEach(phase -> {
+			ofNullable(phasePositions.get(phase.getId())).ifPresent(phase::setSortOrder);
+			ofNullable(phase.getTasks()).orElse(emptyList())
+				.forEach(task -> ofNullable(taskPositions.get(task.getId())).ifPresent(task::setSortOrder));
+		});
+	}
+
+	/**
+	 * Index custom sort positions by component id for the provided component type. If the same component occurs more than
+	 * once, the last occurrence wins (which matches applying the custom sort entries one by one).
+	 *
+	 * @param  customSort    the custom sort order to index
+	 * @param  componentType the type of component to index
+	 * @return               map with component id as key and position as value
+	 */
+	private static Map<String, Integer> toPositionMap(final List<SortorderEntity> customSort, final ComponentType componentType) {
+		final var positions = new HashMap<String, Integer>();
+		ofNullable(customSort).orElse(emptyList()).stream()
+			.filter(entity -> componentType == entity.getComponentType())
+			.forEach(entity -> positions.put(entity.getComponentId(), entity.getPosition()));
+		return positions;
 	}
 
 	/**
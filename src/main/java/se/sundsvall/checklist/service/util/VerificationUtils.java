@@ -113,8 +113,19 @@ public final class VerificationUtils {
 	 * @param employeeChecklistEntity the employee checklist entity to verify
 	 */
 	public static void verifyUnlockedEmployeeChecklist(EmployeeChecklistEntity employeeChecklistEntity) {
-		if (employeeChecklistEntity.isLocked()) {
-			throw Problem.valueOf(BAD_REQUEST, EMPLOYEE_CHECKLIST_IS_LOCKED.formatted(employeeChecklistEntity.getId()));
+		verifyUnlockedEmployeeChecklist(employeeChecklistEntity.getId(), employeeChecklistEntity.isLocked());
+	}
+
+	/**
+	 * Method for verifying that an employee checklist is not locked, based on the lock state of the employee checklist. If
+	 * the employee checklist is locked, a Problem will be thrown.
+	 *
+	 * @param employeeChecklistId the id of the employee checklist to verify
+	 * @param locked              the lock state of the employee checklist
+	 */
+	public static void verifyUnlockedEmployeeChecklist(String employeeChecklistId, boolean locked) {
+		if (locked) {
+			throw Problem.valueOf(BAD_REQUEST, EMPLOYEE_CHECKLIST_IS_LOCKED.formatted(employeeChecklistId));
 		}
 	}
 
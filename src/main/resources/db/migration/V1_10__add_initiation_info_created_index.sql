@@ -0,0 +1,2 @@
+create index initiation_info_created_idx
+    on initiation_info (created);
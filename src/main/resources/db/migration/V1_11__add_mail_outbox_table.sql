@@ -0,0 +1,16 @@
+create table mail_outbox
+(
+    id                    varchar(255) not null,
+    employee_checklist_id varchar(255) not null,
+    municipality_id       varchar(255) not null,
+    email_template        varchar(255) not null,
+    next_attempt          datetime(6),
+    created               datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+alter table if exists mail_outbox
+    add constraint uk_mail_outbox_employee_checklist_id unique (employee_checklist_id);
+
+create index mail_outbox_next_attempt_idx
+    on mail_outbox (next_attempt);
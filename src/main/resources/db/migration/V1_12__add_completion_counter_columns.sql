@@ -0,0 +1,27 @@
+alter table employee_checklist
+    add column total_tasks integer not null default 0,
+    add column completed_tasks integer not null default 0,
+    add column not_relevant_tasks integer not null default 0;
+
+update employee_checklist ec
+set ec.total_tasks        = (select count(*)
+                             from referred_checklist rc
+                                      join task t on t.checklist_id = rc.checklist_id
+                             where rc.employee_checklist_id = ec.id)
+    + (select count(*) from custom_task ct where ct.employee_checklist_id = ec.id),
+    ec.completed_tasks    = (select count(distinct f.task_id)
+                             from fulfilment f
+                             where f.employee_checklist_id = ec.id
+                               and f.completed = 'TRUE')
+        + (select count(distinct cf.custom_task_id)
+           from custom_fulfilment cf
+           where cf.employee_checklist_id = ec.id
+             and cf.completed = 'TRUE'),
+    ec.not_relevant_tasks = (select count(distinct f.task_id)
+                             from fulfilment f
+                             where f.employee_checklist_id = ec.id
+                               and f.completed = 'NOT_RELEVANT')
+        + (select count(distinct cf.custom_task_id)
+           from custom_fulfilment cf
+           where cf.employee_checklist_id = ec.id
+             and cf.completed = 'NOT_RELEVANT');
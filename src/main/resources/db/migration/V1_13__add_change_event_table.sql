@@ -0,0 +1,12 @@
+create table change_event
+(
+    id                    bigint       not null auto_increment,
+    employee_checklist_id varchar(255) not null,
+    change_type           enum ('CUSTOM_TASK','DELEGATION','FULFILMENT','MENTOR') not null,
+    username              varchar(255),
+    created               datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create index change_event_created_idx
+    on change_event (created);
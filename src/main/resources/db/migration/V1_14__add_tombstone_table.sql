@@ -0,0 +1,11 @@
+create table tombstone
+(
+    id                    bigint       not null auto_increment,
+    employee_checklist_id varchar(255) not null,
+    task_id               varchar(255) not null,
+    deleted               datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create index tombstone_employee_checklist_id_deleted_idx
+    on tombstone (employee_checklist_id, deleted);
@@ -0,0 +1,16 @@
+create table initiation_job
+(
+    id              varchar(255) not null,
+    municipality_id varchar(255) not null,
+    status          varchar(255) not null,
+    total           integer,
+    processed       integer      not null,
+    errors          integer      not null,
+    summary         varchar(2048),
+    started         datetime(6),
+    finished        datetime(6),
+    primary key (id)
+) engine = InnoDB;
+
+create index initiation_job_municipality_id_status_idx
+    on initiation_job (municipality_id, status);
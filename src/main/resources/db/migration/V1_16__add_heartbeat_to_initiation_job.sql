@@ -0,0 +1,2 @@
+alter table initiation_job
+    add column heartbeat datetime(6);
@@ -0,0 +1,7 @@
+create table employee_import_watermark
+(
+    municipality_id        varchar(255) not null,
+    last_successful_import date,
+    updated                datetime(6),
+    primary key (municipality_id)
+) engine = InnoDB;
@@ -1,6 +1,7 @@
 package se.sundsvall.checklist.api;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 
 @AutoConfigureWebTestClient
 @SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
@@ -51,21 +54,41 @@ class DelegationResourceTest {
 	void fetchDelegations() {
 		final var username = "abc20def";
 		final var mockResponse = DelegatedEmployeeChecklistResponse.builder().build();
+		when(serviceMock.fetchVersionOfDelegatedEmployeeChecklists(MUNICIPALITY_ID, username)).thenReturn(Optional.of("version"));
 		when(serviceMock.fetchDelegatedEmployeeChecklistsByUsername(MUNICIPALITY_ID, username)).thenReturn(mockResponse);
 
 		final var response = webTestClient.get()
 			.uri(builder -> builder.path(BASE_PATH + "/delegated-to/{username}").build(Map.of("municipalityId", MUNICIPALITY_ID, "username", username)))
 			.exchange()
 			.expectStatus().isOk()
+			.expectHeader().valueEquals(ETAG, "\"version\"")
 			.expectBody(DelegatedEmployeeChecklistResponse.class)
 			.returnResult()
 			.getResponseBody();
 
 		assertThat(response).isEqualTo(mockResponse);
+		verify(serviceMock).fetchVersionOfDelegatedEmployeeChecklists(MUNICIPALITY_ID, username);
 		verify(serviceMock).fetchDelegatedEmployeeChecklistsByUsername(MUNICIPALITY_ID, username);
 		verifyNoMoreInteractions(serviceMock);
 	}
 
+	@Test
+	void fetchDelegationsNotModified() {
+		final var username = "abc20def";
+		when(serviceMock.fetchVersionOfDelegatedEmployeeChecklists(MUNICIPALITY_ID, username)).thenReturn(Optional.of("version"));
+
+		webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + "/delegated-to/{username}").build(Map.of("municipalityId", MUNICIPALITY_ID, "username", username)))
+			.header(IF_NONE_MATCH, "\"version\"")
+			.exchange()
+			.expectStatus().isNotModified()
+			.expectHeader().valueEquals(ETAG, "\"version\"")
+			.expectBody().isEmpty();
+
+		verify(serviceMock).fetchVersionOfDelegatedEmployeeChecklists(MUNICIPALITY_ID, username);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
 	@Test
 	void removeDelegation() {
 		webTestClient.delete()
@@ -1,5 +1,6 @@
 package se.sundsvall.checklist.api;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -22,16 +23,20 @@ import se.sundsvall.checklist.Application;
 import se.sundsvall.checklist.api.model.CustomTaskCreateRequest;
 import se.sundsvall.checklist.api.model.CustomTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhaseUpdateRequest;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.Mentor;
 import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
 import se.sundsvall.checklist.integration.db.model.enums.QuestionType;
 import se.sundsvall.checklist.integration.db.model.enums.RoleType;
 import se.sundsvall.checklist.service.EmployeeChecklistService;
+import se.sundsvall.checklist.service.InitiationJobService;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.dept44.problem.violations.Violation;
 
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -53,12 +58,15 @@ class EmployeeChecklistResourceFailureTest {
 	@MockitoBean
 	private EmployeeChecklistService serviceMock;
 
+	@MockitoBean
+	private InitiationJobService initiationJobServiceMock;
+
 	@Autowired
 	private WebTestClient webTestClient;
 
 	@AfterEach
 	void checkNoInteractions() {
-		verifyNoInteractions(serviceMock);
+		verifyNoInteractions(serviceMock, initiationJobServiceMock);
 	}
 
 	@Test
@@ -139,6 +147,45 @@ class EmployeeChecklistResourceFailureTest {
 		});
 	}
 
+	@Test
+	void fetchChangesSinceInvalidPathValues() {
+		// Arrange
+		final var path = "/{uuid}/changes";
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path)
+				.queryParam("since", "2024-01-01T12:00:00Z")
+				.build(Map.of("municipalityId", INVALID, "uuid", INVALID)))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isNotNull().satisfies(r -> {
+			assertThat(r.getTitle()).isEqualTo("Constraint Violation");
+			assertThat(r.getStatus()).isEqualTo(BAD_REQUEST);
+			assertThat(r.getViolations()).extracting(Violation::field, Violation::message)
+				.containsExactlyInAnyOrder(
+					tuple("fetchChangesSince.municipalityId", "not a valid municipality ID"),
+					tuple("fetchChangesSince.employeeChecklistId", "not a valid UUID"));
+		});
+	}
+
+	@Test
+	void fetchChangesSinceWithoutSince() {
+		// Arrange
+		final var path = "/{uuid}/changes";
+
+		// Act and assert
+		webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "uuid", ID)))
+			.exchange()
+			.expectStatus().isBadRequest();
+	}
+
 	@Test
 	void setMentorInvalidPathValues() {
 		final var path = "/{employeeChecklistId}/mentor";
@@ -658,6 +705,73 @@ class EmployeeChecklistResourceFailureTest {
 		});
 	}
 
+	@Test
+	void updateTaskFulfilmentsInvalidValues() {
+		// Arrange
+		final var path = "/tasks";
+		final var body = EmployeeChecklistTaskBatchUpdateRequest.builder()
+			.withTaskFulfilments(List.of(TaskFulfilment.builder()
+				.withEmployeeChecklistId(INVALID)
+				.withTaskId(INVALID)
+				.withFulfilmentStatus(FulfilmentStatus.TRUE)
+				.build()))
+			.build();
+
+		// Act
+		final var response = webTestClient.patch()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.bodyValue(body)
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isNotNull().satisfies(r -> {
+			assertThat(r.getTitle()).isEqualTo("Constraint Violation");
+			assertThat(r.getStatus()).isEqualTo(BAD_REQUEST);
+			assertThat(r.getViolations())
+				.extracting(
+					Violation::field, Violation::message)
+				.containsExactlyInAnyOrder(
+					tuple("updatedBy", "must not be blank"),
+					tuple("taskFulfilments[0].employeeChecklistId", "not a valid UUID"),
+					tuple("taskFulfilments[0].taskId", "not a valid UUID"));
+		});
+	}
+
+	@Test
+	void updateTaskFulfilmentsWithoutTaskFulfilments() {
+		// Arrange
+		final var path = "/tasks";
+		final var body = EmployeeChecklistTaskBatchUpdateRequest.builder()
+			.withUpdatedBy(USER_ID)
+			.withTaskFulfilments(emptyList())
+			.build();
+
+		// Act
+		final var response = webTestClient.patch()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.bodyValue(body)
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isNotNull().satisfies(r -> {
+			assertThat(r.getTitle()).isEqualTo("Constraint Violation");
+			assertThat(r.getStatus()).isEqualTo(BAD_REQUEST);
+			assertThat(r.getViolations())
+				.extracting(
+					Violation::field, Violation::message)
+				.containsExactlyInAnyOrder(
+					tuple("taskFulfilments", "must not be empty"));
+		});
+	}
+
 	@Test
 	void initializeEmployeeChecklistInvalidPathValues() {
 		// Arrange
@@ -685,6 +799,59 @@ class EmployeeChecklistResourceFailureTest {
 		});
 	}
 
+	@Test
+	void startInitiationJobInvalidPathValues() {
+		// Arrange
+		final var path = "/initialization-jobs";
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", INVALID)))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isNotNull().satisfies(r -> {
+			assertThat(r.getTitle()).isEqualTo("Constraint Violation");
+			assertThat(r.getStatus()).isEqualTo(BAD_REQUEST);
+			assertThat(r.getViolations())
+				.extracting(
+					Violation::field, Violation::message)
+				.containsExactly(
+					tuple("startInitiationJob.municipalityId", "not a valid municipality ID"));
+		});
+	}
+
+	@Test
+	void getInitiationJobInvalidPathValues() {
+		// Arrange
+		final var path = "/initialization-jobs/{jobId}";
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", INVALID, "jobId", INVALID)))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isNotNull().satisfies(r -> {
+			assertThat(r.getTitle()).isEqualTo("Constraint Violation");
+			assertThat(r.getStatus()).isEqualTo(BAD_REQUEST);
+			assertThat(r.getViolations())
+				.extracting(
+					Violation::field, Violation::message)
+				.containsExactlyInAnyOrder(
+					tuple("getInitiationJob.municipalityId", "not a valid municipality ID"),
+					tuple("getInitiationJob.jobId", "not a valid UUID"));
+		});
+	}
+
 	@Test
 	void getInitiationinfoInvalidPathValues() {
 		// Arrange
@@ -19,25 +19,36 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import se.sundsvall.checklist.Application;
+import se.sundsvall.checklist.api.model.ChangeEvent;
 import se.sundsvall.checklist.api.model.CustomTask;
 import se.sundsvall.checklist.api.model.CustomTaskCreateRequest;
 import se.sundsvall.checklist.api.model.CustomTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklist;
+import se.sundsvall.checklist.api.model.EmployeeChecklistDelta;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhase;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhaseUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse.Detail;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateResponse;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateResponse.Result;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.InitiationInformation;
+import se.sundsvall.checklist.api.model.InitiationJob;
+import se.sundsvall.checklist.api.model.InitiationJobStatus;
 import se.sundsvall.checklist.api.model.Mentor;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklistParameters;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklists;
+import se.sundsvall.checklist.integration.db.model.enums.ChangeType;
 import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
 import se.sundsvall.checklist.integration.db.model.enums.QuestionType;
 import se.sundsvall.checklist.integration.db.model.enums.RoleType;
 import se.sundsvall.checklist.service.EmployeeChecklistService;
+import se.sundsvall.checklist.service.InitiationJobService;
 
 import static java.util.Optional.ofNullable;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -48,6 +59,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
 
 @AutoConfigureWebTestClient
 @SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
@@ -67,12 +82,15 @@ class EmployeeChecklistResourceTest {
 	@MockitoBean
 	private EmployeeChecklistService serviceMock;
 
+	@MockitoBean
+	private InitiationJobService initiationJobServiceMock;
+
 	@Autowired
 	private WebTestClient webTestClient;
 
 	@AfterEach
 	void verifyNoMoreMockInteractions() {
-		verifyNoMoreInteractions(serviceMock);
+		verifyNoMoreInteractions(serviceMock, initiationJobServiceMock);
 	}
 
 	@Test
@@ -102,6 +120,7 @@ class EmployeeChecklistResourceTest {
 		final var path = "/employee/{userId}";
 		final var mockedResponse = EmployeeChecklist.builder().build();
 
+		when(serviceMock.fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, USER_ID)).thenReturn(Optional.of("version"));
 		when(serviceMock.fetchChecklistForEmployee(MUNICIPALITY_ID, USER_ID)).thenReturn(Optional.of(mockedResponse));
 
 		// Act
@@ -109,6 +128,7 @@ class EmployeeChecklistResourceTest {
 			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "userId", USER_ID)))
 			.exchange()
 			.expectStatus().isOk()
+			.expectHeader().valueEquals(ETAG, "\"version\"")
 			.expectBody(EmployeeChecklist.class)
 			.returnResult()
 			.getResponseBody();
@@ -116,6 +136,51 @@ class EmployeeChecklistResourceTest {
 		// Assert and verify
 		assertThat(response).isEqualTo(mockedResponse);
 
+		verify(serviceMock).fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, USER_ID);
+		verify(serviceMock).fetchChecklistForEmployee(MUNICIPALITY_ID, USER_ID);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
+	@Test
+	void fetchChecklistForEmployeeNotModified() {
+		// Arrange
+		final var path = "/employee/{userId}";
+
+		when(serviceMock.fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, USER_ID)).thenReturn(Optional.of("version"));
+
+		// Act
+		webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "userId", USER_ID)))
+			.header(IF_NONE_MATCH, "\"version\"")
+			.exchange()
+			.expectStatus().isNotModified()
+			.expectHeader().valueEquals(ETAG, "\"version\"")
+			.expectBody().isEmpty();
+
+		// Assert and verify that the checklist is not built
+		verify(serviceMock).fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, USER_ID);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
+	@Test
+	void fetchChecklistForEmployeeModified() {
+		// Arrange
+		final var path = "/employee/{userId}";
+		final var mockedResponse = EmployeeChecklist.builder().build();
+
+		when(serviceMock.fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, USER_ID)).thenReturn(Optional.of("version"));
+		when(serviceMock.fetchChecklistForEmployee(MUNICIPALITY_ID, USER_ID)).thenReturn(Optional.of(mockedResponse));
+
+		// Act
+		webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "userId", USER_ID)))
+			.header(IF_NONE_MATCH, "\"otherVersion\"")
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().valueEquals(ETAG, "\"version\"");
+
+		// Assert and verify
+		verify(serviceMock).fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, USER_ID);
 		verify(serviceMock).fetchChecklistForEmployee(MUNICIPALITY_ID, USER_ID);
 		verifyNoMoreInteractions(serviceMock);
 	}
@@ -132,10 +197,12 @@ class EmployeeChecklistResourceTest {
 			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "userId", USER_ID)))
 			.exchange()
 			.expectStatus().isNoContent()
+			.expectHeader().doesNotExist(ETAG)
 			.expectBody()
 			.isEmpty();
 
 		// Assert and verify
+		verify(serviceMock).fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, USER_ID);
 		verify(serviceMock).fetchChecklistForEmployee(MUNICIPALITY_ID, USER_ID);
 		verifyNoMoreInteractions(serviceMock);
 	}
@@ -146,6 +213,7 @@ class EmployeeChecklistResourceTest {
 		final var path = "/manager/{userId}";
 		final var mockedResponse = List.of(EmployeeChecklist.builder().build(), EmployeeChecklist.builder().build());
 
+		when(serviceMock.fetchVersionOfChecklistsForManager(MUNICIPALITY_ID, USER_ID)).thenReturn(Optional.of("version"));
 		when(serviceMock.fetchChecklistsForManager(MUNICIPALITY_ID, USER_ID)).thenReturn(mockedResponse);
 
 		// Act
@@ -153,6 +221,7 @@ class EmployeeChecklistResourceTest {
 			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "userId", USER_ID)))
 			.exchange()
 			.expectStatus().isOk()
+			.expectHeader().valueEquals(ETAG, "\"version\"")
 			.expectBodyList(EmployeeChecklist.class)
 			.returnResult()
 			.getResponseBody();
@@ -160,10 +229,100 @@ class EmployeeChecklistResourceTest {
 		// Assert and verify
 		assertThat(response).isEqualTo(mockedResponse);
 
+		verify(serviceMock).fetchVersionOfChecklistsForManager(MUNICIPALITY_ID, USER_ID);
 		verify(serviceMock).fetchChecklistsForManager(MUNICIPALITY_ID, USER_ID);
 		verifyNoMoreInteractions(serviceMock);
 	}
 
+	@Test
+	void fetchChecklistsForManagerNotModified() {
+		// Arrange
+		final var path = "/manager/{userId}";
+
+		when(serviceMock.fetchVersionOfChecklistsForManager(MUNICIPALITY_ID, USER_ID)).thenReturn(Optional.of("version"));
+
+		// Act
+		webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "userId", USER_ID)))
+			.header(IF_NONE_MATCH, "\"version\"")
+			.exchange()
+			.expectStatus().isNotModified()
+			.expectBody().isEmpty();
+
+		// Assert and verify that the checklists are not built
+		verify(serviceMock).fetchVersionOfChecklistsForManager(MUNICIPALITY_ID, USER_ID);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
+	@Test
+	void subscribeToChanges() throws Exception {
+		// Arrange
+		final var path = "/changes/{userId}";
+		final var emitter = new SseEmitter();
+		emitter.send(SseEmitter.event()
+			.id("4711")
+			.name("change")
+			.data(ChangeEvent.builder().withId(4711L).withEmployeeChecklistId(ID).withChangeType(ChangeType.FULFILMENT).build(), APPLICATION_JSON));
+		emitter.complete();
+
+		when(serviceMock.subscribeToChanges(MUNICIPALITY_ID, USER_ID)).thenReturn(emitter);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "userId", USER_ID)))
+			.accept(TEXT_EVENT_STREAM)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentTypeCompatibleWith(TEXT_EVENT_STREAM)
+			.expectBody(String.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response)
+			.contains("id:4711")
+			.contains("event:change")
+			.contains("\"employeeChecklistId\":\"%s\"".formatted(ID))
+			.contains("\"changeType\":\"FULFILMENT\"");
+
+		verify(serviceMock).subscribeToChanges(MUNICIPALITY_ID, USER_ID);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
+	@Test
+	void fetchChangesSince() {
+		// Arrange
+		final var path = "/{employeeChecklistId}/changes";
+		final var since = OffsetDateTime.parse("2024-01-01T12:00:00Z");
+		final var mockedResponse = EmployeeChecklistDelta.builder()
+			.withId(ID)
+			.withSince(since)
+			.withRemovedTaskIds(List.of(SUB_ID))
+			.build();
+
+		when(serviceMock.fetchChangesSince(MUNICIPALITY_ID, ID, since)).thenReturn(mockedResponse);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path)
+				.queryParam("since", "2024-01-01T12:00:00Z")
+				.build(Map.of("municipalityId", MUNICIPALITY_ID, "employeeChecklistId", ID)))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(EmployeeChecklistDelta.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isNotNull();
+		assertThat(response.getId()).isEqualTo(ID);
+		assertThat(response.getSince()).isEqualTo(since);
+		assertThat(response.getRemovedTaskIds()).containsExactly(SUB_ID);
+
+		verify(serviceMock).fetchChangesSince(MUNICIPALITY_ID, ID, since);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
 	@Test
 	void deleteEmployeeChecklist() {
 		// Arrange
@@ -385,6 +544,47 @@ class EmployeeChecklistResourceTest {
 		verifyNoMoreInteractions(serviceMock);
 	}
 
+	@Test
+	void updateTaskFulfilments() {
+		// Arrange
+		final var path = "/tasks";
+		final var request = EmployeeChecklistTaskBatchUpdateRequest.builder()
+			.withUpdatedBy(USER_ID)
+			.withTaskFulfilments(List.of(TaskFulfilment.builder()
+				.withEmployeeChecklistId(ID)
+				.withTaskId(SUB_ID)
+				.withFulfilmentStatus(FulfilmentStatus.TRUE)
+				.withResponseText("responseText")
+				.build()))
+			.build();
+		final var mockedResponse = EmployeeChecklistTaskBatchUpdateResponse.builder()
+			.withResults(List.of(Result.builder()
+				.withEmployeeChecklistId(ID)
+				.withTaskId(SUB_ID)
+				.withStatus(HttpStatus.OK)
+				.withTask(EmployeeChecklistTask.builder().build())
+				.build()))
+			.build();
+
+		when(serviceMock.updateTaskFulfilments(MUNICIPALITY_ID, request)).thenReturn(mockedResponse);
+
+		// Act
+		final var response = webTestClient.patch()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.bodyValue(request)
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(EmployeeChecklistTaskBatchUpdateResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isEqualTo(mockedResponse);
+
+		verify(serviceMock).updateTaskFulfilments(MUNICIPALITY_ID, request);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
 	@Test
 	void initiateChecklistsForAllEmployees() {
 		// Arrange
@@ -394,7 +594,7 @@ class EmployeeChecklistResourceTest {
 			.withDetails(List.of(Detail.builder().withInformation("information").withStatus(HttpStatus.OK).build()))
 			.build();
 
-		when(serviceMock.initiateEmployeeChecklists(MUNICIPALITY_ID)).thenReturn(mockedResponse);
+		when(serviceMock.initiateEmployeeChecklists(MUNICIPALITY_ID, false)).thenReturn(mockedResponse);
 
 		// Act
 		final var response = webTestClient.post()
@@ -408,7 +608,91 @@ class EmployeeChecklistResourceTest {
 		// Assert and verify
 		assertThat(response).isEqualTo(mockedResponse);
 
-		verify(serviceMock).initiateEmployeeChecklists(MUNICIPALITY_ID);
+		verify(serviceMock).initiateEmployeeChecklists(MUNICIPALITY_ID, false);
+	}
+
+	@Test
+	void initiateChecklistsForAllEmployeesWithFullResync() {
+		// Arrange
+		final var path = "/initialize";
+		final var mockedResponse = EmployeeChecklistResponse.builder()
+			.withSummary("summary")
+			.withDetails(List.of(Detail.builder().withInformation("information").withStatus(HttpStatus.OK).build()))
+			.build();
+
+		when(serviceMock.initiateEmployeeChecklists(MUNICIPALITY_ID, true)).thenReturn(mockedResponse);
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(builder -> builder.path(BASE_PATH + path).queryParam("fullResync", true).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(EmployeeChecklistResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isEqualTo(mockedResponse);
+
+		verify(serviceMock).initiateEmployeeChecklists(MUNICIPALITY_ID, true);
+	}
+
+	@Test
+	void startInitiationJob() {
+		// Arrange
+		final var path = "/initialization-jobs";
+		final var mockedResponse = InitiationJob.builder()
+			.withId(ID)
+			.withStatus(InitiationJobStatus.RUNNING)
+			.withStarted(OffsetDateTime.now())
+			.build();
+
+		when(initiationJobServiceMock.startJob(MUNICIPALITY_ID, true)).thenReturn(mockedResponse);
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(builder -> builder.path(BASE_PATH + path).queryParam("fullResync", true).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.exchange()
+			.expectStatus().isAccepted()
+			.expectHeader().location("/" + MUNICIPALITY_ID + "/employee-checklists/initialization-jobs/" + ID)
+			.expectBody(InitiationJob.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).usingRecursiveComparison().ignoringFields("started").isEqualTo(mockedResponse);
+
+		verify(initiationJobServiceMock).startJob(MUNICIPALITY_ID, true);
+	}
+
+	@Test
+	void getInitiationJob() {
+		// Arrange
+		final var path = "/initialization-jobs/{jobId}";
+		final var mockedResponse = InitiationJob.builder()
+			.withId(ID)
+			.withStatus(InitiationJobStatus.COMPLETED)
+			.withTotal(2)
+			.withProcessed(2)
+			.withErrors(1)
+			.withResult(EmployeeChecklistResponse.builder().withSummary("summary").build())
+			.build();
+
+		when(initiationJobServiceMock.getJob(MUNICIPALITY_ID, ID)).thenReturn(mockedResponse);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(builder -> builder.path(BASE_PATH + path).build(Map.of("municipalityId", MUNICIPALITY_ID, "jobId", ID)))
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(InitiationJob.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isEqualTo(mockedResponse);
+
+		verify(initiationJobServiceMock).getJob(MUNICIPALITY_ID, ID);
 	}
 
 	@Test
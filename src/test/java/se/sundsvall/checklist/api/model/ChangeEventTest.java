@@ -0,0 +1,49 @@
+package se.sundsvall.checklist.api.model;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.FULFILMENT;
+
+class ChangeEventTest {
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(ChangeEvent.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var id = 4711L;
+		final var employeeChecklistId = "employeeChecklistId";
+		final var changeType = FULFILMENT;
+
+		final var bean = ChangeEvent.builder()
+			.withId(id)
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withChangeType(changeType)
+			.build();
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getEmployeeChecklistId()).isEqualTo(employeeChecklistId);
+		assertThat(bean.getChangeType()).isEqualTo(changeType);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(ChangeEvent.builder().build()).hasAllNullFieldsOrProperties();
+	}
+}
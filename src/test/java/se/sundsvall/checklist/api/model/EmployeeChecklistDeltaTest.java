@@ -0,0 +1,88 @@
+package se.sundsvall.checklist.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class EmployeeChecklistDeltaTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> OffsetDateTime.now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(EmployeeChecklistDelta.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanToString(),
+			hasValidBeanEquals(),
+			hasValidBeanHashCode()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var completed = true;
+		final var delegatedTo = List.of("delegatedTo");
+		final var id = "id";
+		final var locked = true;
+		final var mentor = Mentor.builder().build();
+		final var phases = List.of(EmployeeChecklistPhase.builder().build());
+		final var removedTaskIds = List.of("removedTaskId");
+		final var since = OffsetDateTime.now().minusDays(1);
+		final var until = OffsetDateTime.now();
+		final var updated = OffsetDateTime.now().minusHours(1);
+
+		final var bean = EmployeeChecklistDelta.builder()
+			.withCompleted(completed)
+			.withDelegatedTo(delegatedTo)
+			.withId(id)
+			.withLocked(locked)
+			.withMentor(mentor)
+			.withPhases(phases)
+			.withRemovedTaskIds(removedTaskIds)
+			.withSince(since)
+			.withUntil(until)
+			.withUpdated(updated)
+			.build();
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getCompleted()).isEqualTo(completed);
+		assertThat(bean.getDelegatedTo()).isEqualTo(delegatedTo);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.isLocked()).isEqualTo(locked);
+		assertThat(bean.getMentor()).isEqualTo(mentor);
+		assertThat(bean.getPhases()).isEqualTo(phases);
+		assertThat(bean.getRemovedTaskIds()).isEqualTo(removedTaskIds);
+		assertThat(bean.getSince()).isEqualTo(since);
+		assertThat(bean.getUntil()).isEqualTo(until);
+		assertThat(bean.getUpdated()).isEqualTo(updated);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(EmployeeChecklistDelta.builder().build()).hasAllNullFieldsOrPropertiesExcept("locked", "phases", "removedTaskIds")
+			.hasFieldOrPropertyWithValue("locked", false)
+			.hasFieldOrPropertyWithValue("phases", emptyList())
+			.hasFieldOrPropertyWithValue("removedTaskIds", emptyList());
+
+		assertThat(new EmployeeChecklistDelta()).hasAllNullFieldsOrPropertiesExcept("locked", "phases", "removedTaskIds")
+			.hasFieldOrPropertyWithValue("locked", false)
+			.hasFieldOrPropertyWithValue("phases", emptyList())
+			.hasFieldOrPropertyWithValue("removedTaskIds", emptyList());
+	}
+}
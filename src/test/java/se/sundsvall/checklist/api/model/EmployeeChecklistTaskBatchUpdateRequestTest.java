@@ -0,0 +1,80 @@
+package se.sundsvall.checklist.api.model;
+
+import java.util.List;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class EmployeeChecklistTaskBatchUpdateRequestTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> FulfilmentStatus.values()[new Random().nextInt(FulfilmentStatus.values().length)], FulfilmentStatus.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(EmployeeChecklistTaskBatchUpdateRequest.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanToString(),
+			hasValidBeanEquals(),
+			hasValidBeanHashCode()));
+
+		MatcherAssert.assertThat(EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanToString(),
+			hasValidBeanEquals(),
+			hasValidBeanHashCode()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var employeeChecklistId = "employeeChecklistId";
+		final var taskId = "taskId";
+		final var fulfilmentStatus = FulfilmentStatus.TRUE;
+		final var responseText = "responseText";
+		final var updatedBy = "updatedBy";
+
+		final var taskFulfilment = EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment.builder()
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withTaskId(taskId)
+			.withFulfilmentStatus(fulfilmentStatus)
+			.withResponseText(responseText)
+			.build();
+
+		final var bean = EmployeeChecklistTaskBatchUpdateRequest.builder()
+			.withUpdatedBy(updatedBy)
+			.withTaskFulfilments(List.of(taskFulfilment))
+			.build();
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getUpdatedBy()).isEqualTo(updatedBy);
+		assertThat(bean.getTaskFulfilments()).containsExactly(taskFulfilment);
+		assertThat(taskFulfilment).hasNoNullFieldsOrProperties();
+		assertThat(taskFulfilment.getEmployeeChecklistId()).isEqualTo(employeeChecklistId);
+		assertThat(taskFulfilment.getTaskId()).isEqualTo(taskId);
+		assertThat(taskFulfilment.getFulfilmentStatus()).isEqualTo(fulfilmentStatus);
+		assertThat(taskFulfilment.getResponseText()).isEqualTo(responseText);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(EmployeeChecklistTaskBatchUpdateRequest.builder().build()).hasAllNullFieldsOrProperties();
+		assertThat(new EmployeeChecklistTaskBatchUpdateRequest()).hasAllNullFieldsOrProperties();
+		assertThat(EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment.builder().build()).hasAllNullFieldsOrProperties();
+		assertThat(new EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,84 @@
+package se.sundsvall.checklist.api.model;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class EmployeeChecklistTaskBatchUpdateResponseTest {
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> COUNTER.getAndIncrement() % 2 == 0 ? HttpStatus.OK : HttpStatus.BAD_REQUEST, HttpStatusCode.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(EmployeeChecklistTaskBatchUpdateResponse.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanEquals(),
+			hasValidBeanHashCode(),
+			hasValidBeanToString()));
+
+		MatcherAssert.assertThat(EmployeeChecklistTaskBatchUpdateResponse.Result.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanEquals(),
+			hasValidBeanHashCode(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var employeeChecklistId = "employeeChecklistId";
+		final var taskId = "taskId";
+		final var status = HttpStatus.BAD_REQUEST;
+		final var information = "information";
+		final var task = EmployeeChecklistTask.builder().build();
+
+		final var result = EmployeeChecklistTaskBatchUpdateResponse.Result.builder()
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withTaskId(taskId)
+			.withStatus(status)
+			.withInformation(information)
+			.withTask(task)
+			.build();
+
+		final var bean = EmployeeChecklistTaskBatchUpdateResponse.builder()
+			.withResults(List.of(result))
+			.build();
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getResults()).containsExactly(result);
+		assertThat(result).hasNoNullFieldsOrProperties();
+		assertThat(result.getEmployeeChecklistId()).isEqualTo(employeeChecklistId);
+		assertThat(result.getTaskId()).isEqualTo(taskId);
+		assertThat(result.getStatus()).isEqualTo(status);
+		assertThat(result.getInformation()).isEqualTo(information);
+		assertThat(result.getTask()).isSameAs(task);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(EmployeeChecklistTaskBatchUpdateResponse.builder().build()).hasAllNullFieldsOrPropertiesExcept("results").hasFieldOrPropertyWithValue("results", emptyList());
+		assertThat(new EmployeeChecklistTaskBatchUpdateResponse()).hasAllNullFieldsOrPropertiesExcept("results").hasFieldOrPropertyWithValue("results", emptyList());
+		assertThat(EmployeeChecklistTaskBatchUpdateResponse.Result.builder().build()).hasAllNullFieldsOrProperties();
+		assertThat(new EmployeeChecklistTaskBatchUpdateResponse.Result()).hasAllNullFieldsOrProperties();
+	}
+}
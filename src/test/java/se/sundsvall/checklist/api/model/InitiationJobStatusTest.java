@@ -0,0 +1,23 @@
+package se.sundsvall.checklist.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.COMPLETED;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.FAILED;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.RUNNING;
+
+class InitiationJobStatusTest {
+
+	@Test
+	void enums() {
+		assertThat(InitiationJobStatus.values()).containsExactlyInAnyOrder(RUNNING, COMPLETED, FAILED);
+	}
+
+	@Test
+	void enumValues() {
+		assertThat(RUNNING).hasToString("RUNNING");
+		assertThat(COMPLETED).hasToString("COMPLETED");
+		assertThat(FAILED).hasToString("FAILED");
+	}
+}
@@ -0,0 +1,77 @@
+package se.sundsvall.checklist.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.COMPLETED;
+
+class InitiationJobTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> OffsetDateTime.now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(InitiationJob.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var id = "id";
+		final var total = 10;
+		final var processed = 8;
+		final var errors = 2;
+		final var started = OffsetDateTime.now().minusMinutes(1);
+		final var finished = OffsetDateTime.now();
+		final var result = EmployeeChecklistResponse.builder().withSummary("summary").build();
+
+		final var bean = InitiationJob.builder()
+			.withId(id)
+			.withStatus(COMPLETED)
+			.withTotal(total)
+			.withProcessed(processed)
+			.withErrors(errors)
+			.withStarted(started)
+			.withFinished(finished)
+			.withResult(result)
+			.build();
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getStatus()).isEqualTo(COMPLETED);
+		assertThat(bean.getTotal()).isEqualTo(total);
+		assertThat(bean.getProcessed()).isEqualTo(processed);
+		assertThat(bean.getErrors()).isEqualTo(errors);
+		assertThat(bean.getStarted()).isEqualTo(started);
+		assertThat(bean.getFinished()).isEqualTo(finished);
+		assertThat(bean.getResult()).isEqualTo(result);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(InitiationJob.builder().build()).hasAllNullFieldsOrPropertiesExcept("processed", "errors")
+			.hasFieldOrPropertyWithValue("processed", 0)
+			.hasFieldOrPropertyWithValue("errors", 0);
+		assertThat(new InitiationJob()).hasAllNullFieldsOrPropertiesExcept("processed", "errors")
+			.hasFieldOrPropertyWithValue("processed", 0)
+			.hasFieldOrPropertyWithValue("errors", 0);
+	}
+}
@@ -0,0 +1,120 @@
+package se.sundsvall.checklist.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import se.sundsvall.checklist.service.SortorderCache;
+import se.sundsvall.checklist.service.SortorderCache.ResolvedSortorder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class CacheManagementEndpointTest {
+
+	@Mock
+	private ObjectProvider<CacheManager> cacheManagerProviderMock;
+
+	private CaffeineCache companyCache;
+
+	private SortorderCache sortorderCache;
+
+	private CacheManagementEndpoint endpoint;
+
+	@BeforeEach
+	void setup() {
+		companyCache = new CaffeineCache("company", Caffeine.newBuilder().recordStats().build());
+		final var cacheManager = new SimpleCacheManager();
+		cacheManager.setCaches(List.of(companyCache));
+		cacheManager.initializeCaches();
+		sortorderCache = new SortorderCache(true, Duration.ofHours(1), 100);
+
+		lenient().when(cacheManagerProviderMock.orderedStream()).thenAnswer(invocation -> Stream.of(cacheManager));
+
+		endpoint = new CacheManagementEndpoint(cacheManagerProviderMock, sortorderCache);
+	}
+
+	@Test
+	void caches() {
+		companyCache.put("key-1", "value-1");
+		companyCache.get("key-1");
+		companyCache.get("key-2");
+		sortorderCache.get("2281", 1, () -> new ResolvedSortorder(Set.of(1), List.of()));
+
+		final var result = endpoint.caches();
+
+		assertThat(result).containsOnlyKeys("company", "sortorder");
+		assertThat(result.get("company")).satisfies(statistics -> {
+			assertThat(statistics.size()).isOne();
+			assertThat(statistics.hitCount()).isOne();
+			assertThat(statistics.missCount()).isOne();
+			assertThat(statistics.hitRate()).isEqualTo(0.5);
+		});
+		assertThat(result.get("sortorder")).satisfies(statistics -> {
+			assertThat(statistics.size()).isOne();
+			assertThat(statistics.missCount()).isOne();
+			assertThat(statistics.loadSuccessCount()).isOne();
+		});
+	}
+
+	@Test
+	void cache() {
+		companyCache.put("key-2", "value-2");
+		companyCache.put("key-1", "value-1");
+
+		final var result = endpoint.cache("company");
+
+		assertThat(result.size()).isEqualTo(2);
+		assertThat(result.toString()).doesNotContain("key-1", "key-2");
+	}
+
+	@Test
+	void endpointIsNotAccessibleByDefault() {
+		assertThat(CacheManagementEndpoint.class.getAnnotation(Endpoint.class).defaultAccess()).isEqualTo(Access.NONE);
+	}
+
+	@Test
+	void cacheNotFound() {
+		assertThat(endpoint.cache("unknown")).isNull();
+	}
+
+	@Test
+	void invalidateKey() {
+		companyCache.put("key-1", "value-1");
+		companyCache.put("key-2", "value-2");
+
+		assertThat(endpoint.invalidate("company", "key-1")).isOne();
+		assertThat(endpoint.invalidate("company", "key-3")).isZero();
+
+		assertThat(companyCache.get("key-1")).isNull();
+		assertThat(companyCache.get("key-2")).isNotNull();
+	}
+
+	@Test
+	void invalidateAll() {
+		companyCache.put("key-1", "value-1");
+		companyCache.put("key-2", "value-2");
+
+		assertThat(endpoint.invalidate("company", null)).isEqualTo(2);
+
+		assertThat(companyCache.getNativeCache().asMap()).isEmpty();
+	}
+
+	@Test
+	void invalidateCacheNotFound() {
+		assertThat(endpoint.invalidate("unknown", null)).isNull();
+	}
+}
@@ -0,0 +1,79 @@
+package se.sundsvall.checklist.configuration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+
+import static com.github.benmanes.caffeine.cache.RemovalCause.REPLACED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
+
+class RefreshableCacheKeyGeneratorTest {
+
+	private final RefreshableCacheKeyGenerator keyGenerator = new RefreshableCacheKeyGenerator();
+
+	@Test
+	void keyEquality() throws Exception {
+		final var method = Target.class.getMethod("value", String.class, int.class);
+		final var otherMethod = Target.class.getMethod("failing", String.class, int.class);
+
+		final var key = keyGenerator.generate(new Target(), method, "2281", 1);
+
+		assertThat(key)
+			.isEqualTo(keyGenerator.generate(new Target(), method, "2281", 1))
+			.hasSameHashCodeAs(keyGenerator.generate(new Target(), method, "2281", 1))
+			.isNotEqualTo(keyGenerator.generate(new Target(), method, "2281", 2))
+			.isNotEqualTo(keyGenerator.generate(new Target(), otherMethod, "2281", 1))
+			.hasToString("Target.value[2281, 1]");
+	}
+
+	@Test
+	void reload() throws Exception {
+		final var target = new Target();
+		final var key = keyGenerator.generate(target, Target.class.getMethod("value", String.class, int.class), "2281", 1);
+
+		assertThat(CacheConfiguration.refreshingLoader().load(key)).isEqualTo("2281-1-1");
+		assertThat(CacheConfiguration.refreshingLoader().reload(key, "2281-1-1")).isEqualTo("2281-1-2");
+	}
+
+	@Test
+	void reloadWhenMethodThrows() throws Exception {
+		final var key = (RefreshableCacheKeyGenerator.RefreshableKey) keyGenerator.generate(new Target(), Target.class.getMethod("failing", String.class, int.class), "2281", 1);
+
+		final var e = assertThrows(ThrowableProblem.class, key::reload);
+
+		assertThat(e.getStatus()).isEqualTo(BAD_GATEWAY);
+	}
+
+	@Test
+	void loadUnknownKey() throws Exception {
+		assertThat(CacheConfiguration.refreshingLoader().load("key")).isNull();
+	}
+
+	@Test
+	void companyRemovalListenerPublishesEvent() {
+		final var eventPublisherMock = mock(ApplicationEventPublisher.class);
+
+		CacheConfiguration.companyRemovalListener(eventPublisherMock).onRemoval("key", "value", REPLACED);
+
+		verify(eventPublisherMock).publishEvent(new CompanyCacheEvictedEvent());
+	}
+
+	public static class Target {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		public String value(final String municipalityId, final int id) {
+			return municipalityId + "-" + id + "-" + invocations.incrementAndGet();
+		}
+
+		public String failing(final String municipalityId, final int id) {
+			throw Problem.valueOf(BAD_GATEWAY, "Unavailable");
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package se.sundsvall.checklist.integration.company;
+
+import generated.se.sundsvall.company.Organization;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import se.sundsvall.checklist.configuration.CompanyCacheEvictedEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationIndexProviderTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@Mock
+	private CompanyIntegration companyIntegrationMock;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisherMock;
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		verifyNoMoreInteractions(companyIntegrationMock, eventPublisherMock);
+	}
+
+	@Test
+	void getIndex() {
+		// Arrange
+		final var provider = new OrganizationIndexProvider(companyIntegrationMock, eventPublisherMock);
+		final var organizations = List.of(new Organization().orgId(10), new Organization().orgId(11).parentId(10));
+
+		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID))
+			.thenReturn(List.of(new Organization().companyId(1)))
+			.thenReturn(List.of(new Organization().companyId(1)));
+		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(organizations);
+
+		// Act
+		final var result = provider.getIndex(MUNICIPALITY_ID);
+
+		// Assert and verify
+		assertThat(result.getParent(11)).map(Organization::getOrgId).contains(10);
+		assertThat(provider.getIndex(MUNICIPALITY_ID)).isSameAs(result);
+		verify(companyIntegrationMock, times(2)).getCompanies(MUNICIPALITY_ID);
+		verify(companyIntegrationMock).getOrganizationsForCompany(MUNICIPALITY_ID, 1);
+		verify(eventPublisherMock).publishEvent(new OrganizationIndexRebuiltEvent(MUNICIPALITY_ID));
+	}
+
+	@Test
+	void getIndexIsRebuiltWhenCompaniesChange() {
+		// Arrange
+		final var provider = new OrganizationIndexProvider(companyIntegrationMock, eventPublisherMock);
+
+		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID))
+			.thenReturn(List.of(new Organization().companyId(1)))
+			.thenReturn(List.of(new Organization().companyId(1), new Organization().companyId(2)));
+		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(List.of(new Organization().orgId(10)));
+		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(new Organization().orgId(20)));
+
+		// Act
+		final var first = provider.getIndex(MUNICIPALITY_ID);
+		final var second = provider.getIndex(MUNICIPALITY_ID);
+
+		// Assert and verify
+		assertThat(second).isNotSameAs(first);
+		assertThat(first.getOrganization(20)).isEmpty();
+		assertThat(second.getOrganization(20)).isPresent();
+		verify(companyIntegrationMock, times(2)).getCompanies(MUNICIPALITY_ID);
+		verify(companyIntegrationMock, times(2)).getOrganizationsForCompany(MUNICIPALITY_ID, 1);
+		verify(companyIntegrationMock).getOrganizationsForCompany(MUNICIPALITY_ID, 2);
+		verify(eventPublisherMock, times(2)).publishEvent(new OrganizationIndexRebuiltEvent(MUNICIPALITY_ID));
+	}
+
+	@Test
+	void getIndexIsRebuiltWhenCompanyCacheIsEvicted() {
+		// Arrange
+		final var provider = new OrganizationIndexProvider(companyIntegrationMock, eventPublisherMock);
+		final var companies = List.of(new Organization().companyId(1));
+
+		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(companies);
+		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1))
+			.thenReturn(List.of(new Organization().orgId(10)))
+			.thenReturn(List.of(new Organization().orgId(10), new Organization().orgId(11).parentId(10)));
+
+		// Act
+		final var first = provider.getIndex(MUNICIPALITY_ID);
+		provider.onCompanyCacheEvicted(new CompanyCacheEvictedEvent());
+		final var second = provider.getIndex(MUNICIPALITY_ID);
+
+		// Assert and verify
+		assertThat(second).isNotSameAs(first);
+		assertThat(first.getOrganization(11)).isEmpty();
+		assertThat(second.getOrganization(11)).isPresent();
+		assertThat(provider.getIndex(MUNICIPALITY_ID)).isSameAs(second);
+		verify(companyIntegrationMock, times(3)).getCompanies(MUNICIPALITY_ID);
+		verify(companyIntegrationMock, times(2)).getOrganizationsForCompany(MUNICIPALITY_ID, 1);
+		verify(eventPublisherMock, times(2)).publishEvent(new OrganizationIndexRebuiltEvent(MUNICIPALITY_ID));
+	}
+
+	@Test
+	void getIndexIsNotKeptWhenCompanyCacheIsEvictedWhileBuilding() {
+		// Arrange
+		final var provider = new OrganizationIndexProvider(companyIntegrationMock, eventPublisherMock);
+		final var companies = List.of(new Organization().companyId(1));
+
+		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(companies);
+		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1))
+			.thenAnswer(invocation -> {
+				// The company cache is refreshed while the (stale) organizations are being read
+				provider.onCompanyCacheEvicted(new CompanyCacheEvictedEvent());
+				return List.of(new Organization().orgId(10));
+			})
+			.thenReturn(List.of(new Organization().orgId(10), new Organization().orgId(11).parentId(10)));
+
+		// Act
+		final var first = provider.getIndex(MUNICIPALITY_ID);
+		final var second = provider.getIndex(MUNICIPALITY_ID);
+
+		// Assert and verify
+		assertThat(second).isNotSameAs(first);
+		assertThat(first.getOrganization(11)).isEmpty();
+		assertThat(second.getOrganization(11)).isPresent();
+		verify(companyIntegrationMock, times(2)).getCompanies(MUNICIPALITY_ID);
+		verify(companyIntegrationMock, times(2)).getOrganizationsForCompany(MUNICIPALITY_ID, 1);
+		verify(eventPublisherMock).publishEvent(new OrganizationIndexRebuiltEvent(MUNICIPALITY_ID));
+	}
+}
@@ -0,0 +1,78 @@
+package se.sundsvall.checklist.integration.company;
+
+import generated.se.sundsvall.company.Organization;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrganizationIndexTest {
+
+	private static final Organization COMPANY_1 = new Organization().companyId(1).orgId(1);
+	private static final Organization COMPANY_2 = new Organization().companyId(2).orgId(2);
+	private static final Organization ROOT = new Organization().orgId(10).companyId(1).treeLevel(1);
+	private static final Organization LEVEL_2 = new Organization().orgId(11).parentId(10).companyId(1).treeLevel(2);
+	private static final Organization LEVEL_3 = new Organization().orgId(12).parentId(11).companyId(1).treeLevel(3);
+	private static final Organization OTHER_ROOT = new Organization().orgId(20).companyId(2).treeLevel(1);
+
+	private static final List<Organization> COMPANIES = List.of(COMPANY_1, COMPANY_2);
+	private static final Map<Integer, List<Organization>> ORGANIZATIONS = Map.of(
+		1, List.of(ROOT, LEVEL_2, LEVEL_3),
+		2, List.of(OTHER_ROOT));
+
+	private final OrganizationIndex index = OrganizationIndex.build(COMPANIES, ORGANIZATIONS);
+
+	@Test
+	void getOrganization() {
+		assertThat(index.getOrganization(12)).containsSame(LEVEL_3);
+		assertThat(index.getOrganization(20)).containsSame(OTHER_ROOT);
+		assertThat(index.getOrganization(99)).isEmpty();
+		assertThat(index.getOrganization(null)).isEmpty();
+	}
+
+	@Test
+	void getParent() {
+		assertThat(index.getParent(12)).containsSame(LEVEL_2);
+		assertThat(index.getParent(11)).containsSame(ROOT);
+		assertThat(index.getParent(10)).isEmpty();
+		assertThat(index.getParent(99)).isEmpty();
+	}
+
+	@Test
+	void getAncestors() {
+		assertThat(index.getAncestors(12)).containsExactly(LEVEL_2, ROOT);
+		assertThat(index.getAncestors(10)).isEmpty();
+		assertThat(index.getAncestors(99)).isEmpty();
+	}
+
+	@Test
+	void getAncestorsWithCircularReference() {
+		final var circularIndex = OrganizationIndex.build(List.of(COMPANY_1), Map.of(1, List.of(
+			new Organization().orgId(1).parentId(2),
+			new Organization().orgId(2).parentId(1))));
+
+		assertThat(circularIndex.getAncestors(1)).extracting(Organization::getOrgId).containsExactly(2);
+	}
+
+	@Test
+	void getCompany() {
+		assertThat(index.getCompany(12)).containsSame(COMPANY_1);
+		assertThat(index.getCompany(20)).containsSame(COMPANY_2);
+		assertThat(index.getCompany(99)).isEmpty();
+	}
+
+	@Test
+	void getOrganizationsForCompany() {
+		assertThat(index.getOrganizationsForCompany(1)).containsExactly(ROOT, LEVEL_2, LEVEL_3);
+		assertThat(index.getOrganizationsForCompany(3)).isEmpty();
+	}
+
+	@Test
+	void isBuiltFrom() {
+		assertThat(index.isBuiltFrom(COMPANIES)).isTrue();
+		assertThat(index.isBuiltFrom(List.copyOf(COMPANIES))).isTrue();
+		assertThat(index.isBuiltFrom(List.of(COMPANY_2, COMPANY_1))).isFalse();
+		assertThat(index.isBuiltFrom(List.of(COMPANY_1))).isFalse();
+	}
+}
@@ -0,0 +1,100 @@
+package se.sundsvall.checklist.integration.db;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
+import se.sundsvall.checklist.integration.db.model.ManagerEntity;
+import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchIdentityMapTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void registerWithoutTransaction() {
+		final var identityMap = new BatchIdentityMap();
+
+		identityMap.registerOnCommit(MUNICIPALITY_ID, createEmployee());
+
+		assertRegistered(identityMap);
+	}
+
+	@Test
+	void registerOnCommit() {
+		final var identityMap = new BatchIdentityMap();
+		TransactionSynchronizationManager.initSynchronization();
+
+		identityMap.registerOnCommit(MUNICIPALITY_ID, createEmployee());
+		assertNotRegistered(identityMap);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		assertRegistered(identityMap);
+	}
+
+	@Test
+	void registerOnRollback() {
+		final var identityMap = new BatchIdentityMap();
+		TransactionSynchronizationManager.initSynchronization();
+
+		identityMap.registerOnCommit(MUNICIPALITY_ID, createEmployee());
+		TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		assertNotRegistered(identityMap);
+	}
+
+	@Test
+	void registerEmployeeWithoutManagerAndOrganizations() {
+		final var identityMap = new BatchIdentityMap();
+
+		identityMap.registerOnCommit(MUNICIPALITY_ID, EmployeeEntity.builder().build());
+
+		assertNotRegistered(identityMap);
+	}
+
+	@Test
+	void registerManagersAndOrganizationsOnCommit() {
+		final var identityMap = new BatchIdentityMap();
+		TransactionSynchronizationManager.initSynchronization();
+
+		identityMap.registerOnCommit(MUNICIPALITY_ID, List.of(ManagerEntity.builder().withPersonId("managerId").build()), List.of(
+			OrganizationEntity.builder().withId("companyId").withOrganizationNumber(1).build(),
+			OrganizationEntity.builder().withId("departmentId").withOrganizationNumber(12).build()));
+		assertNotRegistered(identityMap);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		assertRegistered(identityMap);
+	}
+
+	private static void assertRegistered(final BatchIdentityMap identityMap) {
+		assertThat(identityMap.containsManager("managerId")).isTrue();
+		assertThat(identityMap.getOrganizationId(MUNICIPALITY_ID, 1)).hasValue("companyId");
+		assertThat(identityMap.getOrganizationId(MUNICIPALITY_ID, 12)).hasValue("departmentId");
+		assertThat(identityMap.getOrganizationId("2260", 12)).isEmpty();
+	}
+
+	private static void assertNotRegistered(final BatchIdentityMap identityMap) {
+		assertThat(identityMap.containsManager("managerId")).isFalse();
+		assertThat(identityMap.getOrganizationId(MUNICIPALITY_ID, 1)).isEmpty();
+		assertThat(identityMap.getOrganizationId(MUNICIPALITY_ID, 12)).isEmpty();
+	}
+
+	private static EmployeeEntity createEmployee() {
+		return EmployeeEntity.builder()
+			.withManager(ManagerEntity.builder().withPersonId("managerId").build())
+			.withCompany(OrganizationEntity.builder().withId("companyId").withOrganizationNumber(1).build())
+			.withDepartment(OrganizationEntity.builder().withId("departmentId").withOrganizationNumber(12).build())
+			.build();
+	}
+}
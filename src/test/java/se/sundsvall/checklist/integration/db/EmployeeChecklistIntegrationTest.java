@@ -1,8 +1,12 @@
 package se.sundsvall.checklist.integration.db;
 
+import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,15 +39,24 @@ import se.sundsvall.checklist.integration.db.model.MentorEntity;
 import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
 import se.sundsvall.checklist.integration.db.model.PhaseEntity;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
+import se.sundsvall.checklist.integration.db.model.TombstoneEntity;
 import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
 import se.sundsvall.checklist.integration.db.model.enums.LifeCycle;
+import se.sundsvall.checklist.integration.db.repository.ChecklistRepository;
+import se.sundsvall.checklist.integration.db.repository.CustomFulfilmentRepository;
 import se.sundsvall.checklist.integration.db.repository.CustomTaskRepository;
 import se.sundsvall.checklist.integration.db.repository.DelegateRepository;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.integration.db.repository.EmployeeRepository;
+import se.sundsvall.checklist.integration.db.repository.FulfilmentRepository;
 import se.sundsvall.checklist.integration.db.repository.ManagerRepository;
 import se.sundsvall.checklist.integration.db.repository.OrganizationRepository;
 import se.sundsvall.checklist.integration.db.repository.PhaseRepository;
+import se.sundsvall.checklist.integration.db.repository.TaskRepository;
+import se.sundsvall.checklist.integration.db.repository.TombstoneRepository;
+import se.sundsvall.checklist.integration.db.repository.projection.EmployeeChecklistVersionProjection;
+import se.sundsvall.checklist.integration.db.repository.projection.FulfilmentProjection;
+import se.sundsvall.checklist.integration.db.repository.projection.TaskFulfilmentProjection;
 import se.sundsvall.checklist.service.OrganizationTree;
 import se.sundsvall.checklist.service.mapper.OrganizationMapper;
 import se.sundsvall.checklist.service.model.Employee;
@@ -54,12 +67,15 @@ import se.sundsvall.dept44.problem.ThrowableProblem;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.util.DigestUtils.md5DigestAsHex;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeChecklistIntegrationTest {
@@ -76,6 +92,9 @@ class EmployeeChecklistIntegrationTest {
 	@Mock
 	private OrganizationRepository organizationRepositoryMock;
 
+	@Mock
+	private ChecklistRepository checklistRepositoryMock;
+
 	@Mock
 	private DelegateRepository delegateRepositoryMock;
 
@@ -85,6 +104,24 @@ class EmployeeChecklistIntegrationTest {
 	@Mock
 	private PhaseRepository phaseRepositoryMock;
 
+	@Mock
+	private TaskRepository taskRepositoryMock;
+
+	@Mock
+	private FulfilmentRepository fulfilmentRepositoryMock;
+
+	@Mock
+	private CustomFulfilmentRepository customFulfilmentRepositoryMock;
+
+	@Mock
+	private TombstoneRepository tombstoneRepositoryMock;
+
+	@Mock
+	private FulfilmentProjection fulfilmentProjectionMock;
+
+	@Mock
+	private TaskFulfilmentProjection taskFulfilmentProjectionMock;
+
 	@Mock
 	private Page<EmployeeChecklistEntity> pagedEmployeeChecklistMock;
 
@@ -100,9 +137,15 @@ class EmployeeChecklistIntegrationTest {
 	@Captor
 	private ArgumentCaptor<MentorEntity> mentorEntityCaptor;
 
+	@Captor
+	private ArgumentCaptor<TombstoneEntity> tombstoneEntityCaptor;
+
+	@Captor
+	private ArgumentCaptor<OrganizationEntity> organizationEntityCaptor;
+
 	@AfterEach
 	void assertNoMoreInteractions() {
-		verifyNoMoreInteractions(employeeRepositoryMock, managerRepositoryMock, employeeChecklistsRepositoryMock, organizationRepositoryMock, delegateRepositoryMock, customTaskRepositoryMock, phaseRepositoryMock, pagedEmployeeChecklistMock);
+		verifyNoMoreInteractions(checklistRepositoryMock, employeeRepositoryMock, managerRepositoryMock, employeeChecklistsRepositoryMock, organizationRepositoryMock, delegateRepositoryMock, customTaskRepositoryMock, phaseRepositoryMock, taskRepositoryMock, fulfilmentRepositoryMock, customFulfilmentRepositoryMock, tombstoneRepositoryMock, pagedEmployeeChecklistMock);
 	}
 
 	@Test
@@ -148,6 +191,117 @@ class EmployeeChecklistIntegrationTest {
 		verify(employeeChecklistsRepositoryMock).findAllByChecklistsMunicipalityIdAndEmployeeManagerUsername(municipalityId, userId);
 	}
 
+	@Test
+	void fetchEmployeeChecklistIdsForParticipant() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var username = "username";
+
+		when(employeeChecklistsRepositoryMock.findUnlockedIdsByMunicipalityIdAndParticipantUsername(municipalityId, username)).thenReturn(List.of("id-1", "id-2"));
+
+		// Act
+		final var result = integration.fetchEmployeeChecklistIdsForParticipant(municipalityId, username);
+
+		// Verify and assert
+		assertThat(result).containsExactly("id-1", "id-2");
+		verify(employeeChecklistsRepositoryMock).findUnlockedIdsByMunicipalityIdAndParticipantUsername(municipalityId, username);
+	}
+
+	@Test
+	void fetchEmployeeChecklistIdsForEmployee() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var username = "username";
+
+		when(employeeChecklistsRepositoryMock.findIdsByMunicipalityIdAndEmployeeUsername(municipalityId, username)).thenReturn(List.of("id-1"));
+
+		// Act
+		final var result = integration.fetchEmployeeChecklistIdsForEmployee(municipalityId, username);
+
+		// Verify and assert
+		assertThat(result).containsExactly("id-1");
+		verify(employeeChecklistsRepositoryMock).findIdsByMunicipalityIdAndEmployeeUsername(municipalityId, username);
+	}
+
+	@Test
+	void fetchEmployeeChecklistIdsForManager() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var username = "username";
+
+		when(employeeChecklistsRepositoryMock.findIdsByMunicipalityIdAndEmployeeManagerUsername(municipalityId, username)).thenReturn(List.of("id-1", "id-2"));
+
+		// Act
+		final var result = integration.fetchEmployeeChecklistIdsForManager(municipalityId, username);
+
+		// Verify and assert
+		assertThat(result).containsExactly("id-1", "id-2");
+		verify(employeeChecklistsRepositoryMock).findIdsByMunicipalityIdAndEmployeeManagerUsername(municipalityId, username);
+	}
+
+	@Test
+	void fetchEmployeeChecklistIdsForDelegate() {
+		// Arrange
+		final var username = "username";
+
+		when(delegateRepositoryMock.findEmployeeChecklistIdsByUsername(username)).thenReturn(List.of("id-1", "id-2"));
+
+		// Act
+		final var result = integration.fetchEmployeeChecklistIdsForDelegate(username);
+
+		// Verify and assert
+		assertThat(result).containsExactly("id-1", "id-2");
+		verify(delegateRepositoryMock).findEmployeeChecklistIdsByUsername(username);
+	}
+
+	@Test
+	void fetchVersion() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var outdatedBefore = OffsetDateTime.now();
+		final var ids = List.of("id-2", "id-1");
+
+		when(employeeChecklistsRepositoryMock.findVersionsByIdIn(municipalityId, Set.copyOf(ids), outdatedBefore.toLocalDateTime()))
+			.thenReturn(List.of(createVersion("id-2", "fingerprint-2"), createVersion("id-1", "fingerprint-1")));
+
+		// Act
+		final var result = integration.fetchVersion(municipalityId, ids, outdatedBefore);
+
+		// Verify and assert (versions are combined in id order)
+		assertThat(result).hasValue(md5DigestAsHex("id-1:fingerprint-1,id-2:fingerprint-2".getBytes()));
+		verify(employeeChecklistsRepositoryMock).findVersionsByIdIn(municipalityId, Set.copyOf(ids), outdatedBefore.toLocalDateTime());
+	}
+
+	@Test
+	void fetchVersionWhenFingerprintIsMissing() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var outdatedBefore = OffsetDateTime.now();
+		final var ids = List.of("id-1", "id-2");
+		final var version = mock(EmployeeChecklistVersionProjection.class);
+		final var versionWithoutFingerprint = mock(EmployeeChecklistVersionProjection.class);
+
+		when(version.getFingerprint()).thenReturn("fingerprint-1");
+		when(employeeChecklistsRepositoryMock.findVersionsByIdIn(municipalityId, Set.copyOf(ids), outdatedBefore.toLocalDateTime()))
+			.thenReturn(List.of(version, versionWithoutFingerprint));
+
+		// Act
+		final var result = integration.fetchVersion(municipalityId, ids, outdatedBefore);
+
+		// Verify and assert
+		assertThat(result).isEmpty();
+		verify(employeeChecklistsRepositoryMock).findVersionsByIdIn(municipalityId, Set.copyOf(ids), outdatedBefore.toLocalDateTime());
+	}
+
+	@Test
+	void fetchVersionForNoEmployeeChecklists() {
+		// Act
+		final var result = integration.fetchVersion("municipalityId", List.of(), OffsetDateTime.now());
+
+		// Verify and assert
+		assertThat(result).hasValue(md5DigestAsHex(new byte[0]));
+	}
+
 	@Test
 	void updateEmployeeInformationWhenManagerExists() {
 		// Arrange
@@ -273,6 +427,44 @@ class EmployeeChecklistIntegrationTest {
 		assertThat(employeeEntityCaptor.getValue().getManager().getPersonId()).isEqualTo(existingManagerId);
 	}
 
+	@Test
+	void updateEmployeeInformationByEmployeeId() {
+		// Arrange
+		final var employeeId = UUID.randomUUID().toString();
+		final var jobTitle = "jobTitle";
+		final var entity = EmployeeEntity.builder()
+			.withId(employeeId)
+			.build();
+		final var employee = Employee.builder()
+			.withMainEmployment(Employment.builder()
+				.withTitle(jobTitle)
+				.withIsMainEmployment(true)
+				.build())
+			.build();
+
+		when(employeeRepositoryMock.findById(employeeId)).thenReturn(Optional.of(entity));
+
+		// Act
+		integration.updateEmployeeInformation(employeeId, employee);
+
+		// Verify and assert
+		verify(employeeRepositoryMock).findById(employeeId);
+		verify(employeeRepositoryMock).save(employeeEntityCaptor.capture());
+		assertThat(employeeEntityCaptor.getValue().getTitle()).isEqualTo(jobTitle);
+	}
+
+	@Test
+	void updateEmployeeInformationByEmployeeIdWhenEmployeeNotFound() {
+		// Arrange
+		final var employeeId = UUID.randomUUID().toString();
+
+		// Act
+		integration.updateEmployeeInformation(employeeId, Employee.builder().build());
+
+		// Verify
+		verify(employeeRepositoryMock).findById(employeeId);
+	}
+
 	@Test
 	void fetchDelegateEmail() {
 		// Arrange
@@ -305,6 +497,70 @@ class EmployeeChecklistIntegrationTest {
 		verify(delegateRepositoryMock).findAllByEmployeeChecklistId(employeeChecklistId);
 	}
 
+	@Test
+	void fetchDelegateEmailsForMultipleChecklists() {
+		// Arrange
+		final var employeeChecklistId1 = UUID.randomUUID().toString();
+		final var employeeChecklistId2 = UUID.randomUUID().toString();
+		final var ids = List.of(employeeChecklistId1, employeeChecklistId2);
+		final var delegate1 = DelegateEntity.builder().withEmail("email1").withEmployeeChecklist(EmployeeChecklistEntity.builder().withId(employeeChecklistId1).build()).build();
+		final var delegate2 = DelegateEntity.builder().withEmail("email2").withEmployeeChecklist(EmployeeChecklistEntity.builder().withId(employeeChecklistId1).build()).build();
+
+		when(delegateRepositoryMock.findAllByEmployeeChecklistIdIn(ids)).thenReturn(List.of(delegate1, delegate2));
+
+		// Act
+		final var result = integration.fetchDelegateEmails(ids);
+
+		// Verify and assert
+		assertThat(result).hasSize(1)
+			.containsEntry(employeeChecklistId1, List.of("email1", "email2"))
+			.doesNotContainKey(employeeChecklistId2);
+		verify(delegateRepositoryMock).findAllByEmployeeChecklistIdIn(ids);
+	}
+
+	@Test
+	void fetchDelegateEmailsWithEmptyIdList() {
+		// Act
+		final var result = integration.fetchDelegateEmails(Collections.<String>emptyList());
+
+		// Verify and assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void fetchCustomTasks() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var employeeChecklistId1 = UUID.randomUUID().toString();
+		final var employeeChecklistId2 = UUID.randomUUID().toString();
+		final var employeeChecklistId3 = UUID.randomUUID().toString();
+		final var ids = List.of(employeeChecklistId1, employeeChecklistId2, employeeChecklistId3);
+		final var customTask1 = CustomTaskEntity.builder().withEmployeeChecklist(EmployeeChecklistEntity.builder().withId(employeeChecklistId1).build()).build();
+		final var customTask2 = CustomTaskEntity.builder().withEmployeeChecklist(EmployeeChecklistEntity.builder().withId(employeeChecklistId1).build()).build();
+		final var customTask3 = CustomTaskEntity.builder().withEmployeeChecklist(EmployeeChecklistEntity.builder().withId(employeeChecklistId2).build()).build();
+
+		when(customTaskRepositoryMock.findDistinctByEmployeeChecklistIdInAndEmployeeChecklistChecklistsMunicipalityId(ids, municipalityId)).thenReturn(List.of(customTask1, customTask2, customTask3));
+
+		// Act
+		final var result = integration.fetchCustomTasks(municipalityId, ids);
+
+		// Verify and assert
+		assertThat(result).hasSize(2)
+			.containsEntry(employeeChecklistId1, List.of(customTask1, customTask2))
+			.containsEntry(employeeChecklistId2, List.of(customTask3))
+			.doesNotContainKey(employeeChecklistId3);
+		verify(customTaskRepositoryMock).findDistinctByEmployeeChecklistIdInAndEmployeeChecklistChecklistsMunicipalityId(ids, municipalityId);
+	}
+
+	@Test
+	void fetchCustomTasksWithEmptyIdList() {
+		// Act
+		final var result = integration.fetchCustomTasks("municipalityId", Collections.emptyList());
+
+		// Verify and assert
+		assertThat(result).isEmpty();
+	}
+
 	@Test
 	void updateAllTasksInPhaseOnLockedEmployeeChecklist() {
 		// Arrange
@@ -369,8 +625,10 @@ class EmployeeChecklistIntegrationTest {
 		final var result = integration.updateAllFulfilmentForAllTasksInPhase(municipalityId, employeeChecklistId, phaseId, request);
 
 		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
-		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
+		verify(employeeChecklistsRepositoryMock, times(2)).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+		verify(employeeChecklistsRepositoryMock).save(entity);
+		verify(employeeChecklistsRepositoryMock).adjustCompletionCounters(employeeChecklistId, 2, 0);
+		verify(employeeChecklistsRepositoryMock).completeIfAllTasksCompleted(eq(employeeChecklistId), any());
 
 		assertThat(result.getFulfilments()).hasSize(1).allSatisfy(f -> {
 			assertThat(f).hasAllNullFieldsOrPropertiesExcept("employeeChecklist", "task", "completed");
@@ -380,9 +638,6 @@ class EmployeeChecklistIntegrationTest {
 			assertThat(f).hasAllNullFieldsOrPropertiesExcept("employeeChecklist", "customTask", "completed");
 			assertThat(f.getCompleted()).isEqualTo(fulfilmentStatus);
 		});
-
-		assertThat(employeeChecklistEntityCaptor.getValue().isCompleted()).isTrue();
-
 	}
 
 	@ParameterizedTest
@@ -441,8 +696,11 @@ class EmployeeChecklistIntegrationTest {
 		final var result = integration.updateAllFulfilmentForAllTasksInPhase(municipalityId, employeeChecklistId, phaseId, request);
 
 		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+		verify(employeeChecklistsRepositoryMock, times(2)).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
 		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
+		if (fulfilmentStatus == FulfilmentStatus.NOT_RELEVANT) {
+			verify(employeeChecklistsRepositoryMock).adjustCompletionCounters(employeeChecklistId, 0, 2);
+		}
 
 		assertThat(result.getFulfilments()).hasSize(1).allSatisfy(f -> {
 			assertThat(f).hasAllNullFieldsOrPropertiesExcept("employeeChecklist", "task", "completed", "lastSavedBy");
@@ -515,8 +773,9 @@ class EmployeeChecklistIntegrationTest {
 		final var result = integration.updateAllFulfilmentForAllTasksInPhase(municipalityId, employeeChecklistId, phaseId, request);
 
 		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+		verify(employeeChecklistsRepositoryMock, times(2)).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
 		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
+		verify(employeeChecklistsRepositoryMock).adjustCompletionCounters(employeeChecklistId, -1, 0);
 
 		assertThat(result.getFulfilments()).hasSize(1).allSatisfy(f -> {
 			assertThat(f).hasAllNullFieldsOrPropertiesExcept("employeeChecklist", "task", "completed", "lastSavedBy");
@@ -602,247 +861,222 @@ class EmployeeChecklistIntegrationTest {
 		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
 	}
 
-	@ParameterizedTest
-	@EnumSource(value = FulfilmentStatus.class, mode = Mode.INCLUDE, names = "TRUE")
-	void updateCommonTaskFulfilmentWhenNoPresentFulfilmentExistsLeedingToChecklistCompleted(FulfilmentStatus fulfilmentStatus) {
+	@Test
+	void verifyEmployeeChecklistIsUnlocked() {
 		// Arrange
 		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var taskId = UUID.randomUUID().toString();
-		final var responseText = "responseText";
-		final var updatedBy = "updatedBy";
 
-		final var request = EmployeeChecklistTaskUpdateRequest.builder()
-			.withFulfilmentStatus(fulfilmentStatus)
-			.withResponseText(responseText)
-			.withUpdatedBy(updatedBy)
-			.build();
+		when(employeeChecklistsRepositoryMock.findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(false));
 
-		final var entity = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withTasks(List.of(TaskEntity.builder()
-					.withId(taskId)
-					.withPhase(PhaseEntity.builder()
-						.withId(UUID.randomUUID().toString())
-						.build())
-					.build()))
-				.build()))
-			.build();
+		// Act
+		integration.verifyEmployeeChecklistIsUnlocked(municipalityId, employeeChecklistId);
 
-		when(employeeChecklistsRepositoryMock.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(entity));
+		// Verify
+		verify(employeeChecklistsRepositoryMock).findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+	}
+
+	@Test
+	void verifyEmployeeChecklistIsUnlockedOnLockedEmployeeChecklist() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var employeeChecklistId = UUID.randomUUID().toString();
+
+		when(employeeChecklistsRepositoryMock.findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(true));
 
 		// Act
-		final var result = integration.updateCommonTaskFulfilment(municipalityId, employeeChecklistId, taskId, request);
+		final var e = assertThrows(ThrowableProblem.class, () -> integration.verifyEmployeeChecklistIsUnlocked(municipalityId, employeeChecklistId));
 
 		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
-		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
+		assertThat(e.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(e.getMessage()).isEqualTo("Bad Request: Employee checklist with id %s is locked and can not be modified.".formatted(employeeChecklistId));
 
-		assertThat(result).isEqualTo(entity.getFulfilments().getFirst());
-		assertThat(result.getCompleted()).isEqualTo(fulfilmentStatus);
-		assertThat(result.getResponseText()).isEqualTo(responseText);
-		assertThat(result.getLastSavedBy()).isEqualTo(updatedBy);
-		assertThat(employeeChecklistEntityCaptor.getValue().isCompleted()).isTrue();
+		verify(employeeChecklistsRepositoryMock).findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
 	}
 
-	@ParameterizedTest
-	@EnumSource(value = FulfilmentStatus.class, mode = Mode.EXCLUDE, names = "TRUE")
-	void updateCommonTaskFulfilmentWhenPresentFulfilmentExistsandChecklistNotCompleted(FulfilmentStatus fulfilmentStatus) {
+	@Test
+	void verifyEmployeeChecklistIsUnlockedOnNonExistingEmployeeChecklist() {
 		// Arrange
 		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var taskId = UUID.randomUUID().toString();
-		final var responseText = "responseText";
-		final var updatedBy = "updatedBy";
 
-		final var request = EmployeeChecklistTaskUpdateRequest.builder()
-			.withFulfilmentStatus(fulfilmentStatus)
-			.withResponseText(responseText)
-			.withUpdatedBy(updatedBy)
-			.build();
+		// Act
+		final var e = assertThrows(ThrowableProblem.class, () -> integration.verifyEmployeeChecklistIsUnlocked(municipalityId, employeeChecklistId));
 
-		final var entity = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withTasks(List.of(
-					TaskEntity.builder()
-						.withId(taskId)
-						.withPhase(PhaseEntity.builder()
-							.build())
-						.build(),
-					TaskEntity.builder()
-						.withId(UUID.randomUUID().toString())
-						.withPhase(PhaseEntity.builder()
-							.build())
-						.build()))
-				.build()))
-			.build();
+		// Verify and assert
+		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
+		assertThat(e.getMessage()).isEqualTo("Not Found: Employee checklist with id %s was not found within municipality %s.".formatted(employeeChecklistId, municipalityId));
 
-		entity.setFulfilments(List.of(FulfilmentEntity.builder()
-			.withTask(entity.getChecklists().getFirst().getTasks().getFirst())
-			.build()));
+		verify(employeeChecklistsRepositoryMock).findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+	}
 
-		when(employeeChecklistsRepositoryMock.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(entity));
+	@Test
+	void fetchCommonTask() {
+		// Arrange
+		final var employeeChecklistId = UUID.randomUUID().toString();
+		final var taskId = UUID.randomUUID().toString();
+		final var task = TaskEntity.builder().withId(taskId).build();
 
-		// Act
-		final var result = integration.updateCommonTaskFulfilment(municipalityId, employeeChecklistId, taskId, request);
+		when(taskRepositoryMock.findByIdAndEmployeeChecklistId(taskId, employeeChecklistId)).thenReturn(Optional.of(task));
 
-		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
-		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
+		// Act and assert
+		assertThat(integration.fetchCommonTask(employeeChecklistId, taskId)).hasValue(task);
 
-		assertThat(result).isEqualTo(entity.getFulfilments().getFirst());
-		assertThat(result.getCompleted()).isEqualTo(fulfilmentStatus);
-		assertThat(result.getResponseText()).isEqualTo(responseText);
-		assertThat(result.getLastSavedBy()).isEqualTo(updatedBy);
-		assertThat(employeeChecklistEntityCaptor.getValue().isCompleted()).isFalse();
+		// Verify
+		verify(taskRepositoryMock).findByIdAndEmployeeChecklistId(taskId, employeeChecklistId);
 	}
 
 	@Test
-	void updateCommonTaskFulfilmentToEmptyWhenChecklistCompletedSinceEariler() {
+	void fetchCustomTask() {
 		// Arrange
-		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
 		final var taskId = UUID.randomUUID().toString();
-		final var responseText = "responseText";
-		final var updatedBy = "updatedBy";
+		final var customTask = CustomTaskEntity.builder().withId(taskId).build();
 
-		final var request = EmployeeChecklistTaskUpdateRequest.builder()
-			.withFulfilmentStatus(FulfilmentStatus.EMPTY)
-			.withResponseText(responseText)
-			.withUpdatedBy(updatedBy)
-			.build();
+		when(customTaskRepositoryMock.findByIdAndEmployeeChecklistId(taskId, employeeChecklistId)).thenReturn(Optional.of(customTask));
 
-		final var entity = EmployeeChecklistEntity.builder()
-			.withCompleted(true)
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withTasks(List.of(
-					TaskEntity.builder()
-						.withId(taskId)
-						.withPhase(PhaseEntity.builder()
-							.build())
-						.build()))
-				.build()))
-			.build();
+		// Act and assert
+		assertThat(integration.fetchCustomTask(employeeChecklistId, taskId)).hasValue(customTask);
 
-		entity.setFulfilments(List.of(FulfilmentEntity.builder()
-			.withTask(entity.getChecklists().getFirst().getTasks().getFirst())
-			.build()));
+		// Verify
+		verify(customTaskRepositoryMock).findByIdAndEmployeeChecklistId(taskId, employeeChecklistId);
+	}
 
-		when(employeeChecklistsRepositoryMock.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(entity));
+	@Test
+	void fetchFulfilmentsUpdatedAfter() {
+		// Arrange
+		final var employeeChecklistId = UUID.randomUUID().toString();
+		final var since = OffsetDateTime.now();
+		final var fulfilment = FulfilmentEntity.builder().build();
 
-		// Act
-		final var result = integration.updateCommonTaskFulfilment(municipalityId, employeeChecklistId, taskId, request);
+		when(fulfilmentRepositoryMock.findAllByEmployeeChecklistIdAndUpdatedAfter(employeeChecklistId, since)).thenReturn(List.of(fulfilment));
 
-		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
-		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
+		// Act and assert
+		assertThat(integration.fetchFulfilmentsUpdatedAfter(employeeChecklistId, since)).containsExactly(fulfilment);
 
-		assertThat(result).isEqualTo(entity.getFulfilments().getFirst());
-		assertThat(result.getCompleted()).isEqualTo(FulfilmentStatus.EMPTY);
-		assertThat(result.getResponseText()).isEqualTo(responseText);
-		assertThat(result.getLastSavedBy()).isEqualTo(updatedBy);
-		assertThat(employeeChecklistEntityCaptor.getValue().isCompleted()).isTrue();
+		// Verify
+		verify(fulfilmentRepositoryMock).findAllByEmployeeChecklistIdAndUpdatedAfter(employeeChecklistId, since);
 	}
 
 	@Test
-	void updateCommonTaskFulfilmentForNonExistingTask() {
+	void fetchCustomTasksChangedAfter() {
 		// Arrange
-		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var taskId = UUID.randomUUID().toString();
-		final var fulfilmentStatus = FulfilmentStatus.TRUE;
-		final var responseText = "responseText";
+		final var since = OffsetDateTime.now();
+		final var customTask = CustomTaskEntity.builder().build();
 
-		final var request = EmployeeChecklistTaskUpdateRequest.builder()
-			.withFulfilmentStatus(fulfilmentStatus)
-			.withResponseText(responseText)
-			.build();
+		when(customTaskRepositoryMock.findAllByEmployeeChecklistIdAndChangedAfter(employeeChecklistId, since)).thenReturn(List.of(customTask));
 
-		final var entity = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withTasks(List.of(TaskEntity.builder()
-					.withId(UUID.randomUUID().toString())
-					.withPhase(PhaseEntity.builder()
-						.build())
-					.build()))
-				.build()))
-			.build();
+		// Act and assert
+		assertThat(integration.fetchCustomTasksChangedAfter(employeeChecklistId, since)).containsExactly(customTask);
 
-		when(employeeChecklistsRepositoryMock.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(entity));
+		// Verify
+		verify(customTaskRepositoryMock).findAllByEmployeeChecklistIdAndChangedAfter(employeeChecklistId, since);
+	}
 
-		// Act
-		final var e = assertThrows(ThrowableProblem.class, () -> integration.updateCommonTaskFulfilment(municipalityId, employeeChecklistId, taskId, request));
+	@Test
+	void fetchCustomFulfilmentsChangedAfter() {
+		// Arrange
+		final var employeeChecklistId = UUID.randomUUID().toString();
+		final var since = OffsetDateTime.now();
+		final var customFulfilment = CustomFulfilmentEntity.builder().build();
 
-		// Verify and assert
-		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
-		assertThat(e.getMessage()).isEqualTo("Not Found: No fulfilment information found for task with id %s in employee checklist with id %s.".formatted(taskId, employeeChecklistId));
+		when(customFulfilmentRepositoryMock.findAllByEmployeeChecklistIdAndChangedAfter(employeeChecklistId, since)).thenReturn(List.of(customFulfilment));
 
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+		// Act and assert
+		assertThat(integration.fetchCustomFulfilmentsChangedAfter(employeeChecklistId, since)).containsExactly(customFulfilment);
+
+		// Verify
+		verify(customFulfilmentRepositoryMock).findAllByEmployeeChecklistIdAndChangedAfter(employeeChecklistId, since);
 	}
 
 	@Test
-	void updateCommonTaskFulfilmentOnNonExistingEmployeeChecklist() {
+	void fetchRemovedTaskIds() {
+		// Arrange
+		final var employeeChecklistId = UUID.randomUUID().toString();
+		final var since = OffsetDateTime.now();
+
+		when(tombstoneRepositoryMock.findAllByEmployeeChecklistIdAndDeletedAfter(employeeChecklistId, since)).thenReturn(List.of(
+			TombstoneEntity.builder().withTaskId("taskId-1").build(),
+			TombstoneEntity.builder().withTaskId("taskId-2").build(),
+			TombstoneEntity.builder().withTaskId("taskId-1").build()));
+
+		// Act and assert
+		assertThat(integration.fetchRemovedTaskIds(employeeChecklistId, since)).containsExactly("taskId-1", "taskId-2");
+
+		// Verify
+		verify(tombstoneRepositoryMock).findAllByEmployeeChecklistIdAndDeletedAfter(employeeChecklistId, since);
+	}
+
+	@Test
+	void addTombstone() {
 		// Arrange
-		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
 		final var taskId = UUID.randomUUID().toString();
-		final var request = EmployeeChecklistTaskUpdateRequest.builder().build();
 
 		// Act
-		final var e = assertThrows(ThrowableProblem.class, () -> integration.updateCommonTaskFulfilment(municipalityId, employeeChecklistId, taskId, request));
+		integration.addTombstone(employeeChecklistId, taskId);
 
-		// Verify and assert
-		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
-		assertThat(e.getMessage()).isEqualTo("Not Found: Employee checklist with id %s was not found within municipality %s.".formatted(employeeChecklistId, municipalityId));
+		// Assert and verify
+		verify(tombstoneRepositoryMock).save(tombstoneEntityCaptor.capture());
+		assertThat(tombstoneEntityCaptor.getValue().getEmployeeChecklistId()).isEqualTo(employeeChecklistId);
+		assertThat(tombstoneEntityCaptor.getValue().getTaskId()).isEqualTo(taskId);
+	}
 
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+	@Test
+	void removeCustomTaskFromCompletionCounters() {
+		// Arrange
+		final var customTaskId = UUID.randomUUID().toString();
+
+		// Act
+		integration.removeCustomTaskFromCompletionCounters(customTaskId);
+
+		// Verify
+		verify(employeeChecklistsRepositoryMock).removeCustomTaskFromCompletionCounters(customTaskId);
 	}
 
-	@ParameterizedTest
-	@EnumSource(value = FulfilmentStatus.class, mode = Mode.INCLUDE, names = "TRUE")
-	void updateCustomTaskFulfilmentWhenNoPresentFulfilmentExistsLeedingToChecklistCompleted(FulfilmentStatus fulfilmentStatus) {
+	@Test
+	void updateCommonTaskFulfilmentWhenNoPresentFulfilmentExists() {
 		// Arrange
-		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var taskId = UUID.randomUUID().toString();
+		final var employeeChecklistReference = EmployeeChecklistEntity.builder().withId(employeeChecklistId).build();
+		final var task = TaskEntity.builder().withId(UUID.randomUUID().toString()).build();
 		final var responseText = "responseText";
 		final var updatedBy = "updatedBy";
 
 		final var request = EmployeeChecklistTaskUpdateRequest.builder()
-			.withFulfilmentStatus(fulfilmentStatus)
+			.withFulfilmentStatus(FulfilmentStatus.TRUE)
 			.withResponseText(responseText)
 			.withUpdatedBy(updatedBy)
 			.build();
 
-		final var entity = EmployeeChecklistEntity.builder()
-			.withCustomTasks(List.of(CustomTaskEntity.builder()
-				.withId(taskId)
-				.build()))
-			.build();
-
-		when(employeeChecklistsRepositoryMock.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(entity));
+		when(employeeChecklistsRepositoryMock.getReferenceById(employeeChecklistId)).thenReturn(employeeChecklistReference);
+		when(fulfilmentRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
-		final var result = integration.updateCustomTaskFulfilment(municipalityId, employeeChecklistId, taskId, request);
+		final var result = integration.updateCommonTaskFulfilment(employeeChecklistId, task, request);
 
 		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
-		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
-
-		assertThat(result).isEqualTo(entity.getCustomFulfilments().getFirst());
-		assertThat(result.getCompleted()).isEqualTo(fulfilmentStatus);
+		verify(fulfilmentRepositoryMock).findFirstByEmployeeChecklistIdAndTaskId(employeeChecklistId, task.getId());
+		verify(employeeChecklistsRepositoryMock).getReferenceById(employeeChecklistId);
+		verify(fulfilmentRepositoryMock).save(result);
+		verify(employeeChecklistsRepositoryMock).adjustCompletionCounters(employeeChecklistId, 1, 0);
+		verify(employeeChecklistsRepositoryMock).completeIfAllTasksCompleted(eq(employeeChecklistId), any());
+
+		assertThat(result.getEmployeeChecklist()).isSameAs(employeeChecklistReference);
+		assertThat(result.getTask()).isSameAs(task);
+		assertThat(result.getCompleted()).isEqualTo(FulfilmentStatus.TRUE);
 		assertThat(result.getResponseText()).isEqualTo(responseText);
 		assertThat(result.getLastSavedBy()).isEqualTo(updatedBy);
-		assertThat(employeeChecklistEntityCaptor.getValue().isCompleted()).isTrue();
 	}
 
 	@ParameterizedTest
 	@EnumSource(value = FulfilmentStatus.class, mode = Mode.EXCLUDE, names = "TRUE")
-	void updateCustomTaskFulfilmentWhenPresentFulfilmentExistsAndChecklistNotCompleted(FulfilmentStatus fulfilmentStatus) {
+	void updateCommonTaskFulfilmentWhenPresentFulfilmentExists(FulfilmentStatus fulfilmentStatus) {
 		// Arrange
-		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var taskId = UUID.randomUUID().toString();
+		final var fulfilmentId = UUID.randomUUID().toString();
+		final var task = TaskEntity.builder().withId(UUID.randomUUID().toString()).build();
 		final var responseText = "responseText";
 		final var updatedBy = "updatedBy";
 
@@ -852,130 +1086,205 @@ class EmployeeChecklistIntegrationTest {
 			.withUpdatedBy(updatedBy)
 			.build();
 
-		final var entity = EmployeeChecklistEntity.builder()
-			.withCustomTasks(List.of(
-				CustomTaskEntity.builder()
-					.withId(taskId)
-					.build(),
-				CustomTaskEntity.builder()
-					.withId(UUID.randomUUID().toString())
-					.build()))
-			.build();
-
-		entity.setCustomFulfilments(List.of(CustomFulfilmentEntity.builder()
-			.withCustomTask(entity.getCustomTasks().getFirst())
-			.build()));
-
-		when(employeeChecklistsRepositoryMock.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(entity));
+		when(fulfilmentProjectionMock.getId()).thenReturn(fulfilmentId);
+		when(fulfilmentProjectionMock.getCompleted()).thenReturn(FulfilmentStatus.TRUE);
+		when(fulfilmentProjectionMock.getResponseText()).thenReturn("oldResponseText");
+		when(fulfilmentRepositoryMock.findFirstByEmployeeChecklistIdAndTaskId(employeeChecklistId, task.getId())).thenReturn(Optional.of(fulfilmentProjectionMock));
 
 		// Act
-		final var result = integration.updateCustomTaskFulfilment(municipalityId, employeeChecklistId, taskId, request);
+		final var result = integration.updateCommonTaskFulfilment(employeeChecklistId, task, request);
 
 		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
-		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
+		verify(fulfilmentRepositoryMock).findFirstByEmployeeChecklistIdAndTaskId(employeeChecklistId, task.getId());
+		verify(fulfilmentRepositoryMock).updateFulfilment(fulfilmentId, fulfilmentStatus, responseText, updatedBy, result.getUpdated());
+		verify(employeeChecklistsRepositoryMock).adjustCompletionCounters(employeeChecklistId, -1, fulfilmentStatus == FulfilmentStatus.NOT_RELEVANT ? 1 : 0);
 
-		assertThat(result).isEqualTo(entity.getCustomFulfilments().getFirst());
+		assertThat(result.getId()).isEqualTo(fulfilmentId);
+		assertThat(result.getTask()).isSameAs(task);
 		assertThat(result.getCompleted()).isEqualTo(fulfilmentStatus);
 		assertThat(result.getResponseText()).isEqualTo(responseText);
 		assertThat(result.getLastSavedBy()).isEqualTo(updatedBy);
-		assertThat(employeeChecklistEntityCaptor.getValue().isCompleted()).isFalse();
+		assertThat(result.getUpdated()).isNotNull();
 	}
 
 	@Test
-	void updateCustomTaskFulfilmentToEmptyWhenChecklistCompletedSinceEariler() {
+	void updateCommonTaskFulfilmentWhenPresentFulfilmentExistsAndRequestOnlyContainsUpdatedBy() {
 		// Arrange
-		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var taskId = UUID.randomUUID().toString();
+		final var fulfilmentId = UUID.randomUUID().toString();
+		final var task = TaskEntity.builder().withId(UUID.randomUUID().toString()).build();
 		final var responseText = "responseText";
 		final var updatedBy = "updatedBy";
 
 		final var request = EmployeeChecklistTaskUpdateRequest.builder()
-			.withFulfilmentStatus(FulfilmentStatus.EMPTY)
-			.withResponseText(responseText)
 			.withUpdatedBy(updatedBy)
 			.build();
 
-		final var entity = EmployeeChecklistEntity.builder()
-			.withCompleted(true)
-			.withCustomTasks(List.of(
-				CustomTaskEntity.builder()
-					.withId(taskId)
-					.build(),
-				CustomTaskEntity.builder()
-					.withId(UUID.randomUUID().toString())
-					.build()))
-			.build();
-
-		entity.setCustomFulfilments(List.of(CustomFulfilmentEntity.builder()
-			.withCustomTask(entity.getCustomTasks().getFirst())
-			.build()));
-
-		when(employeeChecklistsRepositoryMock.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(entity));
+		when(fulfilmentProjectionMock.getId()).thenReturn(fulfilmentId);
+		when(fulfilmentProjectionMock.getCompleted()).thenReturn(FulfilmentStatus.TRUE);
+		when(fulfilmentProjectionMock.getResponseText()).thenReturn(responseText);
+		when(fulfilmentRepositoryMock.findFirstByEmployeeChecklistIdAndTaskId(employeeChecklistId, task.getId())).thenReturn(Optional.of(fulfilmentProjectionMock));
 
 		// Act
-		final var result = integration.updateCustomTaskFulfilment(municipalityId, employeeChecklistId, taskId, request);
+		final var result = integration.updateCommonTaskFulfilment(employeeChecklistId, task, request);
 
 		// Verify and assert
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
-		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
+		verify(fulfilmentRepositoryMock).findFirstByEmployeeChecklistIdAndTaskId(employeeChecklistId, task.getId());
+		verify(fulfilmentRepositoryMock).updateFulfilment(fulfilmentId, FulfilmentStatus.TRUE, responseText, updatedBy, result.getUpdated());
+		verify(employeeChecklistsRepositoryMock).completeIfAllTasksCompleted(eq(employeeChecklistId), any());
 
-		assertThat(result).isEqualTo(entity.getCustomFulfilments().getFirst());
-		assertThat(result.getCompleted()).isEqualTo(FulfilmentStatus.EMPTY);
+		assertThat(result.getCompleted()).isEqualTo(FulfilmentStatus.TRUE);
 		assertThat(result.getResponseText()).isEqualTo(responseText);
 		assertThat(result.getLastSavedBy()).isEqualTo(updatedBy);
-		assertThat(employeeChecklistEntityCaptor.getValue().isCompleted()).isTrue();
 	}
 
 	@Test
-	void updateCustomTaskFulfilmentForNonExistingTask() {
+	void updateCustomTaskFulfilmentWhenNoPresentFulfilmentExists() {
 		// Arrange
-		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var taskId = UUID.randomUUID().toString();
-		final var fulfilmentStatus = FulfilmentStatus.TRUE;
+		final var employeeChecklistReference = EmployeeChecklistEntity.builder().withId(employeeChecklistId).build();
+		final var customTask = CustomTaskEntity.builder().withId(UUID.randomUUID().toString()).build();
 		final var responseText = "responseText";
+		final var updatedBy = "updatedBy";
 
 		final var request = EmployeeChecklistTaskUpdateRequest.builder()
-			.withFulfilmentStatus(fulfilmentStatus)
+			.withFulfilmentStatus(FulfilmentStatus.TRUE)
 			.withResponseText(responseText)
+			.withUpdatedBy(updatedBy)
 			.build();
 
-		final var entity = EmployeeChecklistEntity.builder()
-			.withCustomTasks(List.of(CustomTaskEntity.builder()
-				.withId(UUID.randomUUID().toString())
-				.build()))
+		when(employeeChecklistsRepositoryMock.getReferenceById(employeeChecklistId)).thenReturn(employeeChecklistReference);
+		when(customFulfilmentRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// Act
+		final var result = integration.updateCustomTaskFulfilment(employeeChecklistId, customTask, request);
+
+		// Verify and assert
+		verify(customFulfilmentRepositoryMock).findFirstByEmployeeChecklistIdAndCustomTaskId(employeeChecklistId, customTask.getId());
+		verify(employeeChecklistsRepositoryMock).getReferenceById(employeeChecklistId);
+		verify(customFulfilmentRepositoryMock).save(result);
+		verify(employeeChecklistsRepositoryMock).adjustCompletionCounters(employeeChecklistId, 1, 0);
+		verify(employeeChecklistsRepositoryMock).completeIfAllTasksCompleted(eq(employeeChecklistId), any());
+
+		assertThat(result.getEmployeeChecklist()).isSameAs(employeeChecklistReference);
+		assertThat(result.getCustomTask()).isSameAs(customTask);
+		assertThat(result.getCompleted()).isEqualTo(FulfilmentStatus.TRUE);
+		assertThat(result.getResponseText()).isEqualTo(responseText);
+		assertThat(result.getLastSavedBy()).isEqualTo(updatedBy);
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = FulfilmentStatus.class, mode = Mode.EXCLUDE, names = "TRUE")
+	void updateCustomTaskFulfilmentWhenPresentFulfilmentExists(FulfilmentStatus fulfilmentStatus) {
+		// Arrange
+		final var employeeChecklistId = UUID.randomUUID().toString();
+		final var fulfilmentId = UUID.randomUUID().toString();
+		final var customTask = CustomTaskEntity.builder().withId(UUID.randomUUID().toString()).build();
+		final var responseText = "responseText";
+		final var updatedBy = "updatedBy";
+
+		final var request = EmployeeChecklistTaskUpdateRequest.builder()
+			.withFulfilmentStatus(fulfilmentStatus)
+			.withResponseText(responseText)
+			.withUpdatedBy(updatedBy)
 			.build();
 
-		when(employeeChecklistsRepositoryMock.findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(entity));
+		when(fulfilmentProjectionMock.getId()).thenReturn(fulfilmentId);
+		when(fulfilmentProjectionMock.getCompleted()).thenReturn(FulfilmentStatus.TRUE);
+		when(fulfilmentProjectionMock.getResponseText()).thenReturn("oldResponseText");
+		when(customFulfilmentRepositoryMock.findFirstByEmployeeChecklistIdAndCustomTaskId(employeeChecklistId, customTask.getId())).thenReturn(Optional.of(fulfilmentProjectionMock));
 
 		// Act
-		final var e = assertThrows(ThrowableProblem.class, () -> integration.updateCustomTaskFulfilment(municipalityId, employeeChecklistId, taskId, request));
+		final var result = integration.updateCustomTaskFulfilment(employeeChecklistId, customTask, request);
 
 		// Verify and assert
-		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
-		assertThat(e.getMessage()).isEqualTo("Not Found: No fulfilment information found for task with id %s in employee checklist with id %s.".formatted(taskId, employeeChecklistId));
+		verify(customFulfilmentRepositoryMock).findFirstByEmployeeChecklistIdAndCustomTaskId(employeeChecklistId, customTask.getId());
+		verify(customFulfilmentRepositoryMock).updateCustomFulfilment(fulfilmentId, fulfilmentStatus, responseText, updatedBy, result.getUpdated());
+		verify(employeeChecklistsRepositoryMock).adjustCompletionCounters(employeeChecklistId, -1, fulfilmentStatus == FulfilmentStatus.NOT_RELEVANT ? 1 : 0);
 
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+		assertThat(result.getId()).isEqualTo(fulfilmentId);
+		assertThat(result.getCustomTask()).isSameAs(customTask);
+		assertThat(result.getCompleted()).isEqualTo(fulfilmentStatus);
+		assertThat(result.getResponseText()).isEqualTo(responseText);
+		assertThat(result.getLastSavedBy()).isEqualTo(updatedBy);
+		assertThat(result.getUpdated()).isNotNull();
 	}
 
 	@Test
-	void updateCustomTaskFulfilmentOnNonExistingEmployeeChecklist() {
+	void updateTaskFulfilments() {
 		// Arrange
 		final var municipalityId = "municipalityId";
 		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var taskId = UUID.randomUUID().toString();
-		final var request = EmployeeChecklistTaskUpdateRequest.builder().build();
+		final var employeeChecklistReference = EmployeeChecklistEntity.builder().withId(employeeChecklistId).build();
+		final var fulfilmentId = UUID.randomUUID().toString();
+		final var task = TaskEntity.builder().withId(UUID.randomUUID().toString()).withHeading("heading").build();
+		final var customTask = CustomTaskEntity.builder().withId(UUID.randomUUID().toString()).withHeading("customHeading").build();
+		final var unknownTaskId = UUID.randomUUID().toString();
+		final var updatedBy = "updatedBy";
+
+		final var requests = new LinkedHashMap<String, EmployeeChecklistTaskUpdateRequest>();
+		requests.put(task.getId(), EmployeeChecklistTaskUpdateRequest.builder().withFulfilmentStatus(FulfilmentStatus.TRUE).withUpdatedBy(updatedBy).build());
+		requests.put(customTask.getId(), EmployeeChecklistTaskUpdateRequest.builder().withFulfilmentStatus(FulfilmentStatus.NOT_RELEVANT).withResponseText("responseText").withUpdatedBy(updatedBy).build());
+		requests.put(unknownTaskId, EmployeeChecklistTaskUpdateRequest.builder().withFulfilmentStatus(FulfilmentStatus.TRUE).withUpdatedBy(updatedBy).build());
+
+		when(employeeChecklistsRepositoryMock.findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(false));
+		when(taskRepositoryMock.findAllByIdInAndEmployeeChecklistId(requests.keySet(), employeeChecklistId)).thenReturn(List.of(task));
+		when(taskFulfilmentProjectionMock.getId()).thenReturn(fulfilmentId);
+		when(taskFulfilmentProjectionMock.getTaskId()).thenReturn(task.getId());
+		when(taskFulfilmentProjectionMock.getCompleted()).thenReturn(FulfilmentStatus.FALSE);
+		when(taskFulfilmentProjectionMock.getResponseText()).thenReturn("oldResponseText");
+		when(fulfilmentRepositoryMock.findAllByEmployeeChecklistIdAndTaskIdIn(employeeChecklistId, List.of(task.getId()))).thenReturn(List.of(taskFulfilmentProjectionMock));
+		when(customTaskRepositoryMock.findAllByIdInAndEmployeeChecklistId(List.of(customTask.getId(), unknownTaskId), employeeChecklistId)).thenReturn(List.of(customTask));
+		when(employeeChecklistsRepositoryMock.getReferenceById(employeeChecklistId)).thenReturn(employeeChecklistReference);
+		when(customFulfilmentRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
-		final var e = assertThrows(ThrowableProblem.class, () -> integration.updateCustomTaskFulfilment(municipalityId, employeeChecklistId, taskId, request));
+		final var result = integration.updateTaskFulfilments(municipalityId, employeeChecklistId, requests);
 
 		// Verify and assert
-		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
-		assertThat(e.getMessage()).isEqualTo("Not Found: Employee checklist with id %s was not found within municipality %s.".formatted(employeeChecklistId, municipalityId));
+		verify(employeeChecklistsRepositoryMock).findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+		verify(taskRepositoryMock).findAllByIdInAndEmployeeChecklistId(requests.keySet(), employeeChecklistId);
+		verify(fulfilmentRepositoryMock).findAllByEmployeeChecklistIdAndTaskIdIn(employeeChecklistId, List.of(task.getId()));
+		verify(fulfilmentRepositoryMock).updateFulfilment(eq(fulfilmentId), eq(FulfilmentStatus.TRUE), eq("oldResponseText"), eq(updatedBy), any());
+		verify(customTaskRepositoryMock).findAllByIdInAndEmployeeChecklistId(List.of(customTask.getId(), unknownTaskId), employeeChecklistId);
+		verify(customFulfilmentRepositoryMock).findAllByEmployeeChecklistIdAndCustomTaskIdIn(employeeChecklistId, List.of(customTask.getId()));
+		verify(employeeChecklistsRepositoryMock).getReferenceById(employeeChecklistId);
+		verify(customFulfilmentRepositoryMock).save(any());
+		verify(employeeChecklistsRepositoryMock).adjustCompletionCounters(employeeChecklistId, 1, 1);
+		verify(employeeChecklistsRepositoryMock).completeIfAllTasksCompleted(eq(employeeChecklistId), any());
+
+		assertThat(result).containsOnlyKeys(task.getId(), customTask.getId());
+		assertThat(result.get(task.getId())).satisfies(updatedTask -> {
+			assertThat(updatedTask.getHeading()).isEqualTo("heading");
+			assertThat(updatedTask.getFulfilmentStatus()).isEqualTo(FulfilmentStatus.TRUE);
+			assertThat(updatedTask.getResponseText()).isEqualTo("oldResponseText");
+			assertThat(updatedTask.getUpdatedBy()).isEqualTo(updatedBy);
+		});
+		assertThat(result.get(customTask.getId())).satisfies(updatedTask -> {
+			assertThat(updatedTask.getHeading()).isEqualTo("customHeading");
+			assertThat(updatedTask.getFulfilmentStatus()).isEqualTo(FulfilmentStatus.NOT_RELEVANT);
+			assertThat(updatedTask.getResponseText()).isEqualTo("responseText");
+			assertThat(updatedTask.getUpdatedBy()).isEqualTo(updatedBy);
+		});
+	}
 
-		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
+	@Test
+	void updateTaskFulfilmentsOnLockedEmployeeChecklist() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var employeeChecklistId = UUID.randomUUID().toString();
+		final var requests = Map.of(UUID.randomUUID().toString(), EmployeeChecklistTaskUpdateRequest.builder().withFulfilmentStatus(FulfilmentStatus.TRUE).build());
+
+		when(employeeChecklistsRepositoryMock.findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId)).thenReturn(Optional.of(true));
+
+		// Act
+		final var e = assertThrows(ThrowableProblem.class, () -> integration.updateTaskFulfilments(municipalityId, employeeChecklistId, requests));
+
+		// Verify and assert
+		assertThat(e.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(e.getMessage()).isEqualTo("Bad Request: Employee checklist with id %s is locked and can not be modified.".formatted(employeeChecklistId));
+
+		verify(employeeChecklistsRepositoryMock).findLockedByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
 	}
 
 	@Test
@@ -1002,6 +1311,7 @@ class EmployeeChecklistIntegrationTest {
 		// Verify and assert
 		verify(employeeChecklistsRepositoryMock).findByIdAndChecklistsMunicipalityId(employeeChecklistId, municipalityId);
 		verify(delegateRepositoryMock).deleteByEmployeeChecklist(employeeChecklistEntity);
+		verify(tombstoneRepositoryMock).deleteByEmployeeChecklistId(employeeChecklistEntity.getId());
 		verify(employeeChecklistsRepositoryMock).delete(employeeChecklistEntity);
 		verify(employeeRepositoryMock).delete(employeeEntity);
 		assertThat(managerEntity.getEmployees()).isEmpty();
@@ -1087,6 +1397,8 @@ class EmployeeChecklistIntegrationTest {
 		verify(phaseRepositoryMock).findByIdAndMunicipalityId(phaseId, municipalityId);
 		verify(employeeChecklistsRepositoryMock).save(entity);
 		verify(customTaskRepositoryMock).save(result);
+		verify(employeeChecklistsRepositoryMock).adjustTotalTasks(employeeChecklistId, 1);
+		assertThat(entity.getCustomTasks()).containsExactly(result);
 	}
 
 	@Test
@@ -1272,10 +1584,9 @@ class EmployeeChecklistIntegrationTest {
 		// Verify and assert
 		verify(employeeRepositoryMock).existsById(employeeUuid);
 		verify(managerRepositoryMock).findById(managerUuid);
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(2, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(21, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(212, municipalityId);
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(2124, municipalityId);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(2, municipalityId);
+		verify(checklistRepositoryMock).findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(municipalityId, Set.of(2, 21, 212, 2124), LifeCycle.ACTIVE);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(2124, municipalityId);
 
 		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
 		assertThat(e.getMessage()).isEqualTo("Not Found: No checklist was found for any id in the organization tree for employee username. Search has been performed for id 2, 21, 212 and 2124.");
@@ -1324,10 +1635,9 @@ class EmployeeChecklistIntegrationTest {
 		// Verify and assert
 		verify(employeeRepositoryMock).existsById(employeeUuid);
 		verify(managerRepositoryMock).findById(managerUuid);
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(2, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(21, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(212, municipalityId);
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(2124, municipalityId);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(2, municipalityId);
+		verify(checklistRepositoryMock).findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(municipalityId, Set.of(2, 21, 212, 2124), LifeCycle.ACTIVE);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(2124, municipalityId);
 
 		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
 		assertThat(e.getMessage()).isEqualTo("Not Found: No checklist was found for any id in the organization tree for employee username. Search has been performed for id 2, 21, 212 and 2124.");
@@ -1380,10 +1690,9 @@ class EmployeeChecklistIntegrationTest {
 		// Verify and assert
 		verify(employeeRepositoryMock).existsById(employeeUuid);
 		verify(managerRepositoryMock).findById(managerUuid);
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(2, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(21, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(212, municipalityId);
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(2124, municipalityId);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(2, municipalityId);
+		verify(checklistRepositoryMock).findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(municipalityId, Set.of(2, 21, 212, 2124), LifeCycle.ACTIVE);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(2124, municipalityId);
 
 		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
 		assertThat(e.getMessage()).isEqualTo("Not Found: No checklist was found for any id in the organization tree for employee username. Search has been performed for id 2, 21, 212 and 2124.");
@@ -1422,6 +1731,7 @@ class EmployeeChecklistIntegrationTest {
 		final var checklistEntity = ChecklistEntity.builder()
 			.withId(checklistUuid)
 			.withLifeCycle(LifeCycle.ACTIVE)
+			.withOrganization(OrganizationEntity.builder().withOrganizationNumber(companyId).build())
 			.build();
 		final var companyEntity = OrganizationEntity.builder()
 			.withId(organizationUuid)
@@ -1432,6 +1742,7 @@ class EmployeeChecklistIntegrationTest {
 
 		when(employeeRepositoryMock.save(any())).thenReturn(employeeEntity);
 		when(organizationRepositoryMock.findByOrganizationNumberAndMunicipalityId(companyId, municipalityId)).thenReturn(Optional.of(companyEntity));
+		when(checklistRepositoryMock.findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(eq(municipalityId), any(), eq(LifeCycle.ACTIVE))).thenReturn(List.of(checklistEntity));
 
 		// Act
 		final var result = integration.initiateEmployee(municipalityId, employee, orgTree);
@@ -1440,10 +1751,9 @@ class EmployeeChecklistIntegrationTest {
 		verify(employeeRepositoryMock).existsById(employeeUuid);
 		verify(managerRepositoryMock).findById(managerUuid);
 		verify(employeeRepositoryMock).save(employeeEntityCaptor.capture());
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(orgId, municipalityId);
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(companyId, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(212, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(21, municipalityId);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(orgId, municipalityId);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(companyId, municipalityId);
+		verify(checklistRepositoryMock).findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(municipalityId, Set.of(2, 21, 212, 2124), LifeCycle.ACTIVE);
 		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
 
 		assertThat(employeeEntityCaptor.getValue().getDepartment()).isNotNull();
@@ -1493,10 +1803,12 @@ class EmployeeChecklistIntegrationTest {
 		final var companyChecklistEntity = ChecklistEntity.builder()
 			.withId(checklistUuid)
 			.withLifeCycle(LifeCycle.ACTIVE)
+			.withOrganization(OrganizationEntity.builder().withOrganizationNumber(companyId).build())
 			.build();
 		final var departmentChecklistEntity = ChecklistEntity.builder()
 			.withId(checklistUuid)
 			.withLifeCycle(LifeCycle.ACTIVE)
+			.withOrganization(OrganizationEntity.builder().withOrganizationNumber(orgId).build())
 			.build();
 		final var companyEntity = OrganizationEntity.builder()
 			.withId(companyUuid)
@@ -1519,6 +1831,7 @@ class EmployeeChecklistIntegrationTest {
 		when(organizationRepositoryMock.findByOrganizationNumberAndMunicipalityId(companyId, municipalityId)).thenReturn(Optional.of(companyEntity));
 		when(organizationRepositoryMock.findByOrganizationNumberAndMunicipalityId(orgId, municipalityId)).thenReturn(Optional.of(departmentEntity));
 		when(managerRepositoryMock.findById(managerUuid)).thenReturn(Optional.of(managerEntity));
+		when(checklistRepositoryMock.findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(eq(municipalityId), any(), eq(LifeCycle.ACTIVE))).thenReturn(List.of(companyChecklistEntity, departmentChecklistEntity));
 
 		// Act
 		final var result = integration.initiateEmployee(municipalityId, employee, orgTree);
@@ -1527,10 +1840,9 @@ class EmployeeChecklistIntegrationTest {
 		verify(employeeRepositoryMock).existsById(employeeUuid);
 		verify(managerRepositoryMock).findById(managerUuid);
 		verify(employeeRepositoryMock).save(employeeEntityCaptor.capture());
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(orgId, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(212, municipalityId);
-		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(21, municipalityId);
-		verify(organizationRepositoryMock, times(2)).findByOrganizationNumberAndMunicipalityId(companyId, municipalityId);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(orgId, municipalityId);
+		verify(checklistRepositoryMock).findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(municipalityId, Set.of(2, 21, 212, 2124), LifeCycle.ACTIVE);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(companyId, municipalityId);
 		verify(employeeChecklistsRepositoryMock).save(employeeChecklistEntityCaptor.capture());
 
 		assertThat(employeeEntityCaptor.getValue().getDepartment()).isEqualTo(departmentEntity);
@@ -1538,13 +1850,183 @@ class EmployeeChecklistIntegrationTest {
 		assertThat(employeeEntityCaptor.getValue().getManager()).isEqualTo(managerEntity);
 		assertThat(employeeEntityCaptor.getValue().getEmployeeChecklist()).isNull();
 		assertThat(employeeChecklistEntityCaptor.getValue().getEmployee()).isEqualTo(employeeEntity);
-		assertThat(employeeChecklistEntityCaptor.getValue().getChecklists()).hasSize(2).containsExactlyInAnyOrder(companyChecklistEntity, departmentChecklistEntity);
+		assertThat(employeeChecklistEntityCaptor.getValue().getChecklists()).hasSize(2).containsExactly(departmentChecklistEntity, companyChecklistEntity);
 		assertThat(employeeChecklistEntityCaptor.getValue().getCustomFulfilments()).isNullOrEmpty();
 		assertThat(employeeChecklistEntityCaptor.getValue().getCustomTasks()).isNullOrEmpty();
 		assertThat(employeeChecklistEntityCaptor.getValue().getFulfilments()).isNullOrEmpty();
 		assertThat(result).isEqualTo("Employee with loginname username processed successfully.");
 	}
 
+	@Test
+	@DisplayName("Initiation of employee where manager and organizations are already known within the batch, which will use references instead of looking them up")
+	void initiateEmployeeWithIdentityMap() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var employeeUuid = UUID.randomUUID().toString();
+		final var companyId = 2;
+		final var orgId = 2124;
+		final var managerUuid = UUID.randomUUID().toString();
+		final var employee = Employee.builder()
+			.withLoginname("username")
+			.withPersonId(employeeUuid)
+			.withMainEmployment(Employment.builder()
+				.withOrgId(orgId)
+				.withOrgName("orgName")
+				.withCompanyId(companyId)
+				.withIsMainEmployment(true)
+				.withManager(Manager.builder()
+					.withPersonId(managerUuid)
+					.build())
+				.build())
+			.build();
+		final var orgTree = OrganizationTree.map("1|" + companyId + "|Root¤2|21|Level-2¤3|212|Level-3¤4|" + orgId + "|orgName");
+		final var companyEntity = OrganizationEntity.builder().withId("companyUuid").withOrganizationNumber(companyId).build();
+		final var departmentEntity = OrganizationEntity.builder().withId("departmentUuid").withOrganizationNumber(orgId).build();
+		final var managerEntity = ManagerEntity.builder().withPersonId(managerUuid).build();
+		final var checklistEntity = ChecklistEntity.builder()
+			.withLifeCycle(LifeCycle.ACTIVE)
+			.withOrganization(companyEntity)
+			.build();
+		final var identityMap = new BatchIdentityMap();
+		identityMap.registerOnCommit(municipalityId, EmployeeEntity.builder()
+			.withManager(managerEntity)
+			.withCompany(companyEntity)
+			.withDepartment(departmentEntity)
+			.build());
+
+		when(organizationRepositoryMock.getReferenceById("companyUuid")).thenReturn(companyEntity);
+		when(organizationRepositoryMock.getReferenceById("departmentUuid")).thenReturn(departmentEntity);
+		when(managerRepositoryMock.getReferenceById(managerUuid)).thenReturn(managerEntity);
+		when(employeeRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(checklistRepositoryMock.findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(eq(municipalityId), any(), eq(LifeCycle.ACTIVE))).thenReturn(List.of(checklistEntity));
+
+		// Act
+		final var result = integration.initiateEmployee(municipalityId, employee, orgTree, identityMap);
+
+		// Verify and assert
+		verify(employeeRepositoryMock).existsById(employeeUuid);
+		verify(organizationRepositoryMock).getReferenceById("companyUuid");
+		verify(organizationRepositoryMock).getReferenceById("departmentUuid");
+		verify(managerRepositoryMock).getReferenceById(managerUuid);
+		verify(employeeRepositoryMock).save(employeeEntityCaptor.capture());
+		verify(checklistRepositoryMock).findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(municipalityId, Set.of(2, 21, 212, 2124), LifeCycle.ACTIVE);
+		verify(employeeChecklistsRepositoryMock).save(any());
+
+		assertThat(employeeEntityCaptor.getValue().getCompany()).isSameAs(companyEntity);
+		assertThat(employeeEntityCaptor.getValue().getDepartment()).isSameAs(departmentEntity);
+		assertThat(employeeEntityCaptor.getValue().getManager()).isSameAs(managerEntity);
+		assertThat(result).isEqualTo("Employee with loginname username processed successfully.");
+	}
+
+	@Test
+	@DisplayName("Initiation of employee registers created manager and organizations in the identity map for the following employees in the batch")
+	void initiateEmployeeRegistersInIdentityMap() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var employeeUuid = UUID.randomUUID().toString();
+		final var companyId = 2;
+		final var orgId = 2124;
+		final var managerUuid = UUID.randomUUID().toString();
+		final var employee = Employee.builder()
+			.withLoginname("username")
+			.withPersonId(employeeUuid)
+			.withMainEmployment(Employment.builder()
+				.withOrgId(orgId)
+				.withOrgName("orgName")
+				.withCompanyId(companyId)
+				.withIsMainEmployment(true)
+				.withManager(Manager.builder()
+					.withPersonId(managerUuid)
+					.build())
+				.build())
+			.build();
+		final var orgTree = OrganizationTree.map("1|" + companyId + "|Root¤4|" + orgId + "|orgName");
+		final var checklistEntity = ChecklistEntity.builder()
+			.withLifeCycle(LifeCycle.ACTIVE)
+			.withOrganization(OrganizationEntity.builder().withOrganizationNumber(companyId).build())
+			.build();
+		final var identityMap = new BatchIdentityMap();
+
+		when(employeeRepositoryMock.save(any())).thenAnswer(invocation -> {
+			// Simulate the ids being generated when the new organizations are persisted
+			final EmployeeEntity entity = invocation.getArgument(0);
+			entity.getCompany().setId("companyUuid");
+			entity.getDepartment().setId("departmentUuid");
+			return entity;
+		});
+		when(checklistRepositoryMock.findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(eq(municipalityId), any(), eq(LifeCycle.ACTIVE))).thenReturn(List.of(checklistEntity));
+
+		// Act
+		integration.initiateEmployee(municipalityId, employee, orgTree, identityMap);
+
+		// Verify and assert
+		verify(employeeRepositoryMock).existsById(employeeUuid);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(companyId, municipalityId);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(orgId, municipalityId);
+		verify(managerRepositoryMock).findById(managerUuid);
+		verify(employeeRepositoryMock).save(any());
+		verify(checklistRepositoryMock).findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle(municipalityId, Set.of(companyId, orgId), LifeCycle.ACTIVE);
+		verify(employeeChecklistsRepositoryMock).save(any());
+
+		assertThat(identityMap.containsManager(managerUuid)).isTrue();
+		assertThat(identityMap.getOrganizationId(municipalityId, companyId)).hasValue("companyUuid");
+		assertThat(identityMap.getOrganizationId(municipalityId, orgId)).hasValue("departmentUuid");
+	}
+
+	@Test
+	@DisplayName("Managers and organizations shared by several employees in a batch are found or created and registered in the identity map")
+	void createSharedEntities() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var sharedManager = Manager.builder().withPersonId("sharedManagerUuid").build();
+		final var employees = List.of(
+			createBatchEmployee(1, 11, sharedManager),
+			createBatchEmployee(1, 12, sharedManager),
+			createBatchEmployee(1, 11, Manager.builder().withPersonId("managerUuid").build()),
+			Employee.builder().build());
+		final var managerEntity = ManagerEntity.builder().withPersonId("sharedManagerUuid").build();
+		final var departmentEntity = OrganizationEntity.builder().withId("departmentUuid").withOrganizationNumber(11).build();
+		final var identityMap = new BatchIdentityMap();
+
+		when(managerRepositoryMock.findById("sharedManagerUuid")).thenReturn(Optional.of(managerEntity));
+		when(organizationRepositoryMock.findByOrganizationNumberAndMunicipalityId(11, municipalityId)).thenReturn(Optional.of(departmentEntity));
+		when(organizationRepositoryMock.save(any())).thenAnswer(invocation -> {
+			// Simulate the id being generated when the new organization is persisted
+			final OrganizationEntity entity = invocation.getArgument(0);
+			entity.setId("companyUuid");
+			return entity;
+		});
+
+		// Act
+		integration.createSharedEntities(municipalityId, employees, identityMap);
+
+		// Verify and assert
+		verify(managerRepositoryMock).findById("sharedManagerUuid");
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(1, municipalityId);
+		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(11, municipalityId);
+		verify(organizationRepositoryMock).save(organizationEntityCaptor.capture());
+
+		assertThat(organizationEntityCaptor.getValue().getOrganizationNumber()).isEqualTo(1);
+		assertThat(organizationEntityCaptor.getValue().getOrganizationName()).isNull();
+		assertThat(organizationEntityCaptor.getValue().getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(identityMap.containsManager("sharedManagerUuid")).isTrue();
+		assertThat(identityMap.containsManager("managerUuid")).isFalse();
+		assertThat(identityMap.getOrganizationId(municipalityId, 1)).hasValue("companyUuid");
+		assertThat(identityMap.getOrganizationId(municipalityId, 11)).hasValue("departmentUuid");
+		assertThat(identityMap.getOrganizationId(municipalityId, 12)).isEmpty();
+	}
+
+	private static Employee createBatchEmployee(final int companyId, final int orgId, final Manager manager) {
+		return Employee.builder()
+			.withMainEmployment(Employment.builder()
+				.withCompanyId(companyId)
+				.withOrgId(orgId)
+				.withOrgName("orgName" + orgId)
+				.withManager(manager)
+				.build())
+			.build();
+	}
+
 	@Test
 	void fetchAllOngoingEmployeeChecklists() {
 		// Arrange
@@ -1580,4 +2062,11 @@ class EmployeeChecklistIntegrationTest {
 		verify(employeeChecklistsRepositoryMock).findAllByChecklistsMunicipalityIdAndCompletedFalse(municipalityId);
 		assertThat(response).isEqualTo(result);
 	}
+
+	private static EmployeeChecklistVersionProjection createVersion(final String id, final String fingerprint) {
+		final var version = mock(EmployeeChecklistVersionProjection.class);
+		when(version.getId()).thenReturn(id);
+		when(version.getFingerprint()).thenReturn(fingerprint);
+		return version;
+	}
 }
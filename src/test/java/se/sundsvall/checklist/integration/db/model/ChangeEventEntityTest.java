@@ -0,0 +1,72 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.within;
+import static org.hamcrest.CoreMatchers.allOf;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.MENTOR;
+
+class ChangeEventEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> OffsetDateTime.now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(ChangeEventEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters()));
+	}
+
+	@Test
+	void testBuilder() {
+		final var id = 4711L;
+		final var employeeChecklistId = "employeeChecklistId";
+		final var changeType = MENTOR;
+		final var username = "username";
+		final var created = OffsetDateTime.now();
+
+		final var bean = ChangeEventEntity.builder()
+			.withId(id)
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withChangeType(changeType)
+			.withUsername(username)
+			.withCreated(created)
+			.build();
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getEmployeeChecklistId()).isEqualTo(employeeChecklistId);
+		assertThat(bean.getChangeType()).isEqualTo(changeType);
+		assertThat(bean.getUsername()).isEqualTo(username);
+		assertThat(bean.getCreated()).isEqualTo(created);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(ChangeEventEntity.builder().build()).hasAllNullFieldsOrProperties();
+		assertThat(new ChangeEventEntity()).hasAllNullFieldsOrProperties();
+	}
+
+	@Test
+	void prePersistTest() {
+		final var bean = ChangeEventEntity.builder().build();
+
+		bean.prePersist();
+
+		assertThat(bean.getCreated()).isNotNull().isCloseTo(now(systemDefault()), within(2, SECONDS));
+	}
+}
@@ -0,0 +1,67 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.within;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class EmployeeImportWatermarkEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> OffsetDateTime.now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+		registerValueGenerator(() -> LocalDate.now().plusDays(new Random().nextInt(1000)), LocalDate.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(EmployeeImportWatermarkEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters()));
+	}
+
+	@Test
+	void testBuilder() {
+		final var municipalityId = "municipalityId";
+		final var lastSuccessfulImport = LocalDate.now();
+		final var updated = OffsetDateTime.now();
+
+		final var bean = EmployeeImportWatermarkEntity.builder()
+			.withMunicipalityId(municipalityId)
+			.withLastSuccessfulImport(lastSuccessfulImport)
+			.withUpdated(updated)
+			.build();
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getLastSuccessfulImport()).isEqualTo(lastSuccessfulImport);
+		assertThat(bean.getUpdated()).isEqualTo(updated);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(EmployeeImportWatermarkEntity.builder().build()).hasAllNullFieldsOrProperties();
+		assertThat(new EmployeeImportWatermarkEntity()).hasAllNullFieldsOrProperties();
+	}
+
+	@Test
+	void preUpdateTest() {
+		final var bean = EmployeeImportWatermarkEntity.builder().build();
+
+		bean.preUpdate();
+
+		assertThat(bean.getUpdated()).isNotNull().isCloseTo(now(systemDefault()), within(2, SECONDS));
+	}
+}
@@ -0,0 +1,83 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.within;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class InitiationJobEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> OffsetDateTime.now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(InitiationJobEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters()));
+	}
+
+	@Test
+	void testBuilder() {
+		final var id = "id";
+		final var municipalityId = "municipalityId";
+		final var status = "COMPLETED";
+		final var total = 10;
+		final var processed = 9;
+		final var errors = 1;
+		final var summary = "summary";
+		final var started = OffsetDateTime.now().minusMinutes(1);
+		final var finished = OffsetDateTime.now();
+
+		final var bean = InitiationJobEntity.builder()
+			.withId(id)
+			.withMunicipalityId(municipalityId)
+			.withStatus(status)
+			.withTotal(total)
+			.withProcessed(processed)
+			.withErrors(errors)
+			.withSummary(summary)
+			.withStarted(started)
+			.withFinished(finished)
+			.build();
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getTotal()).isEqualTo(total);
+		assertThat(bean.getProcessed()).isEqualTo(processed);
+		assertThat(bean.getErrors()).isEqualTo(errors);
+		assertThat(bean.getSummary()).isEqualTo(summary);
+		assertThat(bean.getStarted()).isEqualTo(started);
+		assertThat(bean.getFinished()).isEqualTo(finished);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(InitiationJobEntity.builder().build()).hasAllNullFieldsOrPropertiesExcept("processed", "errors");
+		assertThat(new InitiationJobEntity()).hasAllNullFieldsOrPropertiesExcept("processed", "errors");
+	}
+
+	@Test
+	void prePersistTest() {
+		final var bean = InitiationJobEntity.builder().build();
+
+		bean.prePersist();
+
+		assertThat(bean.getStarted()).isNotNull().isCloseTo(now(systemDefault()), within(2, SECONDS));
+	}
+}
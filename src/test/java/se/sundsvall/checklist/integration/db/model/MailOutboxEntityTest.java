@@ -0,0 +1,86 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.within;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class MailOutboxEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> OffsetDateTime.now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(MailOutboxEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters()));
+	}
+
+	@Test
+	void testBuilder() {
+		final var id = "id";
+		final var employeeChecklistId = "employeeChecklistId";
+		final var municipalityId = "municipalityId";
+		final var emailTemplate = "emailTemplate";
+		final var nextAttempt = OffsetDateTime.now().plusMinutes(5);
+		final var created = OffsetDateTime.now();
+
+		final var bean = MailOutboxEntity.builder()
+			.withId(id)
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withMunicipalityId(municipalityId)
+			.withEmailTemplate(emailTemplate)
+			.withNextAttempt(nextAttempt)
+			.withCreated(created)
+			.build();
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getEmployeeChecklistId()).isEqualTo(employeeChecklistId);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getEmailTemplate()).isEqualTo(emailTemplate);
+		assertThat(bean.getNextAttempt()).isEqualTo(nextAttempt);
+		assertThat(bean.getCreated()).isEqualTo(created);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(MailOutboxEntity.builder().build()).hasAllNullFieldsOrProperties();
+		assertThat(new MailOutboxEntity()).hasAllNullFieldsOrProperties();
+	}
+
+	@Test
+	void prePersistTest() {
+		final var bean = MailOutboxEntity.builder().build();
+
+		bean.prePersist();
+
+		assertThat(bean.getCreated()).isNotNull().isCloseTo(now(systemDefault()), within(2, SECONDS));
+		assertThat(bean.getNextAttempt()).isEqualTo(bean.getCreated());
+	}
+
+	@Test
+	void prePersistWhenNextAttemptIsSet() {
+		final var nextAttempt = OffsetDateTime.now().plusMinutes(5);
+		final var bean = MailOutboxEntity.builder().withNextAttempt(nextAttempt).build();
+
+		bean.prePersist();
+
+		assertThat(bean.getCreated()).isNotNull().isCloseTo(now(systemDefault()), within(2, SECONDS));
+		assertThat(bean.getNextAttempt()).isEqualTo(nextAttempt);
+	}
+}
@@ -0,0 +1,68 @@
+package se.sundsvall.checklist.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.within;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class TombstoneEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> OffsetDateTime.now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(TombstoneEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters()));
+	}
+
+	@Test
+	void testBuilder() {
+		final var id = 4711L;
+		final var employeeChecklistId = "employeeChecklistId";
+		final var taskId = "taskId";
+		final var deleted = OffsetDateTime.now();
+
+		final var bean = TombstoneEntity.builder()
+			.withId(id)
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withTaskId(taskId)
+			.withDeleted(deleted)
+			.build();
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getEmployeeChecklistId()).isEqualTo(employeeChecklistId);
+		assertThat(bean.getTaskId()).isEqualTo(taskId);
+		assertThat(bean.getDeleted()).isEqualTo(deleted);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(TombstoneEntity.builder().build()).hasAllNullFieldsOrProperties();
+		assertThat(new TombstoneEntity()).hasAllNullFieldsOrProperties();
+	}
+
+	@Test
+	void prePersistTest() {
+		final var bean = TombstoneEntity.builder().build();
+
+		bean.prePersist();
+
+		assertThat(bean.getDeleted()).isNotNull().isCloseTo(now(systemDefault()), within(2, SECONDS));
+	}
+}
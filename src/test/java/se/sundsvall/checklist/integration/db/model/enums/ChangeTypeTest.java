@@ -0,0 +1,25 @@
+package se.sundsvall.checklist.integration.db.model.enums;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.CUSTOM_TASK;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.DELEGATION;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.FULFILMENT;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.MENTOR;
+
+class ChangeTypeTest {
+
+	@Test
+	void enums() {
+		assertThat(ChangeType.values()).containsExactlyInAnyOrder(CUSTOM_TASK, DELEGATION, FULFILMENT, MENTOR);
+	}
+
+	@Test
+	void enumValues() {
+		assertThat(CUSTOM_TASK).hasToString("CUSTOM_TASK");
+		assertThat(DELEGATION).hasToString("DELEGATION");
+		assertThat(FULFILMENT).hasToString("FULFILMENT");
+		assertThat(MENTOR).hasToString("MENTOR");
+	}
+}
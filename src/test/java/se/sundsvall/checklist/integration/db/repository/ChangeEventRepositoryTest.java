@@ -0,0 +1,109 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.checklist.integration.db.model.ChangeEventEntity;
+import se.sundsvall.checklist.integration.db.model.enums.ChangeType;
+
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.DELEGATION;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.FULFILMENT;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.MENTOR;
+
+/**
+ * ChangeEventRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class ChangeEventRepositoryTest {
+
+	@Autowired
+	private ChangeEventRepository repository;
+
+	@Test
+	void create() {
+		// Act
+		final var entity = repository.saveAndFlush(createChangeEvent(DELEGATION, "username"));
+
+		// Assert
+		assertThat(entity.getId()).isNotNull();
+		assertThat(entity.getCreated()).isNotNull();
+		assertThat(entity.getUsername()).isEqualTo("username");
+	}
+
+	@Test
+	void findByIdGreaterThanOrderById() {
+		// Arrange
+		final var first = repository.saveAndFlush(createChangeEvent(FULFILMENT, null));
+		final var second = repository.saveAndFlush(createChangeEvent(MENTOR, null));
+		final var third = repository.saveAndFlush(createChangeEvent(DELEGATION, "username"));
+
+		// Act and assert
+		assertThat(repository.findByIdGreaterThanOrderById(first.getId(), Limit.of(10))).extracting(ChangeEventEntity::getId).containsExactly(second.getId(), third.getId());
+		assertThat(repository.findByIdGreaterThanOrderById(first.getId(), Limit.of(1))).extracting(ChangeEventEntity::getId).containsExactly(second.getId());
+		assertThat(repository.findByIdGreaterThanOrderById(third.getId(), Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void findByIdInOrderById() {
+		// Arrange
+		final var first = repository.saveAndFlush(createChangeEvent(FULFILMENT, null));
+		repository.saveAndFlush(createChangeEvent(MENTOR, null));
+		final var third = repository.saveAndFlush(createChangeEvent(DELEGATION, "username"));
+
+		// Act and assert
+		assertThat(repository.findByIdInOrderById(List.of(third.getId(), first.getId(), third.getId() + 1))).extracting(ChangeEventEntity::getId).containsExactly(first.getId(), third.getId());
+		assertThat(repository.findByIdInOrderById(List.of(third.getId() + 1))).isEmpty();
+	}
+
+	@Test
+	void findMaxId() {
+		// Arrange
+		repository.saveAndFlush(createChangeEvent(FULFILMENT, null));
+		final var last = repository.saveAndFlush(createChangeEvent(MENTOR, null));
+
+		// Act and assert
+		assertThat(repository.findMaxId()).hasValue(last.getId());
+	}
+
+	@Test
+	void findMaxIdWhenFeedIsEmpty() {
+		assertThat(repository.findMaxId()).isEmpty();
+	}
+
+	@Test
+	void deleteByCreatedBefore() {
+		// Arrange
+		repository.saveAndFlush(createChangeEvent(FULFILMENT, null));
+		repository.saveAndFlush(createChangeEvent(MENTOR, null));
+
+		// Act and assert
+		assertThat(repository.deleteByCreatedBefore(OffsetDateTime.now(systemDefault()).minusMinutes(1))).isZero();
+		assertThat(repository.deleteByCreatedBefore(OffsetDateTime.now(systemDefault()).plusMinutes(1))).isEqualTo(2);
+		assertThat(repository.count()).isZero();
+	}
+
+	private static ChangeEventEntity createChangeEvent(final ChangeType changeType, final String username) {
+		return ChangeEventEntity.builder()
+			.withEmployeeChecklistId("223a076f-441d-4a30-b5d0-f2bfd5ab250b")
+			.withChangeType(changeType)
+			.withUsername(username)
+			.build();
+	}
+}
@@ -1,5 +1,7 @@
 package se.sundsvall.checklist.integration.db.repository;
 
+import java.util.List;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
@@ -111,4 +113,15 @@ class ChecklistRepositoryTest {
 		});
 	}
 
+	@Test
+	void findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle() {
+		final var result = checklistRepository.findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle("2281", List.of(1, 5535, 9999), ACTIVE);
+
+		assertThat(result).extracting(ChecklistEntity::getId).containsExactlyInAnyOrder("25764278-50c8-4a19-af00-077bfc314fd2", "35764278-50c8-4a19-af00-077bfc314fd2");
+		assertThat(result).allSatisfy(checklist -> {
+			assertThat(Hibernate.isInitialized(checklist.getOrganization())).isTrue();
+			assertThat(checklist.getOrganization().getOrganizationNumber()).isEqualTo(5535);
+		});
+		assertThat(checklistRepository.findAllByOrganizationMunicipalityIdAndOrganizationOrganizationNumberInAndLifeCycle("2260", List.of(1, 5535), ACTIVE)).isEmpty();
+	}
 }
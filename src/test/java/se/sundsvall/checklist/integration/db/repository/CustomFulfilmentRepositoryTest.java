@@ -0,0 +1,118 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.checklist.integration.db.model.CustomFulfilmentEntity;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class CustomFulfilmentRepositoryTest {
+
+	private static final String EMPLOYEE_CHECKLIST_ID = "f853e2b1-a144-4305-b05e-ee8d6dc6d005";
+	private static final String CUSTOM_TASK_ID = "1b3bfe66-0e6c-4e92-a410-7c620a5461f4";
+
+	@Autowired
+	private CustomFulfilmentRepository repository;
+
+	@Autowired
+	private EmployeeChecklistRepository employeeChecklistRepository;
+
+	@Autowired
+	private CustomTaskRepository customTaskRepository;
+
+	@Test
+	void findFirstByEmployeeChecklistIdAndCustomTaskIdTest() {
+		assertThat(repository.findFirstByEmployeeChecklistIdAndCustomTaskId(EMPLOYEE_CHECKLIST_ID, CUSTOM_TASK_ID)).isEmpty();
+
+		final var fulfilment = createFulfilment();
+
+		assertThat(repository.findFirstByEmployeeChecklistIdAndCustomTaskId(EMPLOYEE_CHECKLIST_ID, CUSTOM_TASK_ID)).hasValueSatisfying(projection -> {
+			assertThat(projection.getId()).isEqualTo(fulfilment.getId());
+			assertThat(projection.getCompleted()).isEqualTo(FulfilmentStatus.FALSE);
+			assertThat(projection.getResponseText()).isEqualTo("responseText");
+		});
+		assertThat(repository.findFirstByEmployeeChecklistIdAndCustomTaskId("223a076f-441d-4a30-b5d0-f2bfd5ab250b", CUSTOM_TASK_ID)).isEmpty();
+	}
+
+	@Test
+	void findAllByEmployeeChecklistIdAndCustomTaskIdInTest() {
+		final var customTaskIds = List.of(CUSTOM_TASK_ID);
+		assertThat(repository.findAllByEmployeeChecklistIdAndCustomTaskIdIn(EMPLOYEE_CHECKLIST_ID, customTaskIds)).isEmpty();
+
+		final var fulfilment = createFulfilment();
+
+		assertThat(repository.findAllByEmployeeChecklistIdAndCustomTaskIdIn(EMPLOYEE_CHECKLIST_ID, customTaskIds)).singleElement().satisfies(projection -> {
+			assertThat(projection.getId()).isEqualTo(fulfilment.getId());
+			assertThat(projection.getTaskId()).isEqualTo(CUSTOM_TASK_ID);
+			assertThat(projection.getCompleted()).isEqualTo(FulfilmentStatus.FALSE);
+			assertThat(projection.getResponseText()).isEqualTo("responseText");
+		});
+		assertThat(repository.findAllByEmployeeChecklistIdAndCustomTaskIdIn("223a076f-441d-4a30-b5d0-f2bfd5ab250b", customTaskIds)).isEmpty();
+	}
+
+	@Test
+	void updateCustomFulfilmentTest() {
+		// Arrange
+		final var fulfilment = createFulfilment();
+		final var updated = now();
+
+		// Act
+		final var result = repository.updateCustomFulfilment(fulfilment.getId(), FulfilmentStatus.TRUE, "modifiedResponseText", "modifiedBy", updated);
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(repository.findById(fulfilment.getId())).hasValueSatisfying(entity -> {
+			assertThat(entity.getCompleted()).isEqualTo(FulfilmentStatus.TRUE);
+			assertThat(entity.getResponseText()).isEqualTo("modifiedResponseText");
+			assertThat(entity.getLastSavedBy()).isEqualTo("modifiedBy");
+			assertThat(entity.getUpdated()).isCloseTo(updated, within(1, SECONDS));
+			assertThat(entity.getEmployeeChecklist().getId()).isEqualTo(EMPLOYEE_CHECKLIST_ID);
+			assertThat(entity.getCustomTask().getId()).isEqualTo(CUSTOM_TASK_ID);
+		});
+	}
+
+	@Test
+	void findAllByEmployeeChecklistIdAndChangedAfterTest() {
+		final var fulfilment = createFulfilment();
+
+		// Fulfilment has been updated
+		assertThat(repository.findAllByEmployeeChecklistIdAndChangedAfter(EMPLOYEE_CHECKLIST_ID, now().minusMinutes(1))).singleElement().satisfies(entity -> {
+			assertThat(entity.getId()).isEqualTo(fulfilment.getId());
+			assertThat(entity.getCustomTask().getId()).isEqualTo(CUSTOM_TASK_ID);
+		});
+		assertThat(repository.findAllByEmployeeChecklistIdAndChangedAfter(EMPLOYEE_CHECKLIST_ID, now().plusMinutes(1))).isEmpty();
+
+		// Fulfilment is unchanged but the custom task (created 2024-01-03) has changed
+		repository.updateCustomFulfilment(fulfilment.getId(), FulfilmentStatus.FALSE, "responseText", "someUser", OffsetDateTime.parse("2024-01-01T12:00:00Z"));
+		assertThat(repository.findAllByEmployeeChecklistIdAndChangedAfter(EMPLOYEE_CHECKLIST_ID, OffsetDateTime.parse("2024-01-02T12:00:00Z"))).extracting(CustomFulfilmentEntity::getId).containsExactly(fulfilment.getId());
+		assertThat(repository.findAllByEmployeeChecklistIdAndChangedAfter(EMPLOYEE_CHECKLIST_ID, OffsetDateTime.parse("2024-01-04T12:00:00Z"))).isEmpty();
+	}
+
+	private CustomFulfilmentEntity createFulfilment() {
+		return repository.saveAndFlush(CustomFulfilmentEntity.builder()
+			.withEmployeeChecklist(employeeChecklistRepository.getReferenceById(EMPLOYEE_CHECKLIST_ID))
+			.withCustomTask(customTaskRepository.getReferenceById(CUSTOM_TASK_ID))
+			.withCompleted(FulfilmentStatus.FALSE)
+			.withResponseText("responseText")
+			.withLastSavedBy("someUser")
+			.build());
+	}
+}
@@ -1,11 +1,14 @@
 package se.sundsvall.checklist.integration.db.repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.checklist.integration.db.model.CustomTaskEntity;
 import se.sundsvall.checklist.integration.db.model.enums.RoleType;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +36,43 @@ class CustomTaskRepositoryTest {
 		});
 	}
 
+	@Test
+	void findDistinctByEmployeeChecklistIdInAndEmployeeChecklistChecklistsMunicipalityIdTest() {
+		assertThat(repository.findDistinctByEmployeeChecklistIdInAndEmployeeChecklistChecklistsMunicipalityId(List.of("f853e2b1-a144-4305-b05e-ee8d6dc6d005", "223a076f-441d-4a30-b5d0-f2bfd5ab250b"), "2281")).hasSize(1).satisfiesExactly(customTask -> {
+			assertThat(customTask.getId()).isEqualTo("1b3bfe66-0e6c-4e92-a410-7c620a5461f4");
+			assertThat(customTask.getEmployeeChecklist().getId()).isEqualTo("f853e2b1-a144-4305-b05e-ee8d6dc6d005");
+		});
+		assertThat(repository.findDistinctByEmployeeChecklistIdInAndEmployeeChecklistChecklistsMunicipalityId(List.of("f853e2b1-a144-4305-b05e-ee8d6dc6d005"), "2262")).isEmpty();
+	}
+
+	@Test
+	void findByIdAndEmployeeChecklistIdTest() {
+		assertThat(repository.findByIdAndEmployeeChecklistId("1b3bfe66-0e6c-4e92-a410-7c620a5461f4", "f853e2b1-a144-4305-b05e-ee8d6dc6d005")).hasValueSatisfying(customTask -> {
+			assertThat(customTask.getId()).isEqualTo("1b3bfe66-0e6c-4e92-a410-7c620a5461f4");
+			assertThat(customTask.getEmployeeChecklist().getId()).isEqualTo("f853e2b1-a144-4305-b05e-ee8d6dc6d005");
+		});
+		assertThat(repository.findByIdAndEmployeeChecklistId("1b3bfe66-0e6c-4e92-a410-7c620a5461f4", "223a076f-441d-4a30-b5d0-f2bfd5ab250b")).isEmpty();
+	}
+
+	@Test
+	void findAllByIdInAndEmployeeChecklistIdTest() {
+		final var customTaskIds = List.of("1b3bfe66-0e6c-4e92-a410-7c620a5461f4", "aba82aca-f841-4257-baec-d745e3ab78bf");
+
+		assertThat(repository.findAllByIdInAndEmployeeChecklistId(customTaskIds, "f853e2b1-a144-4305-b05e-ee8d6dc6d005"))
+			.extracting(CustomTaskEntity::getId)
+			.containsExactly("1b3bfe66-0e6c-4e92-a410-7c620a5461f4");
+		assertThat(repository.findAllByIdInAndEmployeeChecklistId(customTaskIds, "223a076f-441d-4a30-b5d0-f2bfd5ab250b")).isEmpty();
+	}
+
+	@Test
+	void findAllByEmployeeChecklistIdAndChangedAfterTest() {
+		assertThat(repository.findAllByEmployeeChecklistIdAndChangedAfter("f853e2b1-a144-4305-b05e-ee8d6dc6d005", OffsetDateTime.parse("2024-01-02T12:00:00Z")))
+			.extracting(CustomTaskEntity::getId)
+			.containsExactly("1b3bfe66-0e6c-4e92-a410-7c620a5461f4");
+		assertThat(repository.findAllByEmployeeChecklistIdAndChangedAfter("f853e2b1-a144-4305-b05e-ee8d6dc6d005", OffsetDateTime.parse("2024-01-04T12:00:00Z"))).isEmpty();
+		assertThat(repository.findAllByEmployeeChecklistIdAndChangedAfter("223a076f-441d-4a30-b5d0-f2bfd5ab250b", OffsetDateTime.parse("2024-01-02T12:00:00Z"))).isEmpty();
+	}
+
 	@Test
 	void countByPhaseIdTest() {
 		assertThat(repository.countByPhaseId("1455a5d4-1db8-4a25-a49f-92fdd0c60a14")).isZero();
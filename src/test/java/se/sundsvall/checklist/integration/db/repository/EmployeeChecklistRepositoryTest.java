@@ -1,19 +1,27 @@
 package se.sundsvall.checklist.integration.db.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklistParameters;
+import se.sundsvall.checklist.integration.db.model.CustomFulfilmentEntity;
+import se.sundsvall.checklist.integration.db.model.DelegateEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
+import se.sundsvall.checklist.integration.db.model.FulfilmentEntity;
 import se.sundsvall.checklist.integration.db.model.enums.CorrespondenceStatus;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
 
 import static java.time.OffsetDateTime.now;
 import static java.time.temporal.ChronoUnit.SECONDS;
@@ -40,6 +48,21 @@ class EmployeeChecklistRepositoryTest {
 	@Autowired
 	private EmployeeChecklistRepository repository;
 
+	@Autowired
+	private ChecklistRepository checklistRepository;
+
+	@Autowired
+	private FulfilmentRepository fulfilmentRepository;
+
+	@Autowired
+	private CustomFulfilmentRepository customFulfilmentRepository;
+
+	@Autowired
+	private CustomTaskRepository customTaskRepository;
+
+	@Autowired
+	private DelegateRepository delegateRepository;
+
 	@Test
 	void create() {
 		// Act
@@ -70,6 +93,8 @@ class EmployeeChecklistRepositoryTest {
 
 		assertThat(result).isNotNull();
 		assertThat(result.getId()).isEqualTo("f853e2b1-a144-4305-b05e-ee8d6dc6d005");
+		assertThat(Hibernate.isInitialized(result.getEmployee())).isTrue();
+		assertThat(Hibernate.isInitialized(result.getChecklists())).isTrue();
 	}
 
 	@Test
@@ -83,20 +108,42 @@ class EmployeeChecklistRepositoryTest {
 				tuple("f5960058-fad8-4825-85f3-b0fdb518adc5", true),
 				tuple("223a076f-441d-4a30-b5d0-f2bfd5ab250b", false),
 				tuple("f853e2b1-a144-4305-b05e-ee8d6dc6d005", true));
+		assertThat(result).allSatisfy(employeeChecklist -> {
+			assertThat(Hibernate.isInitialized(employeeChecklist.getEmployee())).isTrue();
+			assertThat(Hibernate.isInitialized(employeeChecklist.getEmployee().getManager())).isTrue();
+			assertThat(Hibernate.isInitialized(employeeChecklist.getChecklists())).isTrue();
+		});
 	}
 
 	@Test
-	void findAllByChecklistMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse() {
-		assertThat(repository.findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse("2281", LocalDate.of(2024, 10, 01)))
-			.hasSize(1)
-			.extracting(EmployeeChecklistEntity::getId).containsExactly(
-				"f5960058-fad8-4825-85f3-b0fdb518adc5");
+	void lockExpiredEmployeeChecklists() {
+		// Act
+		final var result = repository.lockExpiredEmployeeChecklists("2281", LocalDate.of(2024, 10, 02), LocalDateTime.now(), Integer.MAX_VALUE);
 
-		assertThat(repository.findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse("2281", LocalDate.of(2024, 10, 02)))
+		// Assert
+		assertThat(result).isEqualTo(2);
+		assertThat(repository.findAllById(List.of("f5960058-fad8-4825-85f3-b0fdb518adc5", "223a076f-441d-4a30-b5d0-f2bfd5ab250b")))
 			.hasSize(2)
-			.extracting(EmployeeChecklistEntity::getId).containsExactlyInAnyOrder(
-				"f5960058-fad8-4825-85f3-b0fdb518adc5",
-				"223a076f-441d-4a30-b5d0-f2bfd5ab250b");
+			.allSatisfy(entity -> {
+				assertThat(entity.isLocked()).isTrue();
+				assertThat(entity.getUpdated()).isCloseTo(now(), within(2, SECONDS));
+			});
+	}
+
+	@Test
+	void lockExpiredEmployeeChecklistsInChunks() {
+		assertThat(repository.lockExpiredEmployeeChecklists("2281", LocalDate.of(2024, 10, 02), LocalDateTime.now(), 1)).isOne();
+		assertThat(repository.lockExpiredEmployeeChecklists("2281", LocalDate.of(2024, 10, 02), LocalDateTime.now(), 1)).isOne();
+		assertThat(repository.lockExpiredEmployeeChecklists("2281", LocalDate.of(2024, 10, 02), LocalDateTime.now(), 1)).isZero();
+	}
+
+	@Test
+	void lockExpiredEmployeeChecklistsForOtherMunicipality() {
+		assertThat(repository.lockExpiredEmployeeChecklists("2262", LocalDate.of(2024, 10, 02), LocalDateTime.now(), Integer.MAX_VALUE)).isZero();
+		assertThat(repository.findAll())
+			.filteredOn(EmployeeChecklistEntity::isLocked)
+			.extracting(EmployeeChecklistEntity::getId)
+			.containsExactly("f853e2b1-a144-4305-b05e-ee8d6dc6d005");
 	}
 
 	@Test
@@ -131,6 +178,317 @@ class EmployeeChecklistRepositoryTest {
 		assertThat(repository.findByIdAndChecklistsMunicipalityId("223a076f-441d-4a30-b5d0-f2bfd5ab250b", "2262")).isEmpty();
 	}
 
+	@Test
+	void findLockedByIdAndChecklistsMunicipalityId() {
+		assertThat(repository.findLockedByIdAndChecklistsMunicipalityId("f853e2b1-a144-4305-b05e-ee8d6dc6d005", "2281")).hasValue(true);
+		assertThat(repository.findLockedByIdAndChecklistsMunicipalityId("223a076f-441d-4a30-b5d0-f2bfd5ab250b", "2281")).hasValue(false);
+		assertThat(repository.findLockedByIdAndChecklistsMunicipalityId("4bcdbe73-fff5-4f19-bb34-0c755423e473", "2281")).isEmpty();
+		assertThat(repository.findLockedByIdAndChecklistsMunicipalityId("223a076f-441d-4a30-b5d0-f2bfd5ab250b", "2262")).isEmpty();
+	}
+
+	@Test
+	void completeIfAllTasksCompleted() {
+		// Arrange
+		final var employeeChecklistId = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+		assertThat(repository.adjustTotalTasks(employeeChecklistId, 3)).isOne();
+		assertThat(repository.adjustCompletionCounters(employeeChecklistId, 2, 0)).isOne();
+
+		// Act and assert that employee checklist is not completed when one task is not completed
+		assertThat(repository.completeIfAllTasksCompleted(employeeChecklistId, LocalDateTime.now())).isZero();
+
+		// Arrange completion of remaining task
+		assertThat(repository.adjustCompletionCounters(employeeChecklistId, 1, 0)).isOne();
+
+		// Act and assert that employee checklist is completed when all tasks are completed, and only once
+		assertThat(repository.completeIfAllTasksCompleted(employeeChecklistId, LocalDateTime.now())).isOne();
+		assertThat(repository.completeIfAllTasksCompleted(employeeChecklistId, LocalDateTime.now())).isZero();
+		assertThat(repository.findById(employeeChecklistId)).hasValueSatisfying(entity -> {
+			assertThat(entity.isCompleted()).isTrue();
+			assertThat(entity.getCompletedTasks()).isEqualTo(3);
+			assertThat(entity.getUpdated()).isCloseTo(now(), within(2, SECONDS));
+		});
+	}
+
+	@Test
+	void adjustCompletionCounters() {
+		final var employeeChecklistId = "f853e2b1-a144-4305-b05e-ee8d6dc6d005";
+
+		assertThat(repository.adjustCompletionCounters(employeeChecklistId, 1, 2)).isOne();
+		assertThat(repository.adjustCompletionCounters(employeeChecklistId, 0, -1)).isOne();
+		assertThat(repository.adjustCompletionCounters("non-existing", 1, 1)).isZero();
+
+		assertThat(repository.findById(employeeChecklistId)).hasValueSatisfying(entity -> {
+			assertThat(entity.getTotalTasks()).isOne();
+			assertThat(entity.getCompletedTasks()).isOne();
+			assertThat(entity.getNotRelevantTasks()).isOne();
+		});
+	}
+
+	@Test
+	void countersAreNotWrittenWhenEmployeeChecklistIsSaved() {
+		// Arrange
+		final var employeeChecklistId = "f853e2b1-a144-4305-b05e-ee8d6dc6d005";
+		final var employeeChecklist = repository.findById(employeeChecklistId).orElseThrow();
+
+		// Act
+		employeeChecklist.setTotalTasks(5);
+		employeeChecklist.setCompletedTasks(5);
+		employeeChecklist.setNotRelevantTasks(5);
+		repository.saveAndFlush(employeeChecklist);
+		assertThat(repository.adjustCompletionCounters(employeeChecklistId, 0, 0)).isOne(); // Clears the persistence context
+
+		// Assert
+		assertThat(repository.findById(employeeChecklistId)).hasValueSatisfying(entity -> {
+			assertThat(entity.getTotalTasks()).isOne();
+			assertThat(entity.getCompletedTasks()).isZero();
+			assertThat(entity.getNotRelevantTasks()).isZero();
+		});
+	}
+
+	@Test
+	void adjustTotalTasks() {
+		final var employeeChecklistId = "f853e2b1-a144-4305-b05e-ee8d6dc6d005";
+
+		assertThat(repository.adjustTotalTasks(employeeChecklistId, 2)).isOne();
+		assertThat(repository.adjustTotalTasks("non-existing", 1)).isZero();
+
+		assertThat(repository.findById(employeeChecklistId)).hasValueSatisfying(entity -> assertThat(entity.getTotalTasks()).isEqualTo(3));
+	}
+
+	@Test
+	void removeTaskFromCompletionCounters() {
+		// Arrange
+		final var employeeChecklistId = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+		final var checklist = checklistRepository.findById("15764278-50c8-4a19-af00-077bfc314fd2").orElseThrow();
+		final var employeeChecklist = repository.findById(employeeChecklistId).orElseThrow();
+		employeeChecklist.getChecklists().add(checklist);
+		repository.saveAndFlush(employeeChecklist);
+
+		final var task = checklist.getTasks().getFirst();
+		fulfilmentRepository.save(FulfilmentEntity.builder()
+			.withEmployeeChecklist(employeeChecklist)
+			.withTask(task)
+			.withCompleted(FulfilmentStatus.TRUE)
+			.withLastSavedBy("someUser")
+			.build());
+		repository.recalculateCompletionCounters(List.of(employeeChecklistId));
+
+		// Act
+		final var result = repository.removeTaskFromCompletionCounters(task.getId());
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(repository.findAll())
+			.extracting(EmployeeChecklistEntity::getId, EmployeeChecklistEntity::getTotalTasks, EmployeeChecklistEntity::getCompletedTasks, EmployeeChecklistEntity::getNotRelevantTasks)
+			.containsExactlyInAnyOrder(
+				tuple("f853e2b1-a144-4305-b05e-ee8d6dc6d005", 1, 0, 0),
+				tuple(employeeChecklistId, 2, 0, 0),
+				tuple("f5960058-fad8-4825-85f3-b0fdb518adc5", 0, 0, 0));
+	}
+
+	@Test
+	void removeCustomTaskFromCompletionCounters() {
+		// Arrange
+		final var employeeChecklistId = "f853e2b1-a144-4305-b05e-ee8d6dc6d005";
+		final var customTaskId = "1b3bfe66-0e6c-4e92-a410-7c620a5461f4";
+		customFulfilmentRepository.save(CustomFulfilmentEntity.builder()
+			.withEmployeeChecklist(repository.getReferenceById(employeeChecklistId))
+			.withCustomTask(customTaskRepository.getReferenceById(customTaskId))
+			.withCompleted(FulfilmentStatus.NOT_RELEVANT)
+			.withLastSavedBy("someUser")
+			.build());
+		repository.recalculateCompletionCounters(List.of(employeeChecklistId));
+
+		// Act
+		final var result = repository.removeCustomTaskFromCompletionCounters(customTaskId);
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(repository.removeCustomTaskFromCompletionCounters("non-existing")).isZero();
+		assertThat(repository.findById(employeeChecklistId)).hasValueSatisfying(entity -> {
+			assertThat(entity.getTotalTasks()).isZero();
+			assertThat(entity.getCompletedTasks()).isZero();
+			assertThat(entity.getNotRelevantTasks()).isZero();
+		});
+	}
+
+	@Test
+	void findIdsByChecklistsId() {
+		assertThat(repository.findIdsByChecklistsId("25764278-50c8-4a19-af00-077bfc314fd2")).containsExactlyInAnyOrder(
+			"f853e2b1-a144-4305-b05e-ee8d6dc6d005",
+			"223a076f-441d-4a30-b5d0-f2bfd5ab250b",
+			"f5960058-fad8-4825-85f3-b0fdb518adc5");
+		assertThat(repository.findIdsByChecklistsId("15764278-50c8-4a19-af00-077bfc314fd2")).isEmpty();
+	}
+
+	@Test
+	void adjustTotalTasksForChecklist() {
+		// All employee checklists in test data refer to the checklist
+		assertThat(repository.adjustTotalTasksForChecklist("25764278-50c8-4a19-af00-077bfc314fd2", 1)).isEqualTo(3);
+		assertThat(repository.adjustTotalTasksForChecklist("non-existing", 1)).isZero();
+
+		assertThat(repository.findAll())
+			.extracting(EmployeeChecklistEntity::getId, EmployeeChecklistEntity::getTotalTasks)
+			.containsExactlyInAnyOrder(
+				tuple("f853e2b1-a144-4305-b05e-ee8d6dc6d005", 2),
+				tuple("223a076f-441d-4a30-b5d0-f2bfd5ab250b", 1),
+				tuple("f5960058-fad8-4825-85f3-b0fdb518adc5", 1));
+	}
+
+	@Test
+	void findIdsByIdGreaterThan() {
+		assertThat(repository.findIdsByIdGreaterThan("", Limit.of(2))).containsExactly("223a076f-441d-4a30-b5d0-f2bfd5ab250b", "f5960058-fad8-4825-85f3-b0fdb518adc5");
+		assertThat(repository.findIdsByIdGreaterThan("f5960058-fad8-4825-85f3-b0fdb518adc5", Limit.of(2))).containsExactly("f853e2b1-a144-4305-b05e-ee8d6dc6d005");
+		assertThat(repository.findIdsByIdGreaterThan("f853e2b1-a144-4305-b05e-ee8d6dc6d005", Limit.of(2))).isEmpty();
+	}
+
+	@Test
+	void findUnlockedIdsByMunicipalityIdAndParticipantUsername() {
+		// Arrange
+		delegateRepository.save(DelegateEntity.builder()
+			.withEmployeeChecklist(repository.findById("f5960058-fad8-4825-85f3-b0fdb518adc5").orElseThrow())
+			.withPartyId(UUID.randomUUID().toString())
+			.withUsername("dele0gate")
+			.withFirstName("De")
+			.withLastName("Legate")
+			.withEmail("de.legate@5535.com")
+			.build());
+
+		// Act and assert (locked employee checklists are excluded)
+		assertThat(repository.findUnlockedIdsByMunicipalityIdAndParticipantUsername("2281", "aman0agr")).containsExactlyInAnyOrder("223a076f-441d-4a30-b5d0-f2bfd5ab250b", "f5960058-fad8-4825-85f3-b0fdb518adc5");
+		assertThat(repository.findUnlockedIdsByMunicipalityIdAndParticipantUsername("2281", "cemp0loyee")).containsExactly("223a076f-441d-4a30-b5d0-f2bfd5ab250b");
+		assertThat(repository.findUnlockedIdsByMunicipalityIdAndParticipantUsername("2281", "dele0gate")).containsExactly("f5960058-fad8-4825-85f3-b0fdb518adc5");
+		assertThat(repository.findUnlockedIdsByMunicipalityIdAndParticipantUsername("2281", "aemp0loyee")).isEmpty();
+		assertThat(repository.findUnlockedIdsByMunicipalityIdAndParticipantUsername("other", "aman0agr")).isEmpty();
+	}
+
+	@Test
+	void findIdsByMunicipalityIdAndEmployeeUsername() {
+		assertThat(repository.findIdsByMunicipalityIdAndEmployeeUsername("2281", "cemp0loyee")).containsExactly("223a076f-441d-4a30-b5d0-f2bfd5ab250b");
+		assertThat(repository.findIdsByMunicipalityIdAndEmployeeUsername("2281", "aman0agr")).isEmpty();
+		assertThat(repository.findIdsByMunicipalityIdAndEmployeeUsername("other", "cemp0loyee")).isEmpty();
+	}
+
+	@Test
+	void findIdsByMunicipalityIdAndEmployeeManagerUsername() {
+		assertThat(repository.findIdsByMunicipalityIdAndEmployeeManagerUsername("2281", "aman0agr")).containsExactlyInAnyOrder(
+			"f853e2b1-a144-4305-b05e-ee8d6dc6d005", "223a076f-441d-4a30-b5d0-f2bfd5ab250b", "f5960058-fad8-4825-85f3-b0fdb518adc5");
+		assertThat(repository.findIdsByMunicipalityIdAndEmployeeManagerUsername("2281", "cemp0loyee")).isEmpty();
+		assertThat(repository.findIdsByMunicipalityIdAndEmployeeManagerUsername("other", "aman0agr")).isEmpty();
+	}
+
+	@Test
+	void findVersionsByIdIn() {
+		// Arrange
+		final var employeeChecklistId = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+		final var ids = List.of(employeeChecklistId, "f5960058-fad8-4825-85f3-b0fdb518adc5");
+		final var before = repository.findVersionsByIdIn("2281", ids, LocalDateTime.now().minusDays(1));
+
+		// Act
+		final var employeeChecklist = repository.findById(employeeChecklistId).orElseThrow();
+		employeeChecklist.setLocked(true);
+		repository.saveAndFlush(employeeChecklist);
+		final var after = repository.findVersionsByIdIn("2281", ids, LocalDateTime.now().minusDays(1));
+
+		// Assert (only the fingerprint of the changed employee checklist is affected)
+		assertThat(before).hasSize(2).allSatisfy(version -> assertThat(version.getFingerprint()).hasSize(32));
+		assertThat(after).hasSize(2).allSatisfy(version -> {
+			final var previous = before.stream().filter(p -> p.getId().equals(version.getId())).findFirst().orElseThrow();
+			if (version.getId().equals(employeeChecklistId)) {
+				assertThat(version.getFingerprint()).isNotEqualTo(previous.getFingerprint());
+			} else {
+				assertThat(version.getFingerprint()).isEqualTo(previous.getFingerprint());
+			}
+		});
+	}
+
+	@Test
+	void findVersionsByIdInWhenFulfilmentChangesWithoutNewerTimestamp() {
+		// Arrange
+		final var employeeChecklistId = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+		final var checklist = checklistRepository.findById("15764278-50c8-4a19-af00-077bfc314fd2").orElseThrow();
+		final var employeeChecklist = repository.findById(employeeChecklistId).orElseThrow();
+		employeeChecklist.getChecklists().add(checklist);
+		repository.saveAndFlush(employeeChecklist);
+
+		final var updated = now().truncatedTo(SECONDS);
+		final var fulfilmentId = fulfilmentRepository.saveAndFlush(FulfilmentEntity.builder()
+			.withEmployeeChecklist(employeeChecklist)
+			.withTask(checklist.getTasks().getFirst())
+			.withCompleted(FulfilmentStatus.TRUE)
+			.withLastSavedBy("someUser")
+			.build()).getId();
+		fulfilmentRepository.updateFulfilment(fulfilmentId, FulfilmentStatus.TRUE, null, "someUser", updated);
+		final var before = repository.findVersionsByIdIn("2281", List.of(employeeChecklistId), LocalDateTime.now().minusDays(1));
+
+		// Act (same number of fulfilments and same latest timestamp, but another status)
+		fulfilmentRepository.updateFulfilment(fulfilmentId, FulfilmentStatus.NOT_RELEVANT, null, "someUser", updated);
+		final var after = repository.findVersionsByIdIn("2281", List.of(employeeChecklistId), LocalDateTime.now().minusDays(1));
+
+		// Assert
+		assertThat(before).hasSize(1);
+		assertThat(after).hasSize(1);
+		assertThat(after.getFirst().getFingerprint()).isNotEqualTo(before.getFirst().getFingerprint());
+	}
+
+	@Test
+	void findVersionsByIdInWhenEmployeeInformationIsOutdated() {
+		// Act
+		final var result = repository.findVersionsByIdIn("2281", List.of("223a076f-441d-4a30-b5d0-f2bfd5ab250b"), LocalDateTime.now().plusDays(1));
+
+		// Assert
+		assertThat(result).hasSize(1).allSatisfy(version -> {
+			assertThat(version.getId()).isEqualTo("223a076f-441d-4a30-b5d0-f2bfd5ab250b");
+			assertThat(version.getFingerprint()).isNull();
+		});
+	}
+
+	@Test
+	void recalculateCompletionCounters() {
+		// Arrange
+		final var employeeChecklistId = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+		final var checklist = checklistRepository.findById("15764278-50c8-4a19-af00-077bfc314fd2").orElseThrow();
+		final var employeeChecklist = repository.findById(employeeChecklistId).orElseThrow();
+		employeeChecklist.getChecklists().add(checklist);
+		repository.saveAndFlush(employeeChecklist);
+
+		final var tasks = checklistRepository.findById(checklist.getId()).orElseThrow().getTasks();
+		final var statuses = List.of(FulfilmentStatus.TRUE, FulfilmentStatus.NOT_RELEVANT, FulfilmentStatus.FALSE);
+		for (var i = 0; i < tasks.size(); i++) {
+			fulfilmentRepository.save(FulfilmentEntity.builder()
+				.withEmployeeChecklist(repository.getReferenceById(employeeChecklistId))
+				.withTask(tasks.get(i))
+				.withCompleted(statuses.get(i))
+				.withLastSavedBy("someUser")
+				.build());
+		}
+
+		// Act
+		final var result = repository.recalculateCompletionCounters(List.of(employeeChecklistId, "f853e2b1-a144-4305-b05e-ee8d6dc6d005"));
+
+		// Assert
+		assertThat(result).isEqualTo(2);
+		assertThat(repository.findAll())
+			.extracting(EmployeeChecklistEntity::getId, EmployeeChecklistEntity::getTotalTasks, EmployeeChecklistEntity::getCompletedTasks, EmployeeChecklistEntity::getNotRelevantTasks)
+			.containsExactlyInAnyOrder(
+				tuple("f853e2b1-a144-4305-b05e-ee8d6dc6d005", 1, 0, 0),
+				tuple(employeeChecklistId, 3, 1, 1),
+				tuple("f5960058-fad8-4825-85f3-b0fdb518adc5", 0, 0, 0));
+	}
+
+	@Test
+	void completeIfAllTasksCompletedWhenCustomTaskIsNotCompleted() {
+		// Employee checklist is already completed
+		assertThat(repository.completeIfAllTasksCompleted("f853e2b1-a144-4305-b05e-ee8d6dc6d005", LocalDateTime.now())).isZero();
+
+		// Employee checklist has an uncompleted custom task
+		final var employeeChecklist = repository.findById("f853e2b1-a144-4305-b05e-ee8d6dc6d005").orElseThrow();
+		employeeChecklist.setCompleted(false);
+		repository.saveAndFlush(employeeChecklist);
+
+		assertThat(repository.completeIfAllTasksCompleted("f853e2b1-a144-4305-b05e-ee8d6dc6d005", LocalDateTime.now())).isZero();
+	}
+
 	@Test
 	void findAllByOngoingEmployeeChecklistParameters() {
 		final var result = repository.findAllByOngoingEmployeeChecklistParameters(new OngoingEmployeeChecklistParameters().withMunicipalityId("2281"), PageRequest.ofSize(100));
@@ -0,0 +1,112 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.checklist.integration.db.model.FulfilmentEntity;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class FulfilmentRepositoryTest {
+
+	private static final String EMPLOYEE_CHECKLIST_ID = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+	private static final String TASK_ID = "aba82aca-f841-4257-baec-d745e3ab78bf";
+
+	@Autowired
+	private FulfilmentRepository repository;
+
+	@Autowired
+	private EmployeeChecklistRepository employeeChecklistRepository;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Test
+	void findFirstByEmployeeChecklistIdAndTaskIdTest() {
+		assertThat(repository.findFirstByEmployeeChecklistIdAndTaskId(EMPLOYEE_CHECKLIST_ID, TASK_ID)).isEmpty();
+
+		final var fulfilment = createFulfilment();
+
+		assertThat(repository.findFirstByEmployeeChecklistIdAndTaskId(EMPLOYEE_CHECKLIST_ID, TASK_ID)).hasValueSatisfying(projection -> {
+			assertThat(projection.getId()).isEqualTo(fulfilment.getId());
+			assertThat(projection.getCompleted()).isEqualTo(FulfilmentStatus.FALSE);
+			assertThat(projection.getResponseText()).isEqualTo("responseText");
+		});
+		assertThat(repository.findFirstByEmployeeChecklistIdAndTaskId("f853e2b1-a144-4305-b05e-ee8d6dc6d005", TASK_ID)).isEmpty();
+	}
+
+	@Test
+	void findAllByEmployeeChecklistIdAndTaskIdInTest() {
+		final var taskIds = List.of(TASK_ID, "bba82aca-f841-4257-baec-d745e3ab78bf");
+		assertThat(repository.findAllByEmployeeChecklistIdAndTaskIdIn(EMPLOYEE_CHECKLIST_ID, taskIds)).isEmpty();
+
+		final var fulfilment = createFulfilment();
+
+		assertThat(repository.findAllByEmployeeChecklistIdAndTaskIdIn(EMPLOYEE_CHECKLIST_ID, taskIds)).singleElement().satisfies(projection -> {
+			assertThat(projection.getId()).isEqualTo(fulfilment.getId());
+			assertThat(projection.getTaskId()).isEqualTo(TASK_ID);
+			assertThat(projection.getCompleted()).isEqualTo(FulfilmentStatus.FALSE);
+			assertThat(projection.getResponseText()).isEqualTo("responseText");
+		});
+		assertThat(repository.findAllByEmployeeChecklistIdAndTaskIdIn("f853e2b1-a144-4305-b05e-ee8d6dc6d005", taskIds)).isEmpty();
+	}
+
+	@Test
+	void updateFulfilmentTest() {
+		// Arrange
+		final var fulfilment = createFulfilment();
+		final var updated = now();
+
+		// Act
+		final var result = repository.updateFulfilment(fulfilment.getId(), FulfilmentStatus.TRUE, "modifiedResponseText", "modifiedBy", updated);
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(repository.findById(fulfilment.getId())).hasValueSatisfying(entity -> {
+			assertThat(entity.getCompleted()).isEqualTo(FulfilmentStatus.TRUE);
+			assertThat(entity.getResponseText()).isEqualTo("modifiedResponseText");
+			assertThat(entity.getLastSavedBy()).isEqualTo("modifiedBy");
+			assertThat(entity.getUpdated()).isCloseTo(updated, within(1, SECONDS));
+			assertThat(entity.getEmployeeChecklist().getId()).isEqualTo(EMPLOYEE_CHECKLIST_ID);
+			assertThat(entity.getTask().getId()).isEqualTo(TASK_ID);
+		});
+	}
+
+	@Test
+	void findAllByEmployeeChecklistIdAndUpdatedAfterTest() {
+		final var fulfilment = createFulfilment();
+
+		assertThat(repository.findAllByEmployeeChecklistIdAndUpdatedAfter(EMPLOYEE_CHECKLIST_ID, now().minusMinutes(1))).singleElement().satisfies(entity -> {
+			assertThat(entity.getId()).isEqualTo(fulfilment.getId());
+			assertThat(entity.getTask().getId()).isEqualTo(TASK_ID);
+		});
+		assertThat(repository.findAllByEmployeeChecklistIdAndUpdatedAfter(EMPLOYEE_CHECKLIST_ID, now().plusMinutes(1))).isEmpty();
+		assertThat(repository.findAllByEmployeeChecklistIdAndUpdatedAfter("f853e2b1-a144-4305-b05e-ee8d6dc6d005", now().minusMinutes(1))).isEmpty();
+	}
+
+	private FulfilmentEntity createFulfilment() {
+		return repository.saveAndFlush(FulfilmentEntity.builder()
+			.withEmployeeChecklist(employeeChecklistRepository.getReferenceById(EMPLOYEE_CHECKLIST_ID))
+			.withTask(taskRepository.getReferenceById(TASK_ID))
+			.withCompleted(FulfilmentStatus.FALSE)
+			.withResponseText("responseText")
+			.withLastSavedBy("someUser")
+			.build());
+	}
+}
@@ -0,0 +1,149 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.checklist.integration.db.model.InitiationJobEntity;
+
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * InitiationJobRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class InitiationJobRepositoryTest {
+
+	private static final String COMPLETED_JOB_ID = "8537d28d-1479-42cf-87df-f79612bbe965";
+	private static final String RUNNING_JOB_ID = "a0d7c0a4-3f6e-4c38-9a55-3b6a0ad1e2f1";
+
+	@Autowired
+	private InitiationJobRepository repository;
+
+	@Test
+	void findByIdAndMunicipalityId() {
+		assertThat(repository.findByIdAndMunicipalityId(COMPLETED_JOB_ID, "2281")).hasValueSatisfying(entity -> {
+			assertThat(entity.getStatus()).isEqualTo("COMPLETED");
+			assertThat(entity.getTotal()).isEqualTo(2);
+			assertThat(entity.getProcessed()).isEqualTo(2);
+			assertThat(entity.getErrors()).isOne();
+			assertThat(entity.getSummary()).isEqualTo("1 potential problems occurred when importing 2 employees");
+			assertThat(entity.getStarted()).isNotNull();
+			assertThat(entity.getHeartbeat()).isNotNull();
+			assertThat(entity.getFinished()).isNotNull();
+		});
+		assertThat(repository.findByIdAndMunicipalityId(COMPLETED_JOB_ID, "2262")).isEmpty();
+	}
+
+	@Test
+	void findFirstByMunicipalityIdAndStatusOrderByStartedDesc() {
+		assertThat(repository.findFirstByMunicipalityIdAndStatusOrderByStartedDesc("2281", "RUNNING")).map(InitiationJobEntity::getId).hasValue(RUNNING_JOB_ID);
+		assertThat(repository.findFirstByMunicipalityIdAndStatusOrderByStartedDesc("2262", "RUNNING")).isEmpty();
+	}
+
+	@Test
+	void updateTotalAndIncrementProcessed() {
+		// Act
+		repository.updateTotal(RUNNING_JOB_ID, 3);
+		repository.incrementProcessed(RUNNING_JOB_ID, 0);
+		repository.incrementProcessed(RUNNING_JOB_ID, 1);
+
+		// Assert
+		assertThat(repository.findById(RUNNING_JOB_ID)).hasValueSatisfying(entity -> {
+			assertThat(entity.getTotal()).isEqualTo(3);
+			assertThat(entity.getProcessed()).isEqualTo(2);
+			assertThat(entity.getErrors()).isOne();
+		});
+	}
+
+	@Test
+	void finish() {
+		// Act
+		final var result = repository.finish(RUNNING_JOB_ID, "FAILED", "summary", OffsetDateTime.now(systemDefault()));
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(repository.findById(RUNNING_JOB_ID)).hasValueSatisfying(entity -> {
+			assertThat(entity.getStatus()).isEqualTo("FAILED");
+			assertThat(entity.getSummary()).isEqualTo("summary");
+			assertThat(entity.getFinished()).isNotNull();
+		});
+	}
+
+	@Test
+	void finishWhenNotRunning() {
+		// Act
+		final var result = repository.finish(COMPLETED_JOB_ID, "FAILED", "summary", OffsetDateTime.now(systemDefault()));
+
+		// Assert
+		assertThat(result).isZero();
+		assertThat(repository.findById(COMPLETED_JOB_ID)).hasValueSatisfying(entity -> {
+			assertThat(entity.getStatus()).isEqualTo("COMPLETED");
+			assertThat(entity.getSummary()).isEqualTo("1 potential problems occurred when importing 2 employees");
+		});
+	}
+
+	@Test
+	void heartbeat() {
+		// Arrange
+		final var now = OffsetDateTime.now(systemDefault());
+
+		// Act
+		final var result = repository.heartbeat(RUNNING_JOB_ID, now);
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(repository.heartbeat(COMPLETED_JOB_ID, now)).isZero();
+		assertThat(repository.findById(RUNNING_JOB_ID)).hasValueSatisfying(entity -> assertThat(entity.getHeartbeat()).isAfter(now.minusSeconds(1)));
+	}
+
+	@Test
+	void finishAllByStatusAndHeartbeatBefore() {
+		// Act
+		final var recentHeartbeatResult = repository.finishAllByStatusAndHeartbeatBefore("RUNNING", OffsetDateTime.now(systemDefault()).minusYears(10), "FAILED", "summary", OffsetDateTime.now(systemDefault()));
+		final var staleHeartbeatResult = repository.finishAllByStatusAndHeartbeatBefore("RUNNING", OffsetDateTime.now(systemDefault()), "FAILED", "summary", OffsetDateTime.now(systemDefault()));
+
+		// Assert
+		assertThat(recentHeartbeatResult).isZero();
+		assertThat(staleHeartbeatResult).isOne();
+		assertThat(repository.findAll()).extracting(InitiationJobEntity::getStatus).containsOnly("COMPLETED", "FAILED");
+	}
+
+	@Test
+	void deleteAllByFinishedBefore() {
+		// Act
+		final var result = repository.deleteAllByFinishedBefore(OffsetDateTime.now(systemDefault()));
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(repository.findAll()).extracting(InitiationJobEntity::getId).containsExactly(RUNNING_JOB_ID);
+	}
+
+	@Test
+	void create() {
+		// Act
+		final var entity = repository.saveAndFlush(InitiationJobEntity.builder()
+			.withMunicipalityId("2281")
+			.withStatus("RUNNING")
+			.build());
+
+		// Assert
+		assertThat(entity.getId()).isNotNull();
+		assertThat(entity.getStarted()).isNotNull();
+		assertThat(entity.getProcessed()).isZero();
+		assertThat(entity.getErrors()).isZero();
+	}
+}
@@ -1,12 +1,17 @@
 package se.sundsvall.checklist.integration.db.repository;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.checklist.integration.db.model.InitiationInfoEntity;
 
+import static java.time.ZoneId.systemDefault;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
 
@@ -55,4 +60,43 @@ class InitiationRepositoryTest {
 		// Act and assert
 		assertThat(repository.findAllByMunicipalityId(municipalityId)).isEmpty();
 	}
+
+	@Test
+	void findAllByMunicipalityIdAndLogId() {
+		assertThat(repository.findAllByMunicipalityIdAndLogId("2281", "8537d28d-1479-42cf-87df-f79612bbe965"))
+			.extracting(InitiationInfoEntity::getId)
+			.containsExactlyInAnyOrder("b6847217-3314-4686-a576-9c2344345ee5", "ed71b4a2-3135-445d-b593-6060e9617181");
+		assertThat(repository.findAllByMunicipalityIdAndLogId("2262", "8537d28d-1479-42cf-87df-f79612bbe965")).isEmpty();
+	}
+
+	@Test
+	void findIdsByCreatedBefore() {
+		// Arrange
+		final var created = OffsetDateTime.now(systemDefault());
+
+		// Act and assert
+		assertThat(repository.findIdsByCreatedBefore(created, Limit.unlimited())).containsExactlyInAnyOrder(
+			"b6847217-3314-4686-a576-9c2344345ee5",
+			"ed71b4a2-3135-445d-b593-6060e9617181");
+		assertThat(repository.findIdsByCreatedBefore(created, Limit.of(1))).hasSize(1);
+	}
+
+	@Test
+	void findIdsByCreatedBeforeWhenNoMatch() {
+		// Arrange
+		final var created = OffsetDateTime.parse("2023-12-31T12:00:00+01:00");
+
+		// Act and assert
+		assertThat(repository.findIdsByCreatedBefore(created, Limit.unlimited())).isEmpty();
+	}
+
+	@Test
+	void deleteAllByIdIn() {
+		// Act
+		final var result = repository.deleteAllByIdIn(List.of("b6847217-3314-4686-a576-9c2344345ee5", "non-existing-id"));
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(repository.findAll()).hasSize(1).allSatisfy(entity -> assertThat(entity.getId()).isEqualTo("ed71b4a2-3135-445d-b593-6060e9617181"));
+	}
 }
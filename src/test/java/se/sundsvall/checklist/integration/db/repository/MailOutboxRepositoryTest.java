@@ -0,0 +1,92 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.checklist.integration.db.model.MailOutboxEntity;
+
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * MailOutboxRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class MailOutboxRepositoryTest {
+
+	@Autowired
+	private MailOutboxRepository repository;
+
+	@Test
+	void findByEmployeeChecklistId() {
+		assertThat(repository.findByEmployeeChecklistId("223a076f-441d-4a30-b5d0-f2bfd5ab250b")).hasValueSatisfying(entity -> {
+			assertThat(entity.getId()).isEqualTo("7c6f5e0a-7a8e-4a40-9f0e-3f8ab6e4c1a1");
+			assertThat(entity.getMunicipalityId()).isEqualTo("2281");
+			assertThat(entity.getEmailTemplate()).isEqualTo("template");
+		});
+	}
+
+	@Test
+	void findByNonExistingEmployeeChecklistId() {
+		assertThat(repository.findByEmployeeChecklistId("f853e2b1-a144-4305-b05e-ee8d6dc6d005")).isEmpty();
+	}
+
+	@Test
+	void findByNextAttemptLessThanEqualOrderByNextAttempt() {
+		// Act
+		final var result = repository.findByNextAttemptLessThanEqualOrderByNextAttempt(OffsetDateTime.now(systemDefault()), Limit.of(10));
+
+		// Assert
+		assertThat(result).extracting(MailOutboxEntity::getId).containsExactly("7c6f5e0a-7a8e-4a40-9f0e-3f8ab6e4c1a1");
+	}
+
+	@Test
+	void findByNextAttemptLessThanEqualOrderByNextAttemptWhenNothingIsDue() {
+		assertThat(repository.findByNextAttemptLessThanEqualOrderByNextAttempt(OffsetDateTime.parse("2023-12-31T12:00:00+01:00"), Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void claim() {
+		// Arrange
+		final var now = OffsetDateTime.now(systemDefault());
+		final var claimedUntil = now.plusMinutes(5);
+
+		// Act
+		final var claimed = repository.claim("7c6f5e0a-7a8e-4a40-9f0e-3f8ab6e4c1a1", now, claimedUntil);
+		final var claimedAgain = repository.claim("7c6f5e0a-7a8e-4a40-9f0e-3f8ab6e4c1a1", now, claimedUntil);
+
+		// Assert
+		assertThat(claimed).isOne();
+		assertThat(claimedAgain).isZero();
+		assertThat(repository.findByNextAttemptLessThanEqualOrderByNextAttempt(now, Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void create() {
+		// Act
+		final var entity = repository.saveAndFlush(MailOutboxEntity.builder()
+			.withEmployeeChecklistId("f853e2b1-a144-4305-b05e-ee8d6dc6d005")
+			.withMunicipalityId("2281")
+			.withEmailTemplate("template")
+			.build());
+
+		// Assert
+		assertThat(entity.getId()).isNotNull();
+		assertThat(entity.getCreated()).isNotNull();
+		assertThat(entity.getNextAttempt()).isEqualTo(entity.getCreated());
+	}
+}
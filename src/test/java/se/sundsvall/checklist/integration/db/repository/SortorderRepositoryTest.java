@@ -1,5 +1,6 @@
 package se.sundsvall.checklist.integration.db.repository;
 
+import java.util.List;
 import java.util.UUID;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.Test;
@@ -75,6 +76,14 @@ class SortorderRepositoryTest {
 		assertThat(repository.findAllByMunicipalityIdAndOrganizationNumber("2281", 579)).isEmpty();
 	}
 
+	@Test
+	void findAllByMunicipalityIdAndOrganizationNumberIn() {
+		// Act and assert
+		assertThat(repository.findAllByMunicipalityIdAndOrganizationNumberIn("2281", List.of(578, 579))).hasSize(7)
+			.allSatisfy(entity -> assertThat(entity.getOrganizationNumber()).isEqualTo(578));
+		assertThat(repository.findAllByMunicipalityIdAndOrganizationNumberIn("2282", List.of(578))).isEmpty();
+	}
+
 	@Test
 	void findAllByComponentId() {
 		// Act
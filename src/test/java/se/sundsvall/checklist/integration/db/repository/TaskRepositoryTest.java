@@ -1,5 +1,6 @@
 package se.sundsvall.checklist.integration.db.repository;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
@@ -26,6 +27,12 @@ class TaskRepositoryTest {
 	@Autowired
 	private TaskRepository repository;
 
+	@Autowired
+	private EmployeeChecklistRepository employeeChecklistRepository;
+
+	@Autowired
+	private ChecklistRepository checklistRepository;
+
 	@Test
 	void saveTest() {
 		final var result = repository.save(TaskEntity.builder().withLastSavedBy("lastSavedBy").build());
@@ -65,4 +72,39 @@ class TaskRepositoryTest {
 		assertThat(repository.countByPhaseId("3455a5d4-1db8-4a25-a49f-92fdd0c60a14")).isZero();
 	}
 
+	@Test
+	void findByIdAndEmployeeChecklistIdTest() {
+		final var taskId = "aba82aca-f841-4257-baec-d745e3ab78bf";
+		final var employeeChecklistId = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+
+		// Task belongs to a checklist that the employee checklist does not refer to
+		assertThat(repository.findByIdAndEmployeeChecklistId(taskId, employeeChecklistId)).isEmpty();
+
+		final var employeeChecklist = employeeChecklistRepository.findById(employeeChecklistId).orElseThrow();
+		employeeChecklist.getChecklists().add(checklistRepository.findById("15764278-50c8-4a19-af00-077bfc314fd2").orElseThrow());
+		employeeChecklistRepository.saveAndFlush(employeeChecklist);
+
+		assertThat(repository.findByIdAndEmployeeChecklistId(taskId, employeeChecklistId)).hasValueSatisfying(task -> {
+			assertThat(task.getId()).isEqualTo(taskId);
+			assertThat(task.getPhase().getId()).isEqualTo("1455a5d4-1db8-4a25-a49f-92fdd0c60a14");
+		});
+	}
+
+	@Test
+	void findAllByIdInAndEmployeeChecklistIdTest() {
+		final var taskIds = List.of("aba82aca-f841-4257-baec-d745e3ab78bf", "bba82aca-f841-4257-baec-d745e3ab78bf", "1b3bfe66-0e6c-4e92-a410-7c620a5461f4");
+		final var employeeChecklistId = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+
+		// Tasks belong to a checklist that the employee checklist does not refer to
+		assertThat(repository.findAllByIdInAndEmployeeChecklistId(taskIds, employeeChecklistId)).isEmpty();
+
+		final var employeeChecklist = employeeChecklistRepository.findById(employeeChecklistId).orElseThrow();
+		employeeChecklist.getChecklists().add(checklistRepository.findById("15764278-50c8-4a19-af00-077bfc314fd2").orElseThrow());
+		employeeChecklistRepository.saveAndFlush(employeeChecklist);
+
+		assertThat(repository.findAllByIdInAndEmployeeChecklistId(taskIds, employeeChecklistId))
+			.extracting(TaskEntity::getId)
+			.containsExactlyInAnyOrder("aba82aca-f841-4257-baec-d745e3ab78bf", "bba82aca-f841-4257-baec-d745e3ab78bf");
+	}
+
 }
@@ -0,0 +1,79 @@
+package se.sundsvall.checklist.integration.db.repository;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.checklist.integration.db.model.TombstoneEntity;
+
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * TombstoneRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class TombstoneRepositoryTest {
+
+	private static final String EMPLOYEE_CHECKLIST_ID = "223a076f-441d-4a30-b5d0-f2bfd5ab250b";
+	private static final String OTHER_EMPLOYEE_CHECKLIST_ID = "f5960058-fad8-4825-85f3-b0fdb518adc5";
+
+	@Autowired
+	private TombstoneRepository repository;
+
+	@Test
+	void create() {
+		// Act
+		final var entity = repository.saveAndFlush(createTombstone(EMPLOYEE_CHECKLIST_ID, "taskId"));
+
+		// Assert
+		assertThat(entity.getId()).isNotNull();
+		assertThat(entity.getDeleted()).isNotNull();
+		assertThat(entity.getTaskId()).isEqualTo("taskId");
+	}
+
+	@Test
+	void findAllByEmployeeChecklistIdAndDeletedAfter() {
+		// Arrange
+		repository.saveAndFlush(createTombstone(EMPLOYEE_CHECKLIST_ID, "taskId-1"));
+		repository.saveAndFlush(createTombstone(EMPLOYEE_CHECKLIST_ID, "taskId-2"));
+		repository.saveAndFlush(createTombstone(OTHER_EMPLOYEE_CHECKLIST_ID, "taskId-3"));
+
+		// Act and assert
+		assertThat(repository.findAllByEmployeeChecklistIdAndDeletedAfter(EMPLOYEE_CHECKLIST_ID, OffsetDateTime.now(systemDefault()).minusMinutes(1)))
+			.extracting(TombstoneEntity::getTaskId)
+			.containsExactlyInAnyOrder("taskId-1", "taskId-2");
+		assertThat(repository.findAllByEmployeeChecklistIdAndDeletedAfter(EMPLOYEE_CHECKLIST_ID, OffsetDateTime.now(systemDefault()).plusMinutes(1))).isEmpty();
+	}
+
+	@Test
+	void deleteByEmployeeChecklistId() {
+		// Arrange
+		repository.saveAndFlush(createTombstone(EMPLOYEE_CHECKLIST_ID, "taskId-1"));
+		repository.saveAndFlush(createTombstone(EMPLOYEE_CHECKLIST_ID, "taskId-2"));
+		repository.saveAndFlush(createTombstone(OTHER_EMPLOYEE_CHECKLIST_ID, "taskId-3"));
+
+		// Act and assert
+		assertThat(repository.deleteByEmployeeChecklistId(EMPLOYEE_CHECKLIST_ID)).isEqualTo(2);
+		assertThat(repository.findAll()).extracting(TombstoneEntity::getTaskId).containsExactly("taskId-3");
+	}
+
+	private static TombstoneEntity createTombstone(final String employeeChecklistId, final String taskId) {
+		return TombstoneEntity.builder()
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withTaskId(taskId)
+			.build();
+	}
+}
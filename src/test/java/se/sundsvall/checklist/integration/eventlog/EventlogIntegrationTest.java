@@ -38,7 +38,7 @@ class EventlogIntegrationTest {
 		event.setLogKey(LOG_KEY);
 		when(eventlogClientMock.createEvent(MUNICIPALITY_ID, LOG_KEY, event)).thenReturn(ResponseEntity.ok().build());
 
-		eventlogIntegration.createEvent(event);
+		assertThat(eventlogIntegration.createEvent(event)).isTrue();
 
 		verify(eventlogClientMock).createEvent(MUNICIPALITY_ID, LOG_KEY, event);
 	}
@@ -53,7 +53,7 @@ class EventlogIntegrationTest {
 		event.setLogKey(LOG_KEY);
 		when(eventlogClientMock.createEvent(MUNICIPALITY_ID, LOG_KEY, event)).thenThrow(new RuntimeException());
 
-		eventlogIntegration.createEvent(event);
+		assertThat(eventlogIntegration.createEvent(event)).isFalse();
 
 		verify(eventlogClientMock).createEvent(MUNICIPALITY_ID, LOG_KEY, event);
 	}
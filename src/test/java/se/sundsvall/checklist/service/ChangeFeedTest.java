@@ -0,0 +1,345 @@
+package se.sundsvall.checklist.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+import se.sundsvall.checklist.api.model.ChangeEvent;
+import se.sundsvall.checklist.integration.db.model.ChangeEventEntity;
+import se.sundsvall.checklist.integration.db.model.enums.ChangeType;
+import se.sundsvall.checklist.integration.db.repository.ChangeEventRepository;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.CUSTOM_TASK;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.DELEGATION;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.FULFILMENT;
+import static se.sundsvall.checklist.service.ChangeFeed.SUBSCRIPTIONS_METRIC;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedTest {
+
+	private static final Duration GAP_TIMEOUT = Duration.ofMinutes(1);
+	private static final int BATCH_SIZE = 10;
+	private static final int BUFFER_SIZE = 2;
+	private static final String USERNAME = "username";
+
+	@Mock
+	private ChangeEventRepository changeEventRepositoryMock;
+
+	@Captor
+	private ArgumentCaptor<ChangeEventEntity> changeEventCaptor;
+
+	@Captor
+	private ArgumentCaptor<SseEventBuilder> eventCaptor;
+
+	@Captor
+	private ArgumentCaptor<Runnable> completionCaptor;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private ChangeFeed changeFeed;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		changeFeed = new ChangeFeed(changeEventRepositoryMock, meterRegistry, Duration.ofMinutes(30), GAP_TIMEOUT, BATCH_SIZE, BUFFER_SIZE);
+	}
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		changeFeed.shutdown();
+		verifyNoMoreInteractions(changeEventRepositoryMock);
+	}
+
+	@Test
+	void publish() {
+		// Act
+		changeFeed.publish("employeeChecklistId", FULFILMENT);
+
+		// Assert and verify
+		verify(changeEventRepositoryMock).save(changeEventCaptor.capture());
+		assertThat(changeEventCaptor.getValue()).satisfies(changeEvent -> {
+			assertThat(changeEvent.getEmployeeChecklistId()).isEqualTo("employeeChecklistId");
+			assertThat(changeEvent.getChangeType()).isEqualTo(FULFILMENT);
+			assertThat(changeEvent.getUsername()).isNull();
+		});
+	}
+
+	@Test
+	void publishWithUsername() {
+		// Act
+		changeFeed.publish("employeeChecklistId", DELEGATION, USERNAME);
+
+		// Assert and verify
+		verify(changeEventRepositoryMock).save(changeEventCaptor.capture());
+		assertThat(changeEventCaptor.getValue()).satisfies(changeEvent -> {
+			assertThat(changeEvent.getEmployeeChecklistId()).isEqualTo("employeeChecklistId");
+			assertThat(changeEvent.getChangeType()).isEqualTo(DELEGATION);
+			assertThat(changeEvent.getUsername()).isEqualTo(USERNAME);
+		});
+	}
+
+	@Test
+	void subscribe() {
+		// Arrange
+		when(changeEventRepositoryMock.findMaxId()).thenReturn(Optional.of(10L));
+
+		// Act
+		final var emitter = changeFeed.subscribe(USERNAME, List.of("ec-1"));
+		changeFeed.subscribe("otherUser", List.of("ec-2"));
+
+		// Assert and verify (the feed position is only initialized by the first subscriber)
+		assertThat(emitter).isNotNull();
+		assertThat(meterRegistry.get(SUBSCRIPTIONS_METRIC).gauge().value()).isEqualTo(2);
+		verify(changeEventRepositoryMock).findMaxId();
+	}
+
+	@Test
+	void pollWithoutSubscribers() {
+		// Act
+		changeFeed.poll();
+
+		// Assert and verify that the feed is not read
+		assertThat(meterRegistry.get(SUBSCRIPTIONS_METRIC).gauge().value()).isZero();
+	}
+
+	@Test
+	void poll() throws Exception {
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// Arrange
+			when(changeEventRepositoryMock.findMaxId()).thenReturn(Optional.empty());
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(0L, Limit.of(BATCH_SIZE))).thenReturn(List.of(
+				createChangeEvent(1L, "ec-1", FULFILMENT, null),
+				createChangeEvent(2L, "ec-2", FULFILMENT, null),
+				createChangeEvent(3L, "ec-3", DELEGATION, "USERNAME")));
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(3L, Limit.of(BATCH_SIZE))).thenReturn(List.of(
+				createChangeEvent(4L, "ec-3", CUSTOM_TASK, null)));
+
+			changeFeed.subscribe(USERNAME, List.of("ec-1"));
+			final var emitter = emitters.constructed().getFirst();
+
+			// Act
+			changeFeed.poll();
+			changeFeed.poll();
+
+			// Assert and verify (the delegated employee checklist ec-3 is followed from the delegation and onwards)
+			verify(changeEventRepositoryMock).findMaxId();
+			verify(changeEventRepositoryMock).findByIdGreaterThanOrderById(0L, Limit.of(BATCH_SIZE));
+			verify(changeEventRepositoryMock).findByIdGreaterThanOrderById(3L, Limit.of(BATCH_SIZE));
+			verify(emitter, timeout(3000).times(3)).send(eventCaptor.capture());
+			assertThat(eventCaptor.getAllValues())
+				.extracting(ChangeFeedTest::toChangeEvent)
+				.extracting(ChangeEvent::getId, ChangeEvent::getEmployeeChecklistId, ChangeEvent::getChangeType)
+				.containsExactly(
+					tuple(1L, "ec-1", FULFILMENT),
+					tuple(3L, "ec-3", DELEGATION),
+					tuple(4L, "ec-3", CUSTOM_TASK));
+		}
+	}
+
+	@Test
+	void pollWhenGapInFeedIsFilledLater() throws Exception {
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// Arrange
+			when(changeEventRepositoryMock.findMaxId()).thenReturn(Optional.of(10L));
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(10L, Limit.of(BATCH_SIZE))).thenReturn(List.of(
+				createChangeEvent(13L, "ec-1", FULFILMENT, null)));
+			when(changeEventRepositoryMock.findByIdInOrderById(List.of(11L, 12L))).thenReturn(List.of(
+				createChangeEvent(12L, "ec-1", CUSTOM_TASK, null)));
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(13L, Limit.of(BATCH_SIZE))).thenReturn(List.of());
+			when(changeEventRepositoryMock.findByIdInOrderById(List.of(11L))).thenReturn(List.of());
+
+			changeFeed.subscribe(USERNAME, List.of("ec-1"));
+			final var emitter = emitters.constructed().getFirst();
+
+			// Act
+			changeFeed.poll();
+			changeFeed.poll();
+			changeFeed.poll();
+
+			// Assert and verify (the change committed late in the gap is pushed, the remaining gap is read until it times out)
+			verify(changeEventRepositoryMock).findMaxId();
+			verify(changeEventRepositoryMock).findByIdGreaterThanOrderById(10L, Limit.of(BATCH_SIZE));
+			verify(changeEventRepositoryMock).findByIdInOrderById(List.of(11L, 12L));
+			verify(changeEventRepositoryMock, times(2)).findByIdGreaterThanOrderById(13L, Limit.of(BATCH_SIZE));
+			verify(changeEventRepositoryMock).findByIdInOrderById(List.of(11L));
+			verify(emitter, timeout(3000).times(2)).send(eventCaptor.capture());
+			assertThat(eventCaptor.getAllValues())
+				.extracting(ChangeFeedTest::toChangeEvent)
+				.extracting(ChangeEvent::getId, ChangeEvent::getChangeType)
+				.containsExactly(
+					tuple(13L, FULFILMENT),
+					tuple(12L, CUSTOM_TASK));
+		}
+	}
+
+	@Test
+	void pollWhenGapInFeedTimesOut() {
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// Arrange
+			changeFeed = new ChangeFeed(changeEventRepositoryMock, new SimpleMeterRegistry(), Duration.ofMinutes(30), Duration.ZERO, BATCH_SIZE, BUFFER_SIZE);
+			when(changeEventRepositoryMock.findMaxId()).thenReturn(Optional.of(10L));
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(10L, Limit.of(BATCH_SIZE))).thenReturn(List.of(
+				createChangeEvent(12L, "ec-2", FULFILMENT, null)));
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(12L, Limit.of(BATCH_SIZE))).thenReturn(List.of());
+			when(changeEventRepositoryMock.findByIdInOrderById(List.of(11L))).thenReturn(List.of());
+
+			changeFeed.subscribe(USERNAME, List.of("ec-1"));
+
+			// Act
+			changeFeed.poll();
+			changeFeed.poll();
+			changeFeed.poll();
+
+			// Assert and verify that the timed out gap is only read once
+			verify(changeEventRepositoryMock).findMaxId();
+			verify(changeEventRepositoryMock).findByIdGreaterThanOrderById(10L, Limit.of(BATCH_SIZE));
+			verify(changeEventRepositoryMock, times(2)).findByIdGreaterThanOrderById(12L, Limit.of(BATCH_SIZE));
+			verify(changeEventRepositoryMock).findByIdInOrderById(List.of(11L));
+			verifyNoInteractions(emitters.constructed().getFirst());
+		}
+	}
+
+	@Test
+	void pollWhenSubscriberHasDisconnected() throws Exception {
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// Arrange
+			final var exception = new IOException("Broken pipe");
+			when(changeEventRepositoryMock.findMaxId()).thenReturn(Optional.of(10L));
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(10L, Limit.of(BATCH_SIZE))).thenReturn(List.of(
+				createChangeEvent(11L, "ec-1", FULFILMENT, null)));
+
+			changeFeed.subscribe(USERNAME, List.of("ec-1"));
+			final var emitter = emitters.constructed().getFirst();
+			doThrow(exception).when(emitter).send(any(SseEventBuilder.class));
+
+			// Act
+			changeFeed.poll();
+
+			// Assert and verify
+			verify(changeEventRepositoryMock).findMaxId();
+			verify(changeEventRepositoryMock).findByIdGreaterThanOrderById(10L, Limit.of(BATCH_SIZE));
+			verify(emitter, timeout(3000)).completeWithError(exception);
+			assertThat(meterRegistry.get(SUBSCRIPTIONS_METRIC).gauge().value()).isZero();
+		}
+	}
+
+	@Test
+	void pollWhenSubscriberFallsBehind() throws Exception {
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// Arrange
+			final var sendStarted = new CountDownLatch(1);
+			final var releaseSend = new CountDownLatch(1);
+			when(changeEventRepositoryMock.findMaxId()).thenReturn(Optional.of(10L));
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(10L, Limit.of(BATCH_SIZE))).thenReturn(List.of(
+				createChangeEvent(11L, "ec-1", FULFILMENT, null)));
+			when(changeEventRepositoryMock.findByIdGreaterThanOrderById(11L, Limit.of(BATCH_SIZE))).thenReturn(List.of(
+				createChangeEvent(12L, "ec-1", FULFILMENT, null),
+				createChangeEvent(13L, "ec-1", FULFILMENT, null),
+				createChangeEvent(14L, "ec-1", FULFILMENT, null)));
+
+			changeFeed.subscribe(USERNAME, List.of("ec-1"));
+			final var emitter = emitters.constructed().getFirst();
+			doAnswer(invocation -> {
+				sendStarted.countDown();
+				releaseSend.await(3, SECONDS);
+				return null;
+			}).when(emitter).send(any(SseEventBuilder.class));
+
+			// Act (the first change blocks in send while the following changes fill up the buffer of the subscriber)
+			changeFeed.poll();
+			assertThat(sendStarted.await(3, SECONDS)).isTrue();
+			changeFeed.poll();
+			releaseSend.countDown();
+
+			// Assert and verify
+			verify(changeEventRepositoryMock).findMaxId();
+			verify(changeEventRepositoryMock).findByIdGreaterThanOrderById(10L, Limit.of(BATCH_SIZE));
+			verify(changeEventRepositoryMock).findByIdGreaterThanOrderById(11L, Limit.of(BATCH_SIZE));
+			verify(emitter).complete();
+			assertThat(meterRegistry.get(SUBSCRIPTIONS_METRIC).gauge().value()).isZero();
+		}
+	}
+
+	@Test
+	void subscriptionIsRemovedOnCompletion() {
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// Arrange
+			when(changeEventRepositoryMock.findMaxId()).thenReturn(Optional.of(10L));
+			changeFeed.subscribe(USERNAME, List.of("ec-1"));
+			verify(emitters.constructed().getFirst()).onCompletion(completionCaptor.capture());
+
+			// Act
+			completionCaptor.getValue().run();
+			changeFeed.poll();
+
+			// Assert and verify that the feed is not read when last subscriber is gone
+			verify(changeEventRepositoryMock).findMaxId();
+			assertThat(meterRegistry.get(SUBSCRIPTIONS_METRIC).gauge().value()).isZero();
+		}
+	}
+
+	@Test
+	void shutdown() {
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// Arrange
+			when(changeEventRepositoryMock.findMaxId()).thenReturn(Optional.of(10L));
+			changeFeed.subscribe(USERNAME, List.of("ec-1"));
+
+			// Act
+			changeFeed.shutdown();
+
+			// Assert and verify
+			verify(changeEventRepositoryMock).findMaxId();
+			verify(emitters.constructed().getFirst()).complete();
+			assertThat(meterRegistry.get(SUBSCRIPTIONS_METRIC).gauge().value()).isZero();
+		}
+	}
+
+	private static ChangeEvent toChangeEvent(final SseEventBuilder event) {
+		return event.build().stream()
+			.map(DataWithMediaType::getData)
+			.filter(ChangeEvent.class::isInstance)
+			.map(ChangeEvent.class::cast)
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private static ChangeEventEntity createChangeEvent(final Long id, final String employeeChecklistId, final ChangeType changeType, final String username) {
+		return ChangeEventEntity.builder()
+			.withId(id)
+			.withEmployeeChecklistId(employeeChecklistId)
+			.withChangeType(changeType)
+			.withUsername(username)
+			.withCreated(OffsetDateTime.now().minusMinutes(1))
+			.build();
+	}
+}
@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import se.sundsvall.checklist.integration.db.model.CorrespondenceEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
+import se.sundsvall.checklist.integration.db.model.MailOutboxEntity;
 import se.sundsvall.checklist.integration.db.model.ManagerEntity;
 import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
 import se.sundsvall.checklist.integration.db.model.enums.CorrespondenceStatus;
@@ -43,6 +44,9 @@ class CommunicationServiceTest {
 	@Mock
 	private MailHandler mailHandlerMock;
 
+	@Mock
+	private MailDispatcher mailDispatcherMock;
+
 	@Mock
 	private EmployeeChecklistRepository employeeChecklistRepositoryMock;
 
@@ -56,7 +60,8 @@ class CommunicationServiceTest {
 	void verifyNoMoreMockInteractions() {
 		verifyNoMoreInteractions(
 			employeeChecklistRepositoryMock,
-			mailHandlerMock);
+			mailHandlerMock,
+			mailDispatcherMock);
 	}
 
 	@Test
@@ -100,15 +105,18 @@ class CommunicationServiceTest {
 					.build())
 				.build())
 			.build();
+		final var outbox = MailOutboxEntity.builder().build();
 
 		when(employeeChecklistRepositoryMock.findByIdAndChecklistsMunicipalityId(id, MUNICIPALITY_ID)).thenReturn(Optional.of(employeeChecklistEntity));
+		when(mailHandlerMock.enqueueEmail(eq(employeeChecklistEntity), any())).thenReturn(outbox);
 
 		// Act
 		service.sendEmail(MUNICIPALITY_ID, id);
 
 		// Assert and verify
 		verify(employeeChecklistRepositoryMock).findByIdAndChecklistsMunicipalityId(id, MUNICIPALITY_ID);
-		verify(mailHandlerMock).sendEmail(eq(employeeChecklistEntity), any());
+		verify(mailHandlerMock).enqueueEmail(eq(employeeChecklistEntity), any());
+		verify(mailDispatcherMock).dispatch(outbox);
 	}
 
 	@Test
@@ -127,7 +135,7 @@ class CommunicationServiceTest {
 	}
 
 	@Test
-	void sendEmailForEntity() {
+	void enqueueEmail() {
 		// Arrange
 		final var entity = EmployeeChecklistEntity.builder()
 			.withEmployee(EmployeeEntity.builder()
@@ -136,11 +144,16 @@ class CommunicationServiceTest {
 				.build())
 			.build();
 
+		final var outbox = MailOutboxEntity.builder().build();
+
+		when(mailHandlerMock.enqueueEmail(eq(entity), any())).thenReturn(outbox);
+
 		// Act
-		service.sendEmail(entity);
+		final var result = service.enqueueEmail(entity);
 
 		// Assert and verify
-		verify(mailHandlerMock).sendEmail(eq(entity), any());
+		assertThat(result).isSameAs(outbox);
+		verify(mailHandlerMock).enqueueEmail(eq(entity), any());
 	}
 
 	@Test
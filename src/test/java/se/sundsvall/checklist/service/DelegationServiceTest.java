@@ -1,13 +1,11 @@
 package se.sundsvall.checklist.service;
 
-import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -17,13 +15,10 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 import se.sundsvall.checklist.integration.db.EmployeeChecklistIntegration;
-import se.sundsvall.checklist.integration.db.repository.CustomTaskRepository;
 import se.sundsvall.checklist.integration.db.repository.DelegateRepository;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.integration.employee.EmployeeIntegration;
-import se.sundsvall.checklist.service.model.Employee;
 import se.sundsvall.dept44.problem.Problem;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +30,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.DELEGATION;
 import static se.sundsvall.checklist.TestObjectFactory.createDelegateEntity;
 import static se.sundsvall.checklist.TestObjectFactory.createEmployeeChecklistEntity;
 import static se.sundsvall.checklist.TestObjectFactory.generatePortalPersonData;
@@ -57,22 +53,20 @@ class DelegationServiceTest {
 	private EmployeeChecklistIntegration mockEmployeeChecklistIntegration;
 
 	@Mock
-	private CustomTaskRepository mockCustomTaskRepository;
+	private SortorderService mockSortorderService;
 
 	@Mock
-	private SortorderService mockSortorderService;
+	private EmployeeInformationRefresher mockEmployeeInformationRefresher;
+
+	@Mock
+	private ChangeFeed mockChangeFeed;
 
 	@InjectMocks
 	private DelegationService service;
 
-	@BeforeEach
-	void initializeFields() {
-		ReflectionTestUtils.setField(service, "employeeInformationUpdateInterval", Duration.ofDays(1));
-	}
-
 	@AfterEach
 	void finalAssertsAndVerifications() {
-		verifyNoMoreInteractions(mockEmployeeChecklistRepository, mockEmployeeIntegration, mockDelegateRepository, mockEmployeeChecklistIntegration, mockCustomTaskRepository, mockSortorderService);
+		verifyNoMoreInteractions(mockEmployeeChecklistRepository, mockEmployeeIntegration, mockDelegateRepository, mockEmployeeChecklistIntegration, mockSortorderService, mockEmployeeInformationRefresher, mockChangeFeed);
 	}
 
 	@Test
@@ -91,6 +85,7 @@ class DelegationServiceTest {
 		verify(mockEmployeeIntegration).getEmployeeByEmail(MUNICIPALITY_ID, email);
 		verify(mockDelegateRepository).findByEmployeeChecklistAndEmail(employeeChecklist, email);
 		verify(mockEmployeeChecklistRepository).save(employeeChecklist);
+		verify(mockChangeFeed).publish(employeeChecklist.getId(), DELEGATION, "tes10tes");
 	}
 
 	@Test
@@ -148,6 +143,27 @@ class DelegationServiceTest {
 		verify(mockEmployeeIntegration).getEmployeeByEmail(MUNICIPALITY_ID, email);
 	}
 
+	@Test
+	void fetchVersionOfDelegatedEmployeeChecklists() {
+		// Arrange
+		final var username = "username";
+		final var outdatedBefore = OffsetDateTime.now();
+		final var employeeChecklistIds = List.of("id-1", "id-2");
+
+		when(mockEmployeeChecklistIntegration.fetchEmployeeChecklistIdsForDelegate(username)).thenReturn(employeeChecklistIds);
+		when(mockEmployeeInformationRefresher.outdatedBefore()).thenReturn(outdatedBefore);
+		when(mockEmployeeChecklistIntegration.fetchVersion(MUNICIPALITY_ID, employeeChecklistIds, outdatedBefore)).thenReturn(Optional.of("version"));
+
+		// Act
+		final var result = service.fetchVersionOfDelegatedEmployeeChecklists(MUNICIPALITY_ID, username);
+
+		// Assert and verify
+		assertThat(result).hasValue("version");
+		verify(mockEmployeeChecklistIntegration).fetchEmployeeChecklistIdsForDelegate(username);
+		verify(mockEmployeeInformationRefresher).outdatedBefore();
+		verify(mockEmployeeChecklistIntegration).fetchVersion(MUNICIPALITY_ID, employeeChecklistIds, outdatedBefore);
+	}
+
 	@Test
 	void fetchDelegatedEmployeeChecklistsByUsernameTest() {
 		final var username = "username";
@@ -162,8 +178,9 @@ class DelegationServiceTest {
 		assertThat(result.getEmployeeChecklists()).hasSize(1);
 
 		verify(mockDelegateRepository).findAllByUsername(username);
-		verify(mockCustomTaskRepository).findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(delegateEntity.getEmployeeChecklist().getId(), MUNICIPALITY_ID);
-		verify(mockEmployeeChecklistIntegration).fetchDelegateEmails(delegateEntity.getEmployeeChecklist().getId());
+		verify(mockEmployeeInformationRefresher).refreshOutdated(MUNICIPALITY_ID, List.of(delegateEntity.getEmployeeChecklist().getEmployee()));
+		verify(mockEmployeeChecklistIntegration).fetchCustomTasks(MUNICIPALITY_ID, List.of(delegateEntity.getEmployeeChecklist().getId()));
+		verify(mockEmployeeChecklistIntegration).fetchDelegateEmails(List.of(delegateEntity.getEmployeeChecklist().getId()));
 		verify(mockSortorderService).applySorting(any(), any());
 	}
 
@@ -178,12 +195,9 @@ class DelegationServiceTest {
 	void fetchDelegatedEmployeeChecklistsByUsernameWhenEmployeeInformationNeedsUpdateTest(OffsetDateTime updated) {
 		final var username = "username";
 		final var delegateEntity = createDelegateEntity();
-		final var employee = Employee.builder().build();
-		final var employeeId = delegateEntity.getEmployeeChecklist().getEmployee().getId();
 		delegateEntity.getEmployeeChecklist().getEmployee().setUpdated(updated);
 
 		when(mockDelegateRepository.findAllByUsername(username)).thenReturn(List.of(delegateEntity));
-		when(mockEmployeeIntegration.getEmployeeInformation(MUNICIPALITY_ID, employeeId)).thenReturn(List.of(employee));
 		when(mockSortorderService.applySorting(any(), any())).thenAnswer(arg -> arg.getArgument(1));
 
 		final var result = service.fetchDelegatedEmployeeChecklistsByUsername(MUNICIPALITY_ID, username);
@@ -192,10 +206,10 @@ class DelegationServiceTest {
 		assertThat(result.getEmployeeChecklists()).hasSize(1);
 
 		verify(mockDelegateRepository).findAllByUsername(username);
-		verify(mockEmployeeIntegration).getEmployeeInformation(MUNICIPALITY_ID, employeeId);
-		verify(mockEmployeeChecklistIntegration).updateEmployeeInformation(delegateEntity.getEmployeeChecklist().getEmployee(), employee);
-		verify(mockCustomTaskRepository).findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(delegateEntity.getEmployeeChecklist().getId(), MUNICIPALITY_ID);
-		verify(mockEmployeeChecklistIntegration).fetchDelegateEmails(delegateEntity.getEmployeeChecklist().getId());
+		verify(mockEmployeeInformationRefresher).refreshOutdated(MUNICIPALITY_ID, List.of(delegateEntity.getEmployeeChecklist().getEmployee()));
+		verify(mockEmployeeIntegration, never()).getEmployeeInformation(any(), any());
+		verify(mockEmployeeChecklistIntegration).fetchCustomTasks(MUNICIPALITY_ID, List.of(delegateEntity.getEmployeeChecklist().getId()));
+		verify(mockEmployeeChecklistIntegration).fetchDelegateEmails(List.of(delegateEntity.getEmployeeChecklist().getId()));
 		verify(mockSortorderService).applySorting(any(), any());
 	}
 
@@ -211,6 +225,9 @@ class DelegationServiceTest {
 		assertThat(result.getEmployeeChecklists()).isEmpty();
 
 		verify(mockDelegateRepository).findAllByUsername(username);
+		verify(mockEmployeeInformationRefresher).refreshOutdated(MUNICIPALITY_ID, List.of());
+		verify(mockEmployeeChecklistIntegration).fetchCustomTasks(MUNICIPALITY_ID, List.of());
+		verify(mockEmployeeChecklistIntegration).fetchDelegateEmails(List.of());
 	}
 
 	@Test
@@ -225,6 +242,7 @@ class DelegationServiceTest {
 		verify(mockEmployeeChecklistRepository).findByIdAndChecklistsMunicipalityId(employeeChecklist.getId(), MUNICIPALITY_ID);
 		verify(mockDelegateRepository).existsByEmployeeChecklistAndEmail(employeeChecklist, "email");
 		verify(mockDelegateRepository).deleteByEmployeeChecklistAndEmail(employeeChecklist, "email");
+		verify(mockChangeFeed).publish(employeeChecklist.getId(), DELEGATION);
 	}
 
 	@Test
@@ -7,21 +7,24 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import se.sundsvall.checklist.api.model.CustomTask;
 import se.sundsvall.checklist.api.model.CustomTaskCreateRequest;
 import se.sundsvall.checklist.api.model.CustomTaskUpdateRequest;
@@ -29,10 +32,15 @@ import se.sundsvall.checklist.api.model.EmployeeChecklistPhase;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhaseUpdateRequest;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse.Detail;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateRequest.TaskFulfilment;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTaskBatchUpdateResponse.Result;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTaskUpdateRequest;
 import se.sundsvall.checklist.api.model.Mentor;
 import se.sundsvall.checklist.api.model.OngoingEmployeeChecklistParameters;
-import se.sundsvall.checklist.integration.company.CompanyIntegration;
+import se.sundsvall.checklist.integration.company.OrganizationIndex;
+import se.sundsvall.checklist.integration.company.OrganizationIndexProvider;
+import se.sundsvall.checklist.integration.db.BatchIdentityMap;
 import se.sundsvall.checklist.integration.db.EmployeeChecklistIntegration;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.CustomFulfilmentEntity;
@@ -56,18 +64,22 @@ import se.sundsvall.checklist.service.OrganizationTree.OrganizationLine;
 import se.sundsvall.checklist.service.model.Employee;
 import se.sundsvall.checklist.service.model.Employment;
 import se.sundsvall.checklist.service.model.Manager;
+import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.ThrowableProblem;
 
+import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -76,6 +88,9 @@ import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_ACCEPTABLE;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.CUSTOM_TASK;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.FULFILMENT;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.MENTOR;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeChecklistServiceTest {
@@ -85,6 +100,9 @@ class EmployeeChecklistServiceTest {
 	private static final OffsetDateTime TIMESTAMP_1 = OffsetDateTime.now().minusSeconds(1);
 	private static final String LOG_ID_2 = "logId2";
 	private static final OffsetDateTime TIMESTAMP_2 = OffsetDateTime.now();
+	private static final LocalDate TODAY = LocalDate.now();
+	private static final LocalDate HIRE_DATE_FROM = TODAY.minusDays(7);
+	private static final Duration DELTA_OVERLAP = Duration.ofSeconds(5);
 
 	@Mock
 	private EmployeeChecklistIntegration employeeChecklistIntegrationMock;
@@ -102,14 +120,25 @@ class EmployeeChecklistServiceTest {
 	private InitiationRepository initiationRepositoryMock;
 
 	@Mock
-	private CompanyIntegration companyIntegrationMock;
+	private OrganizationIndexProvider organizationIndexProviderMock;
+
+	@Mock
+	private EmployeeInformationRefresher employeeInformationRefresherMock;
+
+	@Mock
+	private EmployeeImportWatermark employeeImportWatermarkMock;
+
+	@Mock
+	private ChangeFeed changeFeedMock;
 
-	@InjectMocks
 	private EmployeeChecklistService service;
 
 	@Captor
 	private ArgumentCaptor<OrganizationTree> organizationTreeCaptor;
 
+	@Captor
+	private ArgumentCaptor<BatchIdentityMap> identityMapCaptor;
+
 	@Captor
 	private ArgumentCaptor<List<InitiationInfoEntity>> initiationEntitiesCaptor;
 
@@ -156,13 +185,18 @@ class EmployeeChecklistServiceTest {
 	}
 
 	@BeforeEach
-	void initializeFields() {
-		ReflectionTestUtils.setField(service, "employeeInformationUpdateInterval", Duration.ofDays(1));
+	void setUp() {
+		service = createService(1);
+	}
+
+	private EmployeeChecklistService createService(final int initiationParallelism) {
+		return new EmployeeChecklistService(customTaskRepositoryMock, initiationRepositoryMock, employeeIntegrationMock, employeeChecklistIntegrationMock, sortorderServiceMock,
+			organizationIndexProviderMock, employeeInformationRefresherMock, employeeImportWatermarkMock, changeFeedMock, TransactionOperations.withoutTransaction(), initiationParallelism, DELTA_OVERLAP);
 	}
 
 	@AfterEach
 	void assertNoMoreInteractions() {
-		verifyNoMoreInteractions(employeeChecklistIntegrationMock, customTaskRepositoryMock, employeeIntegrationMock, sortorderServiceMock, initiationRepositoryMock, companyIntegrationMock);
+		verifyNoMoreInteractions(employeeChecklistIntegrationMock, customTaskRepositoryMock, employeeIntegrationMock, sortorderServiceMock, initiationRepositoryMock, organizationIndexProviderMock, employeeInformationRefresherMock, employeeImportWatermarkMock, changeFeedMock);
 	}
 
 	@Test
@@ -210,6 +244,7 @@ class EmployeeChecklistServiceTest {
 			assertThat(t.getFulfilmentStatus()).isEqualTo(FulfilmentStatus.EMPTY);
 		}));
 		verify(employeeChecklistIntegrationMock).fetchOptionalEmployeeChecklist(MUNICIPALITY_ID, username);
+		verify(employeeInformationRefresherMock).refreshOutdated(MUNICIPALITY_ID, List.of(employee));
 		verify(customTaskRepositoryMock).findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(employeeChecklistId, MUNICIPALITY_ID);
 		verify(employeeChecklistIntegrationMock).fetchDelegateEmails(employeeChecklistId);
 		verify(sortorderServiceMock).applySorting(any(), any());
@@ -235,23 +270,21 @@ class EmployeeChecklistServiceTest {
 		final var customTask = CustomTaskEntity.builder()
 			.withId(customTaskId)
 			.build();
-		final var employee = Employee.builder().build();
 
 		when(employeeChecklistIntegrationMock.fetchOptionalEmployeeChecklist(MUNICIPALITY_ID, username)).thenReturn(Optional.of(employeeChecklistEntity));
 		when(customTaskRepositoryMock.findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(employeeChecklistId, MUNICIPALITY_ID)).thenReturn(List.of(customTask));
-		when(employeeIntegrationMock.getEmployeeInformation(MUNICIPALITY_ID, employeeId)).thenReturn(List.of(employee));
 		when(sortorderServiceMock.applySorting(any(), any())).thenAnswer(args -> args.getArgument(1));
 
 		// Act
 		final var employeeChecklist = service.fetchChecklistForEmployee(MUNICIPALITY_ID, username);
 
-		// Assert and verify
+		// Assert and verify (refresh of employee information is queued and not executed within the read)
 		assertThat(employeeChecklist).isPresent();
 		verify(employeeChecklistIntegrationMock).fetchOptionalEmployeeChecklist(MUNICIPALITY_ID, username);
+		verify(employeeInformationRefresherMock).refreshOutdated(MUNICIPALITY_ID, List.of(employeeEntity));
 		verify(customTaskRepositoryMock).findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(employeeChecklistId, MUNICIPALITY_ID);
 		verify(employeeChecklistIntegrationMock).fetchDelegateEmails(employeeChecklistId);
-		verify(employeeIntegrationMock).getEmployeeInformation(MUNICIPALITY_ID, employeeId);
-		verify(employeeChecklistIntegrationMock).updateEmployeeInformation(employeeEntity, employee);
+		verify(employeeIntegrationMock, never()).getEmployeeInformation(any(), any());
 		verify(sortorderServiceMock).applySorting(any(), any());
 	}
 
@@ -310,7 +343,7 @@ class EmployeeChecklistServiceTest {
 			.build();
 
 		when(employeeChecklistIntegrationMock.fetchEmployeeChecklistsForManager(MUNICIPALITY_ID, username)).thenReturn(List.of(employeeChecklistEntity));
-		when(customTaskRepositoryMock.findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(employeeChecklistId, MUNICIPALITY_ID)).thenReturn(List.of(customEmployeeTask, customManagerTask));
+		when(employeeChecklistIntegrationMock.fetchCustomTasks(MUNICIPALITY_ID, List.of(employeeChecklistId))).thenReturn(Map.of(employeeChecklistId, List.of(customEmployeeTask, customManagerTask)));
 		when(sortorderServiceMock.applySorting(any(), any())).thenAnswer(arg -> arg.getArgument(1));
 
 		// Act
@@ -341,52 +374,57 @@ class EmployeeChecklistServiceTest {
 		}));
 
 		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklistsForManager(MUNICIPALITY_ID, username);
-		verify(customTaskRepositoryMock).findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(employeeChecklistId, MUNICIPALITY_ID);
-		verify(employeeChecklistIntegrationMock).fetchDelegateEmails(employeeChecklistId);
+		verify(employeeInformationRefresherMock).refreshOutdated(MUNICIPALITY_ID, List.of(employee));
+		verify(employeeChecklistIntegrationMock).fetchCustomTasks(MUNICIPALITY_ID, List.of(employeeChecklistId));
+		verify(employeeChecklistIntegrationMock).fetchDelegateEmails(List.of(employeeChecklistId));
 		verify(sortorderServiceMock).applySorting(any(), any());
 	}
 
 	@Test
-	void fetchemployeeChecklistsForManagerWithManagerInformationToUpdate() {
+	void fetchEmployeeChecklistsForManagerWithOutdatedEmployeeInformation() {
 		// Arrange
 		final var username = "username";
-
 		final var employeeId = UUID.randomUUID().toString();
-		final var oldManagerId = "oldManagerId";
-		final var newManagerId = "newManagerId";
-		final var employeeChecklistId = UUID.randomUUID().toString();
-		final var employeeEntity = EmployeeEntity.builder()
+		final var employeeChecklistId1 = UUID.randomUUID().toString();
+		final var employeeChecklistId2 = UUID.randomUUID().toString();
+		final var employeeEntity1 = EmployeeEntity.builder()
 			.withId(employeeId)
 			.withManager(ManagerEntity.builder()
-				.withUsername(oldManagerId)
+				.withUsername(username)
 				.build())
 			.withUpdated(OffsetDateTime.now().minusDays(1).minusNanos(1))
 			.build();
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withId(employeeChecklistId)
-			.withEmployee(employeeEntity)
+		final var employeeEntity2 = EmployeeEntity.builder()
+			.withId(UUID.randomUUID().toString())
+			.withManager(ManagerEntity.builder()
+				.withUsername(username)
+				.build())
+			.build();
+		final var employeeChecklistEntity1 = EmployeeChecklistEntity.builder()
+			.withId(employeeChecklistId1)
+			.withEmployee(employeeEntity1)
 			.withChecklists(List.of(ChecklistEntity.builder().build()))
 			.build();
-		final var employee = Employee.builder()
-			.withMainEmployment(Employment.builder()
-				.withIsMainEmployment(true)
-				.withManager(Manager.builder()
-					.withLoginname(newManagerId)
-					.build())
-				.build())
+		final var employeeChecklistEntity2 = EmployeeChecklistEntity.builder()
+			.withId(employeeChecklistId2)
+			.withEmployee(employeeEntity2)
+			.withChecklists(List.of(ChecklistEntity.builder().build()))
 			.build();
 
-		when(employeeChecklistIntegrationMock.fetchEmployeeChecklistsForManager(MUNICIPALITY_ID, username)).thenReturn(List.of(employeeChecklistEntity));
-		when(employeeIntegrationMock.getEmployeeInformation(MUNICIPALITY_ID, employeeId)).thenReturn(List.of(employee));
+		when(employeeChecklistIntegrationMock.fetchEmployeeChecklistsForManager(MUNICIPALITY_ID, username)).thenReturn(List.of(employeeChecklistEntity1, employeeChecklistEntity2));
+		when(sortorderServiceMock.applySorting(any(), any())).thenAnswer(arg -> arg.getArgument(1));
 
 		// Act
 		final var employeeChecklists = service.fetchChecklistsForManager(MUNICIPALITY_ID, username);
 
-		// Assert and verify
-		assertThat(employeeChecklists).isEmpty(); // Due to that employee is updated and no longer has incoming userId as manager
+		// Assert and verify (persisted information is returned and all employees are handed over for refresh as one batch)
+		assertThat(employeeChecklists).hasSize(2);
 		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklistsForManager(MUNICIPALITY_ID, username);
-		verify(employeeChecklistIntegrationMock).updateEmployeeInformation(employeeEntity, employee);
-		verify(employeeIntegrationMock).getEmployeeInformation(MUNICIPALITY_ID, employeeId);
+		verify(employeeInformationRefresherMock).refreshOutdated(MUNICIPALITY_ID, List.of(employeeEntity1, employeeEntity2));
+		verify(employeeChecklistIntegrationMock).fetchCustomTasks(MUNICIPALITY_ID, List.of(employeeChecklistId1, employeeChecklistId2));
+		verify(employeeChecklistIntegrationMock).fetchDelegateEmails(List.of(employeeChecklistId1, employeeChecklistId2));
+		verify(sortorderServiceMock, times(2)).applySorting(any(), any());
+		verify(employeeIntegrationMock, never()).getEmployeeInformation(any(), any());
 	}
 
 	@Test
@@ -401,6 +439,133 @@ class EmployeeChecklistServiceTest {
 		verify(employeeChecklistIntegrationMock).deleteEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId);
 	}
 
+	@Test
+	void subscribeToChanges() {
+		// Arrange
+		final var username = "username";
+		final var employeeChecklistIds = List.of("id-1", "id-2");
+		final var emitter = new SseEmitter();
+
+		when(employeeChecklistIntegrationMock.fetchEmployeeChecklistIdsForParticipant(MUNICIPALITY_ID, username)).thenReturn(employeeChecklistIds);
+		when(changeFeedMock.subscribe(username, employeeChecklistIds)).thenReturn(emitter);
+
+		// Act
+		final var result = service.subscribeToChanges(MUNICIPALITY_ID, username);
+
+		// Assert and verify
+		assertThat(result).isSameAs(emitter);
+		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklistIdsForParticipant(MUNICIPALITY_ID, username);
+		verify(changeFeedMock).subscribe(username, employeeChecklistIds);
+	}
+
+	@Test
+	void fetchVersionOfChecklistForEmployee() {
+		// Arrange
+		final var username = "username";
+		final var outdatedBefore = OffsetDateTime.now();
+		final var employeeChecklistIds = List.of("id-1");
+
+		when(employeeChecklistIntegrationMock.fetchEmployeeChecklistIdsForEmployee(MUNICIPALITY_ID, username)).thenReturn(employeeChecklistIds);
+		when(employeeInformationRefresherMock.outdatedBefore()).thenReturn(outdatedBefore);
+		when(employeeChecklistIntegrationMock.fetchVersion(MUNICIPALITY_ID, employeeChecklistIds, outdatedBefore)).thenReturn(Optional.of("version"));
+
+		// Act
+		final var result = service.fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, username);
+
+		// Assert and verify
+		assertThat(result).hasValue("version");
+		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklistIdsForEmployee(MUNICIPALITY_ID, username);
+		verify(employeeInformationRefresherMock).outdatedBefore();
+		verify(employeeChecklistIntegrationMock).fetchVersion(MUNICIPALITY_ID, employeeChecklistIds, outdatedBefore);
+	}
+
+	@Test
+	void fetchVersionOfChecklistForEmployeeWithoutChecklist() {
+		// Arrange
+		final var username = "username";
+
+		when(employeeChecklistIntegrationMock.fetchEmployeeChecklistIdsForEmployee(MUNICIPALITY_ID, username)).thenReturn(emptyList());
+
+		// Act
+		final var result = service.fetchVersionOfChecklistForEmployee(MUNICIPALITY_ID, username);
+
+		// Assert and verify
+		assertThat(result).isEmpty();
+		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklistIdsForEmployee(MUNICIPALITY_ID, username);
+	}
+
+	@Test
+	void fetchVersionOfChecklistsForManager() {
+		// Arrange
+		final var username = "username";
+		final var outdatedBefore = OffsetDateTime.now();
+		final var employeeChecklistIds = List.of("id-1", "id-2");
+
+		when(employeeChecklistIntegrationMock.fetchEmployeeChecklistIdsForManager(MUNICIPALITY_ID, username)).thenReturn(employeeChecklistIds);
+		when(employeeInformationRefresherMock.outdatedBefore()).thenReturn(outdatedBefore);
+		when(employeeChecklistIntegrationMock.fetchVersion(MUNICIPALITY_ID, employeeChecklistIds, outdatedBefore)).thenReturn(Optional.of("version"));
+
+		// Act
+		final var result = service.fetchVersionOfChecklistsForManager(MUNICIPALITY_ID, username);
+
+		// Assert and verify
+		assertThat(result).hasValue("version");
+		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklistIdsForManager(MUNICIPALITY_ID, username);
+		verify(employeeInformationRefresherMock).outdatedBefore();
+		verify(employeeChecklistIntegrationMock).fetchVersion(MUNICIPALITY_ID, employeeChecklistIds, outdatedBefore);
+	}
+
+	@Test
+	void fetchChangesSince() {
+		// Arrange
+		final var employeeChecklistId = UUID.randomUUID().toString();
+		final var since = OffsetDateTime.now().minusDays(1);
+		final var firstPhase = PhaseEntity.builder().withId("phase-1").withSortOrder(1).build();
+		final var secondPhase = PhaseEntity.builder().withId("phase-2").withSortOrder(2).build();
+		final var task = TaskEntity.builder().withId("task-1").withSortOrder(2).withPhase(secondPhase).build();
+		final var otherTask = TaskEntity.builder().withId("task-2").withSortOrder(1).withPhase(secondPhase).build();
+		final var changedCustomTask = CustomTaskEntity.builder().withId("customTask-1").withSortOrder(1).withPhase(firstPhase).build();
+		final var unchangedCustomTask = CustomTaskEntity.builder().withId("customTask-2").withSortOrder(3).withPhase(secondPhase).build();
+		final var employeeChecklist = EmployeeChecklistEntity.builder().withId(employeeChecklistId).withCompleted(false).withLocked(false).build();
+
+		when(employeeChecklistIntegrationMock.fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId)).thenReturn(employeeChecklist);
+		when(employeeChecklistIntegrationMock.fetchFulfilmentsUpdatedAfter(employeeChecklistId, since)).thenReturn(List.of(
+			FulfilmentEntity.builder().withTask(task).withCompleted(FulfilmentStatus.TRUE).withLastSavedBy("someUser").build(),
+			FulfilmentEntity.builder().withTask(otherTask).withCompleted(FulfilmentStatus.FALSE).withLastSavedBy("someUser").build()));
+		when(employeeChecklistIntegrationMock.fetchCustomFulfilmentsChangedAfter(employeeChecklistId, since)).thenReturn(List.of(
+			CustomFulfilmentEntity.builder().withCustomTask(unchangedCustomTask).withCompleted(FulfilmentStatus.NOT_RELEVANT).withLastSavedBy("someUser").build()));
+		when(employeeChecklistIntegrationMock.fetchCustomTasksChangedAfter(employeeChecklistId, since)).thenReturn(List.of(changedCustomTask));
+		when(employeeChecklistIntegrationMock.fetchDelegateEmails(employeeChecklistId)).thenReturn(List.of("delegate@sundsvall.se"));
+		when(employeeChecklistIntegrationMock.fetchRemovedTaskIds(employeeChecklistId, since)).thenReturn(List.of("removedTask"));
+
+		// Act
+		final var result = service.fetchChangesSince(MUNICIPALITY_ID, employeeChecklistId, since);
+
+		// Assert and verify
+		assertThat(result.getId()).isEqualTo(employeeChecklistId);
+		assertThat(result.getSince()).isEqualTo(since);
+		assertThat(result.getUntil()).isCloseTo(OffsetDateTime.now().minus(DELTA_OVERLAP), within(2, SECONDS));
+		assertThat(result.getDelegatedTo()).containsExactly("delegate@sundsvall.se");
+		assertThat(result.getRemovedTaskIds()).containsExactly("removedTask");
+		assertThat(result.getPhases()).extracting(EmployeeChecklistPhase::getId).containsExactly("phase-1", "phase-2");
+		assertThat(result.getPhases().getFirst().getTasks())
+			.extracting(EmployeeChecklistTask::getId, EmployeeChecklistTask::isCustomTask, EmployeeChecklistTask::getFulfilmentStatus)
+			.containsExactly(tuple("customTask-1", true, FulfilmentStatus.EMPTY));
+		assertThat(result.getPhases().getLast().getTasks())
+			.extracting(EmployeeChecklistTask::getId, EmployeeChecklistTask::isCustomTask, EmployeeChecklistTask::getFulfilmentStatus)
+			.containsExactly(
+				tuple("task-2", false, FulfilmentStatus.FALSE),
+				tuple("task-1", false, FulfilmentStatus.TRUE),
+				tuple("customTask-2", true, FulfilmentStatus.NOT_RELEVANT));
+
+		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId);
+		verify(employeeChecklistIntegrationMock).fetchFulfilmentsUpdatedAfter(employeeChecklistId, since);
+		verify(employeeChecklistIntegrationMock).fetchCustomFulfilmentsChangedAfter(employeeChecklistId, since);
+		verify(employeeChecklistIntegrationMock).fetchCustomTasksChangedAfter(employeeChecklistId, since);
+		verify(employeeChecklistIntegrationMock).fetchDelegateEmails(employeeChecklistId);
+		verify(employeeChecklistIntegrationMock).fetchRemovedTaskIds(employeeChecklistId, since);
+	}
+
 	@Test
 	void setMentor() {
 		final var employeeChecklistId = UUID.randomUUID().toString();
@@ -411,6 +576,7 @@ class EmployeeChecklistServiceTest {
 
 		// Assert and verify
 		verify(employeeChecklistIntegrationMock).setMentor(MUNICIPALITY_ID, employeeChecklistId, mentor);
+		verify(changeFeedMock).publish(employeeChecklistId, MENTOR);
 	}
 
 	@Test
@@ -422,6 +588,7 @@ class EmployeeChecklistServiceTest {
 
 		// Assert and verify
 		verify(employeeChecklistIntegrationMock).deleteMentor(MUNICIPALITY_ID, employeeChecklistId);
+		verify(changeFeedMock).publish(employeeChecklistId, MENTOR);
 	}
 
 	@Test
@@ -443,6 +610,7 @@ class EmployeeChecklistServiceTest {
 
 		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId);
 		verify(employeeChecklistIntegrationMock).createCustomTask(MUNICIPALITY_ID, employeeChecklistId, phaseId, request);
+		verify(changeFeedMock).publish(employeeChecklistId, CUSTOM_TASK);
 	}
 
 	@Test
@@ -565,6 +733,7 @@ class EmployeeChecklistServiceTest {
 
 		verify(customTaskRepositoryMock).findById(customTaskId);
 		verify(customTaskRepositoryMock).save(entity);
+		verify(changeFeedMock).publish(employeeChecklistId, CUSTOM_TASK);
 	}
 
 	@Test
@@ -644,6 +813,7 @@ class EmployeeChecklistServiceTest {
 					.withMunicipalityId(MUNICIPALITY_ID)
 					.build()))
 				.withCustomFulfilments(new ArrayList<>(List.of(CustomFulfilmentEntity.builder()
+					.withCompleted(FulfilmentStatus.TRUE)
 					.withCustomTask(CustomTaskEntity.builder()
 						.withId(customTaskId)
 						.build())
@@ -659,7 +829,10 @@ class EmployeeChecklistServiceTest {
 		// Assert and verify
 		assertThat(entity.getEmployeeChecklist().getCustomFulfilments()).isEmpty();
 		verify(customTaskRepositoryMock).findById(customTaskId);
+		verify(employeeChecklistIntegrationMock).removeCustomTaskFromCompletionCounters(customTaskId);
 		verify(customTaskRepositoryMock).delete(entity);
+		verify(employeeChecklistIntegrationMock).addTombstone(employeeChecklistId, customTaskId);
+		verify(changeFeedMock).publish(employeeChecklistId, CUSTOM_TASK);
 	}
 
 	@Test
@@ -751,6 +924,7 @@ class EmployeeChecklistServiceTest {
 		assertThat(result.getId()).isEqualTo(phaseId);
 
 		verify(employeeChecklistIntegrationMock).updateAllFulfilmentForAllTasksInPhase(MUNICIPALITY_ID, employeeChecklistId, phaseId, request);
+		verify(changeFeedMock).publish(employeeChecklistId, FULFILMENT);
 		verify(customTaskRepositoryMock).findAllByEmployeeChecklistIdAndEmployeeChecklistChecklistsMunicipalityId(employeeChecklistId, MUNICIPALITY_ID);
 	}
 
@@ -780,6 +954,7 @@ class EmployeeChecklistServiceTest {
 		assertThat(e.getMessage()).isEqualTo("Internal Server Error: Could not read phase with id %s from employee checklist with id %s.".formatted(phaseId, employeeChecklistId));
 
 		verify(employeeChecklistIntegrationMock).updateAllFulfilmentForAllTasksInPhase(MUNICIPALITY_ID, employeeChecklistId, phaseId, request);
+		verify(changeFeedMock).publish(employeeChecklistId, FULFILMENT);
 	}
 
 	@Test
@@ -788,129 +963,156 @@ class EmployeeChecklistServiceTest {
 		final var employeeChecklistId = UUID.randomUUID().toString();
 		final var taskId = UUID.randomUUID().toString();
 		final var request = EmployeeChecklistTaskUpdateRequest.builder().build();
-		final var employeeChecklist = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withTasks(List.of(TaskEntity.builder()
-					.withId(taskId)
-					.withPhase(PhaseEntity.builder()
-						.withId(UUID.randomUUID().toString())
-						.build())
-					.build()))
-				.build()))
+		final var task = TaskEntity.builder()
+			.withId(taskId)
+			.withPhase(PhaseEntity.builder()
+				.withId(UUID.randomUUID().toString())
+				.build())
+			.build();
+		final var fulfilment = FulfilmentEntity.builder()
+			.withCompleted(FulfilmentStatus.TRUE)
+			.withLastSavedBy("updatedBy")
 			.build();
-		final var fulfilment = FulfilmentEntity.builder().build();
 
-		when(employeeChecklistIntegrationMock.fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId)).thenReturn(employeeChecklist);
-		when(employeeChecklistIntegrationMock.updateCommonTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request)).thenReturn(fulfilment);
+		when(employeeChecklistIntegrationMock.fetchCommonTask(employeeChecklistId, taskId)).thenReturn(Optional.of(task));
+		when(employeeChecklistIntegrationMock.updateCommonTaskFulfilment(employeeChecklistId, task, request)).thenReturn(fulfilment);
 
 		// Act
 		final var result = service.updateTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request);
 
 		// Assert and verify
 		assertThat(result).isNotNull().isInstanceOf(EmployeeChecklistTask.class);
-
-		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId);
-		verify(employeeChecklistIntegrationMock).updateCommonTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request);
+		assertThat(result.getId()).isEqualTo(taskId);
+		assertThat(result.getFulfilmentStatus()).isEqualTo(FulfilmentStatus.TRUE);
+		assertThat(result.getUpdatedBy()).isEqualTo("updatedBy");
+
+		verify(employeeChecklistIntegrationMock).verifyEmployeeChecklistIsUnlocked(MUNICIPALITY_ID, employeeChecklistId);
+		verify(changeFeedMock).publish(employeeChecklistId, FULFILMENT);
+		verify(employeeChecklistIntegrationMock).fetchCommonTask(employeeChecklistId, taskId);
+		verify(employeeChecklistIntegrationMock).updateCommonTaskFulfilment(employeeChecklistId, task, request);
 	}
 
 	@Test
-	void updateNonExistingCommonTaskFulfilment() {
+	void updateCustomTaskFulfilment() {
 		// Arrange
 		final var employeeChecklistId = UUID.randomUUID().toString();
 		final var taskId = UUID.randomUUID().toString();
 		final var request = EmployeeChecklistTaskUpdateRequest.builder().build();
-		final var employeeChecklist = EmployeeChecklistEntity.builder()
-			.withId(employeeChecklistId)
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withTasks(List.of(TaskEntity.builder()
-					.withId(UUID.randomUUID().toString())
-					.withPhase(PhaseEntity.builder()
-						.build())
-					.build()))
-				.build()))
+		final var customTask = CustomTaskEntity.builder().withId(taskId).build();
+		final var fulfilment = CustomFulfilmentEntity.builder()
+			.withCompleted(FulfilmentStatus.FALSE)
+			.withLastSavedBy("updatedBy")
 			.build();
 
-		when(employeeChecklistIntegrationMock.fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId)).thenReturn(employeeChecklist);
+		when(employeeChecklistIntegrationMock.fetchCustomTask(employeeChecklistId, taskId)).thenReturn(Optional.of(customTask));
+		when(employeeChecklistIntegrationMock.updateCustomTaskFulfilment(employeeChecklistId, customTask, request)).thenReturn(fulfilment);
 
 		// Act
-		final var e = assertThrows(ThrowableProblem.class, () -> service.updateTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request));
+		final var result = service.updateTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request);
 
 		// Assert and verify
-		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
-		assertThat(e.getMessage()).isEqualTo("Not Found: Task with id %s was not found in employee checklist with id %s.".formatted(taskId, employeeChecklistId));
-
-		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId);
+		assertThat(result).isNotNull().isInstanceOf(EmployeeChecklistTask.class);
+		assertThat(result.getId()).isEqualTo(taskId);
+		assertThat(result.getFulfilmentStatus()).isEqualTo(FulfilmentStatus.FALSE);
+		assertThat(result.getUpdatedBy()).isEqualTo("updatedBy");
+
+		verify(employeeChecklistIntegrationMock).verifyEmployeeChecklistIsUnlocked(MUNICIPALITY_ID, employeeChecklistId);
+		verify(changeFeedMock).publish(employeeChecklistId, FULFILMENT);
+		verify(employeeChecklistIntegrationMock).fetchCommonTask(employeeChecklistId, taskId);
+		verify(employeeChecklistIntegrationMock).fetchCustomTask(employeeChecklistId, taskId);
+		verify(employeeChecklistIntegrationMock).updateCustomTaskFulfilment(employeeChecklistId, customTask, request);
 	}
 
 	@Test
-	void updateCustomTaskFulfilment() {
+	void updateNonExistingTaskFulfilment() {
 		// Arrange
 		final var employeeChecklistId = UUID.randomUUID().toString();
 		final var taskId = UUID.randomUUID().toString();
 		final var request = EmployeeChecklistTaskUpdateRequest.builder().build();
-		final var employeeChecklist = EmployeeChecklistEntity.builder()
-			.withCustomTasks(List.of(CustomTaskEntity.builder().withId(taskId).build()))
-			.build();
-		final var fulfilment = CustomFulfilmentEntity.builder().build();
-
-		when(employeeChecklistIntegrationMock.fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId)).thenReturn(employeeChecklist);
-		when(employeeChecklistIntegrationMock.updateCustomTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request)).thenReturn(fulfilment);
 
 		// Act
-		final var result = service.updateTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request);
+		final var e = assertThrows(ThrowableProblem.class, () -> service.updateTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request));
 
 		// Assert and verify
-		assertThat(result).isNotNull().isInstanceOf(EmployeeChecklistTask.class);
+		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
+		assertThat(e.getMessage()).isEqualTo("Not Found: Task with id %s was not found in employee checklist with id %s.".formatted(taskId, employeeChecklistId));
 
-		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId);
-		verify(employeeChecklistIntegrationMock).updateCustomTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request);
+		verify(employeeChecklistIntegrationMock).verifyEmployeeChecklistIsUnlocked(MUNICIPALITY_ID, employeeChecklistId);
+		verify(changeFeedMock).publish(employeeChecklistId, FULFILMENT);
+		verify(employeeChecklistIntegrationMock).fetchCommonTask(employeeChecklistId, taskId);
+		verify(employeeChecklistIntegrationMock).fetchCustomTask(employeeChecklistId, taskId);
 	}
 
 	@Test
-	void updateNonExistingCustomTaskFulfilment() {
+	void updateTaskFulfilmentOnLockedEmployeeChecklist() {
 		// Arrange
 		final var employeeChecklistId = UUID.randomUUID().toString();
 		final var taskId = UUID.randomUUID().toString();
 		final var request = EmployeeChecklistTaskUpdateRequest.builder().build();
-		final var employeeChecklist = EmployeeChecklistEntity.builder()
-			.withId(employeeChecklistId)
-			.withCustomTasks(List.of(CustomTaskEntity.builder().withId(UUID.randomUUID().toString())
-				.build()))
-			.build();
 
-		when(employeeChecklistIntegrationMock.fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId)).thenReturn(employeeChecklist);
+		doThrow(Problem.valueOf(BAD_REQUEST, "Employee checklist with id %s is locked and can not be modified.".formatted(employeeChecklistId)))
+			.when(employeeChecklistIntegrationMock).verifyEmployeeChecklistIsUnlocked(MUNICIPALITY_ID, employeeChecklistId);
 
 		// Act
 		final var e = assertThrows(ThrowableProblem.class, () -> service.updateTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request));
 
 		// Assert and verify
-		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
-		assertThat(e.getMessage()).isEqualTo("Not Found: Task with id %s was not found in employee checklist with id %s.".formatted(taskId, employeeChecklistId));
+		assertThat(e.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(e.getMessage()).isEqualTo("Bad Request: Employee checklist with id %s is locked and can not be modified.".formatted(employeeChecklistId));
 
-		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId);
+		verify(employeeChecklistIntegrationMock).verifyEmployeeChecklistIsUnlocked(MUNICIPALITY_ID, employeeChecklistId);
 	}
 
 	@Test
-	void updateTaskFulfilmentOnLockedEmployeeChecklist() {
+	void updateTaskFulfilments() {
 		// Arrange
 		final var employeeChecklistId = UUID.randomUUID().toString();
+		final var lockedEmployeeChecklistId = UUID.randomUUID().toString();
 		final var taskId = UUID.randomUUID().toString();
-		final var request = EmployeeChecklistTaskUpdateRequest.builder().build();
-		final var employeeChecklist = EmployeeChecklistEntity.builder()
-			.withId(employeeChecklistId)
-			.withLocked(true)
+		final var unknownTaskId = UUID.randomUUID().toString();
+		final var lockedTaskId = UUID.randomUUID().toString();
+		final var failingEmployeeChecklistId = UUID.randomUUID().toString();
+		final var failingTaskId = UUID.randomUUID().toString();
+		final var updatedBy = "updatedBy";
+		final var updatedTask = EmployeeChecklistTask.builder().withId(taskId).withFulfilmentStatus(FulfilmentStatus.TRUE).build();
+		final var request = EmployeeChecklistTaskBatchUpdateRequest.builder()
+			.withUpdatedBy(updatedBy)
+			.withTaskFulfilments(List.of(
+				TaskFulfilment.builder().withEmployeeChecklistId(employeeChecklistId).withTaskId(taskId).withFulfilmentStatus(FulfilmentStatus.TRUE).build(),
+				TaskFulfilment.builder().withEmployeeChecklistId(lockedEmployeeChecklistId).withTaskId(lockedTaskId).withFulfilmentStatus(FulfilmentStatus.TRUE).build(),
+				TaskFulfilment.builder().withEmployeeChecklistId(failingEmployeeChecklistId).withTaskId(failingTaskId).withFulfilmentStatus(FulfilmentStatus.FALSE).build(),
+				TaskFulfilment.builder().withEmployeeChecklistId(employeeChecklistId).withTaskId(unknownTaskId).withResponseText("responseText").build()))
 			.build();
-
-		when(employeeChecklistIntegrationMock.fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId)).thenReturn(employeeChecklist);
+		final var requests = Map.of(
+			taskId, EmployeeChecklistTaskUpdateRequest.builder().withFulfilmentStatus(FulfilmentStatus.TRUE).withUpdatedBy(updatedBy).build(),
+			unknownTaskId, EmployeeChecklistTaskUpdateRequest.builder().withResponseText("responseText").withUpdatedBy(updatedBy).build());
+		final var lockedRequests = Map.of(
+			lockedTaskId, EmployeeChecklistTaskUpdateRequest.builder().withFulfilmentStatus(FulfilmentStatus.TRUE).withUpdatedBy(updatedBy).build());
+		final var failingRequests = Map.of(
+			failingTaskId, EmployeeChecklistTaskUpdateRequest.builder().withFulfilmentStatus(FulfilmentStatus.FALSE).withUpdatedBy(updatedBy).build());
+
+		when(employeeChecklistIntegrationMock.updateTaskFulfilments(MUNICIPALITY_ID, employeeChecklistId, requests)).thenReturn(Map.of(taskId, updatedTask));
+		when(employeeChecklistIntegrationMock.updateTaskFulfilments(MUNICIPALITY_ID, lockedEmployeeChecklistId, lockedRequests))
+			.thenThrow(Problem.valueOf(BAD_REQUEST, "Employee checklist with id %s is locked and can not be modified.".formatted(lockedEmployeeChecklistId)));
+		when(employeeChecklistIntegrationMock.updateTaskFulfilments(MUNICIPALITY_ID, failingEmployeeChecklistId, failingRequests))
+			.thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
 
 		// Act
-		final var e = assertThrows(ThrowableProblem.class, () -> service.updateTaskFulfilment(MUNICIPALITY_ID, employeeChecklistId, taskId, request));
+		final var result = service.updateTaskFulfilments(MUNICIPALITY_ID, request);
 
 		// Assert and verify
-		assertThat(e.getStatus()).isEqualTo(BAD_REQUEST);
-		assertThat(e.getMessage()).isEqualTo("Bad Request: Employee checklist with id %s is locked and can not be modified.".formatted(employeeChecklistId));
-
-		verify(employeeChecklistIntegrationMock).fetchEmployeeChecklist(MUNICIPALITY_ID, employeeChecklistId);
+		assertThat(result.getResults())
+			.extracting(Result::getEmployeeChecklistId, Result::getTaskId, Result::getStatus, Result::getInformation, Result::getTask)
+			.containsExactly(
+				tuple(employeeChecklistId, taskId, OK, null, updatedTask),
+				tuple(lockedEmployeeChecklistId, lockedTaskId, BAD_REQUEST, "Bad Request: Employee checklist with id %s is locked and can not be modified.".formatted(lockedEmployeeChecklistId), null),
+				tuple(failingEmployeeChecklistId, failingTaskId, INTERNAL_SERVER_ERROR, "Internal Server Error: Lock wait timeout exceeded", null),
+				tuple(employeeChecklistId, unknownTaskId, NOT_FOUND, "Task with id %s was not found in employee checklist with id %s.".formatted(unknownTaskId, employeeChecklistId), null));
+
+		verify(employeeChecklistIntegrationMock).updateTaskFulfilments(MUNICIPALITY_ID, employeeChecklistId, requests);
+		verify(changeFeedMock).publish(employeeChecklistId, FULFILMENT);
+		verify(employeeChecklistIntegrationMock).updateTaskFulfilments(MUNICIPALITY_ID, lockedEmployeeChecklistId, lockedRequests);
+		verify(employeeChecklistIntegrationMock).updateTaskFulfilments(MUNICIPALITY_ID, failingEmployeeChecklistId, failingRequests);
 	}
 
 	@Test
@@ -932,21 +1134,26 @@ class EmployeeChecklistServiceTest {
 
 		when(employeeIntegrationMock.getNewEmployees(eq(MUNICIPALITY_ID), any())).thenReturn(List.of(employee));
 		when(employeeIntegrationMock.getEmployeeByEmail(MUNICIPALITY_ID, emailAddress)).thenReturn(Optional.of(portalPersonData));
-		when(employeeChecklistIntegrationMock.initiateEmployee(any(), any(), any())).thenReturn(information);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, companyId)).thenReturn(List.of(
+		when(employeeChecklistIntegrationMock.initiateEmployee(any(), any(), any(), any())).thenReturn(information);
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(OrganizationIndex.build(List.of(new Organization().companyId(companyId)), Map.of(companyId, List.of(
 			new Organization().orgId(rootOrgId).treeLevel(1).orgName("Sundsvalls kommun"),
 			new Organization().orgId(12).treeLevel(2).orgName("OrgLevel 2").parentId(rootOrgId),
 			new Organization().orgId(122).treeLevel(3).orgName("OrgLevel 3").parentId(12),
-			new Organization().orgId(orgId).treeLevel(4).orgName("OrgLevel 4").parentId(122)));
+			new Organization().orgId(orgId).treeLevel(4).orgName("OrgLevel 4").parentId(122)))));
+		when(employeeImportWatermarkMock.today()).thenReturn(TODAY);
+		when(employeeImportWatermarkMock.getHireDateFrom(MUNICIPALITY_ID, false)).thenReturn(HIRE_DATE_FROM);
 
 		// Act
 		final var response = service.initiateEmployeeChecklists(MUNICIPALITY_ID);
 
 		// Assert and verify
-		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, LocalDate.now().minusDays(30));
+		verify(employeeImportWatermarkMock).today();
+		verify(employeeImportWatermarkMock).getHireDateFrom(MUNICIPALITY_ID, false);
+		verify(employeeImportWatermarkMock).advance(MUNICIPALITY_ID, TODAY);
+		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM);
 		verify(employeeIntegrationMock).getEmployeeByEmail(MUNICIPALITY_ID, emailAddress);
-		verify(companyIntegrationMock).getOrganizationsForCompany(MUNICIPALITY_ID, companyId);
-		verify(employeeChecklistIntegrationMock).initiateEmployee(eq(MUNICIPALITY_ID), eq(employee), organizationTreeCaptor.capture());
+		verify(organizationIndexProviderMock).getIndex(MUNICIPALITY_ID);
+		verify(employeeChecklistIntegrationMock).initiateEmployee(eq(MUNICIPALITY_ID), eq(employee), organizationTreeCaptor.capture(), any());
 		verify(initiationRepositoryMock).saveAll(initiationEntitiesCaptor.capture());
 
 		assertThat(initiationEntitiesCaptor.getValue()).hasSize(1).satisfiesExactly(entity -> {
@@ -960,6 +1167,59 @@ class EmployeeChecklistServiceTest {
 			.containsExactly(tuple(OK, information));
 	}
 
+	@Test
+	void initiateEmployeeChecklistsInParallel() {
+		// Arrange
+		final var companyId = 1;
+		final var orgId = 1225;
+		final var orgTree = "2|12|OrgLevel 2¤3|122|OrgLevel 3¤4|" + orgId + "|OrgLevel 4";
+		final var employees = IntStream.range(0, 6)
+			.mapToObj(i -> createEmployee("emailAddress" + i, UUID.randomUUID(), UUID.randomUUID(), companyId, orgId, "loginName" + i))
+			.toList();
+
+		service = createService(3);
+		when(employeeIntegrationMock.getNewEmployees(eq(MUNICIPALITY_ID), any())).thenReturn(employees);
+		when(employeeIntegrationMock.getEmployeeByEmail(eq(MUNICIPALITY_ID), anyString())).thenAnswer(invocation -> "emailAddress3".equals(invocation.getArgument(1))
+			? Optional.empty()
+			: Optional.of(new PortalPersonData().companyId(companyId).orgTree(orgTree)));
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(OrganizationIndex.build(List.of(new Organization().companyId(companyId)), Map.of(companyId, List.of(
+			new Organization().orgId(13).treeLevel(1).orgName("Sundsvalls kommun"),
+			new Organization().orgId(12).treeLevel(2).orgName("OrgLevel 2").parentId(13)))));
+		when(employeeChecklistIntegrationMock.initiateEmployee(eq(MUNICIPALITY_ID), any(), any(), any())).thenAnswer(invocation -> {
+			// Let employees earlier in the list finish last
+			final Employee employee = invocation.getArgument(1);
+			Thread.sleep(10L * (6 - Integer.parseInt(employee.getLoginname().substring(9))));
+			return "Initiated " + employee.getLoginname();
+		});
+		when(employeeImportWatermarkMock.today()).thenReturn(TODAY);
+		when(employeeImportWatermarkMock.getHireDateFrom(MUNICIPALITY_ID, false)).thenReturn(HIRE_DATE_FROM);
+
+		// Act
+		final var response = service.initiateEmployeeChecklists(MUNICIPALITY_ID);
+
+		// Assert and verify
+		verify(employeeImportWatermarkMock).today();
+		verify(employeeImportWatermarkMock).getHireDateFrom(MUNICIPALITY_ID, false);
+		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM);
+		verify(employeeChecklistIntegrationMock).createSharedEntities(eq(MUNICIPALITY_ID), eq(employees), identityMapCaptor.capture());
+		verify(employeeIntegrationMock, times(6)).getEmployeeByEmail(eq(MUNICIPALITY_ID), anyString());
+		verify(organizationIndexProviderMock, times(5)).getIndex(MUNICIPALITY_ID);
+		verify(employeeChecklistIntegrationMock, times(5)).initiateEmployee(eq(MUNICIPALITY_ID), any(), any(), identityMapCaptor.capture());
+		verify(initiationRepositoryMock).saveAll(initiationEntitiesCaptor.capture());
+
+		assertThat(identityMapCaptor.getAllValues()).hasSize(6).containsOnly(identityMapCaptor.getValue());
+		assertThat(initiationEntitiesCaptor.getValue()).hasSize(6);
+		assertThat(response.getSummary()).isEqualTo("1 potential problems occurred when importing 6 employees");
+		assertThat(response.getDetails()).extracting(Detail::getStatus, Detail::getInformation)
+			.containsExactly(
+				tuple(OK, "Initiated loginName0"),
+				tuple(OK, "Initiated loginName1"),
+				tuple(OK, "Initiated loginName2"),
+				tuple(NOT_FOUND, "Not Found: Employee with loginname loginName3 is missing information regarding organizational structure."),
+				tuple(OK, "Initiated loginName4"),
+				tuple(OK, "Initiated loginName5"));
+	}
+
 	@Test
 	void initiateEmployeeChecklistsNoStructuralDataFound() {
 		// Arrange
@@ -972,16 +1232,20 @@ class EmployeeChecklistServiceTest {
 		final var employee = createEmployee(emailAddress, employeeUuid, managerUuid, companyId, orgId, loginName);
 
 		when(employeeIntegrationMock.getNewEmployees(eq(MUNICIPALITY_ID), any())).thenReturn(List.of(employee));
+		when(employeeImportWatermarkMock.today()).thenReturn(TODAY);
+		when(employeeImportWatermarkMock.getHireDateFrom(MUNICIPALITY_ID, false)).thenReturn(HIRE_DATE_FROM);
 
 		// Act
 		final var response = service.initiateEmployeeChecklists(MUNICIPALITY_ID);
 
 		// Assert and verify
-		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, LocalDate.now().minusDays(30));
+		verify(employeeImportWatermarkMock).today();
+		verify(employeeImportWatermarkMock).getHireDateFrom(MUNICIPALITY_ID, false);
+		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM);
 		verify(employeeIntegrationMock).getEmployeeByEmail(MUNICIPALITY_ID, emailAddress);
 		verify(initiationRepositoryMock).saveAll(initiationEntitiesCaptor.capture());
-		verify(companyIntegrationMock, never()).getOrganizationsForCompany(anyString(), anyInt());
-		verify(employeeChecklistIntegrationMock, never()).initiateEmployee(eq(MUNICIPALITY_ID), any(), any());
+		verify(organizationIndexProviderMock, never()).getIndex(anyString());
+		verify(employeeChecklistIntegrationMock, never()).initiateEmployee(eq(MUNICIPALITY_ID), any(), any(), any());
 
 		assertThat(initiationEntitiesCaptor.getValue()).hasSize(1).satisfiesExactly(entity -> {
 			assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
@@ -1011,21 +1275,25 @@ class EmployeeChecklistServiceTest {
 
 		when(employeeIntegrationMock.getNewEmployees(eq(MUNICIPALITY_ID), any())).thenReturn(List.of(employee));
 		when(employeeIntegrationMock.getEmployeeByEmail(MUNICIPALITY_ID, emailAddress)).thenReturn(Optional.of(portalPersonData));
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, companyId)).thenReturn(List.of(
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(OrganizationIndex.build(List.of(new Organization().companyId(companyId)), Map.of(companyId, List.of(
 			new Organization().orgId(rootOrgId).treeLevel(1).orgName("Sundsvalls kommun"),
 			new Organization().orgId(12).treeLevel(2).orgName("OrgLevel 2").parentId(rootOrgId),
 			new Organization().orgId(122).treeLevel(3).orgName("OrgLevel 3").parentId(12),
-			new Organization().orgId(orgId).treeLevel(4).orgName("OrgLevel 4").parentId(122)));
-		when(employeeChecklistIntegrationMock.initiateEmployee(any(), any(), any())).thenThrow(new NullPointerException("There is a null value in the neighborhood"));
+			new Organization().orgId(orgId).treeLevel(4).orgName("OrgLevel 4").parentId(122)))));
+		when(employeeChecklistIntegrationMock.initiateEmployee(any(), any(), any(), any())).thenThrow(new NullPointerException("There is a null value in the neighborhood"));
+		when(employeeImportWatermarkMock.today()).thenReturn(TODAY);
+		when(employeeImportWatermarkMock.getHireDateFrom(MUNICIPALITY_ID, false)).thenReturn(HIRE_DATE_FROM);
 
 		// Act
 		final var response = service.initiateEmployeeChecklists(MUNICIPALITY_ID);
 
 		// Assert and verify
-		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, LocalDate.now().minusDays(30));
+		verify(employeeImportWatermarkMock).today();
+		verify(employeeImportWatermarkMock).getHireDateFrom(MUNICIPALITY_ID, false);
+		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM);
 		verify(employeeIntegrationMock).getEmployeeByEmail(MUNICIPALITY_ID, emailAddress);
-		verify(companyIntegrationMock).getOrganizationsForCompany(MUNICIPALITY_ID, companyId);
-		verify(employeeChecklistIntegrationMock).initiateEmployee(eq(MUNICIPALITY_ID), eq(employee), organizationTreeCaptor.capture());
+		verify(organizationIndexProviderMock).getIndex(MUNICIPALITY_ID);
+		verify(employeeChecklistIntegrationMock).initiateEmployee(eq(MUNICIPALITY_ID), eq(employee), organizationTreeCaptor.capture(), any());
 		verify(initiationRepositoryMock).saveAll(initiationEntitiesCaptor.capture());
 
 		assertOrgTreeParameters();
@@ -1054,12 +1322,17 @@ class EmployeeChecklistServiceTest {
 		employee.getMainEmployment().setEventType("joiner");
 
 		when(employeeIntegrationMock.getNewEmployees(eq(MUNICIPALITY_ID), any())).thenReturn(List.of(employee));
+		when(employeeImportWatermarkMock.today()).thenReturn(TODAY);
+		when(employeeImportWatermarkMock.getHireDateFrom(MUNICIPALITY_ID, false)).thenReturn(HIRE_DATE_FROM);
 
 		// Act
 		final var response = service.initiateEmployeeChecklists(MUNICIPALITY_ID);
 
 		// Assert and verify
-		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, LocalDate.now().minusDays(30));
+		verify(employeeImportWatermarkMock).today();
+		verify(employeeImportWatermarkMock).getHireDateFrom(MUNICIPALITY_ID, false);
+		verify(employeeImportWatermarkMock).advance(MUNICIPALITY_ID, TODAY);
+		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM);
 		verify(initiationRepositoryMock).saveAll(initiationEntitiesCaptor.capture());
 
 		assertThat(initiationEntitiesCaptor.getValue()).hasSize(1).satisfiesExactly(entity -> {
@@ -1088,12 +1361,17 @@ class EmployeeChecklistServiceTest {
 		employee.getMainEmployment().setEventType("invalid");
 
 		when(employeeIntegrationMock.getNewEmployees(eq(MUNICIPALITY_ID), any())).thenReturn(List.of(employee));
+		when(employeeImportWatermarkMock.today()).thenReturn(TODAY);
+		when(employeeImportWatermarkMock.getHireDateFrom(MUNICIPALITY_ID, false)).thenReturn(HIRE_DATE_FROM);
 
 		// Act
 		final var response = service.initiateEmployeeChecklists(MUNICIPALITY_ID);
 
 		// Assert and verify
-		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, LocalDate.now().minusDays(30));
+		verify(employeeImportWatermarkMock).today();
+		verify(employeeImportWatermarkMock).getHireDateFrom(MUNICIPALITY_ID, false);
+		verify(employeeImportWatermarkMock).advance(MUNICIPALITY_ID, TODAY);
+		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM);
 		verify(initiationRepositoryMock).saveAll(initiationEntitiesCaptor.capture());
 
 		assertThat(initiationEntitiesCaptor.getValue()).hasSize(1).satisfiesExactly(entity -> {
@@ -1110,16 +1388,48 @@ class EmployeeChecklistServiceTest {
 
 	}
 
+	@Test
+	void initiateEmployeeChecklistsReportsProgress() {
+		// Arrange
+		final var employee = createEmployee("emailAddress", UUID.randomUUID(), UUID.randomUUID(), 1, 1225, "loginName");
+		final var progressListenerMock = mock(InitiationProgressListener.class);
+		employee.getMainEmployment().setFormOfEmploymentId("invalid");
+
+		when(employeeImportWatermarkMock.today()).thenReturn(TODAY);
+		when(employeeImportWatermarkMock.getHireDateFrom(MUNICIPALITY_ID, true)).thenReturn(HIRE_DATE_FROM);
+		when(employeeIntegrationMock.getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM)).thenReturn(List.of(employee));
+
+		// Act
+		final var response = service.initiateEmployeeChecklists(MUNICIPALITY_ID, true, progressListenerMock);
+
+		// Assert and verify
+		verify(employeeImportWatermarkMock).today();
+		verify(employeeImportWatermarkMock).getHireDateFrom(MUNICIPALITY_ID, true);
+		verify(employeeImportWatermarkMock).advance(MUNICIPALITY_ID, TODAY);
+		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM);
+		verify(initiationRepositoryMock).saveAll(any());
+		verify(progressListenerMock).employeesFound(1);
+		verify(progressListenerMock).employeeProcessed(response.getDetails().getFirst());
+		verifyNoMoreInteractions(progressListenerMock);
+		assertThat(response.getDetails()).extracting(Detail::getStatus).containsExactly(NOT_ACCEPTABLE);
+	}
+
 	@Test
 	void initiateEmployeeChecklists_noNewEmployeesFound() {
+		// Arrange
+		when(employeeImportWatermarkMock.today()).thenReturn(TODAY);
+		when(employeeImportWatermarkMock.getHireDateFrom(MUNICIPALITY_ID, false)).thenReturn(HIRE_DATE_FROM);
+
 		// Act
 		final var response = service.initiateEmployeeChecklists(MUNICIPALITY_ID);
 
 		// Assert and verify
+		verify(employeeImportWatermarkMock).today();
+		verify(employeeImportWatermarkMock).getHireDateFrom(MUNICIPALITY_ID, false);
 		assertThat(response.getSummary()).isEqualTo("No employees found");
 		assertThat(response.getDetails()).isNullOrEmpty();
 
-		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, LocalDate.now().minusDays(30));
+		verify(employeeIntegrationMock).getNewEmployees(MUNICIPALITY_ID, HIRE_DATE_FROM);
 	}
 
 	@Test
@@ -1141,12 +1451,12 @@ class EmployeeChecklistServiceTest {
 
 		when(employeeIntegrationMock.getEmployeeInformation(eq(MUNICIPALITY_ID), any())).thenReturn(List.of(employee));
 		when(employeeIntegrationMock.getEmployeeByEmail(MUNICIPALITY_ID, emailAddress)).thenReturn(Optional.of(portalPersonData));
-		when(employeeChecklistIntegrationMock.initiateEmployee(eq(MUNICIPALITY_ID), any(), any())).thenReturn(information);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, companyId)).thenReturn(List.of(
+		when(employeeChecklistIntegrationMock.initiateEmployee(eq(MUNICIPALITY_ID), any(), any(), any())).thenReturn(information);
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(OrganizationIndex.build(List.of(new Organization().companyId(companyId)), Map.of(companyId, List.of(
 			new Organization().orgId(rootOrgId).treeLevel(1).orgName("Sundsvalls kommun"),
 			new Organization().orgId(12).treeLevel(2).orgName("OrgLevel 2").parentId(rootOrgId),
 			new Organization().orgId(122).treeLevel(3).orgName("OrgLevel 3").parentId(12),
-			new Organization().orgId(orgId).treeLevel(4).orgName("OrgLevel 4").parentId(122)));
+			new Organization().orgId(orgId).treeLevel(4).orgName("OrgLevel 4").parentId(122)))));
 
 		// Act
 		final var response = service.initiateSpecificEmployeeChecklist(MUNICIPALITY_ID, employeeUuid.toString());
@@ -1154,8 +1464,8 @@ class EmployeeChecklistServiceTest {
 		// Assert and verify
 		verify(employeeIntegrationMock).getEmployeeInformation(MUNICIPALITY_ID, employeeUuid.toString());
 		verify(employeeIntegrationMock).getEmployeeByEmail(MUNICIPALITY_ID, emailAddress);
-		verify(companyIntegrationMock).getOrganizationsForCompany(MUNICIPALITY_ID, companyId);
-		verify(employeeChecklistIntegrationMock).initiateEmployee(eq(MUNICIPALITY_ID), eq(employee), organizationTreeCaptor.capture());
+		verify(organizationIndexProviderMock).getIndex(MUNICIPALITY_ID);
+		verify(employeeChecklistIntegrationMock).initiateEmployee(eq(MUNICIPALITY_ID), eq(employee), organizationTreeCaptor.capture(), any());
 		verify(initiationRepositoryMock).saveAll(initiationEntitiesCaptor.capture());
 
 		assertThat(initiationEntitiesCaptor.getValue()).hasSize(1).satisfiesExactly(entity -> {
@@ -1208,12 +1518,12 @@ class EmployeeChecklistServiceTest {
 
 		when(employeeIntegrationMock.getEmployeeInformation(eq(MUNICIPALITY_ID), any())).thenReturn(List.of(employee));
 		when(employeeIntegrationMock.getEmployeeByEmail(MUNICIPALITY_ID, emailAddress)).thenReturn(Optional.of(portalPersonData));
-		when(employeeChecklistIntegrationMock.initiateEmployee(eq(MUNICIPALITY_ID), any(), any())).thenReturn(information);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, companyId)).thenReturn(List.of(
+		when(employeeChecklistIntegrationMock.initiateEmployee(eq(MUNICIPALITY_ID), any(), any(), any())).thenReturn(information);
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(OrganizationIndex.build(List.of(new Organization().companyId(companyId)), Map.of(companyId, List.of(
 			new Organization().orgId(rootOrgId).treeLevel(1).orgName("Sundsvalls kommun"),
 			new Organization().orgId(12).treeLevel(2).orgName("OrgLevel 2").parentId(rootOrgId),
 			new Organization().orgId(122).treeLevel(3).orgName("OrgLevel 3").parentId(12),
-			new Organization().orgId(orgId).treeLevel(4).orgName("OrgLevel 4").parentId(122)));
+			new Organization().orgId(orgId).treeLevel(4).orgName("OrgLevel 4").parentId(122)))));
 
 		// Act
 		final var response = service.initiateSpecificEmployeeChecklist(MUNICIPALITY_ID, employeeUuid.toString());
@@ -1221,8 +1531,8 @@ class EmployeeChecklistServiceTest {
 		// Assert and verify
 		verify(employeeIntegrationMock).getEmployeeInformation(MUNICIPALITY_ID, employeeUuid.toString());
 		verify(employeeIntegrationMock).getEmployeeByEmail(MUNICIPALITY_ID, emailAddress);
-		verify(companyIntegrationMock).getOrganizationsForCompany(MUNICIPALITY_ID, companyId);
-		verify(employeeChecklistIntegrationMock).initiateEmployee(eq(MUNICIPALITY_ID), eq(employee), organizationTreeCaptor.capture());
+		verify(organizationIndexProviderMock).getIndex(MUNICIPALITY_ID);
+		verify(employeeChecklistIntegrationMock).initiateEmployee(eq(MUNICIPALITY_ID), eq(employee), organizationTreeCaptor.capture(), any());
 		verify(initiationRepositoryMock).saveAll(initiationEntitiesCaptor.capture());
 
 		assertOrgTreeParameters();
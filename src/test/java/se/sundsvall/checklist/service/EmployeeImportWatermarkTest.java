@@ -0,0 +1,128 @@
+package se.sundsvall.checklist.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.checklist.integration.db.model.EmployeeImportWatermarkEntity;
+import se.sundsvall.checklist.integration.db.repository.EmployeeImportWatermarkRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeImportWatermarkTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+
+	@Mock
+	private EmployeeImportWatermarkRepository repositoryMock;
+
+	@Captor
+	private ArgumentCaptor<EmployeeImportWatermarkEntity> entityCaptor;
+
+	private EmployeeImportWatermark watermark;
+
+	@BeforeEach
+	void setUp() {
+		final var clock = Clock.fixed(TODAY.atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+		watermark = new EmployeeImportWatermark(repositoryMock, Period.ofDays(30), Period.ofDays(7), clock);
+	}
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		verifyNoMoreInteractions(repositoryMock);
+	}
+
+	@Test
+	void today() {
+		assertThat(watermark.today()).isEqualTo(TODAY);
+	}
+
+	@Test
+	void getHireDateFromWhenNoPreviousImport() {
+		// Arrange
+		when(repositoryMock.findById(MUNICIPALITY_ID)).thenReturn(Optional.empty());
+
+		// Act and assert
+		assertThat(watermark.getHireDateFrom(MUNICIPALITY_ID, false)).isEqualTo(TODAY.minusDays(30));
+		verify(repositoryMock).findById(MUNICIPALITY_ID);
+	}
+
+	@Test
+	void getHireDateFromWhenPreviousImport() {
+		// Arrange
+		when(repositoryMock.findById(MUNICIPALITY_ID)).thenReturn(Optional.of(EmployeeImportWatermarkEntity.builder()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withLastSuccessfulImport(TODAY.minusDays(1))
+			.build()));
+
+		// Act and assert
+		assertThat(watermark.getHireDateFrom(MUNICIPALITY_ID, false)).isEqualTo(TODAY.minusDays(8));
+		verify(repositoryMock).findById(MUNICIPALITY_ID);
+	}
+
+	@Test
+	void getHireDateFromWhenPreviousImportIsOutsideLookback() {
+		// Arrange
+		when(repositoryMock.findById(MUNICIPALITY_ID)).thenReturn(Optional.of(EmployeeImportWatermarkEntity.builder()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withLastSuccessfulImport(TODAY.minusDays(25))
+			.build()));
+
+		// Act and assert
+		assertThat(watermark.getHireDateFrom(MUNICIPALITY_ID, false)).isEqualTo(TODAY.minusDays(30));
+		verify(repositoryMock).findById(MUNICIPALITY_ID);
+	}
+
+	@Test
+	void getHireDateFromWithFullResync() {
+		// Act and assert
+		assertThat(watermark.getHireDateFrom(MUNICIPALITY_ID, true)).isEqualTo(TODAY.minusDays(30));
+	}
+
+	@Test
+	void advanceWhenNoPreviousImport() {
+		// Arrange
+		when(repositoryMock.findById(MUNICIPALITY_ID)).thenReturn(Optional.empty());
+
+		// Act
+		watermark.advance(MUNICIPALITY_ID, TODAY);
+
+		// Assert and verify
+		verify(repositoryMock).findById(MUNICIPALITY_ID);
+		verify(repositoryMock).save(entityCaptor.capture());
+		assertThat(entityCaptor.getValue().getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+		assertThat(entityCaptor.getValue().getLastSuccessfulImport()).isEqualTo(TODAY);
+	}
+
+	@Test
+	void advanceWhenPreviousImport() {
+		// Arrange
+		final var entity = EmployeeImportWatermarkEntity.builder()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withLastSuccessfulImport(TODAY.minusDays(1))
+			.build();
+		when(repositoryMock.findById(MUNICIPALITY_ID)).thenReturn(Optional.of(entity));
+
+		// Act
+		watermark.advance(MUNICIPALITY_ID, TODAY);
+
+		// Assert and verify
+		verify(repositoryMock).findById(MUNICIPALITY_ID);
+		verify(repositoryMock).save(entity);
+		assertThat(entity.getLastSuccessfulImport()).isEqualTo(TODAY);
+	}
+}
@@ -0,0 +1,116 @@
+package se.sundsvall.checklist.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.checklist.integration.db.EmployeeChecklistIntegration;
+import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
+import se.sundsvall.checklist.integration.employee.EmployeeIntegration;
+import se.sundsvall.checklist.service.model.Employee;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeInformationRefresherTest {
+
+	private static final String MUNICIPALITY_ID = "municipalityId";
+	private static final long TIMEOUT = 5000;
+
+	@Mock
+	private EmployeeIntegration employeeIntegrationMock;
+
+	@Mock
+	private EmployeeChecklistIntegration employeeChecklistIntegrationMock;
+
+	private EmployeeInformationRefresher refresher;
+
+	@BeforeEach
+	void setup() {
+		refresher = new EmployeeInformationRefresher(employeeIntegrationMock, employeeChecklistIntegrationMock, Duration.ofDays(1), 1, 1);
+	}
+
+	@AfterEach
+	void tearDown() {
+		refresher.shutdown();
+		verifyNoMoreInteractions(employeeIntegrationMock, employeeChecklistIntegrationMock);
+	}
+
+	@Test
+	void isOutdated() {
+		assertThat(refresher.isOutdated(EmployeeEntity.builder().build())).isTrue();
+		assertThat(refresher.isOutdated(EmployeeEntity.builder().withUpdated(OffsetDateTime.now().minusDays(1).minusNanos(1)).build())).isTrue();
+		assertThat(refresher.isOutdated(EmployeeEntity.builder().withUpdated(OffsetDateTime.now()).build())).isFalse();
+	}
+
+	@Test
+	void outdatedBefore() {
+		assertThat(refresher.outdatedBefore()).isCloseTo(OffsetDateTime.now().minusDays(1), within(2, SECONDS));
+	}
+
+	@Test
+	void refreshOutdated() {
+		// Arrange
+		final var outdatedId = UUID.randomUUID().toString();
+		final var outdated = EmployeeEntity.builder().withId(outdatedId).withUpdated(OffsetDateTime.now().minusDays(2)).build();
+		final var upToDate = EmployeeEntity.builder().withId(UUID.randomUUID().toString()).withUpdated(OffsetDateTime.now()).build();
+		final var employee = Employee.builder().build();
+
+		when(employeeIntegrationMock.getEmployeeInformation(MUNICIPALITY_ID, outdatedId)).thenReturn(List.of(employee));
+
+		// Act
+		refresher.refreshOutdated(MUNICIPALITY_ID, List.of(outdated, upToDate));
+
+		// Verify
+		verify(employeeIntegrationMock, timeout(TIMEOUT)).getEmployeeInformation(MUNICIPALITY_ID, outdatedId);
+		verify(employeeChecklistIntegrationMock, timeout(TIMEOUT)).updateEmployeeInformation(outdatedId, employee);
+	}
+
+	@Test
+	void refreshOutdatedWhenNoEmployeeIsOutdated() {
+		// Act
+		refresher.refreshOutdated(MUNICIPALITY_ID, List.of(EmployeeEntity.builder().withUpdated(OffsetDateTime.now()).build()));
+
+		// Verify
+		verifyNoInteractions(employeeIntegrationMock, employeeChecklistIntegrationMock);
+	}
+
+	@Test
+	void refreshOutdatedWhenEmployeeIsAlreadyQueued() throws Exception {
+		// Arrange
+		final var employeeId = UUID.randomUUID().toString();
+		final var entity = EmployeeEntity.builder().withId(employeeId).build();
+		final var latch = new CountDownLatch(1);
+
+		when(employeeIntegrationMock.getEmployeeInformation(MUNICIPALITY_ID, employeeId)).thenAnswer(invocation -> {
+			latch.await(TIMEOUT, TimeUnit.MILLISECONDS);
+			return List.of();
+		});
+
+		// Act (second and third call is made while first refresh is ongoing and shall therefore be ignored)
+		refresher.refreshOutdated(MUNICIPALITY_ID, List.of(entity, entity));
+		refresher.refreshOutdated(MUNICIPALITY_ID, List.of(entity));
+		refresher.refreshOutdated(MUNICIPALITY_ID, List.of(entity));
+		latch.countDown();
+
+		// Verify
+		verify(employeeIntegrationMock, timeout(TIMEOUT)).getEmployeeInformation(MUNICIPALITY_ID, employeeId);
+		verify(employeeChecklistIntegrationMock, timeout(TIMEOUT).times(0)).updateEmployeeInformation(any(String.class), any());
+	}
+}
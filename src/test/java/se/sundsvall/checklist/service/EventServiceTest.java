@@ -26,6 +26,9 @@ class EventServiceTest {
 	@Mock
 	private EventlogIntegration eventlogIntegrationMock;
 
+	@Mock
+	private EventlogPublisher eventlogPublisherMock;
+
 	@InjectMocks
 	private EventService eventService;
 
@@ -42,10 +45,10 @@ class EventServiceTest {
 
 		eventService.createChecklistEvent(eventType, message, checklistEntity, user);
 
-		verify(eventlogIntegrationMock).createEvent(eventArgumentCaptor.capture());
+		verify(eventlogPublisherMock).publish(eventArgumentCaptor.capture());
 		var capturedEvent = eventArgumentCaptor.getValue();
 		assertThat(capturedEvent).usingRecursiveComparison().ignoringFields("created").isEqualTo(event);
-		verifyNoMoreInteractions(eventlogIntegrationMock);
+		verifyNoMoreInteractions(eventlogIntegrationMock, eventlogPublisherMock);
 	}
 
 	@Test
@@ -60,7 +63,7 @@ class EventServiceTest {
 
 		assertThat(result).isEqualTo(pageEvent);
 		verify(eventlogIntegrationMock).getEvents(municipalityId, logKey, pageable);
-		verifyNoMoreInteractions(eventlogIntegrationMock);
+		verifyNoMoreInteractions(eventlogIntegrationMock, eventlogPublisherMock);
 	}
 
 }
@@ -0,0 +1,162 @@
+package se.sundsvall.checklist.service;
+
+import generated.se.sundsvall.eventlog.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import se.sundsvall.checklist.integration.eventlog.EventlogIntegration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.checklist.service.EventlogPublisher.DROPPED_EVENTS_METRIC;
+import static se.sundsvall.checklist.service.EventlogPublisher.QUEUE_SIZE_METRIC;
+
+@ExtendWith(MockitoExtension.class)
+class EventlogPublisherTest {
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	@Mock
+	private EventlogIntegration eventlogIntegrationMock;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private EventlogPublisher publisher;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		publisher = new EventlogPublisher(eventlogIntegrationMock, meterRegistry, 1, 10, MAX_ATTEMPTS, Duration.ZERO);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		publisher.shutdown();
+		TransactionSynchronizationManager.clear();
+		verifyNoMoreInteractions(eventlogIntegrationMock);
+	}
+
+	@Test
+	void publish() {
+		// Arrange
+		final var event = new Event();
+		when(eventlogIntegrationMock.createEvent(event)).thenReturn(true);
+
+		// Act
+		publisher.publish(event);
+
+		// Assert and verify
+		verify(eventlogIntegrationMock, timeout(3000)).createEvent(event);
+		assertThat(droppedEvents("send_failed")).isZero();
+	}
+
+	@Test
+	void publishWithinTransaction() {
+		// Arrange
+		final var event = new Event();
+		TransactionSynchronizationManager.initSynchronization();
+		when(eventlogIntegrationMock.createEvent(event)).thenReturn(true);
+
+		// Act
+		publisher.publish(event);
+
+		// Assert and verify that nothing is sent before commit
+		assertThat(meterRegistry.get(QUEUE_SIZE_METRIC).gauge().value()).isZero();
+		verifyNoInteractions(eventlogIntegrationMock);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		verify(eventlogIntegrationMock, timeout(3000)).createEvent(event);
+	}
+
+	@Test
+	void publishWithinRolledBackTransaction() {
+		// Arrange
+		final var event = new Event();
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		publisher.publish(event);
+		TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		// Assert and verify
+		assertThat(meterRegistry.get(QUEUE_SIZE_METRIC).gauge().value()).isZero();
+		verifyNoInteractions(eventlogIntegrationMock);
+	}
+
+	@Test
+	void publishWhenSendingFailsAndSucceedsOnRetry() {
+		// Arrange
+		final var event = new Event();
+		when(eventlogIntegrationMock.createEvent(event)).thenReturn(false, true);
+
+		// Act
+		publisher.publish(event);
+
+		// Assert and verify
+		verify(eventlogIntegrationMock, timeout(3000).times(2)).createEvent(event);
+		assertThat(droppedEvents("send_failed")).isZero();
+	}
+
+	@Test
+	void publishWhenSendingFails() {
+		// Arrange
+		final var event = new Event();
+		when(eventlogIntegrationMock.createEvent(event)).thenReturn(false);
+
+		// Act
+		publisher.publish(event);
+
+		// Assert and verify
+		await()
+			.atMost(Duration.ofSeconds(3))
+			.until(() -> droppedEvents("send_failed") == 1);
+		verify(eventlogIntegrationMock, times(MAX_ATTEMPTS)).createEvent(event);
+	}
+
+	@Test
+	void publishWhenQueueIsFull() throws Exception {
+		// Arrange
+		final var sending = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var blockingEvent = new Event();
+		final var queuedEvent = new Event();
+		final var droppedEvent = new Event();
+		when(eventlogIntegrationMock.createEvent(blockingEvent)).thenAnswer(invocation -> {
+			sending.countDown();
+			release.await();
+			return true;
+		});
+		when(eventlogIntegrationMock.createEvent(queuedEvent)).thenReturn(true);
+
+		// Act
+		publisher.publish(blockingEvent);
+		sending.await();
+		publisher.publish(queuedEvent);
+		publisher.publish(droppedEvent);
+		release.countDown();
+
+		// Assert and verify
+		verify(eventlogIntegrationMock, timeout(3000)).createEvent(queuedEvent);
+		verify(eventlogIntegrationMock).createEvent(blockingEvent);
+		assertThat(droppedEvents("queue_full")).isOne();
+	}
+
+	private double droppedEvents(final String reason) {
+		return meterRegistry.get(DROPPED_EVENTS_METRIC).tag("reason", reason).counter().count();
+	}
+}
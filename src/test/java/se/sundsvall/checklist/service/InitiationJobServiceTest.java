@@ -0,0 +1,340 @@
+package se.sundsvall.checklist.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.checklist.api.model.EmployeeChecklistResponse;
+import se.sundsvall.checklist.api.model.EmployeeChecklistResponse.Detail;
+import se.sundsvall.checklist.integration.db.model.InitiationInfoEntity;
+import se.sundsvall.checklist.integration.db.model.InitiationJobEntity;
+import se.sundsvall.checklist.integration.db.repository.InitiationJobRepository;
+import se.sundsvall.checklist.integration.db.repository.InitiationRepository;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.dept44.requestid.RequestId;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.OK;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.COMPLETED;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.FAILED;
+import static se.sundsvall.checklist.api.model.InitiationJobStatus.RUNNING;
+
+@ExtendWith(MockitoExtension.class)
+class InitiationJobServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String JOB_ID = "jobId";
+	private static final String LOCK_NAME = "fetchNewEmployees";
+	private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(5);
+	private static final Duration RETENTION = Duration.ofHours(1);
+
+	@Mock
+	private EmployeeChecklistService employeeChecklistServiceMock;
+
+	@Mock
+	private InitiationJobRepository initiationJobRepositoryMock;
+
+	@Mock
+	private InitiationRepository initiationRepositoryMock;
+
+	@Mock
+	private LockProvider lockProviderMock;
+
+	@Mock
+	private SimpleLock lockMock;
+
+	@Mock
+	private SimpleLock extendedLockMock;
+
+	@Captor
+	private ArgumentCaptor<LockConfiguration> lockConfigurationCaptor;
+
+	@Captor
+	private ArgumentCaptor<InitiationJobEntity> entityCaptor;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> timestampCaptor;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> heartbeatCaptor;
+
+	private InitiationJobService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new InitiationJobService(employeeChecklistServiceMock, initiationJobRepositoryMock, initiationRepositoryMock, lockProviderMock, LOCK_NAME, LOCK_AT_MOST_FOR, RETENTION);
+	}
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		service.shutdown();
+		verifyNoMoreInteractions(employeeChecklistServiceMock, initiationJobRepositoryMock, initiationRepositoryMock, lockProviderMock, lockMock, extendedLockMock);
+	}
+
+	@Test
+	void startJob() {
+		// Arrange
+		final var requestId = new AtomicReference<String>();
+		final var response = EmployeeChecklistResponse.builder().withSummary("1 potential problems occurred when importing 2 employees").build();
+		when(lockProviderMock.lock(any())).thenReturn(Optional.of(lockMock));
+		when(initiationJobRepositoryMock.save(any())).thenAnswer(invocation -> {
+			final InitiationJobEntity entity = invocation.getArgument(0);
+			entity.setId(JOB_ID);
+			return entity;
+		});
+		when(employeeChecklistServiceMock.initiateEmployeeChecklists(eq(MUNICIPALITY_ID), eq(true), any())).thenAnswer(invocation -> {
+			final InitiationProgressListener listener = invocation.getArgument(2);
+			requestId.set(RequestId.get());
+			listener.employeesFound(2);
+			listener.employeeProcessed(Detail.builder().withStatus(OK).build());
+			listener.employeeProcessed(Detail.builder().withStatus(NOT_FOUND).build());
+			return response;
+		});
+
+		// Act
+		final var job = service.startJob(MUNICIPALITY_ID, true);
+
+		// Assert and verify
+		assertThat(job.getId()).isEqualTo(JOB_ID);
+		assertThat(job.getStatus()).isEqualTo(RUNNING);
+		assertThat(job.getResult()).isNull();
+
+		verify(lockMock, timeout(3000)).unlock();
+		assertThat(requestId).hasValue(JOB_ID);
+		verify(lockProviderMock).lock(lockConfigurationCaptor.capture());
+		assertThat(lockConfigurationCaptor.getValue()).satisfies(configuration -> {
+			assertThat(configuration.getName()).isEqualTo(LOCK_NAME);
+			assertThat(configuration.getLockAtMostFor()).isEqualTo(LOCK_AT_MOST_FOR);
+			assertThat(configuration.getLockAtLeastFor()).isZero();
+		});
+		verify(initiationJobRepositoryMock).finishAllByStatusAndHeartbeatBefore(eq(RUNNING.name()), heartbeatCaptor.capture(), eq(FAILED.name()), eq("Initiation was interrupted before it finished"), timestampCaptor.capture());
+		assertThat(heartbeatCaptor.getValue()).isEqualTo(timestampCaptor.getValue().minus(LOCK_AT_MOST_FOR));
+		verify(initiationJobRepositoryMock).deleteAllByFinishedBefore(timestampCaptor.getValue().minus(RETENTION));
+		verify(initiationJobRepositoryMock).save(entityCaptor.capture());
+		assertThat(entityCaptor.getValue()).satisfies(entity -> {
+			assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+			assertThat(entity.getStatus()).isEqualTo(RUNNING.name());
+		});
+		verify(employeeChecklistServiceMock).initiateEmployeeChecklists(eq(MUNICIPALITY_ID), eq(true), any());
+		verify(initiationJobRepositoryMock).updateTotal(JOB_ID, 2);
+		verify(initiationJobRepositoryMock).incrementProcessed(JOB_ID, 0);
+		verify(initiationJobRepositoryMock).incrementProcessed(JOB_ID, 1);
+		verify(initiationJobRepositoryMock).finish(eq(JOB_ID), eq(COMPLETED.name()), eq(response.getSummary()), any());
+	}
+
+	@Test
+	void startJobExtendsLockWhileRunning() {
+		// Arrange
+		final var lockAtMostFor = Duration.ofMillis(300);
+		final var heartbeatSent = new CountDownLatch(1);
+		service.shutdown();
+		service = new InitiationJobService(employeeChecklistServiceMock, initiationJobRepositoryMock, initiationRepositoryMock, lockProviderMock, LOCK_NAME, lockAtMostFor, RETENTION);
+		when(lockProviderMock.lock(any())).thenReturn(Optional.of(lockMock));
+		when(lockMock.extend(lockAtMostFor, Duration.ZERO)).thenReturn(Optional.of(extendedLockMock));
+		lenient().when(extendedLockMock.extend(lockAtMostFor, Duration.ZERO)).thenReturn(Optional.of(extendedLockMock));
+		when(initiationJobRepositoryMock.save(any())).thenAnswer(invocation -> {
+			final InitiationJobEntity entity = invocation.getArgument(0);
+			entity.setId(JOB_ID);
+			return entity;
+		});
+		when(initiationJobRepositoryMock.heartbeat(eq(JOB_ID), any())).thenAnswer(invocation -> {
+			heartbeatSent.countDown();
+			return 1;
+		});
+		when(employeeChecklistServiceMock.initiateEmployeeChecklists(eq(MUNICIPALITY_ID), eq(false), any())).thenAnswer(invocation -> {
+			// Keep the job running until at least one heartbeat has been sent
+			assertThat(heartbeatSent.await(3, SECONDS)).isTrue();
+			return EmployeeChecklistResponse.builder().withSummary("summary").build();
+		});
+
+		// Act
+		service.startJob(MUNICIPALITY_ID, false);
+
+		// Assert and verify
+		verify(extendedLockMock, timeout(3000)).unlock();
+		verify(lockMock).extend(lockAtMostFor, Duration.ZERO);
+		verify(extendedLockMock, atLeast(0)).extend(lockAtMostFor, Duration.ZERO);
+		verify(initiationJobRepositoryMock, atLeastOnce()).heartbeat(eq(JOB_ID), any());
+		verify(lockProviderMock).lock(any());
+		verify(initiationJobRepositoryMock).finishAllByStatusAndHeartbeatBefore(eq(RUNNING.name()), any(), eq(FAILED.name()), any(), any());
+		verify(initiationJobRepositoryMock).deleteAllByFinishedBefore(any());
+		verify(initiationJobRepositoryMock).save(any());
+		verify(employeeChecklistServiceMock).initiateEmployeeChecklists(eq(MUNICIPALITY_ID), eq(false), any());
+		verify(initiationJobRepositoryMock).finish(eq(JOB_ID), eq(COMPLETED.name()), eq("summary"), any());
+	}
+
+	@Test
+	void startJobWhenJobIsAlreadyRunning() {
+		// Arrange
+		final var runningJob = InitiationJobEntity.builder()
+			.withId(JOB_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withStatus(RUNNING.name())
+			.withTotal(10)
+			.withProcessed(3)
+			.build();
+		when(lockProviderMock.lock(any())).thenReturn(Optional.empty());
+		when(initiationJobRepositoryMock.findFirstByMunicipalityIdAndStatusOrderByStartedDesc(MUNICIPALITY_ID, RUNNING.name())).thenReturn(Optional.of(runningJob));
+
+		// Act
+		final var job = service.startJob(MUNICIPALITY_ID, false);
+
+		// Assert and verify
+		assertThat(job.getId()).isEqualTo(JOB_ID);
+		assertThat(job.getStatus()).isEqualTo(RUNNING);
+		assertThat(job.getTotal()).isEqualTo(10);
+		assertThat(job.getProcessed()).isEqualTo(3);
+		verify(lockProviderMock).lock(any());
+		verify(initiationJobRepositoryMock).findFirstByMunicipalityIdAndStatusOrderByStartedDesc(MUNICIPALITY_ID, RUNNING.name());
+	}
+
+	@Test
+	void startJobWhenLockIsHeldElsewhere() {
+		// Arrange
+		when(lockProviderMock.lock(any())).thenReturn(Optional.empty());
+		when(initiationJobRepositoryMock.findFirstByMunicipalityIdAndStatusOrderByStartedDesc(MUNICIPALITY_ID, RUNNING.name())).thenReturn(Optional.empty());
+
+		// Act and assert
+		assertThatThrownBy(() -> service.startJob(MUNICIPALITY_ID, false))
+			.isInstanceOfSatisfying(ThrowableProblem.class, e -> {
+				assertThat(e.getStatus()).isEqualTo(CONFLICT);
+				assertThat(e.getDetail()).isEqualTo("Initiation of new employees is already running, try again when it has finished.");
+			});
+
+		// Verify
+		verify(lockProviderMock).lock(any());
+		verify(initiationJobRepositoryMock).findFirstByMunicipalityIdAndStatusOrderByStartedDesc(MUNICIPALITY_ID, RUNNING.name());
+	}
+
+	@Test
+	void startJobWhenCreationFails() {
+		// Arrange
+		when(lockProviderMock.lock(any())).thenReturn(Optional.of(lockMock));
+		when(initiationJobRepositoryMock.save(any())).thenThrow(new IllegalStateException("Something went wrong"));
+
+		// Act and assert
+		assertThatThrownBy(() -> service.startJob(MUNICIPALITY_ID, false))
+			.isInstanceOf(IllegalStateException.class);
+
+		// Verify
+		verify(lockProviderMock).lock(any());
+		verify(initiationJobRepositoryMock).finishAllByStatusAndHeartbeatBefore(eq(RUNNING.name()), any(), eq(FAILED.name()), any(), any());
+		verify(initiationJobRepositoryMock).deleteAllByFinishedBefore(any());
+		verify(initiationJobRepositoryMock).save(any());
+		verify(lockMock).unlock();
+	}
+
+	@Test
+	void startJobWhenInitiationFails() {
+		// Arrange
+		when(lockProviderMock.lock(any())).thenReturn(Optional.of(lockMock));
+		when(initiationJobRepositoryMock.save(any())).thenAnswer(invocation -> {
+			final InitiationJobEntity entity = invocation.getArgument(0);
+			entity.setId(JOB_ID);
+			return entity;
+		});
+		when(employeeChecklistServiceMock.initiateEmployeeChecklists(eq(MUNICIPALITY_ID), eq(false), any())).thenThrow(new IllegalStateException("Something went wrong"));
+
+		// Act
+		service.startJob(MUNICIPALITY_ID, false);
+
+		// Assert and verify
+		verify(lockMock, timeout(3000)).unlock();
+		verify(lockProviderMock).lock(any());
+		verify(initiationJobRepositoryMock).finishAllByStatusAndHeartbeatBefore(eq(RUNNING.name()), any(), eq(FAILED.name()), any(), any());
+		verify(initiationJobRepositoryMock).deleteAllByFinishedBefore(any());
+		verify(initiationJobRepositoryMock).save(any());
+		verify(employeeChecklistServiceMock).initiateEmployeeChecklists(eq(MUNICIPALITY_ID), eq(false), any());
+		verify(initiationJobRepositoryMock).finish(eq(JOB_ID), eq(FAILED.name()), startsWith("Initiation failed: Something went wrong"), any());
+	}
+
+	@Test
+	void getRunningJob() {
+		// Arrange
+		when(initiationJobRepositoryMock.findByIdAndMunicipalityId(JOB_ID, MUNICIPALITY_ID)).thenReturn(Optional.of(InitiationJobEntity.builder()
+			.withId(JOB_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withStatus(RUNNING.name())
+			.build()));
+
+		// Act
+		final var job = service.getJob(MUNICIPALITY_ID, JOB_ID);
+
+		// Assert and verify
+		assertThat(job.getStatus()).isEqualTo(RUNNING);
+		assertThat(job.getResult()).isNull();
+		verify(initiationJobRepositoryMock).findByIdAndMunicipalityId(JOB_ID, MUNICIPALITY_ID);
+	}
+
+	@Test
+	void getFinishedJob() {
+		// Arrange
+		when(initiationJobRepositoryMock.findByIdAndMunicipalityId(JOB_ID, MUNICIPALITY_ID)).thenReturn(Optional.of(InitiationJobEntity.builder()
+			.withId(JOB_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withStatus(COMPLETED.name())
+			.withSummary("summary")
+			.build()));
+		when(initiationRepositoryMock.findAllByMunicipalityIdAndLogId(MUNICIPALITY_ID, JOB_ID)).thenReturn(List.of(InitiationInfoEntity.builder()
+			.withLogId(JOB_ID)
+			.withStatus("404")
+			.withInformation("information")
+			.build()));
+
+		// Act
+		final var job = service.getJob(MUNICIPALITY_ID, JOB_ID);
+
+		// Assert and verify
+		assertThat(job.getStatus()).isEqualTo(COMPLETED);
+		assertThat(job.getResult().getSummary()).isEqualTo("summary");
+		assertThat(job.getResult().getDetails()).hasSize(1).allSatisfy(detail -> {
+			assertThat(detail.getStatus()).isEqualTo(NOT_FOUND);
+			assertThat(detail.getInformation()).isEqualTo("information");
+		});
+		verify(initiationJobRepositoryMock).findByIdAndMunicipalityId(JOB_ID, MUNICIPALITY_ID);
+		verify(initiationRepositoryMock).findAllByMunicipalityIdAndLogId(MUNICIPALITY_ID, JOB_ID);
+	}
+
+	@Test
+	void getNonExistingJob() {
+		// Arrange
+		when(initiationJobRepositoryMock.findByIdAndMunicipalityId(JOB_ID, MUNICIPALITY_ID)).thenReturn(Optional.empty());
+
+		// Act and assert
+		assertThatThrownBy(() -> service.getJob(MUNICIPALITY_ID, JOB_ID))
+			.isInstanceOfSatisfying(ThrowableProblem.class, e -> {
+				assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
+				assertThat(e.getDetail()).isEqualTo("Initiation job with id jobId was not found within municipality 2281.");
+			});
+
+		// Verify
+		verify(initiationJobRepositoryMock).findByIdAndMunicipalityId(JOB_ID, MUNICIPALITY_ID);
+	}
+}
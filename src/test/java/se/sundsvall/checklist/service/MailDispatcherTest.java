@@ -0,0 +1,163 @@
+package se.sundsvall.checklist.service;
+
+import generated.se.sundsvall.messaging.MessageResult;
+import generated.se.sundsvall.templating.RenderRequest;
+import generated.se.sundsvall.templating.RenderResponse;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import se.sundsvall.checklist.integration.db.model.MailOutboxEntity;
+import se.sundsvall.checklist.integration.db.repository.MailOutboxRepository;
+import se.sundsvall.checklist.integration.messaging.MessagingIntegration;
+import se.sundsvall.checklist.integration.templating.TemplatingIntegration;
+import se.sundsvall.checklist.service.MailHandler.PreparedEmail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailDispatcherTest {
+
+	private static final String MUNICIPALITY_ID = "municipalityId";
+	private static final String EMAIL = "some.email@noreply.com";
+	private static final int BATCH_SIZE = 10;
+
+	@Mock
+	private MailHandler mailHandlerMock;
+
+	@Mock
+	private MailOutboxRepository mailOutboxRepositoryMock;
+
+	@Mock
+	private TemplatingIntegration templatingIntegrationMock;
+
+	@Mock
+	private MessagingIntegration messagingIntegrationMock;
+
+	private MailDispatcher mailDispatcher;
+
+	@BeforeEach
+	void setup() {
+		mailDispatcher = new MailDispatcher(mailHandlerMock, mailOutboxRepositoryMock, templatingIntegrationMock, messagingIntegrationMock, 2, BATCH_SIZE);
+	}
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		verifyNoMoreInteractions(mailHandlerMock, mailOutboxRepositoryMock, templatingIntegrationMock, messagingIntegrationMock);
+	}
+
+	@Test
+	void dispatchOutbox() {
+		// Arrange
+		final var outbox = createOutbox();
+		final var renderRequest = new RenderRequest();
+		final var messageResult = new MessageResult();
+
+		when(mailOutboxRepositoryMock.findByNextAttemptLessThanEqualOrderByNextAttempt(any(), eq(Limit.of(BATCH_SIZE)))).thenReturn(List.of(outbox));
+		when(mailHandlerMock.prepareEmail(outbox)).thenReturn(Optional.of(new PreparedEmail(EMAIL, renderRequest)));
+		when(templatingIntegrationMock.renderTemplate(MUNICIPALITY_ID, renderRequest)).thenReturn(Optional.of(new RenderResponse().output("output")));
+		when(messagingIntegrationMock.sendEmail(MUNICIPALITY_ID, EMAIL, "output")).thenReturn(Optional.of(messageResult));
+
+		// Act
+		final var result = mailDispatcher.dispatch();
+
+		// Assert and verify
+		assertThat(result).isOne();
+		verify(mailOutboxRepositoryMock).findByNextAttemptLessThanEqualOrderByNextAttempt(any(), eq(Limit.of(BATCH_SIZE)));
+		verify(mailHandlerMock).prepareEmail(outbox);
+		verify(templatingIntegrationMock).renderTemplate(MUNICIPALITY_ID, renderRequest);
+		verify(messagingIntegrationMock).sendEmail(MUNICIPALITY_ID, EMAIL, "output");
+		verify(mailHandlerMock).registerResult(outbox, messageResult);
+	}
+
+	@Test
+	void dispatchOutboxWhenDispatchThrowsException() {
+		// Arrange
+		final var failingOutbox = createOutbox();
+		final var outbox = createOutbox();
+
+		when(mailOutboxRepositoryMock.findByNextAttemptLessThanEqualOrderByNextAttempt(any(), eq(Limit.of(BATCH_SIZE)))).thenReturn(List.of(failingOutbox, outbox));
+		when(mailHandlerMock.prepareEmail(failingOutbox)).thenThrow(new IllegalStateException("Database unavailable"));
+		when(mailHandlerMock.prepareEmail(outbox)).thenReturn(Optional.empty());
+
+		// Act
+		final var result = mailDispatcher.dispatch();
+
+		// Assert and verify
+		assertThat(result).isEqualTo(2);
+		verify(mailOutboxRepositoryMock).findByNextAttemptLessThanEqualOrderByNextAttempt(any(), eq(Limit.of(BATCH_SIZE)));
+		verify(mailHandlerMock).prepareEmail(failingOutbox);
+		verify(mailHandlerMock).prepareEmail(outbox);
+	}
+
+	@Test
+	void dispatchWhenRenderingFails() {
+		// Arrange
+		final var outbox = createOutbox();
+		final var renderRequest = new RenderRequest();
+
+		when(mailHandlerMock.prepareEmail(outbox)).thenReturn(Optional.of(new PreparedEmail(EMAIL, renderRequest)));
+		when(templatingIntegrationMock.renderTemplate(MUNICIPALITY_ID, renderRequest)).thenReturn(Optional.empty());
+
+		// Act
+		mailDispatcher.dispatch(outbox);
+
+		// Assert and verify
+		verify(mailHandlerMock).prepareEmail(outbox);
+		verify(templatingIntegrationMock).renderTemplate(MUNICIPALITY_ID, renderRequest);
+		verify(mailHandlerMock).registerResult(eq(outbox), isNull());
+	}
+
+	@Test
+	void dispatchWhenSendingFails() {
+		// Arrange
+		final var outbox = createOutbox();
+		final var renderRequest = new RenderRequest();
+
+		when(mailHandlerMock.prepareEmail(outbox)).thenReturn(Optional.of(new PreparedEmail(EMAIL, renderRequest)));
+		when(templatingIntegrationMock.renderTemplate(MUNICIPALITY_ID, renderRequest)).thenReturn(Optional.of(new RenderResponse().output("output")));
+		when(messagingIntegrationMock.sendEmail(MUNICIPALITY_ID, EMAIL, "output")).thenReturn(Optional.empty());
+
+		// Act
+		mailDispatcher.dispatch(outbox);
+
+		// Assert and verify
+		verify(mailHandlerMock).prepareEmail(outbox);
+		verify(templatingIntegrationMock).renderTemplate(MUNICIPALITY_ID, renderRequest);
+		verify(messagingIntegrationMock).sendEmail(MUNICIPALITY_ID, EMAIL, "output");
+		verify(mailHandlerMock).registerResult(eq(outbox), isNull());
+	}
+
+	@Test
+	void dispatchWhenNothingToSend() {
+		// Arrange
+		final var outbox = createOutbox();
+
+		when(mailHandlerMock.prepareEmail(outbox)).thenReturn(Optional.empty());
+
+		// Act
+		mailDispatcher.dispatch(outbox);
+
+		// Assert and verify
+		verify(mailHandlerMock).prepareEmail(outbox);
+	}
+
+	private static MailOutboxEntity createOutbox() {
+		return MailOutboxEntity.builder()
+			.withEmployeeChecklistId("employeeChecklistId")
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withEmailTemplate("TEST")
+			.build();
+	}
+}
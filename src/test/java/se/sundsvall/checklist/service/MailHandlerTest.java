@@ -3,222 +3,325 @@ package se.sundsvall.checklist.service;
 import generated.se.sundsvall.messaging.DeliveryResult;
 import generated.se.sundsvall.messaging.MessageResult;
 import generated.se.sundsvall.messaging.MessageStatus;
-import generated.se.sundsvall.templating.RenderResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.CorrespondenceEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
+import se.sundsvall.checklist.integration.db.model.MailOutboxEntity;
 import se.sundsvall.checklist.integration.db.model.ManagerEntity;
 import se.sundsvall.checklist.integration.db.model.enums.CommunicationChannel;
 import se.sundsvall.checklist.integration.db.model.enums.CorrespondenceStatus;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
-import se.sundsvall.checklist.integration.messaging.MessagingIntegration;
-import se.sundsvall.checklist.integration.templating.TemplatingIntegration;
+import se.sundsvall.checklist.integration.db.repository.MailOutboxRepository;
 
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class MailHandlerTest {
 
-	@Mock
-	private MessagingIntegration messagingIntegrationMock;
+	private static final String MUNICIPALITY_ID = "municipalityId";
+	private static final String EMAIL = "some.email@noreply.com";
+	private static final String EMPLOYEE_CHECKLIST_ID = "employeeChecklistId";
+	private static final String OUTBOX_ID = "outboxId";
+	private static final int MAX_ATTEMPTS = 3;
+	private static final Duration BACKOFF = Duration.ofMinutes(5);
+	private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(10);
 
 	@Mock
-	private TemplatingIntegration templatingIntegrationMock;
+	private EmployeeChecklistRepository employeeChecklistRepositoryMock;
 
 	@Mock
-	private EmployeeChecklistRepository employeeChecklistRepositoryMock;
+	private MailOutboxRepository mailOutboxRepositoryMock;
+
+	@Captor
+	private ArgumentCaptor<MailOutboxEntity> outboxCaptor;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> nowCaptor;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> claimedUntilCaptor;
 
-	@InjectMocks
 	private MailHandler mailHandler;
 
+	@BeforeEach
+	void setup() {
+		mailHandler = new MailHandler(employeeChecklistRepositoryMock, mailOutboxRepositoryMock, MAX_ATTEMPTS, BACKOFF, CLAIM_TIMEOUT);
+	}
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		verifyNoMoreInteractions(employeeChecklistRepositoryMock, mailOutboxRepositoryMock);
+	}
+
 	@Test
-	void sendEmail() {
-		final var municipalityId = "municipalityId";
-		final var email = "some.email@noreply.com";
-		final var manager = ManagerEntity.builder().withEmail(email).build();
-		final var employee = EmployeeEntity.builder().withManager(manager).build();
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withEmployee(employee)
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withMunicipalityId(municipalityId)
-				.build()))
-			.build();
-		final var output = "output";
-		final var renderReponse = new RenderResponse().output(output);
-		final var deliveryResult = new DeliveryResult().status(MessageStatus.SENT);
-		final var messageId = UUID.randomUUID();
-		final var messageResult = new MessageResult()
-			.messageId(messageId)
-			.deliveries(List.of(deliveryResult));
+	void enqueueEmail() {
+		// Arrange
+		final var employeeChecklistEntity = createEmployeeChecklistEntity(null);
+		final var outbox = MailOutboxEntity.builder().build();
 
-		when(templatingIntegrationMock.renderTemplate(eq(municipalityId), any())).thenReturn(Optional.of(renderReponse));
-		when(messagingIntegrationMock.sendEmail(municipalityId, email, output)).thenReturn(Optional.of(messageResult));
+		when(employeeChecklistRepositoryMock.save(employeeChecklistEntity)).thenReturn(employeeChecklistEntity);
+		when(mailOutboxRepositoryMock.findByEmployeeChecklistId(EMPLOYEE_CHECKLIST_ID)).thenReturn(Optional.empty());
+		when(mailOutboxRepositoryMock.save(outboxCaptor.capture())).thenReturn(outbox);
 
 		// Act
-		mailHandler.sendEmail(employeeChecklistEntity, "TEST");
+		final var result = mailHandler.enqueueEmail(employeeChecklistEntity, "TEST");
 
 		// Assert and verify
-		verify(templatingIntegrationMock).renderTemplate(eq(municipalityId), any());
-		verify(messagingIntegrationMock).sendEmail(municipalityId, email, output);
+		assertThat(result).isSameAs(outbox);
+		assertThat(outboxCaptor.getValue()).satisfies(entry -> {
+			assertThat(entry.getEmployeeChecklistId()).isEqualTo(EMPLOYEE_CHECKLIST_ID);
+			assertThat(entry.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+			assertThat(entry.getEmailTemplate()).isEqualTo("TEST");
+		});
+		assertThat(employeeChecklistEntity.getCorrespondence()).isNotNull()
+			.extracting(
+				CorrespondenceEntity::getCommunicationChannel,
+				CorrespondenceEntity::getCorrespondenceStatus,
+				CorrespondenceEntity::getRecipient,
+				CorrespondenceEntity::getAttempts)
+			.containsExactly(
+				CommunicationChannel.EMAIL,
+				CorrespondenceStatus.NOT_SENT,
+				EMAIL,
+				0);
 		verify(employeeChecklistRepositoryMock).save(employeeChecklistEntity);
-		verifyNoMoreInteractions(employeeChecklistRepositoryMock, messagingIntegrationMock, templatingIntegrationMock);
+		verify(mailOutboxRepositoryMock).findByEmployeeChecklistId(EMPLOYEE_CHECKLIST_ID);
+		verify(mailOutboxRepositoryMock).save(outboxCaptor.getValue());
+	}
 
-		assertThat(employeeChecklistEntity.getCorrespondence()).isNotNull()
+	@Test
+	void enqueueEmailWhenAlreadyInOutbox() {
+		// Arrange
+		final var attempts = 2;
+		final var employeeChecklistEntity = createEmployeeChecklistEntity(CorrespondenceEntity.builder().withAttempts(attempts).withCorrespondenceStatus(CorrespondenceStatus.ERROR).build());
+		final var outbox = MailOutboxEntity.builder().build();
+
+		when(employeeChecklistRepositoryMock.save(employeeChecklistEntity)).thenReturn(employeeChecklistEntity);
+		when(mailOutboxRepositoryMock.findByEmployeeChecklistId(EMPLOYEE_CHECKLIST_ID)).thenReturn(Optional.of(outbox));
+
+		// Act
+		final var result = mailHandler.enqueueEmail(employeeChecklistEntity, "TEST");
+
+		// Assert and verify
+		assertThat(result).isSameAs(outbox);
+		assertThat(employeeChecklistEntity.getCorrespondence())
 			.extracting(
 				CorrespondenceEntity::getCommunicationChannel,
 				CorrespondenceEntity::getCorrespondenceStatus,
-				CorrespondenceEntity::getMessageId,
 				CorrespondenceEntity::getRecipient,
 				CorrespondenceEntity::getAttempts)
 			.containsExactly(
 				CommunicationChannel.EMAIL,
-				CorrespondenceStatus.SENT,
-				messageId.toString(),
-				email,
-				1);
+				CorrespondenceStatus.NOT_SENT,
+				EMAIL,
+				attempts);
+		verify(employeeChecklistRepositoryMock).save(employeeChecklistEntity);
+		verify(mailOutboxRepositoryMock).findByEmployeeChecklistId(EMPLOYEE_CHECKLIST_ID);
 	}
 
 	@Test
-	void resendEmail() {
-		final var municipalityId = "municipalityId";
-		final var email = "some.email@noreply.com";
-		final var attempts = 123;
-		final var correspondence = CorrespondenceEntity.builder().withAttempts(attempts).build();
-		final var manager = ManagerEntity.builder().withEmail(email).build();
-		final var employee = EmployeeEntity.builder().withManager(manager).build();
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withEmployee(employee)
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withMunicipalityId(municipalityId)
-				.build()))
-			.withCorrespondence(correspondence)
-			.build();
-		final var output = "output";
-		final var renderReponse = new RenderResponse().output(output);
-		final var deliveryResult = new DeliveryResult().status(MessageStatus.SENT);
+	void prepareEmail() {
+		// Arrange
+		final var employeeChecklistEntity = createEmployeeChecklistEntity(CorrespondenceEntity.builder().withRecipient(EMAIL).build());
+		final var outbox = createOutbox();
+
+		when(mailOutboxRepositoryMock.claim(eq(OUTBOX_ID), any(), any())).thenReturn(1);
+		when(employeeChecklistRepositoryMock.findById(EMPLOYEE_CHECKLIST_ID)).thenReturn(Optional.of(employeeChecklistEntity));
+
+		// Act
+		final var result = mailHandler.prepareEmail(outbox);
+
+		// Assert and verify
+		assertThat(result).hasValueSatisfying(preparedEmail -> {
+			assertThat(preparedEmail.recipient()).isEqualTo(EMAIL);
+			assertThat(preparedEmail.renderRequest().getIdentifier()).isEqualTo("TEST");
+			assertThat(preparedEmail.renderRequest().getParameters()).containsOnlyKeys("employee", "manager");
+		});
+		verify(mailOutboxRepositoryMock).claim(eq(OUTBOX_ID), nowCaptor.capture(), claimedUntilCaptor.capture());
+		assertThat(nowCaptor.getValue()).isCloseTo(OffsetDateTime.now(systemDefault()), within(2, SECONDS));
+		assertThat(claimedUntilCaptor.getValue()).isEqualTo(nowCaptor.getValue().plus(CLAIM_TIMEOUT));
+		verify(employeeChecklistRepositoryMock).findById(EMPLOYEE_CHECKLIST_ID);
+	}
+
+	@Test
+	void prepareEmailWhenAlreadyClaimed() {
+		// Arrange
+		final var outbox = createOutbox();
+
+		when(mailOutboxRepositoryMock.claim(eq(OUTBOX_ID), any(), any())).thenReturn(0);
+
+		// Act
+		final var result = mailHandler.prepareEmail(outbox);
+
+		// Assert and verify
+		assertThat(result).isEmpty();
+		verify(mailOutboxRepositoryMock).claim(eq(OUTBOX_ID), any(), any());
+	}
+
+	@Test
+	void prepareEmailWhenEmployeeChecklistDoesNotExist() {
+		// Arrange
+		final var outbox = createOutbox();
+
+		when(mailOutboxRepositoryMock.claim(eq(OUTBOX_ID), any(), any())).thenReturn(1);
+		when(employeeChecklistRepositoryMock.findById(EMPLOYEE_CHECKLIST_ID)).thenReturn(Optional.empty());
+
+		// Act
+		final var result = mailHandler.prepareEmail(outbox);
+
+		// Assert and verify
+		assertThat(result).isEmpty();
+		verify(mailOutboxRepositoryMock).claim(eq(OUTBOX_ID), any(), any());
+		verify(employeeChecklistRepositoryMock).findById(EMPLOYEE_CHECKLIST_ID);
+		verify(mailOutboxRepositoryMock).delete(outbox);
+	}
+
+	@Test
+	void registerResultWhenSent() {
+		// Arrange
+		final var attempts = 1;
+		final var employeeChecklistEntity = createEmployeeChecklistEntity(CorrespondenceEntity.builder().withAttempts(attempts).withCorrespondenceStatus(CorrespondenceStatus.NOT_SENT).build());
+		final var outbox = createOutbox();
 		final var messageId = UUID.randomUUID();
 		final var messageResult = new MessageResult()
 			.messageId(messageId)
-			.deliveries(List.of(deliveryResult));
+			.deliveries(List.of(new DeliveryResult().status(MessageStatus.SENT)));
 
-		when(templatingIntegrationMock.renderTemplate(eq(municipalityId), any())).thenReturn(Optional.of(renderReponse));
-		when(messagingIntegrationMock.sendEmail(municipalityId, email, output)).thenReturn(Optional.of(messageResult));
+		when(employeeChecklistRepositoryMock.findById(EMPLOYEE_CHECKLIST_ID)).thenReturn(Optional.of(employeeChecklistEntity));
 
 		// Act
-		mailHandler.sendEmail(employeeChecklistEntity, "TEST");
+		mailHandler.registerResult(outbox, messageResult);
 
 		// Assert and verify
-		verify(templatingIntegrationMock).renderTemplate(eq(municipalityId), any());
-		verify(messagingIntegrationMock).sendEmail(municipalityId, email, output);
-		verify(employeeChecklistRepositoryMock).save(employeeChecklistEntity);
-		verifyNoMoreInteractions(employeeChecklistRepositoryMock, messagingIntegrationMock, templatingIntegrationMock);
-
-		assertThat(employeeChecklistEntity.getCorrespondence()).isNotNull()
+		assertThat(employeeChecklistEntity.getCorrespondence())
 			.extracting(
-				CorrespondenceEntity::getCommunicationChannel,
 				CorrespondenceEntity::getCorrespondenceStatus,
 				CorrespondenceEntity::getMessageId,
-				CorrespondenceEntity::getRecipient,
 				CorrespondenceEntity::getAttempts)
 			.containsExactly(
-				CommunicationChannel.EMAIL,
 				CorrespondenceStatus.SENT,
 				messageId.toString(),
-				email,
 				attempts + 1);
+		verify(employeeChecklistRepositoryMock).findById(EMPLOYEE_CHECKLIST_ID);
+		verify(employeeChecklistRepositoryMock).save(employeeChecklistEntity);
+		verify(mailOutboxRepositoryMock).delete(outbox);
 	}
 
 	@Test
-	void sendEmailWhenTemplateDoesNotExist() {
+	void registerResultWhenFailed() {
 		// Arrange
-		final var municipalityId = "municipalityId";
-		final var email = "some.email@noreply.com";
-		final var manager = ManagerEntity.builder().withEmail(email).build();
-		final var employee = EmployeeEntity.builder().withManager(manager).build();
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withEmployee(employee)
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withMunicipalityId(municipalityId)
-				.build()))
-			.build();
+		final var attempts = 1;
+		final var employeeChecklistEntity = createEmployeeChecklistEntity(CorrespondenceEntity.builder().withAttempts(attempts).withCorrespondenceStatus(CorrespondenceStatus.NOT_SENT).build());
+		final var outbox = createOutbox();
+
+		when(employeeChecklistRepositoryMock.findById(EMPLOYEE_CHECKLIST_ID)).thenReturn(Optional.of(employeeChecklistEntity));
 
 		// Act
-		mailHandler.sendEmail(employeeChecklistEntity, "TEST");
+		mailHandler.registerResult(outbox, null);
 
 		// Assert and verify
-		verify(templatingIntegrationMock).renderTemplate(eq(municipalityId), any());
-		verify(employeeChecklistRepositoryMock).save(employeeChecklistEntity);
-		verifyNoMoreInteractions(employeeChecklistRepositoryMock, templatingIntegrationMock);
-		verifyNoInteractions(messagingIntegrationMock);
-
-		assertThat(employeeChecklistEntity.getCorrespondence()).isNotNull()
+		assertThat(employeeChecklistEntity.getCorrespondence())
 			.extracting(
-				CorrespondenceEntity::getCommunicationChannel,
 				CorrespondenceEntity::getCorrespondenceStatus,
-				CorrespondenceEntity::getRecipient,
 				CorrespondenceEntity::getAttempts)
 			.containsExactly(
-				CommunicationChannel.EMAIL,
-				CorrespondenceStatus.ERROR,
-				email,
-				1);
+				CorrespondenceStatus.NOT_SENT,
+				attempts + 1);
+		// Second failed attempt, hence backoff is doubled
+		assertThat(outbox.getNextAttempt()).isCloseTo(OffsetDateTime.now(systemDefault()).plus(BACKOFF.multipliedBy(2)), within(2, SECONDS));
+		verify(employeeChecklistRepositoryMock).findById(EMPLOYEE_CHECKLIST_ID);
+		verify(employeeChecklistRepositoryMock).save(employeeChecklistEntity);
+		verify(mailOutboxRepositoryMock).save(outbox);
 	}
 
 	@Test
-	void sendEmailWhenEmailReponseIsNotPresent() {
+	void registerResultWhenFailedAndMaxAttemptsReached() {
 		// Arrange
-		final var municipalityId = "municipalityId";
-		final var email = "some.email@noreply.com";
-		final var previousRetries = 123;
-		final var correspondence = CorrespondenceEntity.builder().withAttempts(previousRetries).build();
-		final var manager = ManagerEntity.builder().withEmail(email).build();
-		final var employee = EmployeeEntity.builder().withManager(manager).build();
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withEmployee(employee)
-			.withChecklists(List.of(ChecklistEntity.builder()
-				.withMunicipalityId(municipalityId)
-				.build()))
-			.withCorrespondence(correspondence)
-			.build();
-		final var output = "output";
-		final var renderReponse = new RenderResponse().output(output);
+		final var employeeChecklistEntity = createEmployeeChecklistEntity(CorrespondenceEntity.builder().withAttempts(MAX_ATTEMPTS - 1).withCorrespondenceStatus(CorrespondenceStatus.NOT_SENT).build());
+		final var outbox = createOutbox();
 
-		when(templatingIntegrationMock.renderTemplate(eq(municipalityId), any())).thenReturn(Optional.of(renderReponse));
+		when(employeeChecklistRepositoryMock.findById(EMPLOYEE_CHECKLIST_ID)).thenReturn(Optional.of(employeeChecklistEntity));
 
 		// Act
-		mailHandler.sendEmail(employeeChecklistEntity, "TEST");
+		mailHandler.registerResult(outbox, null);
 
 		// Assert and verify
-		verify(templatingIntegrationMock).renderTemplate(eq(municipalityId), any());
-		verify(messagingIntegrationMock).sendEmail(municipalityId, email, output);
-		verify(employeeChecklistRepositoryMock).save(employeeChecklistEntity);
-		verifyNoMoreInteractions(employeeChecklistRepositoryMock, messagingIntegrationMock, templatingIntegrationMock);
-
-		assertThat(employeeChecklistEntity.getCorrespondence()).isNotNull()
+		assertThat(employeeChecklistEntity.getCorrespondence())
 			.extracting(
-				CorrespondenceEntity::getCommunicationChannel,
 				CorrespondenceEntity::getCorrespondenceStatus,
-				CorrespondenceEntity::getRecipient,
 				CorrespondenceEntity::getAttempts)
 			.containsExactly(
-				CommunicationChannel.EMAIL,
 				CorrespondenceStatus.ERROR,
-				email,
-				previousRetries + 1);
+				MAX_ATTEMPTS);
+		verify(employeeChecklistRepositoryMock).findById(EMPLOYEE_CHECKLIST_ID);
+		verify(employeeChecklistRepositoryMock).save(employeeChecklistEntity);
+		verify(mailOutboxRepositoryMock).delete(outbox);
+	}
+
+	@Test
+	void registerResultWhenEmployeeChecklistDoesNotExist() {
+		// Arrange
+		final var outbox = createOutbox();
+
+		when(employeeChecklistRepositoryMock.findById(EMPLOYEE_CHECKLIST_ID)).thenReturn(Optional.empty());
+
+		// Act
+		mailHandler.registerResult(outbox, null);
+
+		// Assert and verify
+		verify(employeeChecklistRepositoryMock).findById(EMPLOYEE_CHECKLIST_ID);
+		verify(mailOutboxRepositoryMock).delete(outbox);
+	}
+
+	private static EmployeeChecklistEntity createEmployeeChecklistEntity(CorrespondenceEntity correspondence) {
+		return EmployeeChecklistEntity.builder()
+			.withId(EMPLOYEE_CHECKLIST_ID)
+			.withEmployee(EmployeeEntity.builder()
+				.withFirstName("firstName")
+				.withLastName("lastName")
+				.withStartDate(LocalDate.now())
+				.withManager(ManagerEntity.builder()
+					.withEmail(EMAIL)
+					.withFirstName("managerFirstName")
+					.withLastName("managerLastName")
+					.build())
+				.build())
+			.withChecklists(List.of(ChecklistEntity.builder()
+				.withMunicipalityId(MUNICIPALITY_ID)
+				.build()))
+			.withCorrespondence(correspondence)
+			.build();
+	}
+
+	private static MailOutboxEntity createOutbox() {
+		return MailOutboxEntity.builder()
+			.withId(OUTBOX_ID)
+			.withEmployeeChecklistId(EMPLOYEE_CHECKLIST_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withEmailTemplate("TEST")
+			.build();
 	}
 }
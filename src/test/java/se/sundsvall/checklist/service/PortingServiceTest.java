@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
 import se.sundsvall.checklist.integration.db.repository.ChecklistRepository;
+import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.integration.db.repository.OrganizationRepository;
 import se.sundsvall.checklist.service.mapper.OrganizationMapper;
 import se.sundsvall.dept44.problem.ThrowableProblem;
@@ -42,6 +43,9 @@ class PortingServiceTest {
 	@Mock
 	private OrganizationRepository organizationRepositoryMock;
 
+	@Mock
+	private EmployeeChecklistRepository employeeChecklistRepositoryMock;
+
 	@InjectMocks
 	private PortingService service;
 
@@ -153,6 +157,7 @@ class PortingServiceTest {
 		// Assert and verify
 		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(organizationNumber, MUNICIPALITY_ID);
 		verify(checklistRepositoryMock).save(checklistEntityCaptor.capture());
+		verify(employeeChecklistRepositoryMock).findIdsByChecklistsId(checklistId);
 
 		assertThat(organizationEntity.getChecklists()).hasSize(2)
 			.filteredOn(ch -> CREATED == ch.getLifeCycle())
@@ -300,6 +305,7 @@ class PortingServiceTest {
 			}""";
 
 		when(organizationRepositoryMock.findByOrganizationNumberAndMunicipalityId(organizationNumber, MUNICIPALITY_ID)).thenReturn(Optional.of(organizationEntity));
+		when(employeeChecklistRepositoryMock.findIdsByChecklistsId(checklistId)).thenReturn(List.of("employeeChecklistId"));
 
 		// Act
 		service.importChecklist(MUNICIPALITY_ID, organizationNumber, organizationName, jsonStructure, true);
@@ -307,6 +313,8 @@ class PortingServiceTest {
 		// Assert and verify
 		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(organizationNumber, MUNICIPALITY_ID);
 		verify(checklistRepositoryMock).save(checklistEntityCaptor.capture());
+		verify(employeeChecklistRepositoryMock).findIdsByChecklistsId(checklistId);
+		verify(employeeChecklistRepositoryMock).recalculateCompletionCounters(List.of("employeeChecklistId"));
 
 		assertThat(organizationEntity.getChecklists()).hasSize(1)
 			.allSatisfy(ch -> {
@@ -356,6 +364,7 @@ class PortingServiceTest {
 		// Assert and verify
 		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(organizationNumber, MUNICIPALITY_ID);
 		verify(checklistRepositoryMock).save(checklistEntityCaptor.capture());
+		verify(employeeChecklistRepositoryMock).findIdsByChecklistsId(checklistId);
 
 		assertThat(organizationEntity.getChecklists()).hasSize(2)
 			.filteredOn(ch -> CREATED == ch.getLifeCycle())
@@ -384,6 +393,7 @@ class PortingServiceTest {
 			}""";
 
 		when(organizationRepositoryMock.findByOrganizationNumberAndMunicipalityId(organizationNumber, MUNICIPALITY_ID)).thenReturn(Optional.of(organizationEntity));
+		when(employeeChecklistRepositoryMock.findIdsByChecklistsId(checklistId)).thenReturn(List.of("employeeChecklistId"));
 
 		// Act
 		service.importChecklist(MUNICIPALITY_ID, organizationNumber, organizationName, jsonStructure, true);
@@ -391,6 +401,8 @@ class PortingServiceTest {
 		// Assert and verify
 		verify(organizationRepositoryMock).findByOrganizationNumberAndMunicipalityId(organizationNumber, MUNICIPALITY_ID);
 		verify(checklistRepositoryMock).save(checklistEntityCaptor.capture());
+		verify(employeeChecklistRepositoryMock).findIdsByChecklistsId(checklistId);
+		verify(employeeChecklistRepositoryMock).recalculateCompletionCounters(List.of("employeeChecklistId"));
 
 		assertThat(organizationEntity.getChecklists()).hasSize(1)
 			.allSatisfy(ch -> {
@@ -445,6 +457,6 @@ class PortingServiceTest {
 
 	@AfterEach
 	void noMoreInteractions() {
-		verifyNoMoreInteractions(checklistRepositoryMock, organizationRepositoryMock);
+		verifyNoMoreInteractions(checklistRepositoryMock, organizationRepositoryMock, employeeChecklistRepositoryMock);
 	}
 }
@@ -0,0 +1,124 @@
+package se.sundsvall.checklist.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.checklist.integration.company.OrganizationIndexRebuiltEvent;
+import se.sundsvall.checklist.integration.db.model.SortorderEntity;
+import se.sundsvall.checklist.service.SortorderCache.ResolvedSortorder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortorderCacheTest {
+
+	private static final String MUNICIPALITY_ID = "municipalityId";
+	private static final int ROOT = 1;
+	private static final int CHILD = 2;
+	private static final int SIBLING = 3;
+
+	@Test
+	void getReturnsCachedValue() {
+		final var cache = new SortorderCache(true, Duration.ofHours(1), 100);
+		final var loads = new AtomicInteger();
+		final var customSort = List.of(SortorderEntity.builder().build());
+
+		assertThat(cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), customSort))).isSameAs(customSort);
+		assertThat(cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), customSort))).isSameAs(customSort);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void getWhenDisabled() {
+		final var cache = new SortorderCache(false, Duration.ofHours(1), 100);
+		final var loads = new AtomicInteger();
+
+		cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void evictOnlyAffectsSubtree() {
+		final var cache = new SortorderCache(true, Duration.ofHours(1), 100);
+		final var loads = new AtomicInteger();
+
+		cache.get(MUNICIPALITY_ID, ROOT, () -> load(loads, Set.of(ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, SIBLING, () -> load(loads, Set.of(SIBLING, ROOT), List.of()));
+		cache.get("otherMunicipalityId", CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		assertThat(loads).hasValue(4);
+
+		// Evicting child only affects entry for child in the same municipality
+		cache.evict(MUNICIPALITY_ID, CHILD);
+		cache.get(MUNICIPALITY_ID, ROOT, () -> load(loads, Set.of(ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, SIBLING, () -> load(loads, Set.of(SIBLING, ROOT), List.of()));
+		cache.get("otherMunicipalityId", CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		assertThat(loads).hasValue(5);
+
+		// Evicting root affects all entries in the same municipality
+		cache.evict(MUNICIPALITY_ID, ROOT);
+		cache.get(MUNICIPALITY_ID, ROOT, () -> load(loads, Set.of(ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, SIBLING, () -> load(loads, Set.of(SIBLING, ROOT), List.of()));
+		cache.get("otherMunicipalityId", CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		assertThat(loads).hasValue(8);
+	}
+
+	@Test
+	void getDoesNotCacheLoadStartedBeforeEviction() {
+		final var cache = new SortorderCache(true, Duration.ofHours(1), 100);
+		final var loads = new AtomicInteger();
+		final var staleSort = List.of(SortorderEntity.builder().build());
+
+		// The custom sort is changed and evicted while the (stale) custom sort is being loaded
+		assertThat(cache.get(MUNICIPALITY_ID, CHILD, () -> {
+			cache.evict(MUNICIPALITY_ID, ROOT);
+			return load(loads, Set.of(CHILD, ROOT), staleSort);
+		})).isSameAs(staleSort);
+		assertThat(cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()))).isEmpty();
+		assertThat(cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()))).isEmpty();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void onOrganizationIndexRebuilt() {
+		final var cache = new SortorderCache(true, Duration.ofHours(1), 100);
+		final var loads = new AtomicInteger();
+
+		cache.get(MUNICIPALITY_ID, ROOT, () -> load(loads, Set.of(ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		cache.get("otherMunicipalityId", CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		assertThat(loads).hasValue(3);
+
+		// Rebuilding the index affects all entries in the same municipality
+		cache.onOrganizationIndexRebuilt(new OrganizationIndexRebuiltEvent(MUNICIPALITY_ID));
+		cache.get(MUNICIPALITY_ID, ROOT, () -> load(loads, Set.of(ROOT), List.of()));
+		cache.get(MUNICIPALITY_ID, CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		cache.get("otherMunicipalityId", CHILD, () -> load(loads, Set.of(CHILD, ROOT), List.of()));
+		assertThat(loads).hasValue(5);
+	}
+
+	@Test
+	void bindTo() {
+		final var cache = new SortorderCache(true, Duration.ofHours(1), 100);
+		final var registry = new SimpleMeterRegistry();
+		cache.bindTo(registry);
+
+		cache.get(MUNICIPALITY_ID, CHILD, () -> new ResolvedSortorder(Set.of(CHILD), List.of()));
+		cache.get(MUNICIPALITY_ID, CHILD, () -> new ResolvedSortorder(Set.of(CHILD), List.of()));
+
+		assertThat(registry.get("cache.gets").tags("cache", "sortorder", "result", "hit").functionCounter().count()).isOne();
+		assertThat(registry.get("cache.gets").tags("cache", "sortorder", "result", "miss").functionCounter().count()).isOne();
+		assertThat(registry.get("cache.size").tags("cache", "sortorder").gauge().value()).isOne();
+	}
+
+	private static ResolvedSortorder load(final AtomicInteger loads, final Set<Integer> organizationNumbers, final List<SortorderEntity> customSort) {
+		loads.incrementAndGet();
+		return new ResolvedSortorder(organizationNumbers, customSort);
+	}
+}
@@ -1,25 +1,30 @@
 package se.sundsvall.checklist.service;
 
 import generated.se.sundsvall.company.Organization;
-import java.util.Collections;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import se.sundsvall.checklist.api.model.Checklist;
 import se.sundsvall.checklist.api.model.EmployeeChecklist;
 import se.sundsvall.checklist.api.model.EmployeeChecklistPhase;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
 import se.sundsvall.checklist.api.model.Phase;
 import se.sundsvall.checklist.api.model.Task;
-import se.sundsvall.checklist.integration.company.CompanyIntegration;
+import se.sundsvall.checklist.integration.company.OrganizationIndex;
+import se.sundsvall.checklist.integration.company.OrganizationIndexProvider;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
 import se.sundsvall.checklist.integration.db.model.OrganizationEntity;
@@ -27,8 +32,10 @@ import se.sundsvall.checklist.integration.db.model.SortorderEntity;
 import se.sundsvall.checklist.integration.db.model.enums.ComponentType;
 import se.sundsvall.checklist.integration.db.repository.SortorderRepository;
 
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -46,13 +53,10 @@ class SortorderServiceTest {
 	private SortorderRepository sortorderRepositoryMock;
 
 	@Mock
-	private CompanyIntegration companyIntegrationMock;
+	private OrganizationIndexProvider organizationIndexProviderMock;
 
-	@Mock
-	private Organization companyMock;
-
-	@Mock
-	private Organization organizationMock;
+	@Spy
+	private SortorderCache sortorderCacheSpy = new SortorderCache(true, Duration.ofHours(1), 100);
 
 	@InjectMocks
 	private SortorderService service;
@@ -60,14 +64,20 @@ class SortorderServiceTest {
 	@Captor
 	private ArgumentCaptor<List<SortorderEntity>> saveAllCaptor;
 
+	private static OrganizationIndex createIndex(final Organization... organizations) {
+		return OrganizationIndex.build(List.of(new Organization().companyId(1)), Map.of(1, List.of(organizations)));
+	}
+
 	private static List<SortorderEntity> createCustomorder() {
 		return List.of(
 			SortorderEntity.builder()
+				.withOrganizationNumber(ORGANIZATION_NUMBER)
 				.withComponentId(COMPONENT_ID1)
 				.withComponentType(ComponentType.PHASE)
 				.withPosition(10)
 				.build(),
 			SortorderEntity.builder()
+				.withOrganizationNumber(ORGANIZATION_NUMBER)
 				.withComponentId(COMPONENT_ID2)
 				.withComponentType(ComponentType.TASK)
 				.withPosition(20)
@@ -77,17 +87,26 @@ class SortorderServiceTest {
 	private static List<SortorderEntity> createCustomorderForTasks() {
 		return List.of(
 			SortorderEntity.builder()
+				.withOrganizationNumber(ORGANIZATION_NUMBER)
 				.withComponentId(COMPONENT_ID1)
 				.withComponentType(ComponentType.TASK)
 				.withPosition(20)
 				.build(),
 			SortorderEntity.builder()
+				.withOrganizationNumber(ORGANIZATION_NUMBER)
 				.withComponentId(COMPONENT_ID2)
 				.withComponentType(ComponentType.TASK)
 				.withPosition(10)
 				.build());
 	}
 
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
 	@Test
 	void saveSortorder() {
 		// Arrange
@@ -103,11 +122,35 @@ class SortorderServiceTest {
 		verify(sortorderRepositoryMock).findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
 		verify(sortorderRepositoryMock).deleteAllInBatch(sortorderEntities);
 		verify(sortorderRepositoryMock).saveAll(saveAllCaptor.capture());
+		verify(sortorderCacheSpy).evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
 		verifyNoMoreInteractions(sortorderRepositoryMock);
 
 		assertThat(saveAllCaptor.getValue()).hasSize(6);
 	}
 
+	@Test
+	void saveSortorderWithinTransaction() {
+		// Arrange
+		final var sortorderRequest = generateSortorderRequest();
+		TransactionSynchronizationManager.initSynchronization();
+
+		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(emptyList());
+
+		// Act
+		service.saveSortorder(MUNICIPALITY_ID, ORGANIZATION_NUMBER, sortorderRequest);
+
+		// Assert and verify that cache is not evicted before commit
+		verify(sortorderRepositoryMock).findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(sortorderRepositoryMock).deleteAllInBatch(emptyList());
+		verify(sortorderRepositoryMock).saveAll(saveAllCaptor.capture());
+		verify(sortorderCacheSpy, never()).evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		verify(sortorderCacheSpy).evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verifyNoMoreInteractions(sortorderRepositoryMock);
+	}
+
 	@Test
 	void deleteSortorder() {
 		final var sortOrderEntities = List.of(SortorderEntity.builder().build(), SortorderEntity.builder().build());
@@ -117,17 +160,22 @@ class SortorderServiceTest {
 
 		verify(sortorderRepositoryMock).findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
 		verify(sortorderRepositoryMock).deleteAllInBatch(sortOrderEntities);
+		verify(sortorderCacheSpy).evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
 	}
 
 	@Test
 	void deleteSortorderItem() {
-		final var sortOrderEntities = List.of(SortorderEntity.builder().build(), SortorderEntity.builder().build());
+		final var sortOrderEntities = List.of(
+			SortorderEntity.builder().withMunicipalityId(MUNICIPALITY_ID).withOrganizationNumber(ORGANIZATION_NUMBER).build(),
+			SortorderEntity.builder().withMunicipalityId(MUNICIPALITY_ID).withOrganizationNumber(ORGANIZATION_NUMBER + 1).build());
 		when(sortorderRepositoryMock.findAllByComponentId(COMPONENT_ID1)).thenReturn(sortOrderEntities);
 
 		service.deleteSortorderItem(COMPONENT_ID1);
 
 		verify(sortorderRepositoryMock).findAllByComponentId(COMPONENT_ID1);
 		verify(sortorderRepositoryMock).deleteAllInBatch(sortOrderEntities);
+		verify(sortorderCacheSpy).evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(sortorderCacheSpy).evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER + 1);
 	}
 
 	@Test
@@ -156,9 +204,8 @@ class SortorderServiceTest {
 				.build())
 			.build();
 
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(List.of(organizationMock));
-		when(organizationMock.getOrgId()).thenReturn(ORGANIZATION_NUMBER);
-		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(createCustomorder());
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER)));
+		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER))).thenReturn(createCustomorder());
 
 		final var result = service.applySorting(Optional.of(employeeChecklistEntity), employeeChecklist);
 
@@ -194,8 +241,7 @@ class SortorderServiceTest {
 				.build())
 			.build();
 
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(List.of(organizationMock));
-		when(organizationMock.getOrgId()).thenReturn(ORGANIZATION_NUMBER);
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER)));
 
 		final var result = service.applySorting(Optional.of(employeeChecklistEntity), employeeChecklist);
 
@@ -204,7 +250,7 @@ class SortorderServiceTest {
 			assertThat(phases.getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(2);
 		});
 
-		verify(sortorderRepositoryMock).findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(sortorderRepositoryMock).findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER));
 	}
 
 	@Test
@@ -233,6 +279,8 @@ class SortorderServiceTest {
 				.build())
 			.build();
 
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER + 1)));
+
 		final var result = service.applySorting(Optional.of(employeeChecklistEntity), employeeChecklist);
 
 		assertThat(result).extracting(EmployeeChecklist::getPhases).satisfies(phases -> {
@@ -240,7 +288,7 @@ class SortorderServiceTest {
 			assertThat(phases.getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(2);
 		});
 
-		verify(sortorderRepositoryMock, never()).findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(sortorderRepositoryMock, never()).findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER));
 	}
 
 	@Test
@@ -258,13 +306,8 @@ class SortorderServiceTest {
 					.build()))
 			.build();
 
-		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(List.of(companyMock, companyMock));
-		when(companyMock.getCompanyId()).thenReturn(1, 2);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(Collections.emptyList());
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(organizationMock));
-		when(organizationMock.getCompanyId()).thenReturn(2);
-		when(organizationMock.getOrgId()).thenReturn(ORGANIZATION_NUMBER);
-		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(createCustomorder());
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER)));
+		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER))).thenReturn(createCustomorder());
 
 		final var result = service.applySortingToChecklists(MUNICIPALITY_ID, ORGANIZATION_NUMBER, List.of(checklist));
 
@@ -289,12 +332,7 @@ class SortorderServiceTest {
 					.build()))
 			.build();
 
-		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(List.of(companyMock, companyMock));
-		when(companyMock.getCompanyId()).thenReturn(1, 2);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(Collections.emptyList());
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(organizationMock));
-		when(organizationMock.getCompanyId()).thenReturn(2);
-		when(organizationMock.getOrgId()).thenReturn(ORGANIZATION_NUMBER);
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER)));
 
 		final var result = service.applySortingToChecklists(MUNICIPALITY_ID, ORGANIZATION_NUMBER, List.of(checklist));
 
@@ -303,7 +341,7 @@ class SortorderServiceTest {
 			assertThat(phases.getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(2);
 		});
 
-		verify(sortorderRepositoryMock).findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(sortorderRepositoryMock).findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER));
 	}
 
 	@Test
@@ -321,10 +359,7 @@ class SortorderServiceTest {
 					.build()))
 			.build();
 
-		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(List.of(companyMock, companyMock));
-		when(companyMock.getCompanyId()).thenReturn(1, 2);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(Collections.emptyList());
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(organizationMock));
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER + 1)));
 
 		final var result = service.applySortingToChecklists(MUNICIPALITY_ID, ORGANIZATION_NUMBER, List.of(checklist));
 
@@ -333,7 +368,7 @@ class SortorderServiceTest {
 			assertThat(phases.getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(2);
 		});
 
-		verify(sortorderRepositoryMock, never()).findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(sortorderRepositoryMock, never()).findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER));
 	}
 
 	@Test
@@ -351,14 +386,8 @@ class SortorderServiceTest {
 					.build()))
 			.build();
 
-		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(List.of(companyMock, companyMock));
-		when(companyMock.getCompanyId()).thenReturn(1, 2);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(Collections.emptyList());
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(organizationMock));
-		when(organizationMock.getCompanyId()).thenReturn(2);
-		when(organizationMock.getParentId()).thenReturn(1);
-		when(organizationMock.getOrgId()).thenReturn(ORGANIZATION_NUMBER);
-		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(createCustomorder());
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER).parentId(1)));
+		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER))).thenReturn(createCustomorder());
 
 		final var result = service.applySortingToChecklist(MUNICIPALITY_ID, ORGANIZATION_NUMBER, checklist);
 
@@ -380,13 +409,8 @@ class SortorderServiceTest {
 				.withSortOrder(2)
 				.build());
 
-		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(List.of(companyMock, companyMock));
-		when(companyMock.getCompanyId()).thenReturn(1, 2);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(Collections.emptyList());
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(organizationMock));
-		when(organizationMock.getCompanyId()).thenReturn(2);
-		when(organizationMock.getOrgId()).thenReturn(ORGANIZATION_NUMBER);
-		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(createCustomorderForTasks());
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER)));
+		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER))).thenReturn(createCustomorderForTasks());
 
 		final var result = service.applySortingToTasks(MUNICIPALITY_ID, ORGANIZATION_NUMBER, tasks);
 
@@ -411,12 +435,7 @@ class SortorderServiceTest {
 				.withSortOrder(2)
 				.build());
 
-		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(List.of(companyMock, companyMock));
-		when(companyMock.getCompanyId()).thenReturn(1, 2);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(Collections.emptyList());
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(organizationMock));
-		when(organizationMock.getCompanyId()).thenReturn(2);
-		when(organizationMock.getOrgId()).thenReturn(ORGANIZATION_NUMBER);
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER)));
 
 		final var result = service.applySortingToTasks(MUNICIPALITY_ID, ORGANIZATION_NUMBER, tasks);
 
@@ -441,10 +460,7 @@ class SortorderServiceTest {
 				.withSortOrder(2)
 				.build());
 
-		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(List.of(companyMock, companyMock));
-		when(companyMock.getCompanyId()).thenReturn(1, 2);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(Collections.emptyList());
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(organizationMock));
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER + 1)));
 
 		final var result = service.applySortingToTasks(MUNICIPALITY_ID, ORGANIZATION_NUMBER, tasks);
 
@@ -464,13 +480,8 @@ class SortorderServiceTest {
 			.withSortOrder(1)
 			.build();
 
-		when(companyIntegrationMock.getCompanies(MUNICIPALITY_ID)).thenReturn(List.of(companyMock, companyMock));
-		when(companyMock.getCompanyId()).thenReturn(1, 2);
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 1)).thenReturn(Collections.emptyList());
-		when(companyIntegrationMock.getOrganizationsForCompany(MUNICIPALITY_ID, 2)).thenReturn(List.of(organizationMock));
-		when(organizationMock.getCompanyId()).thenReturn(2);
-		when(organizationMock.getOrgId()).thenReturn(ORGANIZATION_NUMBER);
-		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumber(MUNICIPALITY_ID, ORGANIZATION_NUMBER)).thenReturn(createCustomorderForTasks());
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER)));
+		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER))).thenReturn(createCustomorderForTasks());
 
 		final var result = service.applySortingToTask(MUNICIPALITY_ID, ORGANIZATION_NUMBER, task);
 
@@ -503,6 +514,8 @@ class SortorderServiceTest {
 
 		verify(sortorderRepositoryMock).findAllByComponentId(COMPONENT_ID1);
 		verify(sortorderRepositoryMock).saveAll(saveAllCaptor.capture());
+		verify(sortorderCacheSpy).evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		verify(sortorderCacheSpy).evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER + 1);
 
 		assertThat(saveAllCaptor.getValue()).hasSize(2)
 			.allSatisfy(entity -> {
@@ -518,4 +531,85 @@ class SortorderServiceTest {
 				assertThat(entity.getPosition()).isEqualTo(212);
 			});
 	}
+
+	@Test
+	void applySortingForEmployeeChecklistUsesCachedCustomSort() {
+		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
+			.withEmployee(EmployeeEntity.builder()
+				.withDepartment(OrganizationEntity.builder()
+					.withMunicipalityId(MUNICIPALITY_ID)
+					.withOrganizationNumber(ORGANIZATION_NUMBER)
+					.build())
+				.withCompany(OrganizationEntity.builder()
+					.withOrganizationNumber(1)
+					.build())
+				.build())
+			.build();
+
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(new Organization().orgId(ORGANIZATION_NUMBER)));
+		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER))).thenReturn(createCustomorder());
+
+		service.applySorting(Optional.of(employeeChecklistEntity), EmployeeChecklist.builder().build());
+		service.applySorting(Optional.of(employeeChecklistEntity), EmployeeChecklist.builder().build());
+
+		// Custom sort is only read once from database as long as it is not evicted
+		verify(sortorderRepositoryMock).findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER));
+
+		sortorderCacheSpy.evict(MUNICIPALITY_ID, ORGANIZATION_NUMBER);
+		service.applySorting(Optional.of(employeeChecklistEntity), EmployeeChecklist.builder().build());
+
+		verify(sortorderRepositoryMock, times(2)).findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER));
+		verifyNoMoreInteractions(sortorderRepositoryMock);
+	}
+
+	@Test
+	void applySortingForEmployeeChecklistWithCustomSortOnMultipleLevels() {
+		final var parentOrganizationNumber = 1000;
+		final var employeeChecklist = EmployeeChecklist.builder()
+			.withPhases(List.of(
+				EmployeeChecklistPhase.builder()
+					.withId(COMPONENT_ID1)
+					.withSortOrder(1)
+					.withTasks(List.of(
+						EmployeeChecklistTask.builder()
+							.withId(COMPONENT_ID2)
+							.withSortOrder(2)
+							.build()))
+					.build()))
+			.build();
+		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
+			.withEmployee(EmployeeEntity.builder()
+				.withDepartment(OrganizationEntity.builder()
+					.withMunicipalityId(MUNICIPALITY_ID)
+					.withOrganizationNumber(ORGANIZATION_NUMBER)
+					.build())
+				.withCompany(OrganizationEntity.builder()
+					.withOrganizationNumber(1)
+					.build())
+				.build())
+			.build();
+		final var parentOrganization = new Organization().orgId(parentOrganizationNumber);
+		final var organization = new Organization().orgId(ORGANIZATION_NUMBER).parentId(parentOrganizationNumber);
+		final var customSorts = List.of(
+			SortorderEntity.builder().withOrganizationNumber(parentOrganizationNumber).withComponentId(COMPONENT_ID1).withComponentType(ComponentType.PHASE).withPosition(100).build(),
+			SortorderEntity.builder().withOrganizationNumber(parentOrganizationNumber).withComponentId(COMPONENT_ID2).withComponentType(ComponentType.TASK).withPosition(200).build(),
+			SortorderEntity.builder().withOrganizationNumber(ORGANIZATION_NUMBER).withComponentId(COMPONENT_ID2).withComponentType(ComponentType.TASK).withPosition(20).build());
+
+		when(organizationIndexProviderMock.getIndex(MUNICIPALITY_ID)).thenReturn(createIndex(parentOrganization, organization));
+		when(sortorderRepositoryMock.findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER, parentOrganizationNumber))).thenReturn(customSorts);
+
+		final var result = service.applySorting(Optional.of(employeeChecklistEntity), employeeChecklist);
+
+		// Phase sort is inherited from parent while task sort on the lower level takes precedence
+		assertThat(result).extracting(EmployeeChecklist::getPhases).satisfies(phases -> {
+			assertThat(phases.getFirst().getSortOrder()).isEqualTo(100);
+			assertThat(phases.getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(20);
+		});
+
+		// Changing the parent sort evicts the entry for the organization below it
+		sortorderCacheSpy.evict(MUNICIPALITY_ID, parentOrganizationNumber);
+		service.applySorting(Optional.of(employeeChecklistEntity), employeeChecklist);
+
+		verify(sortorderRepositoryMock, times(2)).findAllByMunicipalityIdAndOrganizationNumberIn(MUNICIPALITY_ID, List.of(ORGANIZATION_NUMBER, parentOrganizationNumber));
+	}
 }
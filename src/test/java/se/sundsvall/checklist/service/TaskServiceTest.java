@@ -22,14 +22,18 @@ import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.FulfilmentEntity;
 import se.sundsvall.checklist.integration.db.model.PhaseEntity;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
+import se.sundsvall.checklist.integration.db.model.TombstoneEntity;
+import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
 import se.sundsvall.checklist.integration.db.repository.ChecklistRepository;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.checklist.integration.db.repository.PhaseRepository;
 import se.sundsvall.checklist.integration.db.repository.TaskRepository;
+import se.sundsvall.checklist.integration.db.repository.TombstoneRepository;
 import se.sundsvall.dept44.problem.Problem;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
@@ -69,6 +73,9 @@ class TaskServiceTest {
 	@Mock
 	private TaskRepository mockTaskRepository;
 
+	@Mock
+	private TombstoneRepository mockTombstoneRepository;
+
 	@Mock
 	private SortorderService mockSortorderService;
 
@@ -84,6 +91,9 @@ class TaskServiceTest {
 	@Captor
 	private ArgumentCaptor<TaskEntity> taskEntityCaptor;
 
+	@Captor
+	private ArgumentCaptor<List<TombstoneEntity>> tombstonesCaptor;
+
 	@BeforeEach
 	void setup() {
 		checklistEntity = createChecklistEntity();
@@ -182,6 +192,7 @@ class TaskServiceTest {
 		verify(mockPhaseRepository).findByIdAndMunicipalityId(phaseEntity.getId(), MUNICIPALITY_ID);
 		verify(mockTaskRepository).save(taskEntityCaptor.capture());
 		verify(mockChecklistRepository).save(checklistEntityCaptor.capture());
+		verify(mockEmployeeChecklistRepository).adjustTotalTasksForChecklist(checklistEntity.getId(), 1);
 		verify(eventServiceMock).createChecklistEvent(EventType.CREATE, TASK_ADDED.formatted(createRequest.getHeading(), phaseEntity.getName()), checklistEntity, createRequest.getCreatedBy());
 
 		assertThat(result).isNotNull().isInstanceOf(Task.class);
@@ -288,9 +299,11 @@ class TaskServiceTest {
 	@Test
 	void deleteTask() {
 		final var employeeChecklist = EmployeeChecklistEntity.builder()
+			.withId("employeeChecklistId")
 			.withChecklists(List.of(checklistEntity))
 			.withFulfilments(new ArrayList<>(List.of(FulfilmentEntity.builder()
 				.withTask(taskEntity)
+				.withCompleted(FulfilmentStatus.NOT_RELEVANT)
 				.build())))
 			.build();
 
@@ -303,12 +316,17 @@ class TaskServiceTest {
 
 		verify(mockChecklistRepository).findByIdAndMunicipalityId(checklistEntity.getId(), MUNICIPALITY_ID);
 		verify(mockPhaseRepository).existsByIdAndMunicipalityId(phaseEntity.getId(), MUNICIPALITY_ID);
+		verify(mockEmployeeChecklistRepository).removeTaskFromCompletionCounters(taskEntity.getId());
 		verify(mockEmployeeChecklistRepository).findAllByChecklistsTasksId(taskEntity.getId());
+		verify(mockTombstoneRepository).saveAll(tombstonesCaptor.capture());
 		verify(mockSortorderService).deleteSortorderItem(taskEntity.getId());
 		verify(mockTaskRepository).delete(taskEntityCaptor.capture());
 		verify(eventServiceMock).createChecklistEvent(EventType.DELETE, EventService.TASK_REMOVED.formatted(taskEntity.getHeading(), phaseEntity.getName()), checklistEntity, USER_ID);
 
 		assertThat(employeeChecklist.getFulfilments()).isNullOrEmpty();
+		assertThat(tombstonesCaptor.getValue())
+			.extracting(TombstoneEntity::getEmployeeChecklistId, TombstoneEntity::getTaskId)
+			.containsExactly(tuple("employeeChecklistId", taskEntity.getId()));
 		assertThat(taskEntityCaptor.getValue()).satisfies(entity -> {
 			assertThat(entity.getId()).isEqualTo(taskEntity.getId());
 		});
@@ -354,7 +372,7 @@ class TaskServiceTest {
 
 	@AfterEach
 	void verifyNoMoreInteraction() {
-		verifyNoMoreInteractions(mockChecklistRepository, mockPhaseRepository, mockTaskRepository, mockSortorderService, mockEmployeeChecklistRepository);
+		verifyNoMoreInteractions(mockChecklistRepository, mockPhaseRepository, mockTaskRepository, mockSortorderService, mockEmployeeChecklistRepository, mockTombstoneRepository);
 	}
 
 }
@@ -14,12 +14,16 @@ import se.sundsvall.checklist.api.model.EmployeeChecklistResponse;
 import se.sundsvall.checklist.api.model.EmployeeChecklistResponse.Detail;
 import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
 import se.sundsvall.checklist.api.model.InitiationInformation;
+import se.sundsvall.checklist.api.model.InitiationJobStatus;
+import se.sundsvall.checklist.integration.db.model.ChangeEventEntity;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.CustomTaskEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeEntity;
 import se.sundsvall.checklist.integration.db.model.InitiationInfoEntity;
+import se.sundsvall.checklist.integration.db.model.InitiationJobEntity;
 import se.sundsvall.checklist.integration.db.model.ManagerEntity;
+import se.sundsvall.checklist.integration.db.model.MentorEntity;
 import se.sundsvall.checklist.integration.db.model.PhaseEntity;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
 import se.sundsvall.checklist.integration.db.model.enums.EmploymentPosition;
@@ -40,10 +44,12 @@ import static org.mockito.Mockito.mockStatic;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static se.sundsvall.checklist.TestObjectFactory.createCustomTaskEntity;
 import static se.sundsvall.checklist.TestObjectFactory.createEmployeeChecklistEntity;
 import static se.sundsvall.checklist.TestObjectFactory.createPhaseEntity;
 import static se.sundsvall.checklist.TestObjectFactory.createTaskEntity;
+import static se.sundsvall.checklist.integration.db.model.enums.ChangeType.DELEGATION;
 import static se.sundsvall.checklist.integration.db.model.enums.EmploymentPosition.EMPLOYEE;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toEmployeeChecklist;
 import static se.sundsvall.checklist.service.mapper.EmployeeChecklistMapper.toEmployeeChecklistPhase;
@@ -81,13 +87,16 @@ class EmployeeChecklistMapperTest {
 			.withStartDate(startDate)
 			.build();
 		final var checklistEntity = ChecklistEntity.builder()
+			.withTasks(List.of(TaskEntity.builder().build(), TaskEntity.builder().build()))
+			.build();
+		final var checklistEntityWithoutTasks = ChecklistEntity.builder()
 			.build();
 
 		// Act
-		final var entity = EmployeeChecklistMapper.toEmployeeChecklistEntity(employeeEntity, List.of(checklistEntity));
+		final var entity = EmployeeChecklistMapper.toEmployeeChecklistEntity(employeeEntity, List.of(checklistEntity, checklistEntityWithoutTasks));
 
 		// Assert
-		assertThat(entity.getChecklists()).hasSize(1).containsExactly(checklistEntity);
+		assertThat(entity.getChecklists()).hasSize(2).containsExactly(checklistEntity, checklistEntityWithoutTasks);
 		assertThat(entity.getCorrespondence()).isNull();
 		assertThat(entity.getCreated()).isNull();
 		assertThat(entity.getCustomFulfilments()).isNullOrEmpty();
@@ -101,6 +110,9 @@ class EmployeeChecklistMapperTest {
 		assertThat(entity.getUpdated()).isNull();
 		assertThat(entity.isCompleted()).isFalse();
 		assertThat(entity.isLocked()).isFalse();
+		assertThat(entity.getTotalTasks()).isEqualTo(2);
+		assertThat(entity.getCompletedTasks()).isZero();
+		assertThat(entity.getNotRelevantTasks()).isZero();
 	}
 
 	@ParameterizedTest
@@ -547,6 +559,130 @@ class EmployeeChecklistMapperTest {
 		assertThat(EmployeeChecklistMapper.toDetail(null, null)).hasAllNullFieldsOrProperties();
 	}
 
+	@Test
+	void toChangeEventEntity() {
+		final var bean = EmployeeChecklistMapper.toChangeEventEntity("employeeChecklistId", DELEGATION, "username");
+
+		assertThat(bean).hasAllNullFieldsOrPropertiesExcept("employeeChecklistId", "changeType", "username");
+		assertThat(bean.getEmployeeChecklistId()).isEqualTo("employeeChecklistId");
+		assertThat(bean.getChangeType()).isEqualTo(DELEGATION);
+		assertThat(bean.getUsername()).isEqualTo("username");
+	}
+
+	@Test
+	void toChangeEvent() {
+		final var entity = ChangeEventEntity.builder()
+			.withId(4711L)
+			.withEmployeeChecklistId("employeeChecklistId")
+			.withChangeType(DELEGATION)
+			.withUsername("username")
+			.withCreated(OffsetDateTime.now())
+			.build();
+
+		final var bean = EmployeeChecklistMapper.toChangeEvent(entity);
+
+		assertThat(bean).hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(4711L);
+		assertThat(bean.getEmployeeChecklistId()).isEqualTo("employeeChecklistId");
+		assertThat(bean.getChangeType()).isEqualTo(DELEGATION);
+	}
+
+	@Test
+	void toTombstoneEntity() {
+		final var bean = EmployeeChecklistMapper.toTombstoneEntity("employeeChecklistId", "taskId");
+
+		assertThat(bean).hasAllNullFieldsOrPropertiesExcept("employeeChecklistId", "taskId");
+		assertThat(bean.getEmployeeChecklistId()).isEqualTo("employeeChecklistId");
+		assertThat(bean.getTaskId()).isEqualTo("taskId");
+	}
+
+	@Test
+	void toEmployeeChecklistDelta() {
+		final var since = OffsetDateTime.now().minusDays(1);
+		final var until = OffsetDateTime.now();
+		final var updated = OffsetDateTime.now().minusHours(1);
+		final var entity = EmployeeChecklistEntity.builder()
+			.withId("employeeChecklistId")
+			.withCompleted(true)
+			.withLocked(true)
+			.withUpdated(updated)
+			.withMentor(MentorEntity.builder()
+				.withUserId("userId")
+				.withName("name")
+				.build())
+			.build();
+
+		final var bean = EmployeeChecklistMapper.toEmployeeChecklistDelta(entity, since, until);
+
+		assertThat(bean).hasAllNullFieldsOrPropertiesExcept("id", "since", "until", "completed", "locked", "mentor", "updated", "phases", "removedTaskIds");
+		assertThat(bean.getId()).isEqualTo("employeeChecklistId");
+		assertThat(bean.getSince()).isEqualTo(since);
+		assertThat(bean.getUntil()).isEqualTo(until);
+		assertThat(bean.getCompleted()).isTrue();
+		assertThat(bean.isLocked()).isTrue();
+		assertThat(bean.getMentor().getUserId()).isEqualTo("userId");
+		assertThat(bean.getMentor().getName()).isEqualTo("name");
+		assertThat(bean.getUpdated()).isEqualTo(updated);
+		assertThat(bean.getPhases()).isEmpty();
+		assertThat(bean.getRemovedTaskIds()).isEmpty();
+	}
+
+	@Test
+	void toEmployeeChecklistDeltaFromNull() {
+		assertThat(EmployeeChecklistMapper.toEmployeeChecklistDelta(null, OffsetDateTime.now(), OffsetDateTime.now())).isNull();
+	}
+
+	@Test
+	void toInitiationJobWhenRunning() {
+		final var entity = InitiationJobEntity.builder()
+			.withId("id")
+			.withStatus("RUNNING")
+			.withTotal(3)
+			.withProcessed(2)
+			.withErrors(1)
+			.withStarted(OffsetDateTime.now())
+			.build();
+
+		final var job = EmployeeChecklistMapper.toInitiationJob(entity, emptyList());
+
+		assertThat(job.getId()).isEqualTo("id");
+		assertThat(job.getStatus()).isEqualTo(InitiationJobStatus.RUNNING);
+		assertThat(job.getTotal()).isEqualTo(3);
+		assertThat(job.getProcessed()).isEqualTo(2);
+		assertThat(job.getErrors()).isOne();
+		assertThat(job.getStarted()).isEqualTo(entity.getStarted());
+		assertThat(job.getFinished()).isNull();
+		assertThat(job.getResult()).isNull();
+	}
+
+	@Test
+	void toInitiationJobWhenCompleted() {
+		final var entity = InitiationJobEntity.builder()
+			.withId("id")
+			.withStatus("COMPLETED")
+			.withTotal(3)
+			.withProcessed(3)
+			.withErrors(2)
+			.withSummary("summary")
+			.withStarted(OffsetDateTime.now().minusMinutes(1))
+			.withFinished(OffsetDateTime.now())
+			.build();
+		final var infos = List.of(
+			InitiationInfoEntity.builder().withStatus(String.valueOf(OK.value())).withInformation("Happy life").build(),
+			InitiationInfoEntity.builder().withStatus(String.valueOf(NOT_FOUND.value())).withInformation("Not wanted").build(),
+			InitiationInfoEntity.builder().withInformation("Mysterious error").build());
+
+		final var job = EmployeeChecklistMapper.toInitiationJob(entity, infos);
+
+		assertThat(job.getStatus()).isEqualTo(InitiationJobStatus.COMPLETED);
+		assertThat(job.getFinished()).isEqualTo(entity.getFinished());
+		assertThat(job.getResult().getSummary()).isEqualTo("summary");
+		assertThat(job.getResult().getDetails()).extracting(Detail::getStatus, Detail::getInformation).containsExactly(
+			tuple(OK, "Happy life"),
+			tuple(NOT_FOUND, "Not wanted"),
+			tuple(UNPROCESSABLE_ENTITY, "Mysterious error"));
+	}
+
 	@ParameterizedTest
 	@NullAndEmptySource
 	void toInitiationInformationFromEmptyList(final List<InitiationInfoEntity> entries) {
@@ -22,6 +22,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -52,8 +53,8 @@ class LockEmployeeChecklistsSchedulerShedlockTest {
 				mockCalledTime = LocalDateTime.now();
 				await().forever()
 					.until(() -> false);
-				return null;
-			}).when(mockBean).findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse(any(), any());
+				return 0;
+			}).when(mockBean).lockExpiredEmployeeChecklists(any(), any(), any(), anyInt());
 
 			return mockBean;
 		}
@@ -78,7 +79,7 @@ class LockEmployeeChecklistsSchedulerShedlockTest {
 				.isCloseTo(LocalDateTime.now(systemUTC()), within(10, ChronoUnit.SECONDS)));
 
 		// Only one call should be made as long as transferFiles() is locked and mock is waiting for first call to finish
-		verify(repository).findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse(any(), any());
+		verify(repository).lockExpiredEmployeeChecklists(any(), any(), any(), anyInt());
 		verifyNoMoreInteractions(repository);
 	}
 
@@ -1,22 +1,21 @@
 package se.sundsvall.checklist.service.scheduler;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.transaction.annotation.Transactional;
-import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
 import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
 import se.sundsvall.dept44.problem.ThrowableProblem;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -32,21 +31,21 @@ class LockEmployeeChecklistsSchedulerTest {
 	@Mock
 	private ChecklistProperties checklistPropertiesMock;
 
-	@InjectMocks
-	private LockEmployeeChecklistsScheduler scheduler;
-
-	@Captor
-	private ArgumentCaptor<EmployeeChecklistEntity> entityCaptor;
-
 	@Test
 	void verifyTransactionalAnnotation() throws NoSuchMethodException {
-		assertThat(LockEmployeeChecklistsScheduler.class.getMethod("execute").getAnnotation(Transactional.class)).isNotNull();
+		// Each (chunked) update is executed in a transaction of its own
+		final var method = EmployeeChecklistRepository.class.getMethod("lockExpiredEmployeeChecklists", String.class, LocalDate.class, LocalDateTime.class, int.class);
+
+		assertThat(LockEmployeeChecklistsScheduler.class.getMethod("execute").getAnnotation(Transactional.class)).isNull();
+		assertThat(method.getAnnotation(Transactional.class)).isNotNull();
+		assertThat(method.getAnnotation(Modifying.class)).isNotNull();
 	}
 
 	@Test
 	void executeWhenNoLockableEmployeeChecklistsExists() {
 		// Arrange
 		final var municipalityId = "municipalityId";
+		final var scheduler = new LockEmployeeChecklistsScheduler(employeeChecklistRepositoryMock, checklistPropertiesMock, 0);
 
 		when(checklistPropertiesMock.managedMunicipalityIds()).thenReturn(List.of(municipalityId));
 
@@ -55,40 +54,53 @@ class LockEmployeeChecklistsSchedulerTest {
 
 		// Assert and verify
 		verify(checklistPropertiesMock, times(2)).managedMunicipalityIds();
-		verify(employeeChecklistRepositoryMock).findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse(municipalityId, LocalDate.now());
-		verifyNoMoreInteractions(employeeChecklistRepositoryMock);
+		verify(employeeChecklistRepositoryMock).lockExpiredEmployeeChecklists(eq(municipalityId), eq(LocalDate.now()), any(LocalDateTime.class), eq(Integer.MAX_VALUE));
+		verifyNoMoreInteractions(employeeChecklistRepositoryMock, checklistPropertiesMock);
 	}
 
 	@Test
 	void executeWhenLockableEmployeeChecklistsExists() {
 		// Arrange
 		final var municipalityId = "municipalityId";
-		final var employeeChecklistsId = UUID.randomUUID().toString();
-		final var employeeChecklistsEntity = EmployeeChecklistEntity.builder()
-			.withId(employeeChecklistsId)
-			.build();
+		final var scheduler = new LockEmployeeChecklistsScheduler(employeeChecklistRepositoryMock, checklistPropertiesMock, 0);
 
 		when(checklistPropertiesMock.managedMunicipalityIds()).thenReturn(List.of(municipalityId));
-		when(employeeChecklistRepositoryMock.findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse(municipalityId, LocalDate.now())).thenReturn(List.of(employeeChecklistsEntity));
+		when(employeeChecklistRepositoryMock.lockExpiredEmployeeChecklists(eq(municipalityId), eq(LocalDate.now()), any(LocalDateTime.class), eq(Integer.MAX_VALUE))).thenReturn(3);
 
 		// Act
 		scheduler.execute();
 
 		// Assert and verify
 		verify(checklistPropertiesMock, times(2)).managedMunicipalityIds();
-		verify(employeeChecklistRepositoryMock).findAllByChecklistsMunicipalityIdAndExpirationDateIsBeforeAndLockedIsFalse(municipalityId, LocalDate.now());
-		verify(employeeChecklistRepositoryMock).save(entityCaptor.capture());
+		verify(employeeChecklistRepositoryMock).lockExpiredEmployeeChecklists(eq(municipalityId), eq(LocalDate.now()), any(LocalDateTime.class), eq(Integer.MAX_VALUE));
 		verifyNoMoreInteractions(employeeChecklistRepositoryMock, checklistPropertiesMock);
+	}
+
+	@Test
+	void executeInChunks() {
+		// Arrange
+		final var municipalityId = "municipalityId";
+		final var scheduler = new LockEmployeeChecklistsScheduler(employeeChecklistRepositoryMock, checklistPropertiesMock, 2);
 
-		assertThat(entityCaptor.getValue()).isEqualTo(employeeChecklistsEntity);
-		assertThat(entityCaptor.getValue().isLocked()).isTrue();
+		when(checklistPropertiesMock.managedMunicipalityIds()).thenReturn(List.of(municipalityId));
+		when(employeeChecklistRepositoryMock.lockExpiredEmployeeChecklists(eq(municipalityId), eq(LocalDate.now()), any(LocalDateTime.class), eq(2))).thenReturn(2, 2, 1);
+
+		// Act
+		scheduler.execute();
+
+		// Assert and verify
+		verify(checklistPropertiesMock, times(2)).managedMunicipalityIds();
+		verify(employeeChecklistRepositoryMock, times(3)).lockExpiredEmployeeChecklists(eq(municipalityId), eq(LocalDate.now()), any(LocalDateTime.class), eq(2));
 		verifyNoMoreInteractions(employeeChecklistRepositoryMock, checklistPropertiesMock);
 	}
 
 	@Test
 	void executeWhenNoManagedMunicipalitiesExists() {
+		// Arrange
+		final var scheduler = new LockEmployeeChecklistsScheduler(employeeChecklistRepositoryMock, checklistPropertiesMock, 0);
+
 		// Act
-		final var e = assertThrows(ThrowableProblem.class, () -> scheduler.execute());
+		final var e = assertThrows(ThrowableProblem.class, scheduler::execute);
 
 		// Assert and verify
 		assertThat(e.getStatus()).isEqualTo(INTERNAL_SERVER_ERROR);
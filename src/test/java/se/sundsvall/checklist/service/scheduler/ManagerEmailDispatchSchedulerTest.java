@@ -0,0 +1,40 @@
+package se.sundsvall.checklist.service.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.checklist.service.MailDispatcher;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ManagerEmailDispatchSchedulerTest {
+
+	@Mock
+	private MailDispatcher mailDispatcherMock;
+
+	@InjectMocks
+	private ManagerEmailDispatchScheduler scheduler;
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		verifyNoMoreInteractions(mailDispatcherMock);
+	}
+
+	@Test
+	void execute() {
+		// Arrange
+		when(mailDispatcherMock.dispatch()).thenReturn(3);
+
+		// Act
+		scheduler.execute();
+
+		// Assert and verify
+		verify(mailDispatcherMock).dispatch();
+	}
+}
@@ -18,7 +18,6 @@ import se.sundsvall.dept44.scheduling.health.Dept44HealthUtility;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -69,7 +68,7 @@ class ManagerEmailSchedulerTest {
 		// Assert and verify
 		verify(checklistPropertiesMock, times(2)).managedMunicipalityIds();
 		verify(communicationServiceMock).fetchManagersToSendMailTo(MUNICIPALITY_ID);
-		verify(communicationServiceMock).sendEmail(entity);
+		verify(communicationServiceMock).enqueueEmail(entity);
 		verify(communicationServiceMock).countCorrespondenceWithErrors();
 		verify(dept44HealthUtilityMock).setHealthIndicatorHealthy("my-scheduler-name");
 	}
@@ -108,9 +107,7 @@ class ManagerEmailSchedulerTest {
 
 		when(checklistPropertiesMock.managedMunicipalityIds()).thenReturn(List.of(MUNICIPALITY_ID));
 		when(communicationServiceMock.fetchManagersToSendMailTo(MUNICIPALITY_ID)).thenReturn(List.of(entityError, entitySent, entityException));
-		doNothing().when(communicationServiceMock).sendEmail(entityError);
-		doThrow(Problem.valueOf(BAD_GATEWAY, "Bad to the bone")).when(communicationServiceMock).sendEmail(entityException);
-		doNothing().when(communicationServiceMock).sendEmail(entitySent);
+		doThrow(Problem.valueOf(BAD_GATEWAY, "Bad to the bone")).when(communicationServiceMock).enqueueEmail(entityException);
 		when(communicationServiceMock.countCorrespondenceWithErrors()).thenReturn(2);
 
 		// Act
@@ -119,9 +116,9 @@ class ManagerEmailSchedulerTest {
 		// Assert and verify
 		verify(checklistPropertiesMock, times(2)).managedMunicipalityIds();
 		verify(communicationServiceMock).fetchManagersToSendMailTo(MUNICIPALITY_ID);
-		verify(communicationServiceMock).sendEmail(entityError);
-		verify(communicationServiceMock).sendEmail(entityException);
-		verify(communicationServiceMock).sendEmail(entitySent);
+		verify(communicationServiceMock).enqueueEmail(entityError);
+		verify(communicationServiceMock).enqueueEmail(entityException);
+		verify(communicationServiceMock).enqueueEmail(entitySent);
 		verify(communicationServiceMock).countCorrespondenceWithErrors();
 		verify(dept44HealthUtilityMock).setHealthIndicatorUnhealthy("my-scheduler-name", "Communication service error: 2 email has encountered exception while being processed and needs to be investigated");
 	}
@@ -0,0 +1,58 @@
+package se.sundsvall.checklist.service.scheduler;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.checklist.integration.db.repository.ChangeEventRepository;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PurgeChangeEventsSchedulerTest {
+
+	private static final Duration RETENTION = Duration.ofHours(24);
+
+	@Mock
+	private ChangeEventRepository changeEventRepositoryMock;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> createdCaptor;
+
+	private PurgeChangeEventsScheduler scheduler;
+
+	@BeforeEach
+	void setup() {
+		scheduler = new PurgeChangeEventsScheduler(changeEventRepositoryMock, RETENTION);
+	}
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		verifyNoMoreInteractions(changeEventRepositoryMock);
+	}
+
+	@Test
+	void execute() {
+		// Arrange
+		when(changeEventRepositoryMock.deleteByCreatedBefore(any())).thenReturn(3);
+
+		// Act
+		scheduler.execute();
+
+		// Assert and verify
+		verify(changeEventRepositoryMock).deleteByCreatedBefore(createdCaptor.capture());
+		assertThat(createdCaptor.getValue()).isCloseTo(OffsetDateTime.now().minus(RETENTION), within(2, SECONDS));
+	}
+}
@@ -53,7 +53,7 @@ class PurgeOldInitiationInfoSchedulerShedlockTest {
 				await().forever()
 					.until(() -> false);
 				return null;
-			}).when(mockBean).deleteAllByCreatedBefore(any());
+			}).when(mockBean).findIdsByCreatedBefore(any(), any());
 
 			return mockBean;
 		}
@@ -78,7 +78,7 @@ class PurgeOldInitiationInfoSchedulerShedlockTest {
 				.isCloseTo(LocalDateTime.now(systemUTC()), within(10, ChronoUnit.SECONDS)));
 
 		// Only one call should be made as long as transferFiles() is locked and mock is waiting for first call to finish
-		verify(repository).deleteAllByCreatedBefore(any());
+		verify(repository).findIdsByCreatedBefore(any(), any());
 		verifyNoMoreInteractions(repository);
 	}
 
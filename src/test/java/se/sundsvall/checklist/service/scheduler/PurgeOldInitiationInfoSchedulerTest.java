@@ -1,46 +1,108 @@
 package se.sundsvall.checklist.service.scheduler;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.checklist.integration.db.repository.InitiationRepository;
 
 import static java.time.temporal.ChronoUnit.DAYS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.checklist.service.scheduler.PurgeOldInitiationInfoScheduler.PURGED_ROWS_METRIC;
 
 @ExtendWith(MockitoExtension.class)
 class PurgeOldInitiationInfoSchedulerTest {
 
 	private static final int THRESHOLD_IN_DAYS = 123;
+	private static final int CHUNK_SIZE = 2;
 
 	@Mock
 	private InitiationRepository initiationRepositoryMock;
 
+	private SimpleMeterRegistry meterRegistry;
+
 	private PurgeOldInitiationInfoScheduler scheduler;
 
 	@BeforeEach
 	void setup() {
-		scheduler = new PurgeOldInitiationInfoScheduler(initiationRepositoryMock, THRESHOLD_IN_DAYS);
+		meterRegistry = new SimpleMeterRegistry();
+		scheduler = new PurgeOldInitiationInfoScheduler(initiationRepositoryMock, meterRegistry, THRESHOLD_IN_DAYS, CHUNK_SIZE, Duration.ZERO);
+	}
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		verifyNoMoreInteractions(initiationRepositoryMock);
 	}
 
 	@Test
-	void verifyTransactionalAnnotation() throws NoSuchMethodException {
-		assertThat(PurgeOldInitiationInfoScheduler.class.getMethod("execute").getAnnotation(Transactional.class)).isNotNull();
+	void verifyTransactionalAnnotations() throws NoSuchMethodException {
+		// Each chunk is deleted in a transaction of its own, hence the scheduled method must not be transactional
+		assertThat(PurgeOldInitiationInfoScheduler.class.getMethod("execute").getAnnotation(Transactional.class)).isNull();
+		assertThat(InitiationRepository.class.getMethod("deleteAllByIdIn", Collection.class).getAnnotation(Transactional.class)).isNotNull();
 	}
 
 	@Test
 	void execute() {
+		// Arrange
+		final var oldestCreatedDate = OffsetDateTime.now().truncatedTo(DAYS).minusDays(THRESHOLD_IN_DAYS);
+		when(initiationRepositoryMock.findIdsByCreatedBefore(oldestCreatedDate, Limit.of(CHUNK_SIZE)))
+			.thenReturn(List.of("id-1", "id-2"))
+			.thenReturn(List.of("id-3"));
+		when(initiationRepositoryMock.deleteAllByIdIn(List.of("id-1", "id-2"))).thenReturn(2);
+		when(initiationRepositoryMock.deleteAllByIdIn(List.of("id-3"))).thenReturn(1);
+
 		// Act
 		scheduler.execute();
 
 		// Assert and verify
-		verify(initiationRepositoryMock).deleteAllByCreatedBefore(OffsetDateTime.now().truncatedTo(DAYS).minusDays(THRESHOLD_IN_DAYS));
-		verifyNoMoreInteractions(initiationRepositoryMock);
+		verify(initiationRepositoryMock, times(2)).findIdsByCreatedBefore(oldestCreatedDate, Limit.of(CHUNK_SIZE));
+		verify(initiationRepositoryMock).deleteAllByIdIn(List.of("id-1", "id-2"));
+		verify(initiationRepositoryMock).deleteAllByIdIn(List.of("id-3"));
+		assertThat(meterRegistry.get(PURGED_ROWS_METRIC).counter().count()).isEqualTo(3);
+	}
+
+	@Test
+	void executeWhenLastChunkIsFull() {
+		// Arrange
+		final var oldestCreatedDate = OffsetDateTime.now().truncatedTo(DAYS).minusDays(THRESHOLD_IN_DAYS);
+		when(initiationRepositoryMock.findIdsByCreatedBefore(oldestCreatedDate, Limit.of(CHUNK_SIZE)))
+			.thenReturn(List.of("id-1", "id-2"))
+			.thenReturn(List.of());
+		when(initiationRepositoryMock.deleteAllByIdIn(List.of("id-1", "id-2"))).thenReturn(2);
+
+		// Act
+		scheduler.execute();
+
+		// Assert and verify
+		verify(initiationRepositoryMock, times(2)).findIdsByCreatedBefore(oldestCreatedDate, Limit.of(CHUNK_SIZE));
+		verify(initiationRepositoryMock).deleteAllByIdIn(List.of("id-1", "id-2"));
+		assertThat(meterRegistry.get(PURGED_ROWS_METRIC).counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void executeWhenNothingToPurge() {
+		// Arrange
+		final var oldestCreatedDate = OffsetDateTime.now().truncatedTo(DAYS).minusDays(THRESHOLD_IN_DAYS);
+		when(initiationRepositoryMock.findIdsByCreatedBefore(oldestCreatedDate, Limit.of(CHUNK_SIZE))).thenReturn(List.of());
+
+		// Act
+		scheduler.execute();
+
+		// Assert and verify
+		verify(initiationRepositoryMock).findIdsByCreatedBefore(oldestCreatedDate, Limit.of(CHUNK_SIZE));
+		assertThat(meterRegistry.get(PURGED_ROWS_METRIC).counter().count()).isZero();
 	}
 }
@@ -0,0 +1,92 @@
+package se.sundsvall.checklist.service.scheduler;
+
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.checklist.integration.db.repository.EmployeeChecklistRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecalculateCompletionCountersSchedulerTest {
+
+	private static final int CHUNK_SIZE = 2;
+
+	@Mock
+	private EmployeeChecklistRepository employeeChecklistRepositoryMock;
+
+	private RecalculateCompletionCountersScheduler scheduler;
+
+	@BeforeEach
+	void setup() {
+		scheduler = new RecalculateCompletionCountersScheduler(employeeChecklistRepositoryMock, CHUNK_SIZE);
+	}
+
+	@AfterEach
+	void verifyNoMoreMockInteractions() {
+		verifyNoMoreInteractions(employeeChecklistRepositoryMock);
+	}
+
+	@Test
+	void verifyTransactionalAnnotations() throws NoSuchMethodException {
+		// Each chunk is recalculated in a transaction of its own, hence the scheduled method must not be transactional
+		assertThat(RecalculateCompletionCountersScheduler.class.getMethod("execute").getAnnotation(Transactional.class)).isNull();
+		assertThat(EmployeeChecklistRepository.class.getMethod("recalculateCompletionCounters", Collection.class).getAnnotation(Transactional.class)).isNotNull();
+	}
+
+	@Test
+	void execute() {
+		// Arrange
+		when(employeeChecklistRepositoryMock.findIdsByIdGreaterThan("", Limit.of(CHUNK_SIZE))).thenReturn(List.of("id-1", "id-2"));
+		when(employeeChecklistRepositoryMock.findIdsByIdGreaterThan("id-2", Limit.of(CHUNK_SIZE))).thenReturn(List.of("id-3"));
+		when(employeeChecklistRepositoryMock.recalculateCompletionCounters(List.of("id-1", "id-2"))).thenReturn(2);
+		when(employeeChecklistRepositoryMock.recalculateCompletionCounters(List.of("id-3"))).thenReturn(1);
+
+		// Act
+		scheduler.execute();
+
+		// Assert and verify
+		verify(employeeChecklistRepositoryMock).findIdsByIdGreaterThan("", Limit.of(CHUNK_SIZE));
+		verify(employeeChecklistRepositoryMock).findIdsByIdGreaterThan("id-2", Limit.of(CHUNK_SIZE));
+		verify(employeeChecklistRepositoryMock).recalculateCompletionCounters(List.of("id-1", "id-2"));
+		verify(employeeChecklistRepositoryMock).recalculateCompletionCounters(List.of("id-3"));
+	}
+
+	@Test
+	void executeWhenLastChunkIsFull() {
+		// Arrange
+		when(employeeChecklistRepositoryMock.findIdsByIdGreaterThan("", Limit.of(CHUNK_SIZE))).thenReturn(List.of("id-1", "id-2"));
+		when(employeeChecklistRepositoryMock.findIdsByIdGreaterThan("id-2", Limit.of(CHUNK_SIZE))).thenReturn(List.of());
+		when(employeeChecklistRepositoryMock.recalculateCompletionCounters(List.of("id-1", "id-2"))).thenReturn(2);
+
+		// Act
+		scheduler.execute();
+
+		// Assert and verify
+		verify(employeeChecklistRepositoryMock).findIdsByIdGreaterThan("", Limit.of(CHUNK_SIZE));
+		verify(employeeChecklistRepositoryMock).findIdsByIdGreaterThan("id-2", Limit.of(CHUNK_SIZE));
+		verify(employeeChecklistRepositoryMock).recalculateCompletionCounters(List.of("id-1", "id-2"));
+	}
+
+	@Test
+	void executeWhenNoEmployeeChecklists() {
+		// Arrange
+		when(employeeChecklistRepositoryMock.findIdsByIdGreaterThan("", Limit.of(CHUNK_SIZE))).thenReturn(List.of());
+
+		// Act
+		scheduler.execute();
+
+		// Assert and verify
+		verify(employeeChecklistRepositoryMock).findIdsByIdGreaterThan("", Limit.of(CHUNK_SIZE));
+	}
+}
@@ -0,0 +1,43 @@
+package se.sundsvall.checklist.service.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.checklist.integration.company.OrganizationIndexProvider;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpCachesOnStartUpTest {
+
+	@Mock
+	private ChecklistProperties checklistPropertiesMock;
+
+	@Mock
+	private OrganizationIndexProvider organizationIndexProviderMock;
+
+	@Test
+	void testOnStartup() {
+		when(checklistPropertiesMock.managedMunicipalityIds()).thenReturn(List.of("2281", "2260"));
+		// Failure for one municipality must not prevent warm up of the others
+		when(organizationIndexProviderMock.getIndex("2281")).thenThrow(new RuntimeException("boom"));
+
+		new WarmUpCachesOnStartUp(checklistPropertiesMock, organizationIndexProviderMock, Duration.ofSeconds(1));
+
+		await()
+			.atMost(Duration.ofSeconds(3))
+			.with()
+			.pollInterval(Duration.ofMillis(100))
+			.ignoreExceptions()
+			.until(() -> {
+				verify(organizationIndexProviderMock).getIndex("2281");
+				verify(organizationIndexProviderMock).getIndex("2260");
+				return true;
+			});
+	}
+}
@@ -52,6 +52,39 @@ class EmployeeChecklistDecoratorTest {
 		assertThat(result.getPhases().getFirst().getTasks()).hasSize(2).extracting(EmployeeChecklistTask::getSortOrder).containsExactly(1, 2);
 	}
 
+	@Test
+	void decorateChecklistWithCustomTasksInMultiplePhases() {
+		// Arrange
+		final var phaseId1 = UUID.randomUUID().toString();
+		final var phaseId2 = UUID.randomUUID().toString();
+		final var checklist = EmployeeChecklist.builder()
+			.withPhases(List.of(
+				EmployeeChecklistPhase.builder()
+					.withId(phaseId1)
+					.withTasks(new ArrayList<>(List.of(
+						EmployeeChecklistTask.builder().withId("task-1").withSortOrder(1).build(),
+						EmployeeChecklistTask.builder().withId("task-3").withSortOrder(3).build())))
+					.build(),
+				EmployeeChecklistPhase.builder()
+					.withId(phaseId2)
+					.withTasks(new ArrayList<>(List.of(
+						EmployeeChecklistTask.builder().withId("task-2").withSortOrder(2).build())))
+					.build()))
+			.build();
+
+		final var customTasks = List.of(
+			CustomTaskEntity.builder().withId("custom-4").withSortOrder(4).withPhase(PhaseEntity.builder().withId(phaseId1).build()).build(),
+			CustomTaskEntity.builder().withId("custom-3").withSortOrder(3).withPhase(PhaseEntity.builder().withId(phaseId1).build()).build(),
+			CustomTaskEntity.builder().withId("custom-1").withSortOrder(1).withPhase(PhaseEntity.builder().withId(phaseId2).build()).build());
+
+		// Act
+		final var result = EmployeeChecklistDecorator.decorateWithCustomTasks(checklist, customTasks);
+
+		// Assert (tasks with equal sort order keeps the order they were added in)
+		assertThat(result.getPhases().getFirst().getTasks()).extracting(EmployeeChecklistTask::getId).containsExactly("task-1", "task-3", "custom-3", "custom-4");
+		assertThat(result.getPhases().getLast().getTasks()).extracting(EmployeeChecklistTask::getId).containsExactly("custom-1", "task-2");
+	}
+
 	@Test
 	void decorateChecklistWithCustomTasksWhenNoMatchingPhase() {
 		// Arrange
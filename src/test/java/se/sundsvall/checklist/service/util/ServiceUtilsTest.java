@@ -4,13 +4,10 @@ import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.EnumSource;
-import org.junit.jupiter.params.provider.EnumSource.Mode;
+import org.junit.jupiter.params.provider.CsvSource;
 import se.sundsvall.checklist.integration.db.model.ChecklistEntity;
-import se.sundsvall.checklist.integration.db.model.CustomFulfilmentEntity;
 import se.sundsvall.checklist.integration.db.model.CustomTaskEntity;
 import se.sundsvall.checklist.integration.db.model.EmployeeChecklistEntity;
-import se.sundsvall.checklist.integration.db.model.FulfilmentEntity;
 import se.sundsvall.checklist.integration.db.model.TaskEntity;
 import se.sundsvall.checklist.integration.db.model.enums.FulfilmentStatus;
 import se.sundsvall.checklist.service.model.Employee;
@@ -91,106 +88,18 @@ class ServiceUtilsTest {
 		assertThat(e.getMessage()).isEqualTo("Not Found: No main employment found for employee with loginname %s.".formatted(username));
 	}
 
-	@Test
-	void allTasksAreCompletedWhenAllFulfilmentsAreTrue() {
-		final var task1 = TaskEntity.builder().withId("task_1").build();
-		final var task2 = TaskEntity.builder().withId("task_2").build();
-		final var customTask1 = CustomTaskEntity.builder().withId("task_3").build();
-		final var customTask2 = CustomTaskEntity.builder().withId("task_4").build();
-
-		final var fulfilmentTask1 = FulfilmentEntity.builder().withTask(task1).withCompleted(FulfilmentStatus.TRUE).build();
-		final var fulfilmentTask2 = FulfilmentEntity.builder().withTask(task2).withCompleted(FulfilmentStatus.TRUE).build();
-		final var fulfilmentCustomTask1 = CustomFulfilmentEntity.builder().withCustomTask(customTask1).withCompleted(FulfilmentStatus.TRUE).build();
-		final var fulfilmentCustomTask2 = CustomFulfilmentEntity.builder().withCustomTask(customTask2).withCompleted(FulfilmentStatus.TRUE).build();
-
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder().withTasks(List.of(task1, task2)).build()))
-			.withFulfilments(List.of(fulfilmentTask1, fulfilmentTask2))
-			.withCustomTasks(List.of(customTask1, customTask2))
-			.withCustomFulfilments(List.of(fulfilmentCustomTask1, fulfilmentCustomTask2))
-			.build();
-
-		assertThat(ServiceUtils.allTasksAreCompleted(employeeChecklistEntity)).isTrue();
-	}
-
 	@ParameterizedTest
-	@EnumSource(value = FulfilmentStatus.class, mode = Mode.EXCLUDE, names = "TRUE")
-	void allTasksAreNotCompletedWhenFulfilmentsHaveFalseOrEmptyValue(final FulfilmentStatus fulfilmentStatus) {
-		final var task1 = TaskEntity.builder().withId("task_1").build();
-		final var task2 = TaskEntity.builder().withId("task_2").build();
-		final var customTask1 = CustomTaskEntity.builder().withId("task_3").build();
-
-		final var fulfilmentTask1 = FulfilmentEntity.builder().withTask(task1).withCompleted(fulfilmentStatus).build();
-		final var fulfilmentTask2 = FulfilmentEntity.builder().withTask(task2).withCompleted(FulfilmentStatus.TRUE).build();
-		final var fulfilmentCustomTask1 = CustomFulfilmentEntity.builder().withCustomTask(customTask1).withCompleted(FulfilmentStatus.TRUE).build();
-
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder().withTasks(List.of(task1, task2)).build()))
-			.withFulfilments(List.of(fulfilmentTask1, fulfilmentTask2))
-			.withCustomTasks(List.of(customTask1))
-			.withCustomFulfilments(List.of(fulfilmentCustomTask1))
-			.build();
-
-		assertThat(ServiceUtils.allTasksAreCompleted(employeeChecklistEntity)).isFalse();
-	}
-
-	@ParameterizedTest
-	@EnumSource(value = FulfilmentStatus.class, mode = Mode.EXCLUDE, names = "TRUE")
-	void allTasksAreNotCompletedWhenCustomFulfilmentsHaveFalseOrEmptyValue(final FulfilmentStatus fulfilmentStatus) {
-		final var task1 = TaskEntity.builder().withId("task_1").build();
-		final var customTask1 = CustomTaskEntity.builder().withId("task_3").build();
-		final var customTask2 = CustomTaskEntity.builder().withId("task_4").build();
-
-		final var fulfilmentTask1 = FulfilmentEntity.builder().withTask(task1).withCompleted(FulfilmentStatus.TRUE).build();
-		final var fulfilmentCustomTask1 = CustomFulfilmentEntity.builder().withCustomTask(customTask1).withCompleted(FulfilmentStatus.TRUE).build();
-		final var fulfilmentCustomTask2 = CustomFulfilmentEntity.builder().withCustomTask(customTask2).withCompleted(fulfilmentStatus).build();
-
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder().withTasks(List.of(task1)).build()))
-			.withFulfilments(List.of(fulfilmentTask1))
-			.withCustomTasks(List.of(customTask1, customTask2))
-			.withCustomFulfilments(List.of(fulfilmentCustomTask1, fulfilmentCustomTask2))
-			.build();
-
-		assertThat(ServiceUtils.allTasksAreCompleted(employeeChecklistEntity)).isFalse();
-	}
-
-	@Test
-	void allTasksAreNotCompletedWhenTasksHasNoFulfilmentsData() {
-		final var task1 = TaskEntity.builder().withId("task_1").build();
-		final var task2 = TaskEntity.builder().withId("task_2").build();
-		final var customTask1 = CustomTaskEntity.builder().withId("task_3").build();
-
-		final var fulfilmentTask1 = FulfilmentEntity.builder().withTask(task1).withCompleted(FulfilmentStatus.TRUE).build();
-		final var fulfilmentCustomTask1 = CustomFulfilmentEntity.builder().withCustomTask(customTask1).withCompleted(FulfilmentStatus.TRUE).build();
-
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder().withTasks(List.of(task1, task2)).build()))
-			.withFulfilments(List.of(fulfilmentTask1))
-			.withCustomTasks(List.of(customTask1))
-			.withCustomFulfilments(List.of(fulfilmentCustomTask1))
-			.build();
-
-		assertThat(ServiceUtils.allTasksAreCompleted(employeeChecklistEntity)).isFalse();
-	}
-
-	@Test
-	void allTasksAreNotCompletedWhenCustomTasksHasNoFulfilmentsData() {
-		final var task1 = TaskEntity.builder().withId("task_1").build();
-		final var customTask1 = CustomTaskEntity.builder().withId("task_3").build();
-		final var customTask2 = CustomTaskEntity.builder().withId("task_4").build();
-
-		final var fulfilmentTask1 = FulfilmentEntity.builder().withTask(task1).withCompleted(FulfilmentStatus.TRUE).build();
-		final var fulfilmentCustomTask1 = CustomFulfilmentEntity.builder().withCustomTask(customTask1).withCompleted(FulfilmentStatus.TRUE).build();
-
-		final var employeeChecklistEntity = EmployeeChecklistEntity.builder()
-			.withChecklists(List.of(ChecklistEntity.builder().withTasks(List.of(task1)).build()))
-			.withFulfilments(List.of(fulfilmentTask1))
-			.withCustomTasks(List.of(customTask1, customTask2))
-			.withCustomFulfilments(List.of(fulfilmentCustomTask1))
-			.build();
-
-		assertThat(ServiceUtils.allTasksAreCompleted(employeeChecklistEntity)).isFalse();
+	@CsvSource(value = {
+		"TRUE, NULL, TRUE, 1",
+		"TRUE, TRUE, NULL, -1",
+		"TRUE, TRUE, TRUE, 0",
+		"TRUE, FALSE, TRUE, 1",
+		"TRUE, NULL, NOT_RELEVANT, 0",
+		"NOT_RELEVANT, EMPTY, NOT_RELEVANT, 1",
+		"NOT_RELEVANT, NOT_RELEVANT, TRUE, -1"
+	}, nullValues = "NULL")
+	void countDelta(final FulfilmentStatus counted, final FulfilmentStatus from, final FulfilmentStatus to, final int expected) {
+		assertThat(ServiceUtils.countDelta(counted, from, to)).isEqualTo(expected);
 	}
 
 	@Test
@@ -0,0 +1,129 @@
+package se.sundsvall.checklist.service.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import se.sundsvall.checklist.api.model.EmployeeChecklist;
+import se.sundsvall.checklist.api.model.EmployeeChecklistPhase;
+import se.sundsvall.checklist.api.model.EmployeeChecklistTask;
+import se.sundsvall.checklist.integration.db.model.SortorderEntity;
+
+import static java.util.Collections.emptyList;
+import static java.util.Optional.ofNullable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.checklist.integration.db.model.enums.ComponentType.PHASE;
+import static se.sundsvall.checklist.integration.db.model.enums.ComponentType.TASK;
+
+/**
+ * Compares the map based application of custom sort order in {@link SortingUtils} with the previous implementation
+ * (which searched all phases and tasks for each custom sort entry) on a checklist with 300 tasks and a fully populated
+ * custom sort order. The test verifies that both produce the same result and logs the measured times.
+ * <p>
+ * Being a timing benchmark, the test is excluded from the unit test suite and is run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class SortingUtilsBenchmarkTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SortingUtilsBenchmarkTest.class);
+
+	private static final int PHASES = 10;
+	private static final int TASKS_PER_PHASE = 30;
+	private static final int WARMUP_ITERATIONS = 200;
+	private static final int ITERATIONS = 1000;
+
+	@Test
+	void applyCustomSortorderToEmployeeChecklistWith300Tasks() {
+		final var customSort = createCustomSort(createEmployeeChecklist());
+
+		// Verify that both implementations produce the same result
+		final var expected = createEmployeeChecklist();
+		final var actual = createEmployeeChecklist();
+		applyCustomSortorderLinear(expected, customSort);
+		SortingUtils.applyCustomSortorder(actual, customSort);
+		assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+
+		// Measure
+		final var linearNanos = measure(checklist -> applyCustomSortorderLinear(checklist, customSort));
+		final var indexedNanos = measure(checklist -> SortingUtils.applyCustomSortorder(checklist, customSort));
+
+		LOGGER.info("Applying custom sort ({} entries) to checklist with {} tasks: linear search {} µs/op, indexed {} µs/op ({}x)",
+			customSort.size(), PHASES * TASKS_PER_PHASE, linearNanos / 1000, indexedNanos / 1000, String.format("%.1f", (double) linearNanos / Math.max(indexedNanos, 1)));
+	}
+
+	private static long measure(final Consumer<EmployeeChecklist> operation) {
+		final var checklists = IntStream.range(0, WARMUP_ITERATIONS + ITERATIONS)
+			.mapToObj(i -> createEmployeeChecklist())
+			.toList();
+
+		checklists.subList(0, WARMUP_ITERATIONS).forEach(operation);
+
+		final var start = System.nanoTime();
+		checklists.subList(WARMUP_ITERATIONS, checklists.size()).forEach(operation);
+		return (System.nanoTime() - start) / ITERATIONS;
+	}
+
+	private static EmployeeChecklist createEmployeeChecklist() {
+		return EmployeeChecklist.builder()
+			.withPhases(IntStream.range(0, PHASES)
+				.mapToObj(phase -> EmployeeChecklistPhase.builder()
+					.withId("phase-" + phase)
+					.withSortOrder(phase)
+					.withTasks(IntStream.range(0, TASKS_PER_PHASE)
+						.mapToObj(task -> EmployeeChecklistTask.builder()
+							.withId("task-" + phase + "-" + task)
+							.withSortOrder(task)
+							.build())
+						.toList())
+					.build())
+				.toList())
+			.build();
+	}
+
+	private static List<SortorderEntity> createCustomSort(final EmployeeChecklist employeeChecklist) {
+		final var customSort = new ArrayList<SortorderEntity>();
+		employeeChecklist.getPhases().forEach(phase -> {
+			customSort.add(SortorderEntity.builder()
+				.withId(UUID.randomUUID().toString())
+				.withComponentId(phase.getId())
+				.withComponentType(PHASE)
+				.withPosition(PHASES - phase.getSortOrder())
+				.build());
+			phase.getTasks().forEach(task -> customSort.add(SortorderEntity.builder()
+				.withId(UUID.randomUUID().toString())
+				.withComponentId(task.getId())
+				.withComponentType(TASK)
+				.withPosition(TASKS_PER_PHASE - task.getSortOrder())
+				.build()));
+		});
+		return customSort;
+	}
+
+	/**
+	 * The previous implementation, searching all phases and tasks for each custom sort entry.
+	 */
+	private static void applyCustomSortorderLinear(final EmployeeChecklist employeeChecklist, final List<SortorderEntity> customSort) {
+		customSort.stream()
+			.filter(entity -> PHASE == entity.getComponentType())
+			.forEach(entity -> ofNullable(employeeChecklist.getPhases()).orElse(emptyList()).stream()
+				.filter(phase -> phase.getId().equals(entity.getComponentId()))
+				.findAny()
+				.ifPresent(phase -> phase.setSortOrder(entity.getPosition())));
+
+		customSort.stream()
+			.filter(entity -> TASK == entity.getComponentType())
+			.forEach(entity -> ofNullable(employeeChecklist.getPhases()).orElse(emptyList()).stream()
+				.map(EmployeeChecklistPhase::getTasks)
+				.filter(Objects::nonNull)
+				.flatMap(List::stream)
+				.filter(task -> task.getId().equals(entity.getComponentId()))
+				.findAny()
+				.ifPresent(task -> task.setSortOrder(entity.getPosition())));
+	}
+}
@@ -47,6 +47,71 @@ class SortingUtilsTest {
 		assertThat(employeeChecklist.getPhases().getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(202);
 	}
 
+	@Test
+	void applyCustomSortorderToEmployeeChecklistWithDuplicateComponentIds() {
+		final var employeeChecklist = EmployeeChecklist.builder()
+			.withPhases(List.of(
+				EmployeeChecklistPhase.builder()
+					.withId(PHASE_ID1)
+					.withSortOrder(1)
+					.withTasks(List.of(
+						EmployeeChecklistTask.builder()
+							.withId(TASK_ID1)
+							.withSortOrder(2)
+							.build()))
+					.build()))
+			.build();
+
+		SortingUtils.applyCustomSortorder(employeeChecklist, List.of(
+			SortorderEntity.builder().withComponentId(PHASE_ID1).withComponentType(PHASE).withPosition(101).build(),
+			SortorderEntity.builder().withComponentId(TASK_ID1).withComponentType(TASK).withPosition(202).build(),
+			SortorderEntity.builder().withComponentId(PHASE_ID1).withComponentType(PHASE).withPosition(303).build(),
+			SortorderEntity.builder().withComponentId(TASK_ID1).withComponentType(TASK).withPosition(404).build()));
+
+		// Last occurrence of a component wins
+		assertThat(employeeChecklist.getPhases().getFirst().getSortOrder()).isEqualTo(303);
+		assertThat(employeeChecklist.getPhases().getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(404);
+	}
+
+	@Test
+	void applyCustomSortorderToEmployeeChecklistWhenPhaseAndTaskShareComponentId() {
+		final var componentId = UUID.randomUUID().toString();
+		final var employeeChecklist = EmployeeChecklist.builder()
+			.withPhases(List.of(
+				EmployeeChecklistPhase.builder()
+					.withId(componentId)
+					.withSortOrder(1)
+					.withTasks(List.of(
+						EmployeeChecklistTask.builder()
+							.withId(componentId)
+							.withSortOrder(2)
+							.build()))
+					.build()))
+			.build();
+
+		SortingUtils.applyCustomSortorder(employeeChecklist, List.of(
+			SortorderEntity.builder().withComponentId(componentId).withComponentType(TASK).withPosition(202).build(),
+			SortorderEntity.builder().withComponentId(componentId).withComponentType(PHASE).withPosition(101).build()));
+
+		assertThat(employeeChecklist.getPhases().getFirst().getSortOrder()).isEqualTo(101);
+		assertThat(employeeChecklist.getPhases().getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(202);
+	}
+
+	@Test
+	void applyCustomSortorderToEmployeeChecklistWhenNoCustomSort() {
+		final var employeeChecklist = EmployeeChecklist.builder()
+			.withPhases(List.of(
+				EmployeeChecklistPhase.builder()
+					.withId(PHASE_ID1)
+					.withSortOrder(1)
+					.build()))
+			.build();
+
+		SortingUtils.applyCustomSortorder(employeeChecklist, null);
+
+		assertThat(employeeChecklist.getPhases().getFirst().getSortOrder()).isOne();
+	}
+
 	@Test
 	void sortEmployeeChecklistPhasesWhenDifferentOrder() {
 		final var phases = List.of(
@@ -192,6 +257,44 @@ class SortingUtilsTest {
 		assertThat(checklist.getPhases().getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(202);
 	}
 
+	@Test
+	void applyCustomSortorderToChecklistWhenPhaseAndTaskShareComponentId() {
+		final var componentId = UUID.randomUUID().toString();
+		final var checklist = Checklist.builder()
+			.withPhases(
+				List.of(Phase.builder()
+					.withId(componentId)
+					.withSortOrder(1)
+					.withTasks(
+						List.of(Task.builder()
+							.withId(componentId)
+							.withSortOrder(2)
+							.build()))
+					.build()))
+			.build();
+
+		SortingUtils.applyCustomSortorder(checklist, List.of(
+			SortorderEntity.builder().withComponentId(componentId).withComponentType(PHASE).withPosition(101).build(),
+			SortorderEntity.builder().withComponentId(componentId).withComponentType(TASK).withPosition(202).build(),
+			SortorderEntity.builder().withComponentId(componentId).withComponentType(TASK).withPosition(303).build()));
+
+		assertThat(checklist.getPhases().getFirst().getSortOrder()).isEqualTo(101);
+		assertThat(checklist.getPhases().getFirst().getTasks().getFirst().getSortOrder()).isEqualTo(303);
+	}
+
+	@Test
+	void applyCustomSortorderToListOfTasksIgnoresPhaseEntries() {
+		final var tasks = List.of(
+			Task.builder()
+				.withId(PHASE_ID1)
+				.withSortOrder(1)
+				.build());
+
+		SortingUtils.applyCustomSortorder(tasks, createCustomorderForTasks());
+
+		assertThat(tasks.getFirst().getSortOrder()).isOne();
+	}
+
 	@Test
 	void applyCustomSortorderToListOfTasks() {
 		final var tasks = List.of(
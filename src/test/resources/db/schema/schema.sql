@@ -1,4 +1,13 @@
 
+    create table change_event (
+        created datetime(6),
+        id bigint not null auto_increment,
+        employee_checklist_id varchar(255) not null,
+        username varchar(255),
+        change_type enum ('CUSTOM_TASK','DELEGATION','FULFILMENT','MENTOR') not null,
+        primary key (id)
+    ) engine=InnoDB;
+
     create table checklist (
         version integer,
         created datetime(6),
@@ -96,6 +105,9 @@
         expiration_date date,
         locked bit,
         start_date date,
+        completed_tasks integer,
+        not_relevant_tasks integer,
+        total_tasks integer,
         created datetime(6),
         updated datetime(6),
         correspondence_id varchar(255),
@@ -106,6 +118,13 @@
         primary key (id)
     ) engine=InnoDB;
 
+    create table employee_import_watermark (
+        last_successful_import date,
+        updated datetime(6),
+        municipality_id varchar(255) not null,
+        primary key (municipality_id)
+    ) engine=InnoDB;
+
     create table fulfilment (
         updated datetime(6),
         employee_checklist_id varchar(255),
@@ -127,6 +146,30 @@
         primary key (id)
     ) engine=InnoDB;
 
+    create table initiation_job (
+        errors integer not null,
+        processed integer not null,
+        total integer,
+        finished datetime(6),
+        heartbeat datetime(6),
+        started datetime(6),
+        id varchar(255) not null,
+        municipality_id varchar(255) not null,
+        status varchar(255) not null,
+        summary varchar(2048),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table mail_outbox (
+        created datetime(6),
+        next_attempt datetime(6),
+        email_template varchar(255) not null,
+        employee_checklist_id varchar(255) not null,
+        id varchar(255) not null,
+        municipality_id varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
     create table manager (
         created datetime(6),
         updated datetime(6),
@@ -191,6 +234,17 @@
         primary key (id)
     ) engine=InnoDB;
 
+    create table tombstone (
+        deleted datetime(6),
+        id bigint not null auto_increment,
+        employee_checklist_id varchar(255) not null,
+        task_id varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create index change_event_created_idx 
+       on change_event (created);
+
     alter table if exists checklist 
        add constraint uk_checklist_name_municipality_id_version unique (name, municipality_id, version);
 
@@ -224,6 +278,18 @@
     alter table if exists employee_checklist 
        add constraint uk_employee_id unique (employee_id);
 
+    create index initiation_info_created_idx 
+       on initiation_info (created);
+
+    create index initiation_job_municipality_id_status_idx 
+       on initiation_job (municipality_id, status);
+
+    create index mail_outbox_next_attempt_idx 
+       on mail_outbox (next_attempt);
+
+    alter table if exists mail_outbox 
+       add constraint uk_mail_outbox_employee_checklist_id unique (employee_checklist_id);
+
     create index idx_manager_username 
        on manager (username);
 
@@ -239,6 +305,9 @@
     alter table if exists referred_checklist 
        add constraint uk_employee_checklist_id_checklist_id unique (employee_checklist_id, checklist_id);
 
+    create index tombstone_employee_checklist_id_deleted_idx 
+       on tombstone (employee_checklist_id, deleted);
+
     alter table if exists checklist 
        add constraint fk_organization_checklist 
        foreign key (organization_id) 
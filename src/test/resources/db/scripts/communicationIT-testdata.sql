@@ -30,3 +30,12 @@ INSERT INTO referred_checklist (employee_checklist_id, checklist_id)
 VALUES ('1fb37edc-eb16-4ac3-a436-02971f020b28', '113ec51b-f122-4b1a-a040-ed38c7a6656e'),
        ('2fb37edc-eb16-4ac3-a436-02971f020b28', '213ec51b-f122-4b1a-a040-ed38c7a6656e'),
        ('3fb37edc-eb16-4ac3-a436-02971f020b28', '313ec51b-f122-4b1a-a040-ed38c7a6656e');
+
+-- Completion counters
+UPDATE employee_checklist ec
+SET ec.total_tasks        = (SELECT COUNT(*) FROM referred_checklist rc JOIN task t ON t.checklist_id = rc.checklist_id WHERE rc.employee_checklist_id = ec.id)
+    + (SELECT COUNT(*) FROM custom_task ct WHERE ct.employee_checklist_id = ec.id),
+    ec.completed_tasks    = (SELECT COUNT(DISTINCT f.task_id) FROM fulfilment f WHERE f.employee_checklist_id = ec.id AND f.completed = 'TRUE')
+        + (SELECT COUNT(DISTINCT cf.custom_task_id) FROM custom_fulfilment cf WHERE cf.employee_checklist_id = ec.id AND cf.completed = 'TRUE'),
+    ec.not_relevant_tasks = (SELECT COUNT(DISTINCT f.task_id) FROM fulfilment f WHERE f.employee_checklist_id = ec.id AND f.completed = 'NOT_RELEVANT')
+        + (SELECT COUNT(DISTINCT cf.custom_task_id) FROM custom_fulfilment cf WHERE cf.employee_checklist_id = ec.id AND cf.completed = 'NOT_RELEVANT');
@@ -34,3 +34,12 @@ VALUES ('1fb37edc-eb16-4ac3-a436-02971f020b28', '113ec51b-f122-4b1a-a040-ed38c7a
 
 INSERT INTO delegate(id, party_id, username, first_name, last_name, email, manager_id, employee_checklist_id)
 VALUES ('17aab7e8-a8fb-480b-a8d7-250cae716e77', '11ad1a4c-1ca5-4281-8c89-c70116f527e2', 'username', 'John', 'Doe', 'test@test5.com', '1273fadb-0455-455e-a5e6-0eebda329867', '1fb37edc-eb16-4ac3-a436-02971f020b28');
+
+-- Completion counters
+UPDATE employee_checklist ec
+SET ec.total_tasks        = (SELECT COUNT(*) FROM referred_checklist rc JOIN task t ON t.checklist_id = rc.checklist_id WHERE rc.employee_checklist_id = ec.id)
+    + (SELECT COUNT(*) FROM custom_task ct WHERE ct.employee_checklist_id = ec.id),
+    ec.completed_tasks    = (SELECT COUNT(DISTINCT f.task_id) FROM fulfilment f WHERE f.employee_checklist_id = ec.id AND f.completed = 'TRUE')
+        + (SELECT COUNT(DISTINCT cf.custom_task_id) FROM custom_fulfilment cf WHERE cf.employee_checklist_id = ec.id AND cf.completed = 'TRUE'),
+    ec.not_relevant_tasks = (SELECT COUNT(DISTINCT f.task_id) FROM fulfilment f WHERE f.employee_checklist_id = ec.id AND f.completed = 'NOT_RELEVANT')
+        + (SELECT COUNT(DISTINCT cf.custom_task_id) FROM custom_fulfilment cf WHERE cf.employee_checklist_id = ec.id AND cf.completed = 'NOT_RELEVANT');
@@ -619,8 +619,12 @@ values ('2024-01-01 12:00:00.000', 'b6847217-3314-4686-a576-9c2344345ee5', 'Empl
        ('2024-01-01 12:00:00.000', '024efa6f-3226-41a9-9a74-fbf877b0e859', 'Not Acceptable: Employee with loginname cha77tat does not have a main employment with an event type that validates for creating an employee checklist.', '8537d28d-1479-42cf-87df-f79612bbe965', '406', '2281'),
        ('2024-01-01 12:00:00.000', 'd9bc5dc4-5431-41da-a31c-a8a16c676e12', 'Not Acceptable: Employee with loginname sca88joh does not have a main employment with an employment form that validates for creating an employee checklist.', '8537d28d-1479-42cf-87df-f79612bbe965', '406', '2281'),
        ('2024-01-01 12:00:00.000', '64f2eef6-1696-4378-8fc1-82455400813d', 'Some mysterious error that has been translated to empty status.', '8537d28d-1479-42cf-87df-f79612bbe965', null, '2281');
-       
-       
-
-
 
+-- Completion counters
+update employee_checklist ec
+set ec.total_tasks        = (select count(*) from referred_checklist rc join task t on t.checklist_id = rc.checklist_id where rc.employee_checklist_id = ec.id)
+    + (select count(*) from custom_task ct where ct.employee_checklist_id = ec.id),
+    ec.completed_tasks    = (select count(distinct f.task_id) from fulfilment f where f.employee_checklist_id = ec.id and f.completed = 'TRUE')
+        + (select count(distinct cf.custom_task_id) from custom_fulfilment cf where cf.employee_checklist_id = ec.id and cf.completed = 'TRUE'),
+    ec.not_relevant_tasks = (select count(distinct f.task_id) from fulfilment f where f.employee_checklist_id = ec.id and f.completed = 'NOT_RELEVANT')
+        + (select count(distinct cf.custom_task_id) from custom_fulfilment cf where cf.employee_checklist_id = ec.id and cf.completed = 'NOT_RELEVANT');
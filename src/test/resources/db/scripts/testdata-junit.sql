@@ -36,10 +36,10 @@ VALUES (1, now(), 'a1cef4fc-75f8-4dbe-a2d7-8530358c6789', '4c42ded9-773d-4807-bb
        (2, now(), 'a1cef4fc-75f8-4dbe-a2d7-8530358c6790', '4c42ded9-773d-4807-bb89-de1faee3e232', 'b.manager@5535.com', 'EMAIL', 'ERROR');
 
 
-INSERT INTO employee_checklist (end_date, expiration_date, start_date, completed, locked, created, updated, correspondence_id, employee_id, id)
-VALUES ('2023-07-01', '2023-10-01', '2023-01-01', TRUE, TRUE, '2023-01-01 12:00:00.000', '2023-01-01 12:00:00.000', 'a1cef4fc-75f8-4dbe-a2d7-8530358c6789', '1810c9c4-7281-44de-9930-426d9f065f4d', 'f853e2b1-a144-4305-b05e-ee8d6dc6d005'),
-       ('2024-07-01', '2024-10-01', '2024-01-01', FALSE, FALSE, '2024-01-01 12:00:00.000', '2024-01-01 12:00:00.000', 'a1cef4fc-75f8-4dbe-a2d7-8530358c6790', 'f0fd9029-d484-477a-8634-b5b7e0291d76', '223a076f-441d-4a30-b5d0-f2bfd5ab250b'),
-       ('2023-07-01', '2023-10-01', '2023-01-01', TRUE, FALSE, '2023-01-01 12:00:00.000', '2023-01-01 12:00:00.000', NULL, '8122705b-e0e6-4055-b301-eba21986e219', 'f5960058-fad8-4825-85f3-b0fdb518adc5');
+INSERT INTO employee_checklist (end_date, expiration_date, start_date, completed, locked, total_tasks, completed_tasks, not_relevant_tasks, created, updated, correspondence_id, employee_id, id)
+VALUES ('2023-07-01', '2023-10-01', '2023-01-01', TRUE, TRUE, 1, 0, 0, '2023-01-01 12:00:00.000', '2023-01-01 12:00:00.000', 'a1cef4fc-75f8-4dbe-a2d7-8530358c6789', '1810c9c4-7281-44de-9930-426d9f065f4d', 'f853e2b1-a144-4305-b05e-ee8d6dc6d005'),
+       ('2024-07-01', '2024-10-01', '2024-01-01', FALSE, FALSE, 0, 0, 0, '2024-01-01 12:00:00.000', '2024-01-01 12:00:00.000', 'a1cef4fc-75f8-4dbe-a2d7-8530358c6790', 'f0fd9029-d484-477a-8634-b5b7e0291d76', '223a076f-441d-4a30-b5d0-f2bfd5ab250b'),
+       ('2023-07-01', '2023-10-01', '2023-01-01', TRUE, FALSE, 0, 0, 0, '2023-01-01 12:00:00.000', '2023-01-01 12:00:00.000', NULL, '8122705b-e0e6-4055-b301-eba21986e219', 'f5960058-fad8-4825-85f3-b0fdb518adc5');
 
 
 INSERT INTO referred_checklist (employee_checklist_id, checklist_id)
@@ -75,3 +75,11 @@ VALUES -- organizational unit 13
 INSERT INTO initiation_info (created, id, information, log_id, status, municipality_id)
 VALUES ('2024-01-01 12:00:00.000', 'b6847217-3314-4686-a576-9c2344345ee5', 'Success', '8537d28d-1479-42cf-87df-f79612bbe965', '200', '2281'),
        ('2024-01-01 12:00:00.000', 'ed71b4a2-3135-445d-b593-6060e9617181', 'Error', '8537d28d-1479-42cf-87df-f79612bbe965', '404', '2281');
+
+INSERT INTO initiation_job (errors, processed, total, finished, heartbeat, started, id, municipality_id, status, summary)
+VALUES (1, 2, 2, '2024-01-01 12:00:00.000', '2024-01-01 11:59:30.000', '2024-01-01 11:59:00.000', '8537d28d-1479-42cf-87df-f79612bbe965', '2281', 'COMPLETED', '1 potential problems occurred when importing 2 employees'),
+       (0, 0, null, null, '2024-01-02 12:05:00.000', '2024-01-02 12:00:00.000', 'a0d7c0a4-3f6e-4c38-9a55-3b6a0ad1e2f1', '2281', 'RUNNING', null);
+
+INSERT INTO mail_outbox (created, next_attempt, email_template, employee_checklist_id, id, municipality_id)
+VALUES ('2024-01-01 12:00:00.000', '2024-01-01 12:00:00.000', 'template', '223a076f-441d-4a30-b5d0-f2bfd5ab250b', '7c6f5e0a-7a8e-4a40-9f0e-3f8ab6e4c1a1', '2281'),
+       ('2024-01-01 12:00:00.000', '2099-01-01 12:00:00.000', 'template', 'f5960058-fad8-4825-85f3-b0fdb518adc5', 'd2a2c5b5-1b7e-4c55-8f4e-1f2d9e1c7b32', '2281');
@@ -16,5 +16,10 @@ TRUNCATE TABLE organization_communication_channel;
 TRUNCATE TABLE fulfilment;
 TRUNCATE TABLE custom_sortorder;
 TRUNCATE TABLE initiation_info;
+TRUNCATE TABLE employee_import_watermark;
+TRUNCATE TABLE mail_outbox;
+TRUNCATE TABLE change_event;
+TRUNCATE TABLE tombstone;
+TRUNCATE TABLE initiation_job;
 
 SET foreign_key_checks = 1;
\ No newline at end of file